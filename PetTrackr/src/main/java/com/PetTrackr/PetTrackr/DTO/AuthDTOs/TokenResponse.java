@@ -0,0 +1,69 @@
+package com.PetTrackr.PetTrackr.DTO.AuthDTOs;
+
+import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.OwnerResponse;
+
+/**
+ * DTO returned by login and refresh when auth.mode is "token".
+ * The access token goes in "Authorization: Bearer ..." headers; the refresh token is
+ * exchanged at /api/auth/refresh for a new pair before the access token expires.
+ */
+public class TokenResponse {
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType = "Bearer";
+    private long expiresIn; // seconds until the access token expires
+    private OwnerResponse owner;
+
+    // Constructors
+    public TokenResponse() {
+    }
+
+    public TokenResponse(String accessToken, String refreshToken, long expiresIn, OwnerResponse owner) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+        this.owner = owner;
+    }
+
+    // Getters & Setters
+
+    // accessToken
+    public String getAccessToken() {
+        return accessToken;
+    }
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    // refreshToken
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // tokenType
+    public String getTokenType() {
+        return tokenType;
+    }
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    // expiresIn
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
+    // owner
+    public OwnerResponse getOwner() {
+        return owner;
+    }
+    public void setOwner(OwnerResponse owner) {
+        this.owner = owner;
+    }
+}
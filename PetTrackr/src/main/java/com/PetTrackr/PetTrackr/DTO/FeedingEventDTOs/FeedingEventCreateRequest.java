@@ -0,0 +1,95 @@
+package com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs;
+
+import java.time.Instant;
+
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for logging a feeding.
+ *
+ * All fields are optional when feedingScheduleId is given (food type, quantity and unit
+ * default to the schedule's); otherwise foodType, quantity and quantityUnit are required.
+ * fedAt defaults to now.
+ */
+public class FeedingEventCreateRequest {
+
+    private Long feedingScheduleId; // Optional - the planned feeding this follows
+    private Instant fedAt; // Optional - null for now
+
+    @Size(min = 1, max = 100, message = "Food type must be between 1 and 100 characters")
+    private String foodType;
+
+    @Positive(message = "Quantity must be positive")
+    private Double quantity;
+
+    private QuantityUnit quantityUnit;
+
+    @Size(max = 500, message = "Notes must be at most 500 characters")
+    private String notes; // Optional
+
+    // Constructors
+    public FeedingEventCreateRequest() {
+    }
+
+    public FeedingEventCreateRequest(Long feedingScheduleId, Instant fedAt, String foodType, Double quantity,
+                                     QuantityUnit quantityUnit, String notes) {
+        this.feedingScheduleId = feedingScheduleId;
+        this.fedAt = fedAt;
+        this.foodType = foodType;
+        this.quantity = quantity;
+        this.quantityUnit = quantityUnit;
+        this.notes = notes;
+    }
+
+    // Getters & Setters
+    public Long getFeedingScheduleId() {
+        return feedingScheduleId;
+    }
+
+    public void setFeedingScheduleId(Long feedingScheduleId) {
+        this.feedingScheduleId = feedingScheduleId;
+    }
+
+    public Instant getFedAt() {
+        return fedAt;
+    }
+
+    public void setFedAt(Instant fedAt) {
+        this.fedAt = fedAt;
+    }
+
+    public String getFoodType() {
+        return foodType;
+    }
+
+    public void setFoodType(String foodType) {
+        this.foodType = foodType;
+    }
+
+    public Double getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Double quantity) {
+        this.quantity = quantity;
+    }
+
+    public QuantityUnit getQuantityUnit() {
+        return quantityUnit;
+    }
+
+    public void setQuantityUnit(QuantityUnit quantityUnit) {
+        this.quantityUnit = quantityUnit;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,112 @@
+package com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs;
+
+import java.time.Instant;
+
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+
+/**
+ * DTO for one logged feeding. quantityGrams is the quantity normalized to grams,
+ * as counted in the nutrition totals.
+ */
+public class FeedingEventResponse {
+
+    private Long id;
+    private Long petId;
+    private Long feedingScheduleId;
+    private Instant fedAt;
+    private String foodType;
+    private double quantity;
+    private QuantityUnit quantityUnit;
+    private double quantityGrams;
+    private String notes;
+
+    // Constructors
+    public FeedingEventResponse() {
+    }
+
+    public FeedingEventResponse(Long id, Long petId, Long feedingScheduleId, Instant fedAt, String foodType,
+                                double quantity, QuantityUnit quantityUnit, double quantityGrams, String notes) {
+        this.id = id;
+        this.petId = petId;
+        this.feedingScheduleId = feedingScheduleId;
+        this.fedAt = fedAt;
+        this.foodType = foodType;
+        this.quantity = quantity;
+        this.quantityUnit = quantityUnit;
+        this.quantityGrams = quantityGrams;
+        this.notes = notes;
+    }
+
+    // Getters & Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public Long getFeedingScheduleId() {
+        return feedingScheduleId;
+    }
+
+    public void setFeedingScheduleId(Long feedingScheduleId) {
+        this.feedingScheduleId = feedingScheduleId;
+    }
+
+    public Instant getFedAt() {
+        return fedAt;
+    }
+
+    public void setFedAt(Instant fedAt) {
+        this.fedAt = fedAt;
+    }
+
+    public String getFoodType() {
+        return foodType;
+    }
+
+    public void setFoodType(String foodType) {
+        this.foodType = foodType;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(double quantity) {
+        this.quantity = quantity;
+    }
+
+    public QuantityUnit getQuantityUnit() {
+        return quantityUnit;
+    }
+
+    public void setQuantityUnit(QuantityUnit quantityUnit) {
+        this.quantityUnit = quantityUnit;
+    }
+
+    public double getQuantityGrams() {
+        return quantityGrams;
+    }
+
+    public void setQuantityGrams(double quantityGrams) {
+        this.quantityGrams = quantityGrams;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
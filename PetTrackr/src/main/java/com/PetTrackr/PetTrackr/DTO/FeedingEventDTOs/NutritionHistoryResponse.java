@@ -0,0 +1,145 @@
+package com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for how much a pet was fed per day, by food type, for the nutrition charts.
+ * Quantities are in grams; days without feedings are left out.
+ */
+public class NutritionHistoryResponse {
+    private Long petId;
+    private double totalGrams; // over the requested period
+    private int totalFeedings;
+    private List<DailyNutrition> days = new ArrayList<>();
+
+    // Constructors
+    public NutritionHistoryResponse() {
+    }
+
+    public NutritionHistoryResponse(Long petId, double totalGrams, int totalFeedings, List<DailyNutrition> days) {
+        this.petId = petId;
+        this.totalGrams = totalGrams;
+        this.totalFeedings = totalFeedings;
+        this.days = days;
+    }
+
+    // Getters & Setters
+
+    // petId
+    public Long getPetId() {
+        return petId;
+    }
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    // totalGrams
+    public double getTotalGrams() {
+        return totalGrams;
+    }
+    public void setTotalGrams(double totalGrams) {
+        this.totalGrams = totalGrams;
+    }
+
+    // totalFeedings
+    public int getTotalFeedings() {
+        return totalFeedings;
+    }
+    public void setTotalFeedings(int totalFeedings) {
+        this.totalFeedings = totalFeedings;
+    }
+
+    // days
+    public List<DailyNutrition> getDays() {
+        return days;
+    }
+    public void setDays(List<DailyNutrition> days) {
+        this.days = days;
+    }
+
+    /**
+     * Everything fed on a single day.
+     */
+    public static class DailyNutrition {
+        private LocalDate date;
+        private double totalGrams;
+        private int feedings;
+        private List<FoodTotal> foods = new ArrayList<>();
+
+        public DailyNutrition() {
+        }
+
+        public DailyNutrition(LocalDate date) {
+            this.date = date;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public double getTotalGrams() {
+            return totalGrams;
+        }
+        public void setTotalGrams(double totalGrams) {
+            this.totalGrams = totalGrams;
+        }
+
+        public int getFeedings() {
+            return feedings;
+        }
+        public void setFeedings(int feedings) {
+            this.feedings = feedings;
+        }
+
+        public List<FoodTotal> getFoods() {
+            return foods;
+        }
+        public void setFoods(List<FoodTotal> foods) {
+            this.foods = foods;
+        }
+    }
+
+    /**
+     * One food type on a single day.
+     */
+    public static class FoodTotal {
+        private String foodType;
+        private double grams;
+        private int feedings;
+
+        public FoodTotal() {
+        }
+
+        public FoodTotal(String foodType, double grams, int feedings) {
+            this.foodType = foodType;
+            this.grams = grams;
+            this.feedings = feedings;
+        }
+
+        public String getFoodType() {
+            return foodType;
+        }
+        public void setFoodType(String foodType) {
+            this.foodType = foodType;
+        }
+
+        public double getGrams() {
+            return grams;
+        }
+        public void setGrams(double grams) {
+            this.grams = grams;
+        }
+
+        public int getFeedings() {
+            return feedings;
+        }
+        public void setFeedings(int feedings) {
+            this.feedings = feedings;
+        }
+    }
+}
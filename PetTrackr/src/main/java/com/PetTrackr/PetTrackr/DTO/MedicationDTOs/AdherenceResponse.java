@@ -0,0 +1,57 @@
+package com.PetTrackr.PetTrackr.DTO.MedicationDTOs;
+
+/**
+ * DTO for a medication's adherence so far, computed from its dose log.
+ * Doses due within the grace period aren't counted as missed yet.
+ */
+public class AdherenceResponse {
+
+    private int taken;
+    private int missed;
+    private int currentStreak;
+    private int longestStreak;
+
+    // Constructors
+    public AdherenceResponse() {
+    }
+
+    public AdherenceResponse(int taken, int missed, int currentStreak, int longestStreak) {
+        this.taken = taken;
+        this.missed = missed;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+    }
+
+    // Getters & Setters
+    public int getTaken() {
+        return taken;
+    }
+
+    public void setTaken(int taken) {
+        this.taken = taken;
+    }
+
+    public int getMissed() {
+        return missed;
+    }
+
+    public void setMissed(int missed) {
+        this.missed = missed;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(int currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    public void setLongestStreak(int longestStreak) {
+        this.longestStreak = longestStreak;
+    }
+}
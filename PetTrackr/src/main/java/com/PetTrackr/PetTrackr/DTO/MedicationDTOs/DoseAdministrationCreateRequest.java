@@ -0,0 +1,59 @@
+package com.PetTrackr.PetTrackr.DTO.MedicationDTOs;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for logging a medication dose as given.
+ *
+ * Required fields: dueAt (the scheduled dose, as listed by the dose calendar)
+ * Optional fields: administeredAt (defaults to now), notes
+ */
+public class DoseAdministrationCreateRequest {
+
+    @NotNull(message = "Dose time is required")
+    private LocalDateTime dueAt;
+
+    private Instant administeredAt; // Optional - null for now
+
+    @Size(max = 500, message = "Notes must be at most 500 characters")
+    private String notes; // Optional
+
+    // Constructors
+    public DoseAdministrationCreateRequest() {
+    }
+
+    public DoseAdministrationCreateRequest(LocalDateTime dueAt, Instant administeredAt, String notes) {
+        this.dueAt = dueAt;
+        this.administeredAt = administeredAt;
+        this.notes = notes;
+    }
+
+    // Getters & Setters
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Instant getAdministeredAt() {
+        return administeredAt;
+    }
+
+    public void setAdministeredAt(Instant administeredAt) {
+        this.administeredAt = administeredAt;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,80 @@
+package com.PetTrackr.PetTrackr.DTO.MedicationDTOs;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of a medication's dose log.
+ * Entries are identified by their medication and dose time (dueAt), so no id is exposed.
+ */
+public class DoseAdministrationResponse {
+
+    private Long medicationId;
+    private Long petId;
+    private LocalDateTime dueAt;
+    private Instant administeredAt;
+    private Instant recordedAt;
+    private String notes;
+
+    // Constructors
+    public DoseAdministrationResponse() {
+    }
+
+    public DoseAdministrationResponse(Long medicationId, Long petId, LocalDateTime dueAt, Instant administeredAt, Instant recordedAt, String notes) {
+        this.medicationId = medicationId;
+        this.petId = petId;
+        this.dueAt = dueAt;
+        this.administeredAt = administeredAt;
+        this.recordedAt = recordedAt;
+        this.notes = notes;
+    }
+
+    // Getters & Setters
+    public Long getMedicationId() {
+        return medicationId;
+    }
+
+    public void setMedicationId(Long medicationId) {
+        this.medicationId = medicationId;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Instant getAdministeredAt() {
+        return administeredAt;
+    }
+
+    public void setAdministeredAt(Instant administeredAt) {
+        this.administeredAt = administeredAt;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(Instant recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
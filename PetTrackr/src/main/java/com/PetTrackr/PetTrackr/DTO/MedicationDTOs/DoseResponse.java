@@ -0,0 +1,93 @@
+package com.PetTrackr.PetTrackr.DTO.MedicationDTOs;
+
+import java.time.LocalDateTime;
+
+import com.PetTrackr.PetTrackr.entity.Medication.DosageUnit;
+
+/**
+ * DTO for one scheduled dose in the dose calendar.
+ * Doses are computed from the medication's recurrence rule, so they have no id of their own.
+ */
+public class DoseResponse {
+
+    private LocalDateTime dueAt;
+    private Long medicationId;
+    private String medicationName;
+    private double dosageAmount;
+    private DosageUnit dosageUnit;
+    private Long petId;
+    private String petName;
+
+    // Constructors
+    public DoseResponse() {
+    }
+
+    public DoseResponse(LocalDateTime dueAt, Long medicationId, String medicationName, double dosageAmount,
+                        DosageUnit dosageUnit, Long petId, String petName) {
+        this.dueAt = dueAt;
+        this.medicationId = medicationId;
+        this.medicationName = medicationName;
+        this.dosageAmount = dosageAmount;
+        this.dosageUnit = dosageUnit;
+        this.petId = petId;
+        this.petName = petName;
+    }
+
+    // Getters & Setters
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Long getMedicationId() {
+        return medicationId;
+    }
+
+    public void setMedicationId(Long medicationId) {
+        this.medicationId = medicationId;
+    }
+
+    public String getMedicationName() {
+        return medicationName;
+    }
+
+    public void setMedicationName(String medicationName) {
+        this.medicationName = medicationName;
+    }
+
+    public double getDosageAmount() {
+        return dosageAmount;
+    }
+
+    public void setDosageAmount(double dosageAmount) {
+        this.dosageAmount = dosageAmount;
+    }
+
+    public DosageUnit getDosageUnit() {
+        return dosageUnit;
+    }
+
+    public void setDosageUnit(DosageUnit dosageUnit) {
+        this.dosageUnit = dosageUnit;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public String getPetName() {
+        return petName;
+    }
+
+    public void setPetName(String petName) {
+        this.petName = petName;
+    }
+}
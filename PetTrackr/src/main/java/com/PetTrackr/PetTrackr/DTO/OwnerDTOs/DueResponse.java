@@ -0,0 +1,146 @@
+package com.PetTrackr.PetTrackr.DTO.OwnerDTOs;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for what is due across all of an owner's pets: scheduled feedings and medication
+ * doses in [from, to), ordered by due time. Times are local, in the reminder zone; items
+ * due before now that were not logged yet are overdue.
+ */
+public class DueResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<DueItem> items = new ArrayList<>();
+
+    // Constructors
+    public DueResponse() {
+    }
+
+    public DueResponse(LocalDateTime from, LocalDateTime to, List<DueItem> items) {
+        this.from = from;
+        this.to = to;
+        this.items = items;
+    }
+
+    // Getters & Setters
+
+    // from
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    // to
+    public LocalDateTime getTo() {
+        return to;
+    }
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    // items
+    public List<DueItem> getItems() {
+        return items;
+    }
+    public void setItems(List<DueItem> items) {
+        this.items = items;
+    }
+
+    /**
+     * A single feeding or dose. itemId is the feeding schedule's or medication's id.
+     */
+    public static class DueItem {
+        private String type; // FEEDING or DOSE
+        private LocalDateTime dueAt;
+        private Long petId;
+        private String petName;
+        private Long itemId;
+        private String name; // food type or medication name
+        private double amount;
+        private String unit; // e.g. CUPS, MG
+        private boolean done; // already logged
+
+        public DueItem() {
+        }
+
+        public DueItem(String type, LocalDateTime dueAt, Long petId, String petName, Long itemId,
+                       String name, double amount, String unit, boolean done) {
+            this.type = type;
+            this.dueAt = dueAt;
+            this.petId = petId;
+            this.petName = petName;
+            this.itemId = itemId;
+            this.name = name;
+            this.amount = amount;
+            this.unit = unit;
+            this.done = done;
+        }
+
+        public String getType() {
+            return type;
+        }
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public LocalDateTime getDueAt() {
+            return dueAt;
+        }
+        public void setDueAt(LocalDateTime dueAt) {
+            this.dueAt = dueAt;
+        }
+
+        public Long getPetId() {
+            return petId;
+        }
+        public void setPetId(Long petId) {
+            this.petId = petId;
+        }
+
+        public String getPetName() {
+            return petName;
+        }
+        public void setPetName(String petName) {
+            this.petName = petName;
+        }
+
+        public Long getItemId() {
+            return itemId;
+        }
+        public void setItemId(Long itemId) {
+            this.itemId = itemId;
+        }
+
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+        public void setUnit(String unit) {
+            this.unit = unit;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+        public void setDone(boolean done) {
+            this.done = done;
+        }
+    }
+}
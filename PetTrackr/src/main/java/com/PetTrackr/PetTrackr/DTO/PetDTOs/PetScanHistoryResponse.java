@@ -0,0 +1,101 @@
+package com.PetTrackr.PetTrackr.DTO.PetDTOs;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for how often a pet's QR code was scanned (e.g. to spot a lost pet being found).
+ * Days without scans are left out; dates are UTC.
+ */
+public class PetScanHistoryResponse {
+    private Long petId;
+    private long totalScans; // over the requested period
+    private Instant lastScannedAt; // null if never scanned in the period
+    private List<DailyScans> days = new ArrayList<>();
+
+    // Constructors
+    public PetScanHistoryResponse() {
+    }
+
+    public PetScanHistoryResponse(Long petId, long totalScans, Instant lastScannedAt, List<DailyScans> days) {
+        this.petId = petId;
+        this.totalScans = totalScans;
+        this.lastScannedAt = lastScannedAt;
+        this.days = days;
+    }
+
+    // Getters & Setters
+
+    // petId
+    public Long getPetId() {
+        return petId;
+    }
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    // totalScans
+    public long getTotalScans() {
+        return totalScans;
+    }
+    public void setTotalScans(long totalScans) {
+        this.totalScans = totalScans;
+    }
+
+    // lastScannedAt
+    public Instant getLastScannedAt() {
+        return lastScannedAt;
+    }
+    public void setLastScannedAt(Instant lastScannedAt) {
+        this.lastScannedAt = lastScannedAt;
+    }
+
+    // days
+    public List<DailyScans> getDays() {
+        return days;
+    }
+    public void setDays(List<DailyScans> days) {
+        this.days = days;
+    }
+
+    /**
+     * Scans on a single day.
+     */
+    public static class DailyScans {
+        private LocalDate date;
+        private long scans;
+        private Instant lastScannedAt;
+
+        public DailyScans() {
+        }
+
+        public DailyScans(LocalDate date, long scans, Instant lastScannedAt) {
+            this.date = date;
+            this.scans = scans;
+            this.lastScannedAt = lastScannedAt;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public long getScans() {
+            return scans;
+        }
+        public void setScans(long scans) {
+            this.scans = scans;
+        }
+
+        public Instant getLastScannedAt() {
+            return lastScannedAt;
+        }
+        public void setLastScannedAt(Instant lastScannedAt) {
+            this.lastScannedAt = lastScannedAt;
+        }
+    }
+}
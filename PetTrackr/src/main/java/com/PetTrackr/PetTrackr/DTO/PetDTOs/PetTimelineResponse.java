@@ -0,0 +1,120 @@
+package com.PetTrackr.PetTrackr.DTO.PetDTOs;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a page of a pet's timeline: vet visits, medication courses, doses, feedings,
+ * weigh-ins and sightings in one list, newest first. Pass nextCursor back as cursor to
+ * get the next page; it is null on the last one.
+ */
+public class PetTimelineResponse {
+    private Long petId;
+    private List<TimelineEvent> events = new ArrayList<>();
+    private String nextCursor;
+
+    // Constructors
+    public PetTimelineResponse() {
+    }
+
+    public PetTimelineResponse(Long petId, List<TimelineEvent> events, String nextCursor) {
+        this.petId = petId;
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters & Setters
+
+    // petId
+    public Long getPetId() {
+        return petId;
+    }
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    // events
+    public List<TimelineEvent> getEvents() {
+        return events;
+    }
+    public void setEvents(List<TimelineEvent> events) {
+        this.events = events;
+    }
+
+    // nextCursor
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * A single event. id is that of the underlying record (e.g. the vet visit), so
+     * together with type it links to the full details.
+     */
+    public static class TimelineEvent {
+        private String type; // e.g. VET_VISIT, FEEDING
+        private Long id;
+        private Instant at; // start of the day for date-only events
+        private LocalDate date; // only for date-only events (vet visits, medication start/end)
+        private String title; // e.g. "Fed Dry Kibble"
+        private String detail; // e.g. "1.5 cups", may be null
+
+        public TimelineEvent() {
+        }
+
+        public TimelineEvent(String type, Long id, Instant at, LocalDate date, String title, String detail) {
+            this.type = type;
+            this.id = id;
+            this.at = at;
+            this.date = date;
+            this.title = title;
+            this.detail = detail;
+        }
+
+        public String getType() {
+            return type;
+        }
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Instant getAt() {
+            return at;
+        }
+        public void setAt(Instant at) {
+            this.at = at;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+        public void setDetail(String detail) {
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.PetTrackr.PetTrackr.DTO.PetDTOs;
+
+/**
+ * DTO for the public lost-pet lookup that a pet's QR code links to.
+ * Served without authentication, so it only carries what a finder needs:
+ * the pet's name, type, breed and photo, and how to reach the owner.
+ */
+public class PublicPetResponse {
+    private String name;
+    private String type;
+    private String breed;
+    private String photoURL; // Optional photo URL
+    private String ownerName;
+    private String ownerPhoneNumber;
+    private String guideURL; // what to do if you found a pet
+
+    // Constructors
+    public PublicPetResponse() {
+    }
+
+    public PublicPetResponse(String name, String type, String breed, String photoURL,
+                             String ownerName, String ownerPhoneNumber, String guideURL) {
+        this.name = name;
+        this.type = type;
+        this.breed = breed;
+        this.photoURL = photoURL;
+        this.ownerName = ownerName;
+        this.ownerPhoneNumber = ownerPhoneNumber;
+        this.guideURL = guideURL;
+    }
+
+    // Getters & Setters
+
+    // name
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    // type
+    public String getType() {
+        return type;
+    }
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    // breed
+    public String getBreed() {
+        return breed;
+    }
+    public void setBreed(String breed) {
+        this.breed = breed;
+    }
+
+    // photoURL
+    public String getPhotoURL() {
+        return photoURL;
+    }
+    public void setPhotoURL(String photoURL) {
+        this.photoURL = photoURL;
+    }
+
+    // ownerName
+    public String getOwnerName() {
+        return ownerName;
+    }
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    // ownerPhoneNumber
+    public String getOwnerPhoneNumber() {
+        return ownerPhoneNumber;
+    }
+    public void setOwnerPhoneNumber(String ownerPhoneNumber) {
+        this.ownerPhoneNumber = ownerPhoneNumber;
+    }
+
+    // guideURL
+    public String getGuideURL() {
+        return guideURL;
+    }
+    public void setGuideURL(String guideURL) {
+        this.guideURL = guideURL;
+    }
+}
@@ -0,0 +1,132 @@
+package com.PetTrackr.PetTrackr.DTO.SightingDTOs;
+
+import java.time.Instant;
+
+/**
+ * DTO for a sighting in the public nearby feed (no login).
+ * Only says which pet was seen where and when - never anything about the owner, and not
+ * the pet's public token (the token lookup is where finders get contact details).
+ * Positions are rounded to about 100 m.
+ */
+public class PublicSightingResponse {
+
+    private Long id;
+    private double latitude;
+    private double longitude;
+    private Instant sightedAt;
+    private String note; // Nullable
+    private double distanceKm; // distance from the queried position
+    private SightedPet pet;
+
+    // Constructors
+    public PublicSightingResponse() {
+    }
+
+    public PublicSightingResponse(Long id, double latitude, double longitude, Instant sightedAt, String note,
+                                  double distanceKm, SightedPet pet) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.sightedAt = sightedAt;
+        this.note = note;
+        this.distanceKm = distanceKm;
+        this.pet = pet;
+    }
+
+    // Getters & Setters
+
+    // id
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    // latitude
+    public double getLatitude() {
+        return latitude;
+    }
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    // longitude
+    public double getLongitude() {
+        return longitude;
+    }
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    // sightedAt
+    public Instant getSightedAt() {
+        return sightedAt;
+    }
+    public void setSightedAt(Instant sightedAt) {
+        this.sightedAt = sightedAt;
+    }
+
+    // note
+    public String getNote() {
+        return note;
+    }
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    // distanceKm
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
+    // pet
+    public SightedPet getPet() {
+        return pet;
+    }
+    public void setPet(SightedPet pet) {
+        this.pet = pet;
+    }
+
+    /**
+     * What the public may see of the pet that was sighted.
+     */
+    public static class SightedPet {
+        private String name;
+        private String type;
+        private String photoURL; // Nullable
+
+        public SightedPet() {
+        }
+
+        public SightedPet(String name, String type, String photoURL) {
+            this.name = name;
+            this.type = type;
+            this.photoURL = photoURL;
+        }
+
+        public String getName() {
+            return name;
+        }
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getType() {
+            return type;
+        }
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getPhotoURL() {
+            return photoURL;
+        }
+        public void setPhotoURL(String photoURL) {
+            this.photoURL = photoURL;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.PetTrackr.PetTrackr.DTO.SightingDTOs;
+
+import java.time.Instant;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for reporting a sighting of a lost pet (from the pet's public QR page).
+ *
+ * Required fields: latitude, longitude
+ * Optional fields: sightedAt (defaults to now), note
+ */
+public class SightingCreateRequest {
+
+    @NotNull(message = "Latitude is required")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @NotNull(message = "Longitude is required")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    private Instant sightedAt; // Optional - defaults to the time of the report
+
+    @Size(max = 500, message = "Note must be at most 500 characters")
+    private String note; // Optional
+
+    // Constructors
+    public SightingCreateRequest() {
+    }
+
+    public SightingCreateRequest(Double latitude, Double longitude, Instant sightedAt, String note) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.sightedAt = sightedAt;
+        this.note = note;
+    }
+
+    // Getters & Setters
+
+    // latitude
+    public Double getLatitude() {
+        return latitude;
+    }
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    // longitude
+    public Double getLongitude() {
+        return longitude;
+    }
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    // sightedAt
+    public Instant getSightedAt() {
+        return sightedAt;
+    }
+    public void setSightedAt(Instant sightedAt) {
+        this.sightedAt = sightedAt;
+    }
+
+    // note
+    public String getNote() {
+        return note;
+    }
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,70 @@
+package com.PetTrackr.PetTrackr.DTO.SightingDTOs;
+
+import java.time.Instant;
+
+/**
+ * DTO for returning a sighting in API responses.
+ * The public nearby feed uses PublicSightingResponse instead.
+ */
+public class SightingResponse {
+
+    private Long id;
+    private double latitude;
+    private double longitude;
+    private Instant sightedAt;
+    private String note; // Nullable
+
+    // Constructors
+    public SightingResponse() {
+    }
+
+    public SightingResponse(Long id, double latitude, double longitude, Instant sightedAt, String note) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.sightedAt = sightedAt;
+        this.note = note;
+    }
+
+    // Getters & Setters
+
+    // id
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    // latitude
+    public double getLatitude() {
+        return latitude;
+    }
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    // longitude
+    public double getLongitude() {
+        return longitude;
+    }
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    // sightedAt
+    public Instant getSightedAt() {
+        return sightedAt;
+    }
+    public void setSightedAt(Instant sightedAt) {
+        this.sightedAt = sightedAt;
+    }
+
+    // note
+    public String getNote() {
+        return note;
+    }
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
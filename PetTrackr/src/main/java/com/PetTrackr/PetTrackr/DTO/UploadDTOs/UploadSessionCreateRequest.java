@@ -0,0 +1,59 @@
+package com.PetTrackr.PetTrackr.DTO.UploadDTOs;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for starting a resumable photo upload.
+ * 
+ * The client declares the final file name and total size up front;
+ * the bytes themselves are sent afterwards in one or more chunks.
+ */
+public class UploadSessionCreateRequest {
+
+    @NotBlank(message = "Filename is required")
+    @Size(max = 255, message = "Filename must be at most 255 characters")
+    private String filename;
+
+    @Positive(message = "Size must be greater than zero")
+    private long size;
+
+    private String contentType; // Optional, informational only
+
+    // Constructors
+    public UploadSessionCreateRequest() {
+    }
+
+    public UploadSessionCreateRequest(String filename, long size, String contentType) {
+        this.filename = filename;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    // Getters & Setters
+
+    // filename
+    public String getFilename() {
+        return filename;
+    }
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    // size
+    public long getSize() {
+        return size;
+    }
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    // contentType
+    public String getContentType() {
+        return contentType;
+    }
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+}
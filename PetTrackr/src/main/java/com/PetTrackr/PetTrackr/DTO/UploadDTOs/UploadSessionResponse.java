@@ -0,0 +1,80 @@
+package com.PetTrackr.PetTrackr.DTO.UploadDTOs;
+
+import java.time.Instant;
+
+/**
+ * DTO describing the state of a resumable upload.
+ * The client resumes by sending the next chunk at {@code offset}.
+ */
+public class UploadSessionResponse {
+    private Long uploadId;
+    private long offset; // Bytes committed so far
+    private long size; // Declared total size
+    private long maxChunkSize; // Largest chunk the server accepts per request
+    private boolean complete; // True once all bytes have been received
+    private Instant expiresAt; // Unfinished uploads are discarded after this
+
+    // Constructors
+    public UploadSessionResponse() {
+    }
+
+    public UploadSessionResponse(Long uploadId, long offset, long size, long maxChunkSize,
+                                 boolean complete, Instant expiresAt) {
+        this.uploadId = uploadId;
+        this.offset = offset;
+        this.size = size;
+        this.maxChunkSize = maxChunkSize;
+        this.complete = complete;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters & Setters
+
+    // uploadId
+    public Long getUploadId() {
+        return uploadId;
+    }
+    public void setUploadId(Long uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    // offset
+    public long getOffset() {
+        return offset;
+    }
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    // size
+    public long getSize() {
+        return size;
+    }
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    // maxChunkSize
+    public long getMaxChunkSize() {
+        return maxChunkSize;
+    }
+    public void setMaxChunkSize(long maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    // complete
+    public boolean isComplete() {
+        return complete;
+    }
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    // expiresAt
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
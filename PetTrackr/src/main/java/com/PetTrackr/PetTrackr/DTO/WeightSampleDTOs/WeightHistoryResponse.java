@@ -0,0 +1,103 @@
+package com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+
+/**
+ * DTO for a range of a pet's weight history, ready to chart. When the range holds more
+ * samples than were asked for, points is a downsampled subset (totalSamples says how many
+ * there are in all).
+ */
+public class WeightHistoryResponse {
+    private Long petId;
+    private WeightType unit; // of every weight in points
+    private int totalSamples;
+    private List<WeightPoint> points = new ArrayList<>();
+
+    // Constructors
+    public WeightHistoryResponse() {
+    }
+
+    public WeightHistoryResponse(Long petId, WeightType unit, int totalSamples, List<WeightPoint> points) {
+        this.petId = petId;
+        this.unit = unit;
+        this.totalSamples = totalSamples;
+        this.points = points;
+    }
+
+    // Getters & Setters
+
+    // petId
+    public Long getPetId() {
+        return petId;
+    }
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    // unit
+    public WeightType getUnit() {
+        return unit;
+    }
+    public void setUnit(WeightType unit) {
+        this.unit = unit;
+    }
+
+    // totalSamples
+    public int getTotalSamples() {
+        return totalSamples;
+    }
+    public void setTotalSamples(int totalSamples) {
+        this.totalSamples = totalSamples;
+    }
+
+    // points
+    public List<WeightPoint> getPoints() {
+        return points;
+    }
+    public void setPoints(List<WeightPoint> points) {
+        this.points = points;
+    }
+
+    /**
+     * A single sample.
+     */
+    public static class WeightPoint {
+        private Long id;
+        private Instant measuredAt;
+        private double weight;
+
+        public WeightPoint() {
+        }
+
+        public WeightPoint(Long id, Instant measuredAt, double weight) {
+            this.id = id;
+            this.measuredAt = measuredAt;
+            this.weight = weight;
+        }
+
+        public Long getId() {
+            return id;
+        }
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Instant getMeasuredAt() {
+            return measuredAt;
+        }
+        public void setMeasuredAt(Instant measuredAt) {
+            this.measuredAt = measuredAt;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+    }
+}
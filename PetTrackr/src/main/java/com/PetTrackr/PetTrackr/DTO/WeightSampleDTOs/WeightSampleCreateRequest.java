@@ -0,0 +1,57 @@
+package com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs;
+
+import java.time.Instant;
+
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO for logging a weight measurement. weightType defaults to the pet's unit and
+ * measuredAt to now.
+ */
+public class WeightSampleCreateRequest {
+
+    @NotNull(message = "Weight is required")
+    @Positive(message = "Weight must be positive")
+    private Double weight;
+
+    private WeightType weightType; // Optional - null for the pet's unit
+    private Instant measuredAt; // Optional - null for now
+
+    // Constructors
+    public WeightSampleCreateRequest() {
+    }
+
+    public WeightSampleCreateRequest(Double weight, WeightType weightType, Instant measuredAt) {
+        this.weight = weight;
+        this.weightType = weightType;
+        this.measuredAt = measuredAt;
+    }
+
+    // Getters & Setters
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public WeightType getWeightType() {
+        return weightType;
+    }
+
+    public void setWeightType(WeightType weightType) {
+        this.weightType = weightType;
+    }
+
+    public Instant getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(Instant measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+}
@@ -0,0 +1,70 @@
+package com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs;
+
+import java.time.Instant;
+
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+
+/**
+ * DTO for one sample of a pet's weight history, in the unit given by weightType.
+ */
+public class WeightSampleResponse {
+
+    private Long id;
+    private Long petId;
+    private Instant measuredAt;
+    private double weight;
+    private WeightType weightType;
+
+    // Constructors
+    public WeightSampleResponse() {
+    }
+
+    public WeightSampleResponse(Long id, Long petId, Instant measuredAt, double weight, WeightType weightType) {
+        this.id = id;
+        this.petId = petId;
+        this.measuredAt = measuredAt;
+        this.weight = weight;
+        this.weightType = weightType;
+    }
+
+    // Getters & Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public Instant getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(Instant measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public WeightType getWeightType() {
+        return weightType;
+    }
+
+    public void setWeightType(WeightType weightType) {
+        this.weightType = weightType;
+    }
+}
@@ -0,0 +1,107 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.storage.BlobStore;
+import com.PetTrackr.PetTrackr.storage.ByteBudgetCache;
+import com.PetTrackr.PetTrackr.storage.CachingBlobStore;
+import com.PetTrackr.PetTrackr.storage.LocalFileBlobStore;
+import com.PetTrackr.PetTrackr.storage.S3BlobStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * Selects the storage backend for pet images.
+ *
+ *   blob-store.type=local - files under file.upload-dir (default, single node or shared mount)
+ *   blob-store.type=s3    - S3-compatible object store shared by every app node
+ *
+ * Either backend can be wrapped in an in-process, byte-budgeted read cache
+ * (blob-store.cache.*) whose statistics are published as "blob.cache.*" metrics.
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    @Value("${blob-store.type:local}")
+    private String type;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${blob-store.s3.endpoint:}")
+    private String s3Endpoint;
+
+    @Value("${blob-store.s3.region:us-east-1}")
+    private String s3Region;
+
+    @Value("${blob-store.s3.bucket:}")
+    private String s3Bucket;
+
+    @Value("${blob-store.s3.access-key:}")
+    private String s3AccessKey;
+
+    @Value("${blob-store.s3.secret-key:}")
+    private String s3SecretKey;
+
+    @Value("${blob-store.cache.max-size:0}")
+    private DataSize cacheMaxSize;
+
+    @Value("${blob-store.cache.max-object-size:512KB}")
+    private DataSize cacheMaxObjectSize;
+
+    @Value("${blob-store.cache.off-heap:true}")
+    private boolean cacheOffHeap;
+
+    @Bean
+    public BlobStore blobStore() {
+        BlobStore backend;
+        switch (type.trim().toLowerCase()) {
+            case "local":
+                backend = new LocalFileBlobStore(Paths.get(uploadDir));
+                break;
+            case "s3":
+                if (s3Endpoint.isBlank()) {
+                    throw new IllegalStateException("blob-store.s3.endpoint must be set when blob-store.type=s3");
+                }
+                backend = new S3BlobStore(URI.create(s3Endpoint), s3Region, s3Bucket, s3AccessKey, s3SecretKey);
+                break;
+            default:
+                throw new IllegalStateException("Unknown blob-store.type: " + type + " (expected local or s3)");
+        }
+
+        // a cache size of 0 disables the read cache
+        if (cacheMaxSize.toBytes() > 0) {
+            ByteBudgetCache<String> cache = new ByteBudgetCache<>(
+                    cacheMaxSize.toBytes(), cacheMaxObjectSize.toBytes(), cacheOffHeap);
+            return new CachingBlobStore(backend, cache);
+        }
+        return backend;
+    }
+
+    /**
+     * Publish read cache statistics (hit ratio, bytes used, admissions/evictions) as metrics.
+     */
+    @Bean
+    public MeterBinder blobCacheMetrics(BlobStore blobStore) {
+        return registry -> {
+            if (!(blobStore instanceof CachingBlobStore caching)) {
+                return;
+            }
+            ByteBudgetCache<String> cache = caching.getCache();
+            Gauge.builder("blob.cache.entries", cache, c -> c.stats().entries()).register(registry);
+            Gauge.builder("blob.cache.used.bytes", cache, c -> c.stats().usedBytes()).baseUnit("bytes").register(registry);
+            Gauge.builder("blob.cache.max.bytes", cache, c -> c.stats().maxBytes()).baseUnit("bytes").register(registry);
+            FunctionCounter.builder("blob.cache.requests", cache, c -> c.stats().hits()).tag("result", "hit").register(registry);
+            FunctionCounter.builder("blob.cache.requests", cache, c -> c.stats().misses()).tag("result", "miss").register(registry);
+            FunctionCounter.builder("blob.cache.admissions", cache, c -> c.stats().admissions()).register(registry);
+            FunctionCounter.builder("blob.cache.rejections", cache, c -> c.stats().rejections()).register(registry);
+            FunctionCounter.builder("blob.cache.evictions", cache, c -> c.stats().evictions()).register(registry);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.PetTrackr.PetTrackr.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token-bucket throttling of login and sign-up attempts, checked before any password is hashed.
+ *
+ * Each client IP and each account (email) has a bucket that holds a few attempts and refills
+ * one attempt per refill period. An attempt takes one token from the IP's bucket and, for
+ * logins, one from the account's; an empty bucket means 429 Too Many Requests with the time
+ * until the next token. So one address can't hammer the hasher, and one account can't be
+ * guessed at from many addresses faster than its own rate.
+ *
+ * Buckets that have refilled completely carry no information and are swept periodically,
+ * so the maps only hold clients that were active recently.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Clock clock;
+    private final int ipCapacity;
+    private final Duration ipRefillPeriod;
+    private final int accountCapacity;
+    private final Duration accountRefillPeriod;
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+    private final Counter ipThrottledCounter;
+    private final Counter accountThrottledCounter;
+
+    public LoginThrottle(Clock clock,
+                         MeterRegistry meterRegistry,
+                         @Value("${auth.login.ip.capacity:30}") int ipCapacity,
+                         @Value("${auth.login.ip.refill-period:2s}") Duration ipRefillPeriod,
+                         @Value("${auth.login.account.capacity:10}") int accountCapacity,
+                         @Value("${auth.login.account.refill-period:30s}") Duration accountRefillPeriod) {
+        this.clock = clock;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPeriod = ipRefillPeriod;
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPeriod = accountRefillPeriod;
+        if (ipCapacity <= 0 || accountCapacity <= 0 || ipRefillPeriod.toMillis() <= 0
+                || accountRefillPeriod.toMillis() <= 0) {
+            throw new IllegalArgumentException("Login throttle capacity and refill period must be positive");
+        }
+        this.ipThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("Login and sign-up attempts refused before hashing")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        this.accountThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("Login and sign-up attempts refused before hashing")
+                .tag("scope", "account")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take an attempt from the client's bucket and, if given, the account's.
+     *
+     * @param clientIp address of the client
+     * @param account normalized email of the account, or null (sign-up)
+     * @return empty if the attempt may go ahead, otherwise how long until it may be retried
+     */
+    public Optional<Duration> tryAcquire(String clientIp, String account) {
+        long now = clock.millis();
+        long waitMillis = ipBuckets.computeIfAbsent(clientIp,
+                key -> new TokenBucket(ipCapacity, ipRefillPeriod)).tryAcquire(now);
+        if (waitMillis > 0) {
+            ipThrottledCounter.increment();
+            return Optional.of(Duration.ofMillis(waitMillis));
+        }
+        if (account != null) {
+            waitMillis = accountBuckets.computeIfAbsent(account,
+                    key -> new TokenBucket(accountCapacity, accountRefillPeriod)).tryAcquire(now);
+            if (waitMillis > 0) {
+                accountThrottledCounter.increment();
+                return Optional.of(Duration.ofMillis(waitMillis));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Forget buckets that have refilled completely.
+     */
+    @Scheduled(fixedDelayString = "${auth.login.sweep-interval:1m}", initialDelayString = "${auth.login.sweep-interval:1m}")
+    public void sweep() {
+        long now = clock.millis();
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int trackedBuckets() {
+        return ipBuckets.size() + accountBuckets.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authorizes every /api/owners/{ownerId}/** request against the logged-in owner, once,
+ * before any controller runs: a path naming another owner gets 403 Forbidden.
+ *
+ * Controllers pass the path's ownerId on to services as the requesting owner, so past this
+ * filter it is always the authenticated owner's id - services only have to check that a
+ * pet (or upload, sighting, ...) belongs to it, never that the owner itself exists.
+ *
+ * Requests without a logged-in owner are passed on untouched, so the authorization rules
+ * still answer them with 401. /api/owners/register doesn't match (not a numeric id).
+ */
+public class OwnerPathAuthorizationFilter extends OncePerRequestFilter {
+
+    private static final PathPattern OWNER_PATH = PathPatternParser.defaultInstance.parse("/api/owners/{ownerId}/**");
+
+    private final JsonMapper jsonMapper;
+
+    public OwnerPathAuthorizationFilter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<Long> pathOwnerId = pathOwnerId(path);
+        Optional<OwnerPrincipal> principal = OwnerPrincipal.current();
+        if (pathOwnerId.isEmpty() || principal.isEmpty() || principal.get().getOwnerId().equals(pathOwnerId.get())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.FORBIDDEN.value(),
+                "Forbidden",
+                "Access denied: you can only access your own account"
+        ));
+    }
+
+    /**
+     * The owner id in an /api/owners/{ownerId}/** path, if the path has one.
+     */
+    static Optional<Long> pathOwnerId(String path) {
+        PathPattern.PathMatchInfo match = OWNER_PATH.matchAndExtract(PathContainer.parsePath(path));
+        if (match == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(match.getUriVariables().get("ownerId")));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The logged-in owner, as stored in the security context (and with it, the session).
+ *
+ * Carries the owner's id and profile so /api/auth/me and ownership checks can be answered
+ * without loading the Owner again. The password hash is only needed while authenticating
+ * and is erased right after (ProviderManager erases credentials by default), so it is
+ * never kept in the session.
+ */
+public final class OwnerPrincipal implements UserDetails, CredentialsContainer, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long ownerId;
+    private final String name;
+    private final String email;
+    private final String phoneNumber;
+    private String passwordHash;
+
+    private OwnerPrincipal(Long ownerId, String name, String email, String phoneNumber, String passwordHash) {
+        this.ownerId = ownerId;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Principal for authenticating an owner (carries the password hash until erased).
+     */
+    public static OwnerPrincipal from(Owner owner) {
+        return new OwnerPrincipal(owner.getId(), owner.getName(), owner.getEmail(),
+                owner.getPhoneNumber(), owner.getPasswordHash());
+    }
+
+    /**
+     * Principal for an owner that is already authenticated, e.g. after a profile update.
+     */
+    public static OwnerPrincipal authenticated(Owner owner) {
+        return authenticated(owner.getId(), owner.getName(), owner.getEmail(), owner.getPhoneNumber());
+    }
+
+    /**
+     * Principal for an already authenticated owner, e.g. from a verified access token.
+     */
+    public static OwnerPrincipal authenticated(Long ownerId, String name, String email, String phoneNumber) {
+        return new OwnerPrincipal(ownerId, name, email, phoneNumber, null);
+    }
+
+    /**
+     * The owner authenticated on the current request, if any.
+     */
+    public static Optional<OwnerPrincipal> current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof OwnerPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    // ========================================
+    // UserDetails
+    // ========================================
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        passwordHash = null;
+    }
+
+    // principals are compared by owner (e.g. by session registries)
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OwnerPrincipal principal && ownerId.equals(principal.ownerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return ownerId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "OwnerPrincipal[ownerId=" + ownerId + ", email=" + email + "]";
+    }
+}
@@ -2,7 +2,6 @@ package com.PetTrackr.PetTrackr.config;
 
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.repository.OwnerRepository;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,7 +9,8 @@ import org.springframework.stereotype.Service;
 
 /**
  * Custom UserDetailsService that loads Owner by email for Spring Security authentication.
- * Uses the BCrypt password hash stored in the Owner entity.
+ * Uses the BCrypt password hash stored in the Owner entity, and returns an OwnerPrincipal
+ * so the authenticated owner's id and profile are available without another lookup.
  */
 @Service
 public class OwnerUserDetailsService implements UserDetailsService {
@@ -26,10 +26,6 @@ public class OwnerUserDetailsService implements UserDetailsService {
         Owner owner = ownerRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Owner not found with email: " + email));
 
-        return User.builder()
-                .username(owner.getEmail())
-                .password(owner.getPasswordHash())
-                .roles("USER")
-                .build();
+        return OwnerPrincipal.from(owner);
     }
 }
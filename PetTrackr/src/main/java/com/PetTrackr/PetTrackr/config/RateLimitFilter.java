@@ -0,0 +1,70 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * Answers 429 Too Many Requests (with Retry-After) once a client exceeds its limit for
+ * a route group (see RateLimiter). Runs inside the security chain after authentication,
+ * so logged-in owners are limited per account and anonymous callers per IP address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JsonMapper jsonMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JsonMapper jsonMapper) {
+        this.rateLimiter = rateLimiter;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.RouteGroup group = rateLimiter.match(request.getMethod(), path);
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitMillis = rateLimiter.tryAcquire(group, clientKey(request));
+        if (waitMillis == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long seconds = Math.max(1, (waitMillis + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Rate limit exceeded, try again in " + seconds + " seconds"
+        ));
+    }
+
+    /**
+     * The logged-in owner, or the client's IP address for anonymous requests.
+     */
+    static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof OwnerPrincipal owner) {
+            return "owner:" + owner.getOwnerId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,212 @@
+package com.PetTrackr.PetTrackr.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client request rate limits for the API, applied by RateLimitFilter.
+ *
+ * Requests fall into route groups (first match wins), each with its own limit:
+ *   public-write - POST /api/public/**  (sighting reports from anyone)
+ *   public       - /api/public/**       (QR lookups, area searches)
+ *   heavy        - QR codes, tag sheets and photo uploads (CPU or I/O heavy)
+ *   api          - everything else under /api/**
+ * A client is the logged-in owner, or the IP address for anonymous requests, and has one
+ * lock-free TokenBucket per group.
+ *
+ * Buckets live in a map bounded by rate-limit.max-buckets. Buckets that have refilled
+ * completely are evicted by a periodic sweep (and right away when the map is full);
+ * if it is still full, new clients share one overflow bucket per group until room frees
+ * up, so a flood of fresh addresses can't grow memory or slip past the limit.
+ */
+@Component
+public class RateLimiter {
+
+    // don't sweep the whole map more than once a second when it fills up
+    private static final long EVICTION_BACKOFF_MILLIS = 1_000;
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final int maxBuckets;
+    private final List<RouteGroup> groups;
+
+    private final ConcurrentHashMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextEvictionAt = new AtomicLong();
+
+    public RateLimiter(Clock clock,
+                       MeterRegistry meterRegistry,
+                       @Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.max-buckets:100000}") int maxBuckets,
+                       @Value("${rate-limit.public-write.capacity:10}") int publicWriteCapacity,
+                       @Value("${rate-limit.public-write.refill-period:6s}") Duration publicWriteRefillPeriod,
+                       @Value("${rate-limit.public.capacity:60}") int publicCapacity,
+                       @Value("${rate-limit.public.refill-period:500ms}") Duration publicRefillPeriod,
+                       @Value("${rate-limit.heavy.capacity:20}") int heavyCapacity,
+                       @Value("${rate-limit.heavy.refill-period:1s}") Duration heavyRefillPeriod,
+                       @Value("${rate-limit.api.capacity:120}") int apiCapacity,
+                       @Value("${rate-limit.api.refill-period:100ms}") Duration apiRefillPeriod) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.groups = List.of(
+                new RouteGroup("public-write", Set.of("POST"),
+                        List.of(parser.parse("/api/public/**")),
+                        publicWriteCapacity, publicWriteRefillPeriod, meterRegistry),
+                new RouteGroup("public", Set.of(),
+                        List.of(parser.parse("/api/public/**")),
+                        publicCapacity, publicRefillPeriod, meterRegistry),
+                new RouteGroup("heavy", Set.of(),
+                        List.of(parser.parse("/api/owners/{ownerId}/pets/qr-sheet"),
+                                parser.parse("/api/owners/{ownerId}/pets/{petId}/qr-code"),
+                                parser.parse("/api/owners/{ownerId}/pets/{petId}/photo/**")),
+                        heavyCapacity, heavyRefillPeriod, meterRegistry),
+                new RouteGroup("api", Set.of(),
+                        List.of(parser.parse("/api/**")),
+                        apiCapacity, apiRefillPeriod, meterRegistry));
+
+        Gauge.builder("rate.limit.buckets", buckets, ConcurrentHashMap::size)
+                .description("Clients currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param path request path without the context path
+     * @return the route group limiting this request, or null if it isn't rate limited
+     */
+    public RouteGroup match(String method, String path) {
+        if (!enabled || !path.startsWith("/api/")) {
+            return null;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (RouteGroup group : groups) {
+            if (group.matches(method, container)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take one request from the client's bucket for the group.
+     *
+     * @param client "owner:{id}" or "ip:{address}"
+     * @return 0 if the request may go ahead, otherwise milliseconds until it may be retried
+     */
+    public long tryAcquire(RouteGroup group, String client) {
+        long now = clock.millis();
+        BucketKey key = new BucketKey(group.name(), client);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(group, key, now);
+        }
+        long waitMillis = bucket.tryAcquire(now);
+        if (waitMillis > 0) {
+            group.rejected().increment();
+        }
+        return waitMillis;
+    }
+
+    /**
+     * Forget clients whose buckets have refilled completely.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:1m}", initialDelayString = "${rate-limit.sweep-interval:1m}")
+    public void sweep() {
+        long now = clock.millis();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int trackedBuckets() {
+        return buckets.size();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private TokenBucket newBucket(RouteGroup group, BucketKey key, long now) {
+        if (buckets.size() >= maxBuckets) {
+            long evictAt = nextEvictionAt.get();
+            if (now >= evictAt && nextEvictionAt.compareAndSet(evictAt, now + EVICTION_BACKOFF_MILLIS)) {
+                sweep();
+            }
+            if (buckets.size() >= maxBuckets) {
+                return group.overflow();
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> group.newBucket());
+    }
+
+    private record BucketKey(String group, String client) {
+    }
+
+    /**
+     * A set of routes sharing one limit.
+     */
+    public static final class RouteGroup {
+        private final String name;
+        private final Set<String> methods; // empty = any method
+        private final List<PathPattern> patterns;
+        private final int capacity;
+        private final Duration refillPeriod;
+        private final TokenBucket overflow;
+        private final Counter rejected;
+
+        RouteGroup(String name, Set<String> methods, List<PathPattern> patterns, int capacity,
+                   Duration refillPeriod, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.methods = methods;
+            this.patterns = patterns;
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+            this.overflow = newBucket(); // also validates the limit
+            this.rejected = Counter.builder("rate.limit.rejected")
+                    .description("Requests refused with 429 by the rate limiter")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        TokenBucket newBucket() {
+            return new TokenBucket(capacity, refillPeriod);
+        }
+
+        TokenBucket overflow() {
+            return overflow;
+        }
+
+        Counter rejected() {
+            return rejected;
+        }
+    }
+}
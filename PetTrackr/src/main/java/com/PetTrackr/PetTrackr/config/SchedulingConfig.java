@@ -0,0 +1,21 @@
+package com.PetTrackr.PetTrackr.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Enables @Scheduled background jobs (e.g. purging abandoned uploads) and
+ * provides the clock they and the services use, so tests can pin time.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
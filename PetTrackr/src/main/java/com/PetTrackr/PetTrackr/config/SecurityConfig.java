@@ -1,5 +1,7 @@
 package com.PetTrackr.PetTrackr.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -8,21 +10,47 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import tools.jackson.databind.json.JsonMapper;
+import java.time.Duration;
 import java.util.Arrays;
 
+/**
+ * Security setup. auth.mode selects how a login is remembered:
+ *   session (default) - security context in the HTTP session (cookie)
+ *   token             - stateless; login returns signed access/refresh tokens that are
+ *                       sent as "Authorization: Bearer ..." and verified on each request
+ *                       without a session (see TokenService)
+ */
 @Configuration
 public class SecurityConfig {
+
+    private final boolean tokenMode;
+
+    public SecurityConfig(@Value("${auth.mode:session}") String authMode) {
+        this.tokenMode = "token".equalsIgnoreCase(authMode);
+    }
     
+    /**
+     * BCrypt on its own bounded pool, so password checks can't take over the request threads.
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.password.threads:0}") int threads,
+                                           @Value("${auth.password.queue-capacity:32}") int queueCapacity,
+                                           @Value("${auth.password.timeout:5s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry, threads, queueCapacity, timeout);
     }
 
     @Bean
@@ -44,11 +72,21 @@ public class SecurityConfig {
 
     @Bean
     public SecurityContextRepository securityContextRepository() {
-        return new HttpSessionSecurityContextRepository();
+        // in token mode the context only lives for the request; the token carries it across requests
+        return tokenMode ? new RequestAttributeSecurityContextRepository() : new HttpSessionSecurityContextRepository();
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, TokenService tokenService,
+                                           RateLimiter rateLimiter, JsonMapper jsonMapper) throws Exception {
+        if (tokenMode) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        }
+        // once the caller is known, so owners are limited per account and anonymous clients per IP
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, jsonMapper), AnonymousAuthenticationFilter.class);
+        // /api/owners/{ownerId}/** only for that owner, checked once before any controller
+        http.addFilterAfter(new OwnerPathAuthorizationFilter(jsonMapper), RateLimitFilter.class);
+
         http
             // Enable CORS with our configuration
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -56,12 +94,16 @@ public class SecurityConfig {
             // Disable CSRF for API endpoints (frontend uses JSON, not forms)
             .csrf(csrf -> csrf.disable())
             
-            // Session management - always create session
+            // Session management - sessions only in session mode
             .sessionManagement(session -> session
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                .sessionCreationPolicy(tokenMode ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED)
             )
             
-            // Use HTTP session for security context
+            // Don't save requests that got a 401 to replay after login - there is no login
+            // redirect to replay them, and it would create a session for every anonymous hit
+            .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+            
+            // Use HTTP session for security context (request attribute in token mode)
             .securityContext(context -> context
                 .securityContextRepository(securityContextRepository())
             )
@@ -73,6 +115,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/uploads/**").permitAll() // Allow public access to uploaded images
+                .requestMatchers("/api/public/**").permitAll() // Lost-pet lookup behind QR codes
+                .requestMatchers("/actuator/health").permitAll()
+                // Metrics are only visible to logged-in users
+                .requestMatchers("/actuator/**").authenticated()
                 // All other API endpoints require authentication
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().permitAll()
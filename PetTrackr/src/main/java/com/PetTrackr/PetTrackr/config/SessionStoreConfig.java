@@ -0,0 +1,38 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.session.JdbcSessionRepository;
+import com.PetTrackr.PetTrackr.session.SessionRepositoryFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Selects where HTTP sessions (session auth mode) are kept.
+ *
+ *   session-store.type=jdbc      - database tables shared by every node (default); restarts and
+ *                                  load balancing without sticky sessions keep users logged in
+ *   session-store.type=container - the servlet container's memory (single node)
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    // ahead of Spring Security and anything else that may touch the session
+    private static final int FILTER_ORDER = Integer.MIN_VALUE + 50;
+
+    @Bean
+    public FilterRegistrationBean<SessionRepositoryFilter> sessionRepositoryFilter(
+            JdbcSessionRepository sessionRepository,
+            @Value("${session-store.cookie-name:SESSION}") String cookieName,
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        FilterRegistrationBean<SessionRepositoryFilter> registration = new FilterRegistrationBean<>(
+                new SessionRepositoryFilter(sessionRepository, cookieName, timeout));
+        registration.setOrder(FILTER_ORDER);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        registration.setEnabled(sessionRepository.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,59 @@
+package com.PetTrackr.PetTrackr.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket: holds up to capacity tokens and earns one back every refill period.
+ *
+ * Rather than a token count plus a refill timestamp, the whole state is one number - the
+ * time at which the bucket will be full again - updated with a compare-and-set. Taking a
+ * token pushes that time one period further; a take that would push it more than
+ * capacity periods past now is refused. Concurrent callers never block each other, and
+ * an idle bucket needs no timer to refill.
+ *
+ * Times are epoch milliseconds supplied by the caller.
+ */
+public final class TokenBucket {
+
+    private final long refillMillis;
+    private final long limitMillis;
+
+    // when the bucket is full again; at or before now means full
+    private final AtomicLong fullAt = new AtomicLong();
+
+    public TokenBucket(int capacity, Duration refillPeriod) {
+        if (capacity <= 0 || refillPeriod.toMillis() <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill period must be positive");
+        }
+        this.refillMillis = refillPeriod.toMillis();
+        this.limitMillis = Math.multiplyExact(refillMillis, capacity);
+    }
+
+    /**
+     * Take one token.
+     *
+     * @param now current time (epoch millis)
+     * @return 0 if a token was taken, otherwise milliseconds until one will be available
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillMillis;
+            long waitMillis = next - now - limitMillis;
+            if (waitMillis > 0) {
+                return waitMillis;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return true if the bucket has refilled completely (nothing to remember about its user)
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
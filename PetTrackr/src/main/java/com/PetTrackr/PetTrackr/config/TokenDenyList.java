@@ -0,0 +1,143 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.entity.RevokedToken;
+import com.PetTrackr.PetTrackr.repository.RevokedTokenRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked signed tokens, checked on every token-authenticated request.
+ *
+ * Only access tokens revoked before their natural expiry (logouts) are kept in memory,
+ * keyed by their 64-bit id, and each entry is dropped once the token would have expired -
+ * so every node holds about one access-token lifetime's worth of logouts. Revocations are
+ * written to the database and every node polls for rows revoked since its last sync, so an
+ * access token revoked on one node is rejected everywhere within one sync interval, while
+ * the per-request check stays a local hash lookup.
+ *
+ * Refresh tokens are only listed in the database: spending one (consume) inserts its row,
+ * and the unique tokenId constraint decides which refresh wins, on any node.
+ */
+@Component
+public class TokenDenyList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenDenyList.class);
+
+    // each sync re-reads rows revoked shortly before the last one, for inserts that were still
+    // uncommitted at the last poll and for clock differences between nodes (re-adding is harmless)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration accessTtl;
+
+    // token id -> expiry (epoch seconds)
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+    private Instant syncedUpTo; // null until the first sync
+
+    public TokenDenyList(RevokedTokenRepository revokedTokenRepository,
+                         Clock clock,
+                         @Value("${auth.mode:session}") String authMode,
+                         @Value("${auth.token.access-ttl:15m}") Duration accessTtl) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.enabled = "token".equalsIgnoreCase(authMode);
+        this.accessTtl = accessTtl;
+    }
+
+    /**
+     * @return true if the token with this id was revoked
+     */
+    public boolean isRevoked(long tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revoke an access token on every node (here immediately, elsewhere on their next sync).
+     */
+    public void revokeAccessToken(long tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(clock.instant()) || isRevoked(tokenId)) {
+            return; // already expired or revoked
+        }
+        insert(tokenId, expiresAt, true);
+        revoked.put(tokenId, expiresAt.getEpochSecond());
+    }
+
+    /**
+     * Spend a single-use refresh token: revoke it unless it was revoked already, on any node
+     * (the insert hits the unique tokenId constraint). Nothing is kept in memory.
+     *
+     * @return true if this call revoked the token, false if it had been revoked before
+     */
+    public boolean consume(long tokenId, Instant expiresAt) {
+        return insert(tokenId, expiresAt, false);
+    }
+
+    /**
+     * Pick up access-token revocations made on other nodes and forget expired ones.
+     */
+    @Scheduled(fixedDelayString = "${auth.token.deny-list-sync-interval:10s}")
+    public synchronized void sync() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (syncedUpTo == null) {
+            // rows written before the token type was stored: any unexpired access token among them
+            // expires within one access-token lifetime
+            revokedTokenRepository.findByAccessTokenIsNullAndExpiresAtBetween(now, now.plus(accessTtl)).forEach(this::add);
+        }
+        Instant since = syncedUpTo == null ? Instant.EPOCH : syncedUpTo.minus(SYNC_OVERLAP);
+        revokedTokenRepository.findByAccessTokenTrueAndRevokedAtGreaterThanEqual(since).forEach(this::add);
+        syncedUpTo = now;
+        long nowSeconds = now.getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt < nowSeconds);
+    }
+
+    /**
+     * Delete revocations of tokens that have expired since.
+     */
+    @Scheduled(fixedDelayString = "${auth.token.deny-list-purge-interval:1h}", initialDelayString = "${auth.token.deny-list-purge-interval:1h}")
+    @Transactional
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = revokedTokenRepository.deleteExpired(clock.instant());
+        log.debug("Purged {} expired token revocations", deleted);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // false if the token was revoked before (the unique tokenId constraint)
+    private boolean insert(long tokenId, Instant expiresAt, boolean accessToken) {
+        try {
+            revokedTokenRepository.saveAndFlush(new RevokedToken(tokenId, expiresAt, accessToken, clock.instant()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void add(RevokedToken token) {
+        revoked.put(token.getTokenId(), token.getExpiresAt().getEpochSecond());
+    }
+
+    int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,242 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.repository.OwnerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies the signed tokens used when auth.mode is "token" (stateless nodes).
+ *
+ * A token is {@code base64url(payload).base64url(HMAC-SHA256(payload))}. Access tokens are
+ * short-lived and carry the owner's id and profile, so a request is authenticated by checking
+ * the signature, the expiry and the in-memory deny list - no session, no query. Refresh
+ * tokens are long-lived, carry only the owner id, and are single-use: each refresh revokes
+ * the old one (enforced by the database, see TokenDenyList.consume) and re-reads the owner,
+ * so profile changes and deleted accounts take effect at the next refresh at the latest.
+ *
+ * All nodes must share auth.token.secret.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final byte VERSION = 1;
+    private static final byte ACCESS = 'A';
+    private static final byte REFRESH = 'R';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
+
+    private final OwnerRepository ownerRepository;
+    private final TokenDenyList tokenDenyList;
+    private final Clock clock;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+
+    // Mac instances aren't thread-safe; one per thread, keyed once
+    private final ThreadLocal<Mac> mac;
+
+    public TokenService(OwnerRepository ownerRepository,
+                        TokenDenyList tokenDenyList,
+                        Clock clock,
+                        @Value("${auth.mode:session}") String authMode,
+                        @Value("${auth.token.secret:}") String secret,
+                        @Value("${auth.token.access-ttl:15m}") Duration accessTtl,
+                        @Value("${auth.token.refresh-ttl:14d}") Duration refreshTtl) {
+        this.ownerRepository = ownerRepository;
+        this.tokenDenyList = tokenDenyList;
+        this.clock = clock;
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            key = new byte[MIN_SECRET_BYTES];
+            TOKEN_ID_RANDOM.nextBytes(key);
+            if ("token".equalsIgnoreCase(authMode)) {
+                log.warn("auth.token.secret is not set - using a random key; tokens won't survive a restart "
+                        + "or work across nodes");
+            }
+        } else {
+            key = Base64.getDecoder().decode(secret.trim());
+            if (key.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("auth.token.secret must be at least " + MIN_SECRET_BYTES
+                        + " bytes (base64-encoded)");
+            }
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+            }
+        });
+    }
+
+    /**
+     * Issue an access and a refresh token for a logged-in owner.
+     */
+    public TokenPair issue(OwnerPrincipal owner) {
+        Instant now = clock.instant();
+        String accessToken = sign(payload(ACCESS, owner.getOwnerId(), now.plus(accessTtl), owner));
+        String refreshToken = sign(payload(REFRESH, owner.getOwnerId(), now.plus(refreshTtl), null));
+        return new TokenPair(accessToken, refreshToken, accessTtl);
+    }
+
+    /**
+     * Verify an access token: signature, expiry and deny list. No database access.
+     *
+     * @return the token's owner, or empty if the token isn't a valid, current access token
+     */
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        return parse(token).filter(parsed -> parsed.type() == ACCESS && isCurrent(parsed));
+    }
+
+    /**
+     * Trade a refresh token for a new token pair. The refresh token can't be used again.
+     *
+     * @throws BadCredentialsException if the token is invalid, expired, already used,
+     *                                 or its owner no longer exists
+     */
+    public TokenPair refresh(String refreshToken) {
+        VerifiedToken parsed = parse(refreshToken)
+                .filter(token -> token.type() == REFRESH && isCurrent(token))
+                .orElseThrow(() -> new BadCredentialsException("Invalid or expired refresh token"));
+
+        Owner owner = ownerRepository.findById(parsed.principal().getOwnerId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid or expired refresh token"));
+        // spend the token before issuing anything - a concurrent refresh with it (on any node) loses here
+        if (!tokenDenyList.consume(parsed.tokenId(), parsed.expiresAt())) {
+            throw new BadCredentialsException("Invalid or expired refresh token");
+        }
+        return issue(OwnerPrincipal.authenticated(owner));
+    }
+
+    /**
+     * Revoke a token (access or refresh) before it expires. Invalid tokens are ignored.
+     */
+    public void revoke(String token) {
+        parse(token).ifPresent(parsed -> {
+            if (parsed.type() == ACCESS) {
+                tokenDenyList.revokeAccessToken(parsed.tokenId(), parsed.expiresAt());
+            } else if (parsed.expiresAt().isAfter(clock.instant())) {
+                tokenDenyList.consume(parsed.tokenId(), parsed.expiresAt());
+            }
+        });
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private boolean isCurrent(VerifiedToken token) {
+        return token.expiresAt().isAfter(clock.instant()) && !tokenDenyList.isRevoked(token.tokenId());
+    }
+
+    private static byte[] payload(byte type, Long ownerId, Instant expiresAt, OwnerPrincipal profile) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(type);
+            out.writeLong(TOKEN_ID_RANDOM.nextLong());
+            out.writeLong(ownerId);
+            out.writeLong(expiresAt.getEpochSecond());
+            if (profile != null) {
+                out.writeUTF(nullToEmpty(profile.getName()));
+                out.writeUTF(nullToEmpty(profile.getEmail()));
+                out.writeUTF(nullToEmpty(profile.getPhoneNumber()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private String sign(byte[] payload) {
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac.get().doFinal(payload));
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac.get().doFinal(payload))) {
+                return Optional.empty();
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            if (in.readByte() != VERSION) {
+                return Optional.empty();
+            }
+            byte type = in.readByte();
+            long tokenId = in.readLong();
+            long ownerId = in.readLong();
+            Instant expiresAt = Instant.ofEpochSecond(in.readLong());
+            OwnerPrincipal principal = type == ACCESS
+                    ? OwnerPrincipal.authenticated(ownerId, emptyToNull(in.readUTF()), emptyToNull(in.readUTF()),
+                            emptyToNull(in.readUTF()))
+                    : OwnerPrincipal.authenticated(ownerId, null, null, null);
+            return Optional.of(new VerifiedToken(type, tokenId, expiresAt, principal));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty(); // not base64 or truncated - can't be one of ours
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Tokens handed to the client after login or refresh.
+     *
+     * @param accessTtl how long the access token is valid
+     */
+    public record TokenPair(String accessToken, String refreshToken, Duration accessTtl) {
+    }
+
+    /**
+     * A token with a valid signature.
+     */
+    public record VerifiedToken(byte type, long tokenId, Instant expiresAt, OwnerPrincipal principal) {
+    }
+}
@@ -1,12 +1,17 @@
 package com.PetTrackr.PetTrackr.controller;
 
+import com.PetTrackr.PetTrackr.DTO.AuthDTOs.TokenResponse;
 import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
 import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.OwnerResponse;
-import com.PetTrackr.PetTrackr.entity.Owner;
-import com.PetTrackr.PetTrackr.repository.OwnerRepository;
+import com.PetTrackr.PetTrackr.config.LoginThrottle;
+import com.PetTrackr.PetTrackr.config.OwnerPrincipal;
+import com.PetTrackr.PetTrackr.config.TokenAuthenticationFilter;
+import com.PetTrackr.PetTrackr.config.TokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,31 +23,51 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * AuthController handles login/logout and session management.
- * Uses Spring Security session-based authentication.
+ * Uses Spring Security session-based authentication; the session holds an OwnerPrincipal
+ * with the owner's id and profile, so /me needs no database lookup.
+ *
+ * With auth.mode=token no session is used: login returns signed access/refresh tokens,
+ * /refresh trades a refresh token for a new pair, and /logout revokes the tokens.
  */
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final OwnerRepository ownerRepository;
     private final SecurityContextRepository securityContextRepository;
-
-    public AuthController(AuthenticationManager authenticationManager, 
-                         OwnerRepository ownerRepository,
-                         SecurityContextRepository securityContextRepository) {
+    private final TokenService tokenService;
+    private final LoginThrottle loginThrottle;
+    private final boolean tokenMode;
+
+    public AuthController(AuthenticationManager authenticationManager,
+                         SecurityContextRepository securityContextRepository,
+                         TokenService tokenService,
+                         LoginThrottle loginThrottle,
+                         @Value("${auth.mode:session}") String authMode) {
         this.authenticationManager = authenticationManager;
-        this.ownerRepository = ownerRepository;
         this.securityContextRepository = securityContextRepository;
+        this.tokenService = tokenService;
+        this.loginThrottle = loginThrottle;
+        this.tokenMode = "token".equalsIgnoreCase(authMode);
     }
 
     /**
      * Login with email and password.
-     * Returns owner info on success, 401 on failure.
+     * Returns owner info on success (with access/refresh tokens in token mode), 401 on failure.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Logged in
+     *   400 Bad Request - Email or password missing
+     *   401 Unauthorized - Invalid email or password
+     *   429 Too Many Requests - Too many attempts from this address or for this account (Retry-After)
+     *   503 Service Unavailable - Password checks saturated, try again shortly (Retry-After)
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody Map<String, String> credentials, 
@@ -62,12 +87,25 @@ public class AuthController {
             ));
         }
 
+        // Throttle before the (deliberately slow) password check
+        Optional<Duration> retryAfter = loginThrottle.tryAcquire(request.getRemoteAddr(), email);
+        if (retryAfter.isPresent()) {
+            return tooManyRequests(retryAfter.get());
+        }
+
         try {
             // Authenticate with Spring Security
             Authentication auth = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password)
             );
 
+            // The principal was loaded while authenticating - no need to fetch the owner again
+            OwnerPrincipal owner = (OwnerPrincipal) auth.getPrincipal();
+
+            if (tokenMode) {
+                return ResponseEntity.ok(convertToTokenResponse(tokenService.issue(owner), owner));
+            }
+
             // Create new security context and set authentication
             SecurityContext context = SecurityContextHolder.createEmptyContext();
             context.setAuthentication(auth);
@@ -76,75 +114,137 @@ public class AuthController {
             // Explicitly save the security context to the session
             securityContextRepository.saveContext(context, request, response);
 
-            // Fetch owner to return info
-            Owner owner = ownerRepository.findByEmail(email).orElseThrow();
+            return ResponseEntity.ok(convertToResponse(owner));
 
-            // Store owner ID in session for easy access
-            HttpSession session = request.getSession();
-            session.setAttribute("ownerId", owner.getId());
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(
+                    HttpStatus.UNAUTHORIZED.value(),
+                    "Unauthorized",
+                    "Invalid email or password"
+            ));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(
+                            HttpStatus.SERVICE_UNAVAILABLE.value(),
+                            "Service Unavailable",
+                            e.getMessage()
+                    ));
+        }
+    }
 
-            OwnerResponse ownerResponse = new OwnerResponse(
-                    owner.getId(),
-                    owner.getName(),
-                    owner.getEmail(),
-                    owner.getPhoneNumber()
-            );
+    /**
+     * Trade a refresh token for a new access/refresh token pair (token mode only).
+     * The refresh token can only be used once.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - New tokens returned
+     *   400 Bad Request - No refresh token given
+     *   401 Unauthorized - Invalid, expired or already used refresh token
+     *   404 Not Found - Not in token mode
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> body) {
+        if (!tokenMode) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    "Token authentication is not enabled"
+            ));
+        }
+        String refreshToken = body.get("refreshToken");
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "refreshToken is required"
+            ));
+        }
 
-            return ResponseEntity.ok(ownerResponse);
+        try {
+            TokenService.TokenPair tokens = tokenService.refresh(refreshToken.trim());
+            OwnerPrincipal owner = tokenService.verifyAccessToken(tokens.accessToken()).orElseThrow().principal();
+            return ResponseEntity.ok(convertToTokenResponse(tokens, owner));
 
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(
                     HttpStatus.UNAUTHORIZED.value(),
                     "Unauthorized",
-                    "Invalid email or password"
+                    e.getMessage()
             ));
         }
     }
 
     /**
-     * Logout - invalidate session.
+     * Logout - invalidate session, or in token mode revoke the bearer access token and
+     * the refresh token given in the body ({"refreshToken": "..."}, optional).
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpSession session) {
-        session.invalidate();
+    public ResponseEntity<?> logout(HttpServletRequest request,
+                                    @RequestBody(required = false) Map<String, String> body) {
+        if (tokenMode) {
+            String accessToken = TokenAuthenticationFilter.bearerToken(request);
+            if (accessToken != null) {
+                tokenService.revoke(accessToken);
+            }
+            if (body != null && body.get("refreshToken") != null) {
+                tokenService.revoke(body.get("refreshToken").trim());
+            }
+        } else {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+        }
         SecurityContextHolder.clearContext();
         return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
     }
 
     /**
-     * Get current authenticated user info.
+     * Get current authenticated user info, straight from the session's principal.
      * Returns 401 if not authenticated.
      */
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(
-                    HttpStatus.UNAUTHORIZED.value(),
-                    "Unauthorized",
-                    "Not logged in"
-            ));
-        }
+        return OwnerPrincipal.current()
+                .<ResponseEntity<?>>map(owner -> ResponseEntity.ok(convertToResponse(owner)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(
+                        HttpStatus.UNAUTHORIZED.value(),
+                        "Unauthorized",
+                        "Not logged in"
+                )));
+    }
 
-        String email = auth.getName();
-        Owner owner = ownerRepository.findByEmail(email).orElse(null);
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static ResponseEntity<ErrorResponse> tooManyRequests(Duration retryAfter) {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(new ErrorResponse(
+                        HttpStatus.TOO_MANY_REQUESTS.value(),
+                        "Too Many Requests",
+                        "Too many login attempts, try again in " + seconds + " seconds"
+                ));
+    }
 
-        if (owner == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(
-                    HttpStatus.UNAUTHORIZED.value(),
-                    "Unauthorized",
-                    "User not found"
-            ));
-        }
+    private TokenResponse convertToTokenResponse(TokenService.TokenPair tokens, OwnerPrincipal owner) {
+        return new TokenResponse(
+                tokens.accessToken(),
+                tokens.refreshToken(),
+                tokens.accessTtl().toSeconds(),
+                convertToResponse(owner)
+        );
+    }
 
-        OwnerResponse response = new OwnerResponse(
-                owner.getId(),
+    private OwnerResponse convertToResponse(OwnerPrincipal owner) {
+        return new OwnerResponse(
+                owner.getOwnerId(),
                 owner.getName(),
                 owner.getEmail(),
                 owner.getPhoneNumber()
         );
-
-        return ResponseEntity.ok(response);
     }
 }
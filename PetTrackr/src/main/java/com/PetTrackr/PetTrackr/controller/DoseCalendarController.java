@@ -0,0 +1,105 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.MedicationDTOs.DoseResponse;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.service.MedicationService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * DoseCalendarController lists an owner's upcoming (or past) medication doses across all
+ * their pets, e.g. "which doses are due between 18:00 and 20:00".
+ *
+ * Doses are expanded from each medication's recurrence rule on the fly and streamed out
+ * in due-time order; none are stored.
+ *
+ * RESTful Conventions:
+ *   GET /api/owners/{ownerId}/doses?from=...&to=...[&petId=...] - Doses due in the range (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/doses")
+public class DoseCalendarController {
+
+    private final MedicationService medicationService;
+    private final JsonMapper jsonMapper;
+
+    public DoseCalendarController(MedicationService medicationService, JsonMapper jsonMapper) {
+        this.medicationService = medicationService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Get every dose due at or after {@code from} and before {@code to} (local date-times,
+     * e.g. 2025-06-01T18:00), ordered by due time. The range may be up to a year long.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Doses streamed as a JSON array (may be empty)
+     *   400 Bad Request - Invalid or too long range
+     *   403 Forbidden - Not the logged-in owner
+     *
+     * @param ownerId the owner whose doses to list
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @param petId only this pet's doses (optional)
+     * @return ResponseEntity with the streamed doses or error
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getDoses(
+            @PathVariable Long ownerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long petId) {
+
+        try {
+            // validate and load before the response is committed, so errors still get a status code
+            Stream<MedicationService.Dose> doses = medicationService.getDoseCalendar(ownerId, petId, from, to);
+
+            StreamingResponseBody body = out -> {
+                try (SequenceWriter writer = jsonMapper.writer().writeValuesAsArray(out)) {
+                    doses.forEach(dose -> writer.write(convertToResponse(dose)));
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    e.getMessage()
+            );
+            // the declared body type has to stay StreamingResponseBody for the response to be streamed
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> jsonMapper.writeValue(out, errorResponse));
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private DoseResponse convertToResponse(MedicationService.Dose dose) {
+        Medication medication = dose.medication();
+        return new DoseResponse(
+                dose.dueAt(),
+                medication.getId(),
+                medication.getName(),
+                medication.getDosageAmount(),
+                medication.getDosageUnit(),
+                medication.getPet().getId(),
+                medication.getPet().getName()
+        );
+    }
+}
@@ -0,0 +1,247 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.MedicationDTOs.AdherenceResponse;
+import com.PetTrackr.PetTrackr.DTO.MedicationDTOs.DoseAdministrationCreateRequest;
+import com.PetTrackr.PetTrackr.DTO.MedicationDTOs.DoseAdministrationResponse;
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.service.DoseLogService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * DoseLogController handles the dose log of a medication: ticking off doses as given
+ * and the adherence computed from them.
+ *
+ * Design Principles:
+ * 1. Nested under the medication: /api/owners/{ownerId}/pets/{petId}/medications/{medicationId}
+ * 2. The log is append-only - entries can't be changed or deleted
+ * 3. Logging a dose that is already logged returns the existing entry (200) instead of a duplicate
+ * 4. Authorization checks via service layer (pet must belong to owner)
+ *
+ * RESTful Conventions:
+ *   POST /api/owners/{ownerId}/pets/{petId}/medications/{medicationId}/administrations        - Log a dose (201)
+ *   GET  /api/owners/{ownerId}/pets/{petId}/medications/{medicationId}/administrations?days=30 - Dose log (200)
+ *   GET  /api/owners/{ownerId}/pets/{petId}/medications/{medicationId}/adherence              - Adherence (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/pets/{petId}/medications/{medicationId}")
+public class DoseLogController {
+
+    private final DoseLogService doseLogService;
+
+    public DoseLogController(DoseLogService doseLogService) {
+        this.doseLogService = doseLogService;
+    }
+
+    // ========================================
+    // Exception Handlers
+    // ========================================
+
+    /**
+     * Handle validation errors from @Valid annotation.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                "Invalid input data",
+                errors
+        );
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Log a scheduled dose as given. Responds once the entry is stored.
+     *
+     * HTTP Status Codes:
+     *   201 Created - Dose logged
+     *   200 OK - Dose was already logged (existing entry returned)
+     *   400 Bad Request - Validation error, or no dose scheduled at that time
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Medication or pet doesn't exist
+     *   503 Service Unavailable - Dose log is busy, retry shortly
+     */
+    @PostMapping("/administrations")
+    public ResponseEntity<?> logDose(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long medicationId,
+            @Valid @RequestBody DoseAdministrationCreateRequest request) {
+
+        try {
+            DoseLogService.LoggedDose logged = doseLogService.logDose(
+                    medicationId,
+                    petId,
+                    ownerId,
+                    request.getDueAt(),
+                    request.getAdministeredAt(),
+                    request.getNotes()
+            );
+
+            DoseAdministrationResponse response = convertToResponse(logged.entry());
+            return ResponseEntity.status(logged.created() ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(
+                            HttpStatus.SERVICE_UNAVAILABLE.value(),
+                            "Service Unavailable",
+                            e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Get a medication's dose log, newest dose first.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Log returned (may be empty)
+     *   400 Bad Request - Invalid days
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Medication or pet doesn't exist
+     *
+     * @param days how many days back to include by dose time, today included (1-365, default 30)
+     */
+    @GetMapping("/administrations")
+    public ResponseEntity<?> getDoseLog(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long medicationId,
+            @RequestParam(defaultValue = "30") int days) {
+
+        if (days < 1 || days > 365) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "days must be between 1 and 365"
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        try {
+            List<DoseAdministrationResponse> response = doseLogService.getDoseLog(medicationId, petId, ownerId, days)
+                    .stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(response);
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * Get a medication's adherence: doses taken and missed, and the current and longest
+     * streak of doses given in a row.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Adherence returned
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Medication or pet doesn't exist
+     */
+    @GetMapping("/adherence")
+    public ResponseEntity<?> getAdherence(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long medicationId) {
+
+        try {
+            DoseLogService.Adherence adherence = doseLogService.getAdherence(medicationId, petId, ownerId);
+            return ResponseEntity.ok(new AdherenceResponse(
+                    adherence.taken(),
+                    adherence.missed(),
+                    adherence.currentStreak(),
+                    adherence.longestStreak()
+            ));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private DoseAdministrationResponse convertToResponse(DoseAdministration entry) {
+        return new DoseAdministrationResponse(
+                entry.getMedicationId(),
+                entry.getPetId(),
+                entry.getDueAt(),
+                entry.getAdministeredAt(),
+                entry.getRecordedAt(),
+                entry.getNotes()
+        );
+    }
+}
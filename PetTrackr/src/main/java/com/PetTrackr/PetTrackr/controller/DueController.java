@@ -0,0 +1,82 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.DueResponse;
+import com.PetTrackr.PetTrackr.service.DueService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DueController lists what an owner has to do soon across all their pets - feedings and
+ * medication doses - in one call instead of one per pet and kind.
+ *
+ * RESTful Conventions:
+ *   GET /api/owners/{ownerId}/due?hours=2 - Feedings and doses due in the next hours (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/due")
+public class DueController {
+
+    private final DueService dueService;
+
+    public DueController(DueService dueService) {
+        this.dueService = dueService;
+    }
+
+    /**
+     * Get the feedings and doses due in the next {@code hours} hours, plus those due in the
+     * last couple of hours, ordered by due time. Logged ones are included with done = true.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Items returned (may be empty)
+     *   400 Bad Request - Invalid hours
+     *   403 Forbidden - Not the logged-in owner
+     *
+     * @param ownerId the owner whose pets to look at
+     * @param hours how far ahead to look (1-48, default 2)
+     * @return ResponseEntity with the due items or error
+     */
+    @GetMapping
+    public ResponseEntity<?> getDue(
+            @PathVariable Long ownerId,
+            @RequestParam(defaultValue = "2") int hours) {
+
+        try {
+            DueService.DueFeed feed = dueService.getDue(ownerId, hours);
+            return ResponseEntity.ok(convertToResponse(feed));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private DueResponse convertToResponse(DueService.DueFeed feed) {
+        List<DueResponse.DueItem> items = feed.items()
+                .stream()
+                .map(item -> new DueResponse.DueItem(
+                        item.type().name(),
+                        item.dueAt(),
+                        item.pet().getId(),
+                        item.pet().getName(),
+                        item.itemId(),
+                        item.name(),
+                        item.amount(),
+                        item.unit(),
+                        item.done()))
+                .collect(Collectors.toList());
+        return new DueResponse(feed.from(), feed.to(), items);
+    }
+}
@@ -0,0 +1,36 @@
+package com.PetTrackr.PetTrackr.controller;
+
+/**
+ * Helpers for conditional GETs (ETag / If-None-Match) shared by the controllers.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Wrap an opaque tag in quotes, as the ETag header requires.
+     */
+    static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * Check an If-None-Match header (a list of tags, possibly weak, or "*") against an ETag.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
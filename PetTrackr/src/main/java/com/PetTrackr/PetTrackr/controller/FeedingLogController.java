@@ -0,0 +1,299 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs.FeedingEventCreateRequest;
+import com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs.FeedingEventResponse;
+import com.PetTrackr.PetTrackr.DTO.FeedingEventDTOs.NutritionHistoryResponse;
+import com.PetTrackr.PetTrackr.entity.FeedingDay;
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.service.FeedingLogService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * FeedingLogController handles what pets were actually fed (as opposed to the feeding
+ * schedules, which are the plan) and the daily nutrition totals built from it.
+ *
+ * Design Principles:
+ * 1. Nested under pet resource: /api/owners/{ownerId}/pets/{petId}
+ * 2. A feeding can reference the schedule it follows, which fills in anything left out
+ * 3. Feedings can't be edited; delete and log again to correct one
+ * 4. Authorization checks via service layer (pet must belong to owner)
+ *
+ * RESTful Conventions:
+ *   POST   /api/owners/{ownerId}/pets/{petId}/feedings              - Log a feeding (201)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/feedings?days=7       - Feeding log (200)
+ *   DELETE /api/owners/{ownerId}/pets/{petId}/feedings/{feedingId}  - Delete a feeding (204)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/nutrition?days=30     - Daily totals by food type (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/pets/{petId}")
+public class FeedingLogController {
+
+    private final FeedingLogService feedingLogService;
+
+    public FeedingLogController(FeedingLogService feedingLogService) {
+        this.feedingLogService = feedingLogService;
+    }
+
+    /**
+     * Handle validation errors from @Valid annotation.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                "Invalid input data",
+                errors
+        );
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Log a feeding.
+     *
+     * HTTP Status Codes:
+     *   201 Created - Feeding logged
+     *   400 Bad Request - Validation error
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet or feeding schedule doesn't exist
+     */
+    @PostMapping("/feedings")
+    public ResponseEntity<?> logFeeding(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @Valid @RequestBody FeedingEventCreateRequest request) {
+
+        try {
+            FeedingEvent event = feedingLogService.logFeeding(
+                    petId,
+                    ownerId,
+                    request.getFeedingScheduleId(),
+                    request.getFedAt(),
+                    request.getFoodType(),
+                    request.getQuantity(),
+                    request.getQuantityUnit(),
+                    request.getNotes()
+            );
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(convertToResponse(event));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Get a pet's feedings, newest first.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Feedings returned (may be empty)
+     *   400 Bad Request - Invalid days
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     *
+     * @param days how many days back to include, today included (1-365, default 7)
+     */
+    @GetMapping("/feedings")
+    public ResponseEntity<?> getFeedings(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(defaultValue = "7") int days) {
+
+        if (days < 1 || days > 365) {
+            return invalidDays();
+        }
+
+        try {
+            List<FeedingEventResponse> response = feedingLogService.getFeedings(petId, ownerId, days)
+                    .stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(response);
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * Delete a logged feeding; it is taken out of the nutrition totals too.
+     *
+     * HTTP Status Codes:
+     *   204 No Content - Feeding deleted
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Feeding or pet doesn't exist
+     */
+    @DeleteMapping("/feedings/{feedingId}")
+    public ResponseEntity<?> deleteFeeding(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long feedingId) {
+
+        try {
+            feedingLogService.deleteFeeding(feedingId, petId, ownerId);
+            return ResponseEntity.noContent().build();
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * Get how much a pet was fed per day, by food type, in grams (for 30/90/365-day charts).
+     *
+     * HTTP Status Codes:
+     *   200 OK - Totals returned (days without feedings are omitted)
+     *   400 Bad Request - Invalid days
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     *
+     * @param days how many days back to include, today included (1-365, default 30)
+     */
+    @GetMapping("/nutrition")
+    public ResponseEntity<?> getNutrition(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(defaultValue = "30") int days) {
+
+        if (days < 1 || days > 365) {
+            return invalidDays();
+        }
+
+        try {
+            List<FeedingDay> totals = feedingLogService.getNutrition(petId, ownerId, days);
+            return ResponseEntity.ok(convertToNutritionResponse(petId, totals));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private FeedingEventResponse convertToResponse(FeedingEvent event) {
+        return new FeedingEventResponse(
+                event.getId(),
+                event.getPetId(),
+                event.getFeedingScheduleId(),
+                event.getFedAt(),
+                event.getFoodType(),
+                event.getQuantity(),
+                event.getQuantityUnit(),
+                event.getQuantityGrams(),
+                event.getNotes()
+        );
+    }
+
+    /**
+     * Group the per-food rows (ordered by day) into one entry per day.
+     */
+    private NutritionHistoryResponse convertToNutritionResponse(Long petId, List<FeedingDay> totals) {
+        double totalGrams = 0;
+        int totalFeedings = 0;
+        List<NutritionHistoryResponse.DailyNutrition> days = new ArrayList<>();
+        NutritionHistoryResponse.DailyNutrition day = null;
+        for (FeedingDay total : totals) {
+            if (day == null || !day.getDate().equals(total.getFeedingDate())) {
+                day = new NutritionHistoryResponse.DailyNutrition(total.getFeedingDate());
+                days.add(day);
+            }
+            day.getFoods().add(new NutritionHistoryResponse.FoodTotal(
+                    total.getFoodType(), total.getTotalGrams(), total.getFeedings()));
+            day.setTotalGrams(day.getTotalGrams() + total.getTotalGrams());
+            day.setFeedings(day.getFeedings() + total.getFeedings());
+            totalGrams += total.getTotalGrams();
+            totalFeedings += total.getFeedings();
+        }
+        return new NutritionHistoryResponse(petId, totalGrams, totalFeedings, days);
+    }
+
+    private ResponseEntity<ErrorResponse> invalidDays() {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "days must be between 1 and 365"
+        );
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+}
@@ -1,50 +1,80 @@
 package com.PetTrackr.PetTrackr.controller;
 
+import com.PetTrackr.PetTrackr.storage.BlobStore;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
 
 /**
  * Controller for serving uploaded pet images.
+ * Images are read through the configured BlobStore, so any app node can serve
+ * any image regardless of which node handled the upload.
  */
 @RestController
 @RequestMapping("/uploads")
 public class ImageController {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final BlobStore blobStore;
+
+    // how long redirect URLs to the object store stay valid
+    @Value("${blob-store.direct-url-ttl:10m}")
+    private Duration directUrlTtl;
+
+    public ImageController(BlobStore blobStore) {
+        this.blobStore = blobStore;
+    }
 
     /**
      * Serve a pet image by filename.
      * Public endpoint - no authentication required for viewing images.
-     * 
+     *
+     * HTTP Status Codes:
+     *   200 OK - Image streamed from the blob store
+     *   302 Found - Backend supports direct downloads and the image isn't served from the
+     *               read cache; client is redirected to it
+     *   404 Not Found - No image with that name
+     *
      * @param filename The name of the image file
      * @return The image file as a response
      */
     @GetMapping("/pet-images/{filename:.+}")
     public ResponseEntity<Resource> serveImage(@PathVariable String filename) {
         try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists() && resource.isReadable()) {
-                // Determine content type based on file extension
-                String contentType = determineContentType(filename);
+            // Object stores can hand the download off to the client directly
+            Optional<URI> directUrl = blobStore.directGetUrl(filename, directUrlTtl);
+            if (directUrl.isPresent()) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(directUrl.get())
+                        .build();
+            }
 
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
+            Optional<BlobStore.Blob> blob = blobStore.get(filename);
+            if (blob.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
+
+            // Prefer the stored content type, fall back to the file extension
+            String contentType = blob.get().contentType() != null
+                    ? blob.get().contentType()
+                    : determineContentType(filename);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(contentType))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
+            if (blob.get().contentLength() >= 0) {
+                response.contentLength(blob.get().contentLength());
+            }
+            return response.body(new InputStreamResource(blob.get().content()));
+
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
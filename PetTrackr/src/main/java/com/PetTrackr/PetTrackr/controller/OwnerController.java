@@ -1,18 +1,31 @@
 package com.PetTrackr.PetTrackr.controller;
 
 import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.config.LoginThrottle;
+import com.PetTrackr.PetTrackr.config.OwnerPrincipal;
 import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.OwnerRegistrationRequest;
 import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.OwnerResponse;
 import com.PetTrackr.PetTrackr.DTO.OwnerDTOs.OwnerUpdateRequest;
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.service.OwnerService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +49,14 @@ import java.util.stream.Collectors;
 public class OwnerController {
 
     private final OwnerService ownerService;
+    private final SecurityContextRepository securityContextRepository;
+    private final LoginThrottle loginThrottle;
 
-    public OwnerController(OwnerService ownerService) {
+    public OwnerController(OwnerService ownerService, SecurityContextRepository securityContextRepository,
+                           LoginThrottle loginThrottle) {
         this.ownerService = ownerService;
+        this.securityContextRepository = securityContextRepository;
+        this.loginThrottle = loginThrottle;
     }
     
     // ========================================
@@ -79,12 +97,29 @@ public class OwnerController {
      *   201 Created - Owner successfully created
      *   400 Bad Request - Validation error (handled by @Valid)
      *   409 Conflict - Email already registered
+     *   429 Too Many Requests - Too many sign-ups/logins from this address (Retry-After)
+     *   503 Service Unavailable - Password hashing saturated, try again shortly (Retry-After)
      * 
      * @param request registration data with validation
      * @return ResponseEntity with created owner (201), validation error (400), or conflict (409)
      */
     @PostMapping("/register")
-    public ResponseEntity<?> registerOwner(@Valid @RequestBody OwnerRegistrationRequest request) {
+    public ResponseEntity<?> registerOwner(@Valid @RequestBody OwnerRegistrationRequest request,
+                                           HttpServletRequest httpRequest) {
+        // Sign-ups hash a password too - share the per-address budget with logins
+        Optional<Duration> retryAfter = loginThrottle.tryAcquire(httpRequest.getRemoteAddr(), null);
+        if (retryAfter.isPresent()) {
+            long seconds = Math.max(1, (retryAfter.get().toMillis() + 999) / 1000);
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "Too Many Requests",
+                    "Too many attempts, try again in " + seconds + " seconds"
+            );
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                    .body(errorResponse);
+        }
+
         try {
             Owner createdOwner = ownerService.registerOwner(
                     request.getEmail(),
@@ -114,6 +149,16 @@ public class OwnerController {
                     e.getMessage()
             );
             return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (RejectedExecutionException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    "Service Unavailable",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(errorResponse);
         }
     }
 
@@ -126,6 +171,7 @@ public class OwnerController {
      * 
      * HTTP Status Codes:
      *   200 OK - Owner found and returned
+     *   403 Forbidden - Not the logged-in owner
      *   404 Not Found - Owner doesn't exist
      * 
      * @param ownerId the ID of the owner to retrieve
@@ -161,6 +207,7 @@ public class OwnerController {
      * HTTP Status Codes:
      *   200 OK - Owner updated and returned
      *   400 Bad Request - Validation error
+     *   403 Forbidden - Not the logged-in owner
      *   404 Not Found - Owner doesn't exist
      *   409 Conflict - Email already taken by another user
      * 
@@ -171,7 +218,9 @@ public class OwnerController {
     @PatchMapping("/{ownerId}")
     public ResponseEntity<?> updateOwner(
             @PathVariable Long ownerId,
-            @Valid @RequestBody OwnerUpdateRequest request) {
+            @Valid @RequestBody OwnerUpdateRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         
         try {
             Owner updatedOwner = ownerService.updateOwnerProfile(
@@ -180,6 +229,7 @@ public class OwnerController {
                     request.getPhoneNumber(),
                     request.getEmail()
             );
+            refreshPrincipal(updatedOwner, httpRequest, httpResponse);
             
             OwnerResponse response = convertToResponse(updatedOwner);
             return ResponseEntity.ok(response);
@@ -222,18 +272,27 @@ public class OwnerController {
      * DELETE /api/owners/{ownerId}
      * 
      * Deletes the owner and cascades to all pets, vet visits, medications, and feeding schedules.
+     * Only the logged-in owner can delete their account, which also ends their session.
      * 
      * Response codes:
      *   204 No Content - Account successfully deleted
+     *   403 Forbidden - Not the logged-in owner
      *   404 Not Found - Owner doesn't exist
      * 
      * @param ownerId the ID of the owner to delete
      * @return ResponseEntity with 204 No Content or error
      */
     @DeleteMapping("/{ownerId}")
-    public ResponseEntity<?> deleteOwner(@PathVariable Long ownerId) {
+    public ResponseEntity<?> deleteOwner(@PathVariable Long ownerId, HttpServletRequest httpRequest) {
         try {
             ownerService.deleteOwner(ownerId);
+
+            // only the owner themselves gets here (OwnerPathAuthorizationFilter), so log them out
+            HttpSession session = httpRequest.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            SecurityContextHolder.clearContext();
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             ErrorResponse errorResponse = new ErrorResponse(
@@ -250,6 +309,21 @@ public class OwnerController {
     // Helper Methods
     // ========================================
 
+    /**
+     * Replace the session's principal after the logged-in owner changed their profile,
+     * so /api/auth/me (answered from the principal) shows the new name, phone and email.
+     * Other sessions of the same owner keep the old profile until they log in again.
+     * The path owner is always the logged-in one (see OwnerPathAuthorizationFilter).
+     */
+    private void refreshPrincipal(Owner owner, HttpServletRequest request, HttpServletResponse response) {
+        OwnerPrincipal principal = OwnerPrincipal.authenticated(owner);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
+
     /**
      * Convert Owner entity to OwnerResponse DTO.
      * 
@@ -5,16 +5,28 @@ import com.PetTrackr.PetTrackr.DTO.FeedingScheduleDTOs.FeedingScheduleResponse;
 import com.PetTrackr.PetTrackr.DTO.MedicationDTOs.MedicationResponse;
 import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetCreateRequest;
 import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetDetailedResponse;
+import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetScanHistoryResponse;
 import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetSummaryResponse;
 import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetUpdateRequest;
+import com.PetTrackr.PetTrackr.DTO.UploadDTOs.UploadSessionCreateRequest;
+import com.PetTrackr.PetTrackr.DTO.UploadDTOs.UploadSessionResponse;
 import com.PetTrackr.PetTrackr.DTO.VetVisitDTOs.VetVisitResponse;
 import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
 import com.PetTrackr.PetTrackr.entity.Medication;
 import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.PetScanDay;
+import com.PetTrackr.PetTrackr.entity.UploadSession;
 import com.PetTrackr.PetTrackr.entity.VetVisit;
+import com.PetTrackr.PetTrackr.service.PayloadTooLargeException;
+import com.PetTrackr.PetTrackr.service.PetScanService;
 import com.PetTrackr.PetTrackr.service.PetService;
 import com.PetTrackr.PetTrackr.service.QRCodeService;
+import com.PetTrackr.PetTrackr.service.QRCodeSheetService;
+import com.PetTrackr.PetTrackr.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,8 +34,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +54,7 @@ import java.util.stream.Collectors;
  *   UC-4: View Pet Details (Profile Page)
  *   UC-5: Upload Pet Image
  *   UC-6: Generate QR Code for Pet
+ *   UC-6c: QR Code Scan History
  *   Additional: Update Pet, Delete Pet
  * 
  * Design Principles:
@@ -52,7 +72,14 @@ import java.util.stream.Collectors;
  *   PATCH  /api/owners/{ownerId}/pets/{petId}  - Update pet (200 OK)
  *   DELETE /api/owners/{ownerId}/pets/{petId}  - Delete pet (204 No Content)
  *   POST   /api/owners/{ownerId}/pets/{petId}/photo - Upload photo (200 OK)
- *   GET    /api/owners/{ownerId}/pets/{petId}/qr-code - Generate QR (200 OK)
+ *   POST   /api/owners/{ownerId}/pets/{petId}/photo/uploads - Start resumable upload (201 Created)
+ *   PUT    /api/owners/{ownerId}/pets/{petId}/photo/uploads/{uploadId}?offset=N - Send chunk (200 OK)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/photo/uploads/{uploadId} - Committed offset (200 OK)
+ *   POST   /api/owners/{ownerId}/pets/{petId}/photo/uploads/{uploadId}/complete - Finish upload (200 OK)
+ *   DELETE /api/owners/{ownerId}/pets/{petId}/photo/uploads/{uploadId} - Abort upload (204 No Content)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/qr-code - Generate QR, PNG or ?format=svg (200 OK)
+ *   GET    /api/owners/{ownerId}/pets/qr-sheet?petIds=1,2&perPage=12 - Printable QR tag sheet (200 OK)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/scans?days=30 - QR code scans per day (200 OK)
  */
 @RestController
 @RequestMapping("/api/owners/{ownerId}/pets")
@@ -60,10 +87,19 @@ public class PetController {
 
     private final PetService petService;
     private final QRCodeService qrCodeService;
-
-    public PetController(PetService petService, QRCodeService qrCodeService) {
+    private final UploadSessionService uploadSessionService;
+    private final QRCodeSheetService qrCodeSheetService;
+    private final PetScanService petScanService;
+
+    public PetController(PetService petService, QRCodeService qrCodeService,
+                         UploadSessionService uploadSessionService,
+                         QRCodeSheetService qrCodeSheetService,
+                         PetScanService petScanService) {
         this.petService = petService;
         this.qrCodeService = qrCodeService;
+        this.uploadSessionService = uploadSessionService;
+        this.qrCodeSheetService = qrCodeSheetService;
+        this.petScanService = petScanService;
     }
 
     // ========================================
@@ -160,30 +196,20 @@ public class PetController {
      * 
      * HTTP Status Codes:
      *   200 OK - List of pets returned (may be empty)
-     *   404 Not Found - Owner doesn't exist
+     *   403 Forbidden - Not the logged-in owner
      * 
      * @param ownerId the owner whose pets to retrieve
      * @return ResponseEntity with list of pet summaries
      */
     @GetMapping
     public ResponseEntity<?> getAllPets(@PathVariable Long ownerId) {
-        try {
-            List<Pet> pets = petService.getAllPetsByOwnerId(ownerId);
-
-            List<PetSummaryResponse> response = pets.stream()
-                    .map(this::convertToSummaryResponse)
-                    .collect(Collectors.toList());
+        List<Pet> pets = petService.getAllPetsByOwnerId(ownerId);
 
-            return ResponseEntity.ok(response);
+        List<PetSummaryResponse> response = pets.stream()
+                .map(this::convertToSummaryResponse)
+                .collect(Collectors.toList());
 
-        } catch (IllegalArgumentException e) {
-            ErrorResponse errorResponse = new ErrorResponse(
-                    HttpStatus.NOT_FOUND.value(),
-                    "Not Found",
-                    e.getMessage()
-            );
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        return ResponseEntity.ok(response);
     }
 
     // ========================================
@@ -356,10 +382,11 @@ public class PetController {
      * 
      * HTTP Status Codes:
      *   200 OK - Photo uploaded, returns updated pet
-     *   400 Bad Request - Invalid file type or size
+     *   400 Bad Request - Invalid file type, content not matching its extension, or image dimensions over the limit
      *   403 Forbidden - Pet doesn't belong to owner
      *   404 Not Found - Pet doesn't exist
      *   413 Payload Too Large - File exceeds size limit
+     *   503 Service Unavailable - Image processing queue is full, retry later
      * 
      * @param ownerId the owner uploading the photo
      * @param petId the pet to update
@@ -397,7 +424,7 @@ public class PetController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
             }
 
-            if (message.contains("size") || message.contains("large")) {
+            if (e instanceof PayloadTooLargeException) {
                 ErrorResponse errorResponse = new ErrorResponse(
                         413,
                         "Payload Too Large",
@@ -413,6 +440,189 @@ public class PetController {
                     message
             );
             return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (RejectedExecutionException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    "Service Unavailable",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // UC-5b: Resumable (Chunked) Photo Upload
+    // ========================================
+
+    /**
+     * Start a resumable photo upload for flaky connections and files larger than a single request allows.
+     * 
+     * HTTP Status Codes:
+     *   201 Created - Session created, send the first chunk at offset 0
+     *   400 Bad Request - Invalid file name/type or size
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     *   413 Payload Too Large - Declared size exceeds the resumable upload limit
+     * 
+     * @param ownerId the owner uploading the photo
+     * @param petId the pet to update
+     * @param request final file name and total size
+     * @return ResponseEntity with the upload session or error
+     */
+    @PostMapping("/{petId}/photo/uploads")
+    public ResponseEntity<?> createPhotoUpload(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @Valid @RequestBody UploadSessionCreateRequest request) {
+
+        try {
+            UploadSession session = uploadSessionService.createSession(
+                    petId, ownerId, request.getFilename(), request.getSize(), request.getContentType());
+            URI location = URI.create("/api/owners/" + ownerId + "/pets/" + petId + "/photo/uploads/" + session.getId());
+            return ResponseEntity.created(location).body(convertToUploadResponse(session));
+
+        } catch (RuntimeException e) {
+            return resumableUploadError(e, ownerId, petId, null);
+        }
+    }
+
+    /**
+     * Send the next chunk of a resumable upload as the raw request body.
+     * The chunk is only accepted at the currently committed offset; on 409 the client
+     * should resume from the offset in the Upload-Offset header.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Chunk stored, returns the new committed offset
+     *   400 Bad Request - Empty chunk, chunk past the declared size or body shorter than Content-Length
+     *   403 Forbidden - Upload doesn't belong to this owner/pet
+     *   404 Not Found - Upload session doesn't exist or has expired
+     *   409 Conflict - Offset doesn't match the committed offset
+     *   413 Payload Too Large - Chunk larger than the chunk limit
+     * 
+     * @param ownerId the owner uploading the photo
+     * @param petId the pet to update
+     * @param uploadId the upload session
+     * @param offset byte offset of this chunk in the final file
+     * @param request the raw request (body is streamed to storage)
+     * @return ResponseEntity with the upload state or error
+     */
+    @PutMapping("/{petId}/photo/uploads/{uploadId}")
+    public ResponseEntity<?> uploadPhotoChunk(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request) {
+
+        try {
+            UploadSession session = uploadSessionService.appendChunk(
+                    petId, ownerId, uploadId, offset, request.getInputStream(), request.getContentLengthLong());
+            return ResponseEntity.ok()
+                    .header("Upload-Offset", String.valueOf(session.getCommittedOffset()))
+                    .body(convertToUploadResponse(session));
+
+        } catch (IOException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "Failed to read chunk: " + e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (RuntimeException e) {
+            return resumableUploadError(e, ownerId, petId, uploadId);
+        }
+    }
+
+    /**
+     * Get the committed offset of a resumable upload (where to resume after a dropped connection).
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Returns the upload state
+     *   403 Forbidden - Upload doesn't belong to this owner/pet
+     *   404 Not Found - Upload session doesn't exist or has expired
+     * 
+     * @param ownerId the owner uploading the photo
+     * @param petId the pet to update
+     * @param uploadId the upload session
+     * @return ResponseEntity with the upload state or error
+     */
+    @GetMapping("/{petId}/photo/uploads/{uploadId}")
+    public ResponseEntity<?> getPhotoUpload(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long uploadId) {
+
+        try {
+            UploadSession session = uploadSessionService.getSession(petId, ownerId, uploadId);
+            return ResponseEntity.ok()
+                    .header("Upload-Offset", String.valueOf(session.getCommittedOffset()))
+                    .body(convertToUploadResponse(session));
+
+        } catch (RuntimeException e) {
+            return resumableUploadError(e, ownerId, petId, uploadId);
+        }
+    }
+
+    /**
+     * Finish a resumable upload: validate the assembled file and set it as the pet's photo.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Photo stored, returns updated pet
+     *   400 Bad Request - Assembled file is not a valid image
+     *   403 Forbidden - Upload doesn't belong to this owner/pet
+     *   404 Not Found - Upload session doesn't exist or has expired
+     *   409 Conflict - Not all bytes have been received yet
+     *   503 Service Unavailable - Image processing queue is full, retry later
+     * 
+     * @param ownerId the owner uploading the photo
+     * @param petId the pet to update
+     * @param uploadId the upload session
+     * @return ResponseEntity with updated pet summary or error
+     */
+    @PostMapping("/{petId}/photo/uploads/{uploadId}/complete")
+    public ResponseEntity<?> completePhotoUpload(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long uploadId) {
+
+        try {
+            Pet updatedPet = uploadSessionService.completeUpload(petId, ownerId, uploadId);
+            return ResponseEntity.ok(convertToSummaryResponse(updatedPet));
+
+        } catch (RuntimeException e) {
+            return resumableUploadError(e, ownerId, petId, uploadId);
+        }
+    }
+
+    /**
+     * Abort a resumable upload and discard the chunks received so far.
+     * 
+     * HTTP Status Codes:
+     *   204 No Content - Upload discarded
+     *   403 Forbidden - Upload doesn't belong to this owner/pet
+     *   404 Not Found - Upload session doesn't exist or has expired
+     * 
+     * @param ownerId the owner uploading the photo
+     * @param petId the pet to update
+     * @param uploadId the upload session
+     * @return ResponseEntity with no content or error
+     */
+    @DeleteMapping("/{petId}/photo/uploads/{uploadId}")
+    public ResponseEntity<?> abortPhotoUpload(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long uploadId) {
+
+        try {
+            uploadSessionService.abortUpload(petId, ownerId, uploadId);
+            return ResponseEntity.noContent().build();
+
+        } catch (RuntimeException e) {
+            return resumableUploadError(e, ownerId, petId, uploadId);
         }
     }
 
@@ -422,33 +632,63 @@ public class PetController {
 
     /**
      * Generate a QR code containing pet emergency contact information.
-     * Returns a downloadable PNG image (300x300px).
+     * Returns a downloadable PNG image (300x300px), or SVG with ?format=svg.
+     * The response carries an ETag derived from the encoded content; a request whose
+     * If-None-Match matches it gets 304 without a body.
      * 
      * HTTP Status Codes:
      *   200 OK - QR code generated and returned as PNG
+     *   304 Not Modified - QR code unchanged since the client's copy (If-None-Match)
+     *   400 Bad Request - Unsupported format
      *   403 Forbidden - Pet doesn't belong to owner
      *   404 Not Found - Pet doesn't exist
      *   500 Internal Server Error - QR generation failed
      * 
      * @param ownerId the owner requesting the QR code
      * @param petId the pet to generate QR for
-     * @return ResponseEntity with PNG image bytes or error
+     * @param format output format, png (default) or svg
+     * @param ifNoneMatch ETag of the client's cached copy, if any
+     * @return ResponseEntity with PNG/SVG image bytes or error
      */
     @GetMapping("/{petId}/qr-code")
     public ResponseEntity<?> generateQRCode(
             @PathVariable Long ownerId,
-            @PathVariable Long petId) {
+            @PathVariable Long petId,
+            @RequestParam(defaultValue = "png") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        QRCodeService.QRCodeFormat qrCodeFormat;
+        try {
+            qrCodeFormat = QRCodeService.QRCodeFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
         
         try {
-            byte[] qrCodeImage = qrCodeService.generateQRCodeForPet(petId, ownerId);
+            QRCodeService.QRCodeImage qrCode = qrCodeService.getQRCodeForPet(petId, ownerId, qrCodeFormat);
+            String etag = ETags.quote(qrCode.etag());
 
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.IMAGE_PNG);
-            headers.setContentDispositionFormData("attachment", "pet_" + petId + "_qr.png");
+            headers.setETag(etag);
+            // owner-specific; revalidated because the image changes when the pet's public token does
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+            }
+
+            headers.setContentType(MediaType.parseMediaType(qrCodeFormat.getContentType()));
+            headers.setContentDispositionFormData("attachment",
+                    "pet_" + petId + "_qr." + qrCodeFormat.getFileExtension());
 
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(qrCodeImage);
+                    .body(qrCode.image());
 
         } catch (SecurityException e) {
             ErrorResponse errorResponse = new ErrorResponse(
@@ -476,6 +716,117 @@ public class PetController {
         }
     }
 
+    // ========================================
+    // UC-6b: Bulk QR Tag Sheet
+    // ========================================
+
+    /**
+     * Generate a printable sheet of QR tags for all of the owner's pets, or the selected ones.
+     * Returns an HTML page (one printed page per perPage tags) that is streamed while the
+     * codes are being rendered.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Sheet streamed as text/html
+     *   400 Bad Request - Invalid perPage or too many pets
+     *   404 Not Found - A selected pet doesn't exist or doesn't belong to the owner
+     * 
+     * @param ownerId the owner requesting the sheet
+     * @param petIds pets to include (optional, defaults to all of the owner's pets)
+     * @param perPage tags per printed page (1-48, default 12)
+     * @return ResponseEntity with the streamed sheet or error
+     */
+    @GetMapping("/qr-sheet")
+    public ResponseEntity<?> generateQRCodeSheet(
+            @PathVariable Long ownerId,
+            @RequestParam(required = false) List<Long> petIds,
+            @RequestParam(defaultValue = "12") int perPage) {
+
+        if (perPage < 1 || perPage > 48) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "perPage must be between 1 and 48"
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        try {
+            // load and authorize before the response is committed, so errors still get a status code
+            List<Pet> pets = qrCodeSheetService.loadPets(ownerId, petIds);
+
+            StreamingResponseBody body = out -> qrCodeSheetService.writeSheet(pets, perPage, out);
+            return ResponseEntity.ok()
+                    .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            HttpStatus status = e.getMessage().contains("not found") ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+            ErrorResponse errorResponse = new ErrorResponse(
+                    status.value(),
+                    status.getReasonPhrase(),
+                    e.getMessage()
+            );
+            return ResponseEntity.status(status).body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // UC-6c: QR Code Scan History
+    // ========================================
+
+    /**
+     * Get how often the pet's QR code was scanned per day (UTC), e.g. to see that a
+     * lost pet has been found. Includes scans from the last few seconds that are
+     * not yet written to the database.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - Scan history returned (days without scans are omitted)
+     *   400 Bad Request - Invalid days
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     * 
+     * @param ownerId the owner requesting the history
+     * @param petId the pet whose scans to return
+     * @param days how many days back to include, today included (1-365, default 30)
+     * @return ResponseEntity with the scan history or error
+     */
+    @GetMapping("/{petId}/scans")
+    public ResponseEntity<?> getScanHistory(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(defaultValue = "30") int days) {
+
+        if (days < 1 || days > 365) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "days must be between 1 and 365"
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        try {
+            List<PetScanDay> history = petScanService.getScanHistory(petId, ownerId, days);
+            return ResponseEntity.ok(convertToScanHistoryResponse(petId, history));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
     // ========================================
     // Helper Methods - Convert Entity to DTOs
     // ========================================
@@ -572,4 +923,79 @@ public class PetController {
                 vetVisit.getNotes()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Convert UploadSession entity to UploadSessionResponse DTO.
+     */
+    private UploadSessionResponse convertToUploadResponse(UploadSession session) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getCommittedOffset(),
+                session.getTotalSize(),
+                uploadSessionService.getMaxChunkSize(),
+                session.isComplete(),
+                session.getExpiresAt()
+        );
+    }
+
+    /**
+     * Convert a pet's daily scan rows to PetScanHistoryResponse DTO.
+     */
+    private PetScanHistoryResponse convertToScanHistoryResponse(Long petId, List<PetScanDay> history) {
+        long totalScans = 0;
+        Instant lastScannedAt = null;
+        List<PetScanHistoryResponse.DailyScans> days = new ArrayList<>();
+        for (PetScanDay day : history) {
+            totalScans += day.getScanCount();
+            if (lastScannedAt == null || day.getLastScannedAt().isAfter(lastScannedAt)) {
+                lastScannedAt = day.getLastScannedAt();
+            }
+            days.add(new PetScanHistoryResponse.DailyScans(
+                    day.getScanDate(), day.getScanCount(), day.getLastScannedAt()));
+        }
+        return new PetScanHistoryResponse(petId, totalScans, lastScannedAt, days);
+    }
+
+    /**
+     * Map resumable upload failures to HTTP responses (shared by the /photo/uploads endpoints).
+     */
+    private ResponseEntity<ErrorResponse> resumableUploadError(RuntimeException e, Long ownerId, Long petId, Long uploadId) {
+        String message = e.getMessage() != null ? e.getMessage() : "Upload failed";
+
+        if (e instanceof SecurityException) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(HttpStatus.FORBIDDEN.value(), "Forbidden", message));
+        }
+        if (e instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", message));
+        }
+        if (e instanceof IllegalStateException || e instanceof OptimisticLockingFailureException) {
+            // offset mismatch, concurrent chunk or incomplete upload - tell the client where to resume
+            ResponseEntity.BodyBuilder conflict = ResponseEntity.status(HttpStatus.CONFLICT);
+            if (uploadId != null) {
+                try {
+                    UploadSession session = uploadSessionService.getSession(petId, ownerId, uploadId);
+                    conflict.header("Upload-Offset", String.valueOf(session.getCommittedOffset()));
+                } catch (RuntimeException lookupFailure) {
+                    // expired or deleted meanwhile - still a conflict, the client will get 404 on its next call
+                }
+            }
+            return conflict.body(new ErrorResponse(HttpStatus.CONFLICT.value(), "Conflict", message));
+        }
+        if (e instanceof IllegalArgumentException) {
+            if (message.contains("not found")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Not Found", message));
+            }
+            if (e instanceof PayloadTooLargeException) {
+                return ResponseEntity.status(413)
+                        .body(new ErrorResponse(413, "Payload Too Large", message));
+            }
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), "Bad Request", message));
+        }
+        throw e;
+    }
+}
@@ -0,0 +1,87 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.service.PetScanService;
+import com.PetTrackr.PetTrackr.service.PublicPetService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * PublicPetController serves the lost-pet page data a pet's QR code links to.
+ * No authentication - anyone who scans the tag can see it.
+ *
+ * RESTful Conventions:
+ *   GET /api/public/pets/{token} - Lost-pet info for a public token (200 OK)
+ */
+@RestController
+@RequestMapping("/api/public/pets")
+public class PublicPetController {
+
+    // short enough that changed contact details show up quickly, long enough
+    // that repeat scans and shared links are served by browser/CDN caches
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final PublicPetService publicPetService;
+    private final PetScanService petScanService;
+
+    public PublicPetController(PublicPetService publicPetService, PetScanService petScanService) {
+        this.publicPetService = publicPetService;
+        this.petScanService = petScanService;
+    }
+
+    /**
+     * Look up a pet by the public token from its QR code.
+     * Returns the pet's name, type, breed and photo, the owner's contact details
+     * and a guide for finders. Carries an ETag; a matching If-None-Match gets 304.
+     * Every successful lookup (including 304s) counts as a scan of the pet's tag.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Pet found
+     *   304 Not Modified - Unchanged since the client's copy (If-None-Match)
+     *   404 Not Found - No pet with this token
+     *
+     * @param token the pet's public token
+     * @param ifNoneMatch ETag of the client's cached copy, if any
+     * @return ResponseEntity with PublicPetResponse or error
+     */
+    @GetMapping("/{token}")
+    public ResponseEntity<?> getPublicPet(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        Optional<PublicPetService.PublicPetEntry> entry = publicPetService.lookup(token);
+        if (entry.isEmpty()) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    "Pet not found"
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+
+        petScanService.recordScan(entry.get().petId());
+
+        String etag = ETags.quote(entry.get().etag());
+        CacheControl cacheControl = CacheControl.maxAge(MAX_AGE).cachePublic();
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(entry.get().response());
+    }
+}
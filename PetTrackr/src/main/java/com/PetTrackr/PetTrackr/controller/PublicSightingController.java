@@ -0,0 +1,178 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.SightingDTOs.PublicSightingResponse;
+import com.PetTrackr.PetTrackr.DTO.SightingDTOs.SightingCreateRequest;
+import com.PetTrackr.PetTrackr.DTO.SightingDTOs.SightingResponse;
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import com.PetTrackr.PetTrackr.service.PublicPetService;
+import com.PetTrackr.PetTrackr.service.SightingIndex.NearbySighting;
+import com.PetTrackr.PetTrackr.service.SightingService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * PublicSightingController lets anyone report and look up sightings of lost pets.
+ * No authentication - finders reach it from a pet's QR code page.
+ *
+ * RESTful Conventions:
+ *   POST /api/public/pets/{token}/sightings                          - Report a sighting (201 Created)
+ *   GET  /api/public/sightings?lat=..&lon=..&radiusKm=5&hours=24     - Sightings near a position (200 OK)
+ */
+@RestController
+@RequestMapping("/api/public")
+public class PublicSightingController {
+
+    private final SightingService sightingService;
+    private final PublicPetService publicPetService;
+
+    public PublicSightingController(SightingService sightingService, PublicPetService publicPetService) {
+        this.sightingService = sightingService;
+        this.publicPetService = publicPetService;
+    }
+
+    // ========================================
+    // Exception Handlers
+    // ========================================
+
+    /**
+     * Handle validation errors from @Valid annotation.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                "Invalid input data",
+                errors
+        );
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Report a sighting of the pet behind a QR code.
+     * 
+     * HTTP Status Codes:
+     *   201 Created - Sighting recorded
+     *   400 Bad Request - Validation error, or time in the future / too long ago
+     *   404 Not Found - No pet with this token
+     */
+    @PostMapping("/pets/{token}/sightings")
+    public ResponseEntity<?> reportSighting(
+            @PathVariable String token,
+            @Valid @RequestBody SightingCreateRequest request) {
+
+        try {
+            Sighting sighting = sightingService.reportSighting(
+                    token,
+                    request.getLatitude(),
+                    request.getLongitude(),
+                    request.getSightedAt(),
+                    request.getNote()
+            );
+
+            SightingResponse response = new SightingResponse(sighting.getId(), sighting.getLatitude(),
+                    sighting.getLongitude(), sighting.getSightedAt(), sighting.getNote());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Get sightings within radiusKm of a position during the last hours, newest first,
+     * each with the pet it is of (name, type and photo only - no owner details or token)
+     * and its distance from the position.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - List of sightings returned (may be empty)
+     *   400 Bad Request - Position, radius or hours out of range
+     */
+    @GetMapping("/sightings")
+    public ResponseEntity<?> getNearbySightings(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "24") int hours) {
+
+        try {
+            List<NearbySighting> sightings = sightingService.findNearby(lat, lon, radiusKm, hours);
+
+            List<PublicSightingResponse> response = new ArrayList<>();
+            for (NearbySighting nearby : sightings) {
+                // skips sightings of pets deleted since, and drops them from the index for later queries
+                Optional<PublicPetService.PublicPetEntry> pet = publicPetService.findByPetId(nearby.sighting().petId());
+                if (pet.isPresent()) {
+                    response.add(convertToResponse(nearby, pet.get()));
+                } else {
+                    sightingService.removeDeletedPet(nearby.sighting().petId());
+                }
+            }
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    e.getMessage()
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert to DTOs
+    // ========================================
+
+    private PublicSightingResponse convertToResponse(NearbySighting nearby, PublicPetService.PublicPetEntry pet) {
+        return new PublicSightingResponse(
+                nearby.sighting().id(),
+                roundTo100m(nearby.sighting().latitude()),
+                roundTo100m(nearby.sighting().longitude()),
+                nearby.sighting().sightedAt(),
+                nearby.sighting().note(),
+                Math.round(nearby.distanceKm() * 10) / 10.0,
+                new PublicSightingResponse.SightedPet(
+                        pet.response().getName(),
+                        pet.response().getType(),
+                        pet.response().getPhotoURL())
+        );
+    }
+
+    // 3 decimal places of a degree are ~100 m
+    private static double roundTo100m(double degrees) {
+        return Math.round(degrees * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.SightingDTOs.SightingResponse;
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import com.PetTrackr.PetTrackr.service.SightingService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SightingController shows an owner the sightings reported for their pet.
+ * Reports themselves come in through PublicSightingController.
+ * 
+ * RESTful Conventions:
+ *   GET /api/owners/{ownerId}/pets/{petId}/sightings?hours=168 - List the pet's sightings (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/pets/{petId}/sightings")
+public class SightingController {
+
+    private final SightingService sightingService;
+
+    public SightingController(SightingService sightingService) {
+        this.sightingService = sightingService;
+    }
+
+    /**
+     * Get the pet's sightings during the last hours, newest first.
+     * 
+     * HTTP Status Codes:
+     *   200 OK - List of sightings returned (may be empty)
+     *   400 Bad Request - Invalid hours
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     */
+    @GetMapping
+    public ResponseEntity<?> getSightings(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(defaultValue = "168") int hours) {
+
+        if (hours < 1) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    "hours must be at least 1"
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        try {
+            List<Sighting> sightings = sightingService.getSightingsForPet(petId, ownerId, hours);
+
+            List<SightingResponse> response = sightings.stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.ok(response);
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private SightingResponse convertToResponse(Sighting sighting) {
+        return new SightingResponse(
+                sighting.getId(),
+                sighting.getLatitude(),
+                sighting.getLongitude(),
+                sighting.getSightedAt(),
+                sighting.getNote()
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.PetDTOs.PetTimelineResponse;
+import com.PetTrackr.PetTrackr.service.TimelineService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * TimelineController serves a pet's whole history as one chronological list, so the
+ * frontend doesn't have to fetch vet visits, medications, feedings etc. separately and
+ * sort them itself.
+ *
+ * Design Principles:
+ * 1. Nested under pet resource: /api/owners/{ownerId}/pets/{petId}/timeline
+ * 2. Cursor paging: each page returns the cursor of the next, which stays valid when
+ *    events are added in between
+ * 3. Authorization checks via service layer (pet must belong to owner)
+ *
+ * RESTful Conventions:
+ *   GET /api/owners/{ownerId}/pets/{petId}/timeline?limit=20[&cursor=...] - A page of the timeline (200)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/pets/{petId}/timeline")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    public TimelineController(TimelineService timelineService) {
+        this.timelineService = timelineService;
+    }
+
+    /**
+     * Get a page of a pet's timeline, newest first.
+     *
+     * HTTP Status Codes:
+     *   200 OK - Page returned (nextCursor is null on the last page)
+     *   400 Bad Request - Invalid cursor or limit
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     *
+     * @param cursor nextCursor of the previous page (omit for the first page)
+     * @param limit how many events to return (1-100, default 20)
+     */
+    @GetMapping
+    public ResponseEntity<?> getTimeline(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        try {
+            TimelineService.Page page = timelineService.getTimeline(petId, ownerId, cursor, limit);
+            return ResponseEntity.ok(convertToResponse(petId, page));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private PetTimelineResponse convertToResponse(Long petId, TimelineService.Page page) {
+        List<PetTimelineResponse.TimelineEvent> events = page.entries()
+                .stream()
+                .map(entry -> new PetTimelineResponse.TimelineEvent(
+                        entry.type().name(),
+                        entry.id(),
+                        entry.at(),
+                        entry.date(),
+                        entry.title(),
+                        entry.detail()))
+                .collect(Collectors.toList());
+        return new PetTimelineResponse(petId, events, page.nextCursor());
+    }
+}
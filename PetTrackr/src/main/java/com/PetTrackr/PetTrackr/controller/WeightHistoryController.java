@@ -0,0 +1,241 @@
+package com.PetTrackr.PetTrackr.controller;
+
+import com.PetTrackr.PetTrackr.DTO.ErrorResponse;
+import com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs.WeightHistoryResponse;
+import com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs.WeightSampleCreateRequest;
+import com.PetTrackr.PetTrackr.DTO.WeightSampleDTOs.WeightSampleResponse;
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
+import com.PetTrackr.PetTrackr.service.WeightHistoryService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * WeightHistoryController handles the history of a pet's weight, for trend charts.
+ *
+ * Design Principles:
+ * 1. Nested under pet resource: /api/owners/{ownerId}/pets/{petId}/weights
+ * 2. Changing the weight on the pet profile records a sample too
+ * 3. Long ranges are downsampled on the server to the number of points the chart asks for
+ * 4. Authorization checks via service layer (pet must belong to owner)
+ *
+ * RESTful Conventions:
+ *   POST   /api/owners/{ownerId}/pets/{petId}/weights                    - Log a measurement (201)
+ *   GET    /api/owners/{ownerId}/pets/{petId}/weights?from=&to=&points=  - Weight history (200)
+ *   DELETE /api/owners/{ownerId}/pets/{petId}/weights/{sampleId}         - Delete a sample (204)
+ */
+@RestController
+@RequestMapping("/api/owners/{ownerId}/pets/{petId}/weights")
+public class WeightHistoryController {
+
+    private final WeightHistoryService weightHistoryService;
+
+    public WeightHistoryController(WeightHistoryService weightHistoryService) {
+        this.weightHistoryService = weightHistoryService;
+    }
+
+    /**
+     * Handle validation errors from @Valid annotation.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                "Invalid input data",
+                errors
+        );
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Log a weight measurement. The latest measurement also becomes the pet's current weight.
+     *
+     * HTTP Status Codes:
+     *   201 Created - Measurement logged
+     *   400 Bad Request - Validation error
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     */
+    @PostMapping
+    public ResponseEntity<?> logWeight(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @Valid @RequestBody WeightSampleCreateRequest request) {
+
+        try {
+            WeightHistoryService.LoggedWeight logged = weightHistoryService.logWeight(
+                    petId,
+                    ownerId,
+                    request.getWeight(),
+                    request.getWeightType(),
+                    request.getMeasuredAt()
+            );
+
+            // echo the weight in the unit it was entered in
+            return ResponseEntity.status(HttpStatus.CREATED).body(convertToResponse(logged.sample(), logged.unit()));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Get a pet's weight history in [from, to), oldest first, downsampled to at most
+     * {@code points} samples.
+     *
+     * HTTP Status Codes:
+     *   200 OK - History returned (may be empty)
+     *   400 Bad Request - Invalid range or points
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Pet doesn't exist
+     *
+     * @param from start of the range, e.g. 2023-01-01T00:00:00Z (optional, default the first sample)
+     * @param to end of the range, exclusive (optional, default now)
+     * @param points the most samples to return (3-5000, default 500)
+     * @param unit unit of the returned weights (optional, default the pet's unit)
+     */
+    @GetMapping
+    public ResponseEntity<?> getWeightHistory(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "500") int points,
+            @RequestParam(required = false) WeightType unit) {
+
+        try {
+            WeightHistoryService.WeightHistory history =
+                    weightHistoryService.getWeightHistory(petId, ownerId, from, to, points, unit);
+            return ResponseEntity.ok(convertToHistoryResponse(petId, history));
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+
+            if (message.contains("not found")) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                        HttpStatus.NOT_FOUND.value(),
+                        "Not Found",
+                        message
+                );
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Bad Request",
+                    message
+            );
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * Delete a sample. Deleting the latest one puts the pet's current weight back to the
+     * one before it.
+     *
+     * HTTP Status Codes:
+     *   204 No Content - Sample deleted
+     *   403 Forbidden - Pet doesn't belong to owner
+     *   404 Not Found - Sample or pet doesn't exist
+     */
+    @DeleteMapping("/{sampleId}")
+    public ResponseEntity<?> deleteWeight(
+            @PathVariable Long ownerId,
+            @PathVariable Long petId,
+            @PathVariable Long sampleId) {
+
+        try {
+            weightHistoryService.deleteWeight(sampleId, petId, ownerId);
+            return ResponseEntity.noContent().build();
+
+        } catch (SecurityException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.FORBIDDEN.value(),
+                    "Forbidden",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    e.getMessage()
+            );
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    // ========================================
+    // Helper Methods - Convert Entity to DTOs
+    // ========================================
+
+    private WeightSampleResponse convertToResponse(WeightSample sample, WeightType unit) {
+        return new WeightSampleResponse(
+                sample.getId(),
+                sample.getPetId(),
+                sample.getMeasuredAt(),
+                WeightHistoryService.fromGrams(sample.getWeightGrams(), unit),
+                unit
+        );
+    }
+
+    private WeightHistoryResponse convertToHistoryResponse(Long petId, WeightHistoryService.WeightHistory history) {
+        List<WeightHistoryResponse.WeightPoint> points = history.samples()
+                .stream()
+                .map(sample -> new WeightHistoryResponse.WeightPoint(
+                        sample.getId(),
+                        sample.getMeasuredAt(),
+                        WeightHistoryService.fromGrams(sample.getWeightGrams(), history.unit())))
+                .collect(Collectors.toList());
+        return new WeightHistoryResponse(petId, history.unit(), history.totalSamples(), points);
+    }
+}
@@ -0,0 +1,121 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One administered medication dose ("gave Rex his 8am pill").
+ *
+ * The log is append-only: rows are inserted by DoseLogService in batches and never updated.
+ * dueAt is the scheduled dose the entry ticks off, so a dose can be logged only once.
+ * medicationId and petId are plain columns (no foreign keys) so the log never blocks
+ * deleting a medication or pet; entries of deleted medications are purged in the background.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_dose_administration", columnNames = {"medicationId", "dueAt"}),
+        indexes = @Index(name = "idx_dose_administration_pet", columnList = "petId, administeredAt"))
+public class DoseAdministration {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long medicationId;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private LocalDateTime dueAt; // the scheduled dose, in the medication's local time
+
+    @Column(nullable = false)
+    private Instant administeredAt;
+
+    @Column(nullable = false)
+    private Instant recordedAt;
+
+    @Column(length = 500)
+    private String notes;
+
+    // constructors
+    public DoseAdministration() {
+        // empty constructor for JPA
+    }
+
+    public DoseAdministration(Long medicationId, Long petId, LocalDateTime dueAt, Instant administeredAt,
+                              Instant recordedAt, String notes) {
+        this.medicationId = medicationId;
+        this.petId = petId;
+        this.dueAt = dueAt;
+        this.administeredAt = administeredAt;
+        this.recordedAt = recordedAt;
+        this.notes = notes;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMedicationId() {
+        return medicationId;
+    }
+
+    public void setMedicationId(Long medicationId) {
+        this.medicationId = medicationId;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Instant getAdministeredAt() {
+        return administeredAt;
+    }
+
+    public void setAdministeredAt(Instant administeredAt) {
+        this.administeredAt = administeredAt;
+    }
+
+    public Instant getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(Instant recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,116 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * How much of one food a pet was fed on one day (in the feeding zone), in grams.
+ *
+ * Rows are a rollup of FeedingEvent, kept current by FeedingLogService: each logged event
+ * adds to its row and each deleted event subtracts from it, in the event's transaction.
+ * Food types are grouped case-insensitively (foodKey); foodType keeps the first spelling seen.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_feeding_day", columnNames = {"petId", "feedingDate", "foodKey"}))
+public class FeedingDay {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private LocalDate feedingDate;
+
+    @Column(nullable = false)
+    private String foodKey; // lower-cased food type
+
+    @Column(nullable = false)
+    private String foodType;
+
+    @Column(nullable = false)
+    private double totalGrams;
+
+    @Column(nullable = false)
+    private int feedings;
+
+    // constructors
+    public FeedingDay() {
+        // empty constructor for JPA
+    }
+
+    public FeedingDay(Long petId, LocalDate feedingDate, String foodKey, String foodType, double totalGrams, int feedings) {
+        this.petId = petId;
+        this.feedingDate = feedingDate;
+        this.foodKey = foodKey;
+        this.foodType = foodType;
+        this.totalGrams = totalGrams;
+        this.feedings = feedings;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public LocalDate getFeedingDate() {
+        return feedingDate;
+    }
+
+    public void setFeedingDate(LocalDate feedingDate) {
+        this.feedingDate = feedingDate;
+    }
+
+    public String getFoodKey() {
+        return foodKey;
+    }
+
+    public void setFoodKey(String foodKey) {
+        this.foodKey = foodKey;
+    }
+
+    public String getFoodType() {
+        return foodType;
+    }
+
+    public void setFoodType(String foodType) {
+        this.foodType = foodType;
+    }
+
+    public double getTotalGrams() {
+        return totalGrams;
+    }
+
+    public void setTotalGrams(double totalGrams) {
+        this.totalGrams = totalGrams;
+    }
+
+    public int getFeedings() {
+        return feedings;
+    }
+
+    public void setFeedings(int feedings) {
+        this.feedings = feedings;
+    }
+}
@@ -0,0 +1,146 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One actual feeding of a pet - what was fed, as opposed to the plan in FeedingSchedule.
+ *
+ * The quantity is kept as entered and also normalized to grams when the event is logged,
+ * which is what the daily rollups (FeedingDay) add up. petId and feedingScheduleId are plain
+ * columns (no foreign keys) so the log never blocks deleting a pet or schedule; events of
+ * deleted pets are purged in the background.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_feeding_event_pet", columnList = "petId, fedAt"))
+public class FeedingEvent {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    private Long feedingScheduleId; // the planned feeding this follows, null if unplanned
+
+    @Column(nullable = false)
+    private Instant fedAt;
+
+    @Column(nullable = false)
+    private String foodType; // e.g., "Dry Kibble"
+
+    @Column(nullable = false)
+    private double quantity; // e.g., 1.5
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private QuantityUnit quantityUnit; // e.g., "cups"
+
+    @Column(nullable = false)
+    private double quantityGrams; // quantity normalized to grams
+
+    @Column(length = 500)
+    private String notes;
+
+    // constructors
+    public FeedingEvent() {
+        // empty constructor for JPA
+    }
+
+    public FeedingEvent(Long petId, Long feedingScheduleId, Instant fedAt, String foodType, double quantity,
+                        QuantityUnit quantityUnit, double quantityGrams, String notes) {
+        this.petId = petId;
+        this.feedingScheduleId = feedingScheduleId;
+        this.fedAt = fedAt;
+        this.foodType = foodType;
+        this.quantity = quantity;
+        this.quantityUnit = quantityUnit;
+        this.quantityGrams = quantityGrams;
+        this.notes = notes;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public Long getFeedingScheduleId() {
+        return feedingScheduleId;
+    }
+
+    public void setFeedingScheduleId(Long feedingScheduleId) {
+        this.feedingScheduleId = feedingScheduleId;
+    }
+
+    public Instant getFedAt() {
+        return fedAt;
+    }
+
+    public void setFedAt(Instant fedAt) {
+        this.fedAt = fedAt;
+    }
+
+    public String getFoodType() {
+        return foodType;
+    }
+
+    public void setFoodType(String foodType) {
+        this.foodType = foodType;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(double quantity) {
+        this.quantity = quantity;
+    }
+
+    public QuantityUnit getQuantityUnit() {
+        return quantityUnit;
+    }
+
+    public void setQuantityUnit(QuantityUnit quantityUnit) {
+        this.quantityUnit = quantityUnit;
+    }
+
+    public double getQuantityGrams() {
+        return quantityGrams;
+    }
+
+    public void setQuantityGrams(double quantityGrams) {
+        this.quantityGrams = quantityGrams;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -6,16 +6,19 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.EnumType;
+import jakarta.persistence.Table;
 
 
 // an entity to represent a feeding schedule for a pet
 // a pet will have multiple feeding schedules (e.g., breakfast, lunch, dinner)
 @Entity
+@Table(indexes = @Index(name = "idx_feeding_schedule_pet_time", columnList = "petId, time"))
 public class FeedingSchedule {
     // quantity unit enum
     public enum QuantityUnit {
@@ -1,5 +1,6 @@
 package com.PetTrackr.PetTrackr.entity;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -9,13 +10,22 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 
 import jakarta.persistence.ManyToOne;
 
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_medication_pet_start", columnList = "petId, startDate"),
+        @Index(name = "idx_medication_pet_end", columnList = "petId, endDate"),
+        @Index(name = "idx_medication_updated_at", columnList = "updatedAt")
+})
 public class Medication {
     // Dosage unit enum
     public enum DosageUnit {
@@ -28,6 +38,14 @@ public class Medication {
         TEASPOONS
     }
 
+    // unit of a structured recurrence rule ("twice daily" = every 12 HOURS)
+    public enum RecurrenceUnit {
+        HOURS,
+        DAYS,
+        WEEKS,
+        MONTHS
+    }
+
     // attributes
 
     //primary key will be an ID
@@ -48,6 +66,16 @@ public class Medication {
     @Column(nullable = false)
     private String frequency;
 
+    // frequency parsed into a rule (see RecurrenceRule) - null when the text isn't recognized
+    // (and for medications saved before rules existed); the text is then parsed on read, and
+    // a medication it doesn't describe either has no fixed schedule
+    @Column(nullable = true)
+    @Enumerated(EnumType.STRING)
+    private RecurrenceUnit recurrenceUnit;
+
+    @Column(nullable = true)
+    private Integer recurrenceInterval;
+
     @Column(nullable = false)
     private LocalTime timeToAdminister;
 
@@ -62,6 +90,10 @@ public class Medication {
     @JoinColumn(name = "petId", nullable = false)
     private Pet pet;
 
+    // last insert or update - lets every node's reminder wheel pick up changes (null for rows saved before)
+    @Column(nullable = true)
+    private Instant updatedAt;
+
     // constructors
     public Medication() {
         // empty constructor for JPA
@@ -77,6 +109,12 @@ public class Medication {
         this.endDate = endDate;
     }
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+
     // getters and setters
     public String getName() {
         return name;
@@ -110,6 +148,22 @@ public class Medication {
         this.frequency = frequency;
     }
 
+    public RecurrenceUnit getRecurrenceUnit() {
+        return recurrenceUnit;
+    }
+
+    public void setRecurrenceUnit(RecurrenceUnit recurrenceUnit) {
+        this.recurrenceUnit = recurrenceUnit;
+    }
+
+    public Integer getRecurrenceInterval() {
+        return recurrenceInterval;
+    }
+
+    public void setRecurrenceInterval(Integer recurrenceInterval) {
+        this.recurrenceInterval = recurrenceInterval;
+    }
+
     public LocalTime getTimeToAdminister() {
         return timeToAdminister;
     }
@@ -150,4 +204,8 @@ public class Medication {
         this.pet = pet;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
 }
\ No newline at end of file
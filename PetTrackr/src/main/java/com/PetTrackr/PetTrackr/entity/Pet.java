@@ -1,7 +1,9 @@
 package com.PetTrackr.PetTrackr.entity;
 
+import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 import jakarta.persistence.Column;
@@ -15,6 +17,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.PrePersist;
 
 @Entity
 public class Pet {
@@ -30,6 +33,8 @@ public class Pet {
         HIGH
     }
 
+    private static final SecureRandom TOKEN_RANDOM = new SecureRandom();
+
     // attributes
 
     // primary key will be an ID
@@ -79,11 +84,31 @@ public class Pet {
     @OneToMany(mappedBy = "pet", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<VetVisit> vetAppointments = new ArrayList<>();
 
+    // random public identifier - the QR code links to /api/public/pets/{publicToken}
+    // so finders never see the database ID and the code doesn't change when contact info does
+    @Column(unique = true, length = 16)
+    private String publicToken;
+
     // reference to Owner - many-to-one relationship
     @ManyToOne
     @JoinColumn(name = "ownerId", nullable = false)
     private Owner owner;
 
+    // every new pet gets a public token
+    @PrePersist
+    void assignPublicToken() {
+        if (publicToken == null) {
+            publicToken = generatePublicToken();
+        }
+    }
+
+    // 72 random bits as 12 URL-safe characters
+    public static String generatePublicToken() {
+        byte[] bytes = new byte[9];
+        TOKEN_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     // constructors
     public Pet() {
         // empty constructor for JPA
@@ -148,6 +173,14 @@ public class Pet {
         this.dateOfBirth = dateOfBirth;
     }
 
+    public String getPublicToken() {
+        return publicToken;
+    }
+
+    public void setPublicToken(String publicToken) {
+        this.publicToken = publicToken;
+    }
+
     public String getPhotoURL() {
         return photoURL;
     }
@@ -0,0 +1,93 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Number of times a pet's QR code was scanned on one (UTC) day.
+ *
+ * Rows are written by PetScanService in periodic batched upserts, never once per scan.
+ * petId is a plain column (no foreign key) so scan history never blocks pet deletion;
+ * rows of deleted pets are purged in the background.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_pet_scan_day", columnNames = {"petId", "scanDate"}))
+public class PetScanDay {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private LocalDate scanDate;
+
+    @Column(nullable = false)
+    private long scanCount;
+
+    @Column(nullable = false)
+    private Instant lastScannedAt;
+
+    // constructors
+    public PetScanDay() {
+        // empty constructor for JPA
+    }
+
+    public PetScanDay(Long petId, LocalDate scanDate, long scanCount, Instant lastScannedAt) {
+        this.petId = petId;
+        this.scanDate = scanDate;
+        this.scanCount = scanCount;
+        this.lastScannedAt = lastScannedAt;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public LocalDate getScanDate() {
+        return scanDate;
+    }
+
+    public void setScanDate(LocalDate scanDate) {
+        this.scanDate = scanDate;
+    }
+
+    public long getScanCount() {
+        return scanCount;
+    }
+
+    public void setScanCount(long scanCount) {
+        this.scanCount = scanCount;
+    }
+
+    public Instant getLastScannedAt() {
+        return lastScannedAt;
+    }
+
+    public void setLastScannedAt(Instant lastScannedAt) {
+        this.lastScannedAt = lastScannedAt;
+    }
+}
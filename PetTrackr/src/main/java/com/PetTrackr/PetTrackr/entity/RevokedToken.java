@@ -0,0 +1,100 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A signed access/refresh token that was revoked before it expired (logout, refresh rotation).
+ *
+ * Every node polls for new access-token rows (by revokedAt) and keeps them in memory, so
+ * token verification never queries this table. Rows are only needed until the token would
+ * have expired anyway.
+ * tokenId is unique: inserting the row is how a single-use refresh token is spent, so two
+ * concurrent refreshes with the same token (on any nodes) can't both succeed.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expires", columnList = "expiresAt"),
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+},
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_token_id", columnNames = "tokenId"))
+public class RevokedToken {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long tokenId; // random id embedded in the token
+
+    @Column(nullable = false)
+    private Instant expiresAt; // when the token expires by itself
+
+    // the remaining columns are null for rows written before they existed
+    @Column(nullable = true)
+    private Boolean accessToken; // false for refresh tokens - those are only checked through the unique tokenId
+
+    @Column(nullable = true)
+    private Instant revokedAt;
+
+    // constructors
+    public RevokedToken() {
+        // empty constructor for JPA
+    }
+
+    public RevokedToken(long tokenId, Instant expiresAt, boolean accessToken, Instant revokedAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.accessToken = accessToken;
+        this.revokedAt = revokedAt;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(long tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Boolean getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(Boolean accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
@@ -0,0 +1,136 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A report from someone who saw a lost pet (submitted from the pet's public QR page).
+ *
+ * The geohash of the position is stored alongside it, so the database can answer
+ * area queries with prefix lookups on an index; recent sightings are also kept in
+ * memory in SightingService's geohash index.
+ * petId is a plain column (no foreign key) so reports never block pet deletion;
+ * reports of deleted pets are purged in the background.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_sighting_geohash", columnList = "geohash"),
+        @Index(name = "idx_sighting_pet", columnList = "petId, sightedAt"),
+        @Index(name = "idx_sighting_sighted_at", columnList = "sightedAt"),
+        @Index(name = "idx_sighting_reported_at", columnList = "reportedAt")
+})
+public class Sighting {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    @Column(nullable = false, length = 12)
+    private String geohash; // full-precision geohash of latitude/longitude
+
+    @Column(nullable = false)
+    private Instant sightedAt; // when the pet was seen, as reported
+
+    @Column(nullable = false)
+    private Instant reportedAt;
+
+    @Column(nullable = true, length = 500)
+    private String note; // optional - e.g. "heading north on Main St"
+
+    // constructors
+    public Sighting() {
+        // empty constructor for JPA
+    }
+
+    public Sighting(Long petId, double latitude, double longitude, String geohash,
+                    Instant sightedAt, Instant reportedAt, String note) {
+        this.petId = petId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = geohash;
+        this.sightedAt = sightedAt;
+        this.reportedAt = reportedAt;
+        this.note = note;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getGeohash() {
+        return geohash;
+    }
+
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+    }
+
+    public Instant getSightedAt() {
+        return sightedAt;
+    }
+
+    public void setSightedAt(Instant sightedAt) {
+        this.sightedAt = sightedAt;
+    }
+
+    public Instant getReportedAt() {
+        return reportedAt;
+    }
+
+    public void setReportedAt(Instant reportedAt) {
+        this.reportedAt = reportedAt;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,167 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * State of a resumable (chunked) upload.
+ *
+ * Chunks are written to the blob store as they arrive; this row only tracks how many
+ * bytes have been committed so a client can resume after a dropped connection.
+ * petId is a plain column (no foreign key) so abandoned sessions never block pet deletion.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_upload_session_expires", columnList = "expiresAt"))
+public class UploadSession {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private String extension; // validated, lowercase (e.g. ".jpg")
+
+    @Column(nullable = true)
+    private String contentType; // as declared by the client
+
+    @Column(nullable = false)
+    private long totalSize;
+
+    @Column(nullable = false)
+    private long committedOffset; // bytes durably stored so far
+
+    @Column(nullable = false)
+    private int partCount; // number of chunks stored so far
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Version
+    private Long version; // rejects concurrent chunk commits for the same session
+
+    // constructors
+    public UploadSession() {
+        // empty constructor for JPA
+    }
+
+    public UploadSession(Long petId, Long ownerId, String extension, String contentType, long totalSize,
+                         Instant createdAt, Instant expiresAt) {
+        this.petId = petId;
+        this.ownerId = ownerId;
+        this.extension = extension;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public void setExtension(String extension) {
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public void setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public void setCommittedOffset(long committedOffset) {
+        this.committedOffset = committedOffset;
+    }
+
+    public int getPartCount() {
+        return partCount;
+    }
+
+    public void setPartCount(int partCount) {
+        this.partCount = partCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isComplete() {
+        return committedOffset == totalSize;
+    }
+}
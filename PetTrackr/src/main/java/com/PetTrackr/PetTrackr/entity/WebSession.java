@@ -0,0 +1,82 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * An HTTP session kept in the database, so every node sees it and a restart logs nobody out.
+ *
+ * Read and written by JdbcSessionRepository with plain SQL; the entity only defines the table.
+ * Attributes live in web_session_attribute and are only loaded when a request reads them.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_web_session_expires", columnList = "expiresAt"))
+public class WebSession {
+    // attributes
+    @Id
+    @Column(length = 64)
+    private String id; // random session id (the cookie value)
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant lastAccessedAt; // updated in batches, may lag a few seconds behind
+
+    @Column(nullable = false)
+    private int maxInactiveSeconds;
+
+    @Column(nullable = false)
+    private Instant expiresAt; // lastAccessedAt + maxInactiveSeconds, for the expiry sweep
+
+    // constructors
+    public WebSession() {
+        // empty constructor for JPA
+    }
+
+    // getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public void setLastAccessedAt(Instant lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    public int getMaxInactiveSeconds() {
+        return maxInactiveSeconds;
+    }
+
+    public void setMaxInactiveSeconds(int maxInactiveSeconds) {
+        this.maxInactiveSeconds = maxInactiveSeconds;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,73 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One serialized attribute of a {@link WebSession} (e.g. the logged-in owner's security context).
+ *
+ * sessionId is a plain column (no foreign key); attributes are deleted together with their session.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_web_session_attribute",
+        columnNames = {"sessionId", "attributeName"}))
+public class WebSessionAttribute {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sessionId;
+
+    @Column(nullable = false, length = 200)
+    private String attributeName;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] attributeValue; // Java-serialized value
+
+    // constructors
+    public WebSessionAttribute() {
+        // empty constructor for JPA
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public void setAttributeName(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    public byte[] getAttributeValue() {
+        return attributeValue;
+    }
+
+    public void setAttributeValue(byte[] attributeValue) {
+        this.attributeValue = attributeValue;
+    }
+}
@@ -0,0 +1,80 @@
+package com.PetTrackr.PetTrackr.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One measurement in a pet's weight history.
+ *
+ * Weights are stored normalized to whole grams regardless of the unit they were entered in,
+ * so a sample is just (pet, time, int) and samples in different units compare directly.
+ * petId is a plain column (no foreign key); samples of deleted pets are purged in the background.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_weight_sample_pet", columnList = "petId, measuredAt"))
+public class WeightSample {
+    // attributes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long petId;
+
+    @Column(nullable = false)
+    private Instant measuredAt;
+
+    @Column(nullable = false)
+    private int weightGrams;
+
+    // constructors
+    public WeightSample() {
+        // empty constructor for JPA
+    }
+
+    public WeightSample(Long petId, Instant measuredAt, int weightGrams) {
+        this.petId = petId;
+        this.measuredAt = measuredAt;
+        this.weightGrams = weightGrams;
+    }
+
+    // getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPetId() {
+        return petId;
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = petId;
+    }
+
+    public Instant getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(Instant measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+
+    public int getWeightGrams() {
+        return weightGrams;
+    }
+
+    public void setWeightGrams(int weightGrams) {
+        this.weightGrams = weightGrams;
+    }
+}
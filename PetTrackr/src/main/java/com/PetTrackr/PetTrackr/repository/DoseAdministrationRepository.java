@@ -0,0 +1,47 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DoseAdministrationRepository extends JpaRepository<DoseAdministration, Long>, DoseAdministrationRepositoryCustom {
+    // the entry that ticked off a dose, if any
+    Optional<DoseAdministration> findByMedicationIdAndDueAt(Long medicationId, LocalDateTime dueAt);
+
+    // a medication's log, newest dose first
+    List<DoseAdministration> findByMedicationIdAndDueAtGreaterThanEqualOrderByDueAtDesc(Long medicationId, LocalDateTime from);
+
+    // which doses in a range were given - all adherence needs, without loading the rows
+    @Query("select d.dueAt from DoseAdministration d where d.medicationId = :medicationId"
+            + " and d.dueAt >= :from and d.dueAt < :to order by d.dueAt")
+    List<LocalDateTime> findDueTimes(Long medicationId, LocalDateTime from, LocalDateTime to);
+
+    // entries for doses in a range - for settled doses this changes only when one is logged late
+    @Query("select count(d) from DoseAdministration d where d.medicationId = :medicationId"
+            + " and d.dueAt >= :from and d.dueAt < :to")
+    long countInRange(Long medicationId, LocalDateTime from, LocalDateTime to);
+
+    // which doses of several medications in a range were given - for the due feed
+    List<DoseAdministration> findByMedicationIdInAndDueAtGreaterThanEqualAndDueAtLessThan(
+            Collection<Long> medicationIds, LocalDateTime from, LocalDateTime to);
+
+    // a pet's doses given before (administeredAt, id), newest first - one page of the timeline
+    @Query("select d from DoseAdministration d where d.petId = :petId"
+            + " and (d.administeredAt < :at or (d.administeredAt = :at and d.id < :id)) order by d.administeredAt desc, d.id desc")
+    List<DoseAdministration> findTimelinePage(Long petId, Instant at, Long id, Limit limit);
+
+    // log of medications that were deleted since
+    @Modifying
+    @Query("delete from DoseAdministration d where d.medicationId not in (select m.id from Medication m)")
+    int deleteOfDeletedMedications();
+}
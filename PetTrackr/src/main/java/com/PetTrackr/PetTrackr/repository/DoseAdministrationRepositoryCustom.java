@@ -0,0 +1,19 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+
+import java.util.List;
+
+/**
+ * Batched append of dose log entries, which Spring Data can't derive.
+ */
+public interface DoseAdministrationRepositoryCustom {
+
+    /**
+     * Insert the entries in a single JDBC batch, skipping doses that are already logged.
+     * Must run inside a transaction for the batch to commit once.
+     *
+     * @return for each entry, whether it was inserted (false if its dose was already logged)
+     */
+    boolean[] appendAll(List<DoseAdministration> entries);
+}
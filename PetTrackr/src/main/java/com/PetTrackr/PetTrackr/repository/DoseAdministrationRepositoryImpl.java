@@ -0,0 +1,72 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link DoseAdministrationRepositoryCustom} (picked up by Spring Data via the Impl suffix).
+ */
+class DoseAdministrationRepositoryImpl implements DoseAdministrationRepositoryCustom {
+
+    // insert-if-absent, so a dose logged twice (a double tap, a retried request, another
+    // node) is a no-op instead of a constraint violation that would fail the whole batch
+    private static final String APPEND = """
+            MERGE INTO dose_administration t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(6)),
+                           CAST(? AS TIMESTAMP(6) WITH TIME ZONE), CAST(? AS TIMESTAMP(6) WITH TIME ZONE),
+                           CAST(? AS VARCHAR(500))))
+                AS s (medication_id, pet_id, due_at, administered_at, recorded_at, notes)
+            ON t.medication_id = s.medication_id AND t.due_at = s.due_at
+            WHEN NOT MATCHED THEN INSERT (medication_id, pet_id, due_at, administered_at, recorded_at, notes)
+                VALUES (s.medication_id, s.pet_id, s.due_at, s.administered_at, s.recorded_at, s.notes)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    DoseAdministrationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] appendAll(List<DoseAdministration> entries) {
+        if (entries.isEmpty()) {
+            return new boolean[0];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(APPEND, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                DoseAdministration entry = entries.get(i);
+                statement.setLong(1, entry.getMedicationId());
+                statement.setLong(2, entry.getPetId());
+                statement.setTimestamp(3, Timestamp.valueOf(entry.getDueAt()));
+                statement.setObject(4, OffsetDateTime.ofInstant(entry.getAdministeredAt(), ZoneOffset.UTC));
+                statement.setObject(5, OffsetDateTime.ofInstant(entry.getRecordedAt(), ZoneOffset.UTC));
+                if (entry.getNotes() == null) {
+                    statement.setNull(6, Types.VARCHAR);
+                } else {
+                    statement.setString(6, entry.getNotes());
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] != 0; // SUCCESS_NO_INFO (-2) only comes from drivers that can't tell
+        }
+        return inserted;
+    }
+}
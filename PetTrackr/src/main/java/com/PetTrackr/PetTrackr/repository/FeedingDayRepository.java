@@ -0,0 +1,21 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.FeedingDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FeedingDayRepository extends JpaRepository<FeedingDay, Long>, FeedingDayRepositoryCustom {
+    // a pet's daily totals for the nutrition charts, oldest day first
+    List<FeedingDay> findByPetIdAndFeedingDateGreaterThanEqualOrderByFeedingDateAscFoodKeyAsc(Long petId, LocalDate from);
+
+    // totals of pets that were deleted since
+    @Modifying
+    @Query("delete from FeedingDay d where d.petId not in (select p.id from Pet p)")
+    int deleteOfDeletedPets();
+}
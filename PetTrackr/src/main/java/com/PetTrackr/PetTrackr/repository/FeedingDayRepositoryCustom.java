@@ -0,0 +1,16 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Atomic increments of the feeding rollup, which Spring Data can't derive.
+ */
+public interface FeedingDayRepositoryCustom {
+
+    /**
+     * Add grams and feedings (both may be negative, to take an event back out) to the
+     * (pet, day, food) row, creating it if it doesn't exist and deleting it once it counts
+     * no feedings. Runs in the caller's transaction.
+     */
+    void addToDay(Long petId, LocalDate feedingDate, String foodKey, String foodType, double grams, int feedings);
+}
@@ -0,0 +1,46 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * JDBC implementation of {@link FeedingDayRepositoryCustom} (picked up by Spring Data via the Impl suffix).
+ */
+class FeedingDayRepositoryImpl implements FeedingDayRepositoryCustom {
+
+    // increments in the database rather than read-modify-write, so two feedings logged
+    // at the same time (or on different nodes) both count
+    private static final String ADD_TO_DAY = """
+            MERGE INTO feeding_day t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS DOUBLE PRECISION), CAST(? AS INTEGER)))
+                AS s (pet_id, feeding_date, food_key, food_type, total_grams, feedings)
+            ON t.pet_id = s.pet_id AND t.feeding_date = s.feeding_date AND t.food_key = s.food_key
+            WHEN MATCHED THEN UPDATE SET
+                total_grams = t.total_grams + s.total_grams,
+                feedings = t.feedings + s.feedings
+            WHEN NOT MATCHED THEN INSERT (pet_id, feeding_date, food_key, food_type, total_grams, feedings)
+                VALUES (s.pet_id, s.feeding_date, s.food_key, s.food_type, s.total_grams, s.feedings)
+            """;
+
+    // a day whose last feeding was taken back out (also drops rounding leftovers of the grams)
+    private static final String DELETE_EMPTY_DAY = """
+            DELETE FROM feeding_day WHERE pet_id = ? AND feeding_date = ? AND food_key = ? AND feedings <= 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    FeedingDayRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addToDay(Long petId, LocalDate feedingDate, String foodKey, String foodType, double grams, int feedings) {
+        jdbcTemplate.update(ADD_TO_DAY, petId, Date.valueOf(feedingDate), foodKey, foodType, grams, feedings);
+        if (feedings < 0) {
+            jdbcTemplate.update(DELETE_EMPTY_DAY, petId, Date.valueOf(feedingDate), foodKey);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FeedingEventRepository extends JpaRepository<FeedingEvent, Long> {
+    // a pet's feeding log, newest first
+    List<FeedingEvent> findByPetIdAndFedAtGreaterThanEqualOrderByFedAtDesc(Long petId, Instant from);
+
+    // feedings of several pets in [from, to) that followed a schedule - for the due feed
+    @Query("select e from FeedingEvent e where e.petId in :petIds and e.fedAt >= :from and e.fedAt < :to"
+            + " and e.feedingScheduleId is not null")
+    List<FeedingEvent> findScheduledForPets(Collection<Long> petIds, Instant from, Instant to);
+
+    // a pet's feedings before (fedAt, id), newest first - one page of the timeline
+    @Query("select e from FeedingEvent e where e.petId = :petId"
+            + " and (e.fedAt < :at or (e.fedAt = :at and e.id < :id)) order by e.fedAt desc, e.id desc")
+    List<FeedingEvent> findTimelinePage(Long petId, Instant at, Long id, Limit limit);
+
+    // log of pets that were deleted since
+    @Modifying
+    @Query("delete from FeedingEvent e where e.petId not in (select p.id from Pet p)")
+    int deleteOfDeletedPets();
+}
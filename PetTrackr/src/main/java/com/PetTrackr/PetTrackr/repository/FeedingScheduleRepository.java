@@ -2,7 +2,9 @@ package com.PetTrackr.PetTrackr.repository;
 
 import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalTime;
 import java.util.List;
 
 @Repository
@@ -10,4 +12,15 @@ public interface FeedingScheduleRepository extends JpaRepository<FeedingSchedule
     // for individual pet feeding schedules sorted by time
     List<FeedingSchedule> findByPetIdOrderByTimeAsc(Long petId);
 
+    // an owner's feedings (with their pet) at a time of day in [from, to) - for the due feed
+    // filtering on the owner's id doubles as the authorization check
+    @Query("select f from FeedingSchedule f join fetch f.pet p where p.owner.id = :ownerId"
+            + " and f.time >= :from and f.time < :to")
+    List<FeedingSchedule> findForOwnerBetween(Long ownerId, LocalTime from, LocalTime to);
+
+    // the same for a range that wraps past midnight: at or after from, or before to
+    @Query("select f from FeedingSchedule f join fetch f.pet p where p.owner.id = :ownerId"
+            + " and (f.time >= :from or f.time < :to)")
+    List<FeedingSchedule> findForOwnerWrapping(Long ownerId, LocalTime from, LocalTime to);
+
 }
\ No newline at end of file
@@ -1,9 +1,18 @@
 package com.PetTrackr.PetTrackr.repository;
 
 import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.service.DoseSchedule;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MedicationRepository extends JpaRepository<Medication, Long> {
@@ -12,4 +21,38 @@ public interface MedicationRepository extends JpaRepository<Medication, Long> {
 
     // for individual pet medications ordered by time to administer 
     List<Medication> findByPetIdOrderByTimeToAdministerAsc(Long petId);
-}
\ No newline at end of file
+
+    // a pet's medications started before (startDate, id), newest first - one page of the timeline
+    @Query("select m from Medication m where m.pet.id = :petId"
+            + " and (m.startDate < :date or (m.startDate = :date and m.id < :id)) order by m.startDate desc, m.id desc")
+    List<Medication> findStartedTimelinePage(Long petId, LocalDate date, Long id, Limit limit);
+
+    // the same for the medications' end dates (open-ended ones never end)
+    @Query("select m from Medication m where m.pet.id = :petId and m.endDate is not null"
+            + " and (m.endDate < :date or (m.endDate = :date and m.id < :id)) order by m.endDate desc, m.id desc")
+    List<Medication> findEndedTimelinePage(Long petId, LocalDate date, Long id, Limit limit);
+
+    // an owner's medications (with their pet) that run at some point between two days - for the dose calendar
+    // filtering on the owner's id doubles as the authorization check
+    @Query("select m from Medication m join fetch m.pet p where p.owner.id = :ownerId"
+            + " and m.startDate <= :toDate and (m.endDate is null or m.endDate >= :fromDate) order by m.id")
+    List<Medication> findRunningForOwner(Long ownerId, LocalDate fromDate, LocalDate toDate);
+
+    // which of the given medications still exist
+    @Query("select m.id from Medication m where m.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // schedules of every medication still running on the given day, streamed to load the reminder wheel
+    // (only the columns it needs - no Medication or Pet rows); must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.PetTrackr.PetTrackr.service.DoseSchedule(m.id, m.pet.id, m.timeToAdminister, m.startDate, m.endDate,"
+            + " m.recurrenceUnit, m.recurrenceInterval, m.frequency)"
+            + " from Medication m where m.endDate is null or m.endDate >= :today")
+    Stream<DoseSchedule> streamActiveSchedules(LocalDate today);
+
+    // schedules of medications created or changed since the given instant (through any node)
+    @Query("select new com.PetTrackr.PetTrackr.service.DoseSchedule(m.id, m.pet.id, m.timeToAdminister, m.startDate, m.endDate,"
+            + " m.recurrenceUnit, m.recurrenceInterval, m.frequency)"
+            + " from Medication m where m.updatedAt >= :since")
+    List<DoseSchedule> findSchedulesUpdatedSince(Instant since);
+}
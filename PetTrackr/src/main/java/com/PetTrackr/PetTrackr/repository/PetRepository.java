@@ -1,9 +1,15 @@
 package com.PetTrackr.PetTrackr.repository;
 
 import com.PetTrackr.PetTrackr.entity.Pet;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PetRepository extends JpaRepository<Pet, Long> {
@@ -11,4 +17,33 @@ public interface PetRepository extends JpaRepository<Pet, Long> {
     // fulfills the need to retrieve all pets associated with a specific owner
     // use case 4 from the use case document
     List<Pet> findByOwnerId(Long ownerId);
+
+    // pets of an owner with the owner fetched in the same query - used for bulk QR tag sheets
+    // filtering on the owner's id doubles as the authorization check
+    @Query("select p from Pet p join fetch p.owner o where o.id = :ownerId order by p.id")
+    List<Pet> findByOwnerIdFetchOwner(Long ownerId);
+
+    @Query("select p from Pet p join fetch p.owner o where o.id = :ownerId and p.id in :petIds order by p.id")
+    List<Pet> findByOwnerIdAndIdInFetchOwner(Long ownerId, Collection<Long> petIds);
+
+    // public lost-pet lookup (QR code target), with the owner whose contact details are shown
+    @Query("select p from Pet p join fetch p.owner where p.publicToken = :publicToken")
+    Optional<Pet> findByPublicToken(String publicToken);
+
+    @Query("select p from Pet p join fetch p.owner where p.id = :id")
+    Optional<Pet> findByIdFetchOwner(Long id);
+
+    // pets created before public tokens existed
+    List<Pet> findByPublicTokenIsNull();
+
+    // every pet with its owner, streamed to build the public lookup index
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p from Pet p join fetch p.owner")
+    Stream<Pet> streamAllFetchOwner();
+
+    // every stored photo key, streamed in batches so the image collector never loads whole Pet rows
+    // must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p.photoURL from Pet p where p.photoURL is not null")
+    Stream<String> streamAllPhotoURLs();
 }
\ No newline at end of file
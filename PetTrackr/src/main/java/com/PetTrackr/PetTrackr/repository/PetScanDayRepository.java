@@ -0,0 +1,26 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.PetScanDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PetScanDayRepository extends JpaRepository<PetScanDay, Long>, PetScanDayRepositoryCustom {
+    // a pet's scan history for the owner's dashboard, oldest day first
+    List<PetScanDay> findByPetIdAndScanDateGreaterThanEqualOrderByScanDate(Long petId, LocalDate from);
+
+    // history past the retention period
+    @Modifying
+    @Query("delete from PetScanDay s where s.scanDate < :cutoff")
+    int deleteByScanDateBefore(LocalDate cutoff);
+
+    // history of pets that were deleted since
+    @Modifying
+    @Query("delete from PetScanDay s where s.petId not in (select p.id from Pet p)")
+    int deleteOfDeletedPets();
+}
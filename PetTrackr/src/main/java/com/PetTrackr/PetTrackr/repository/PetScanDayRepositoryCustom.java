@@ -0,0 +1,23 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Batched upsert of scan counters, which Spring Data can't derive.
+ */
+public interface PetScanDayRepositoryCustom {
+
+    /**
+     * Add each count to its (pet, day) row, creating rows that don't exist yet,
+     * in a single JDBC batch.
+     */
+    void addScanCounts(List<ScanCount> counts);
+
+    /**
+     * Scans of one pet on one day not yet written to the database.
+     */
+    record ScanCount(Long petId, LocalDate scanDate, long scanCount, Instant lastScannedAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link PetScanDayRepositoryCustom} (picked up by Spring Data via the Impl suffix).
+ */
+class PetScanDayRepositoryImpl implements PetScanDayRepositoryCustom {
+
+    // increments an existing row instead of replacing it, so flushes from several
+    // instances (or a retried flush) add up rather than overwrite each other
+    private static final String ADD_SCAN_COUNT = """
+            MERGE INTO pet_scan_day t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(6) WITH TIME ZONE)))
+                AS s (pet_id, scan_date, scan_count, last_scanned_at)
+            ON t.pet_id = s.pet_id AND t.scan_date = s.scan_date
+            WHEN MATCHED THEN UPDATE SET
+                scan_count = t.scan_count + s.scan_count,
+                last_scanned_at = GREATEST(t.last_scanned_at, s.last_scanned_at)
+            WHEN NOT MATCHED THEN INSERT (pet_id, scan_date, scan_count, last_scanned_at)
+                VALUES (s.pet_id, s.scan_date, s.scan_count, s.last_scanned_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PetScanDayRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addScanCounts(List<ScanCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_SCAN_COUNT, counts, counts.size(), (statement, count) -> {
+            statement.setLong(1, count.petId());
+            statement.setDate(2, Date.valueOf(count.scanDate()));
+            statement.setLong(3, count.scanCount());
+            statement.setObject(4, OffsetDateTime.ofInstant(count.lastScannedAt(), ZoneOffset.UTC));
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    // access-token revocations made since the given instant (through any node)
+    List<RevokedToken> findByAccessTokenTrueAndRevokedAtGreaterThanEqual(Instant since);
+
+    // rows written before the token type was stored that may still be unexpired access tokens
+    List<RevokedToken> findByAccessTokenIsNullAndExpiresAtBetween(Instant from, Instant to);
+
+    // revocations of tokens that have expired by now anyway
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,42 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SightingRepository extends JpaRepository<Sighting, Long> {
+    // a pet's sightings for its owner, newest first
+    List<Sighting> findByPetIdAndSightedAtGreaterThanEqualOrderBySightedAtDesc(Long petId, Instant since);
+
+    // recent sightings, to build the in-memory index at startup
+    List<Sighting> findBySightedAtGreaterThanEqual(Instant since);
+
+    // sightings reported since a time, to pick up reports made through other nodes
+    List<Sighting> findByReportedAtGreaterThanEqual(Instant since);
+
+    // sightings in one geohash cell (prefix match on the indexed column), used before the
+    // in-memory index is built
+    List<Sighting> findByGeohashStartingWithAndSightedAtGreaterThanEqual(String cell, Instant since);
+
+    // a pet's sightings before (sightedAt, id), newest first - one page of the timeline
+    @Query("select s from Sighting s where s.petId = :petId"
+            + " and (s.sightedAt < :at or (s.sightedAt = :at and s.id < :id)) order by s.sightedAt desc, s.id desc")
+    List<Sighting> findTimelinePage(Long petId, Instant at, Long id, Limit limit);
+
+    // reports past the retention period
+    @Modifying
+    @Query("delete from Sighting s where s.sightedAt < :cutoff")
+    int deleteBySightedAtBefore(Instant cutoff);
+
+    // reports of pets that were deleted since
+    @Modifying
+    @Query("delete from Sighting s where s.petId not in (select p.id from Pet p)")
+    int deleteOfDeletedPets();
+}
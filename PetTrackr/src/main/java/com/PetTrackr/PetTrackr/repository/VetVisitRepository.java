@@ -1,8 +1,11 @@
 package com.PetTrackr.PetTrackr.repository;
 
 import com.PetTrackr.PetTrackr.entity.VetVisit;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,9 @@ public interface VetVisitRepository extends JpaRepository<VetVisit, Long> {
 
     // Return vet visits sorted chronologically by visitDate
     List<VetVisit> findByPetIdOrderByVisitDateAsc(Long petId);
+
+    // a pet's visits before (visitDate, id), newest first - one page of the timeline
+    @Query("select v from VetVisit v where v.pet.id = :petId"
+            + " and (v.visitDate < :date or (v.visitDate = :date and v.id < :id)) order by v.visitDate desc, v.id desc")
+    List<VetVisit> findTimelinePage(Long petId, LocalDate date, Long id, Limit limit);
 }
\ No newline at end of file
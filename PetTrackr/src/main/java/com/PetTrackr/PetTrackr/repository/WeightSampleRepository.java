@@ -0,0 +1,32 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.WeightSample;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WeightSampleRepository extends JpaRepository<WeightSample, Long> {
+    // a pet's samples in [from, to), oldest first
+    List<WeightSample> findByPetIdAndMeasuredAtGreaterThanEqualAndMeasuredAtLessThanOrderByMeasuredAtAsc(
+            Long petId, Instant from, Instant to);
+
+    // a pet's latest sample
+    Optional<WeightSample> findFirstByPetIdOrderByMeasuredAtDescIdDesc(Long petId);
+
+    // a pet's samples before (measuredAt, id), newest first - one page of the timeline
+    @Query("select w from WeightSample w where w.petId = :petId"
+            + " and (w.measuredAt < :at or (w.measuredAt = :at and w.id < :id)) order by w.measuredAt desc, w.id desc")
+    List<WeightSample> findTimelinePage(Long petId, Instant at, Long id, Limit limit);
+
+    // history of pets that were deleted since
+    @Modifying
+    @Query("delete from WeightSample w where w.petId not in (select p.id from Pet p)")
+    int deleteOfDeletedPets();
+}
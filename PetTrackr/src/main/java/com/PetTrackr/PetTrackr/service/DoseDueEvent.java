@@ -0,0 +1,10 @@
+package com.PetTrackr.PetTrackr.service;
+
+import java.time.Instant;
+
+/**
+ * Published by DoseReminderService when a medication dose comes due.
+ * Listeners run on the reminder thread, so they should hand off anything slow.
+ */
+public record DoseDueEvent(Long medicationId, Long petId, Instant dueAt) {
+}
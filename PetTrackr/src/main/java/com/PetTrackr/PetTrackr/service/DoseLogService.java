@@ -0,0 +1,313 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Records administered medication doses and tracks adherence.
+ *
+ * Entries are appended through DoseLogWriter, which batches concurrent writes into shared
+ * commits; logDose returns once the entry is committed. Logging the same dose twice is
+ * harmless - the second call returns the first entry.
+ *
+ * Adherence (doses taken and missed, current and longest streak) is folded incrementally:
+ * each medication keeps a checkpoint of its settled doses (due more than the grace period
+ * ago), and a read only walks the doses since then. The checkpoint is rebuilt when the
+ * medication's schedule changes or a settled dose is logged late.
+ *
+ * This service is deliberately not @Transactional: logDose must not hold a connection
+ * while it waits for the writer.
+ */
+@Service
+public class DoseLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(DoseLogService.class);
+
+    private final DoseAdministrationRepository doseAdministrationRepository;
+    private final MedicationRepository medicationRepository;
+    private final PetService petService; // to verify pet ownership
+    private final Clock clock;
+
+    private final ZoneId zone;
+    private final Duration writeTimeout;
+    private final Duration grace;
+
+    private final DoseLogWriter writer;
+    private final Map<Long, AdherenceCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    public DoseLogService(DoseAdministrationRepository doseAdministrationRepository,
+                          MedicationRepository medicationRepository,
+                          PetService petService,
+                          Clock clock,
+                          TransactionOperations transactionOperations,
+                          MeterRegistry meterRegistry,
+                          @Value("${reminders.zone:}") String zone,
+                          @Value("${doses.log.queue-capacity:10000}") int queueCapacity,
+                          @Value("${doses.log.max-batch-size:500}") int maxBatchSize,
+                          @Value("${doses.log.write-timeout:5s}") Duration writeTimeout,
+                          @Value("${doses.adherence.grace:2h}") Duration grace) {
+        this.doseAdministrationRepository = doseAdministrationRepository;
+        this.medicationRepository = medicationRepository;
+        this.petService = petService;
+        this.clock = clock;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.writeTimeout = writeTimeout;
+        this.grace = grace;
+        this.writer = new DoseLogWriter(doseAdministrationRepository, transactionOperations, meterRegistry,
+                queueCapacity, maxBatchSize);
+    }
+
+    /**
+     * Log a scheduled dose of a medication as given. Returns once the entry is committed.
+     *
+     * @param dueAt the scheduled dose being ticked off (as listed by the dose calendar)
+     * @param administeredAt when it was given (null for now)
+     * @throws IllegalArgumentException if the medication doesn't exist or has no dose at dueAt
+     * @throws SecurityException if the pet doesn't belong to the owner
+     * @throws RejectedExecutionException if the log is too busy to accept the entry
+     */
+    public LoggedDose logDose(Long medicationId, Long petId, Long requestingOwnerId, LocalDateTime dueAt,
+                              Instant administeredAt, String notes) {
+        Medication medication = findMedication(medicationId, petId, requestingOwnerId);
+
+        Instant now = clock.instant();
+        notes = notes != null ? notes.trim() : null;
+        if (dueAt == null) {
+            throw new IllegalArgumentException("Dose time cannot be null");
+        }
+        if (administeredAt == null) {
+            administeredAt = now;
+        } else if (administeredAt.isAfter(now)) {
+            throw new IllegalArgumentException("Administered time cannot be in the future");
+        }
+        if (notes != null && notes.length() > 500) {
+            throw new IllegalArgumentException("Notes cannot be longer than 500 characters");
+        }
+        if (dueAt.isAfter(localNow(now).plus(grace))) {
+            throw new IllegalArgumentException("Dose at " + dueAt + " is not due yet");
+        }
+        if (!isScheduled(DoseSchedule.of(medication), dueAt)) {
+            throw new IllegalArgumentException("No dose of this medication is scheduled at " + dueAt);
+        }
+
+        DoseAdministration entry = new DoseAdministration(medicationId, petId, dueAt, administeredAt, now,
+                notes == null || notes.isBlank() ? null : notes);
+        if (await(writer.append(entry))) {
+            return new LoggedDose(entry, true);
+        }
+        DoseAdministration existing = doseAdministrationRepository.findByMedicationIdAndDueAt(medicationId, dueAt)
+                .orElseThrow(() -> new IllegalStateException("Logged dose disappeared: " + dueAt));
+        return new LoggedDose(existing, false);
+    }
+
+    /**
+     * Get a medication's log for the last {@code days} days (by dose time), newest first.
+     *
+     * @throws IllegalArgumentException if the medication doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public List<DoseAdministration> getDoseLog(Long medicationId, Long petId, Long requestingOwnerId, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be greater than zero");
+        }
+        findMedication(medicationId, petId, requestingOwnerId);
+        LocalDateTime from = localNow(clock.instant()).toLocalDate().minusDays(days - 1L).atStartOfDay();
+        return doseAdministrationRepository.findByMedicationIdAndDueAtGreaterThanEqualOrderByDueAtDesc(medicationId, from);
+    }
+
+    /**
+     * Get a medication's adherence over its whole course so far. Doses due within the grace
+     * period count once they are logged, and don't count as missed until it has passed.
+     * Medications without a fixed schedule have no doses to take or miss.
+     *
+     * @throws IllegalArgumentException if the medication doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public Adherence getAdherence(Long medicationId, Long petId, Long requestingOwnerId) {
+        DoseSchedule schedule = DoseSchedule.of(findMedication(medicationId, petId, requestingOwnerId));
+        if (!schedule.rule().isScheduled()) {
+            return new Adherence(0, 0, 0, 0);
+        }
+        LocalDateTime now = localNow(clock.instant());
+        LocalDateTime settleBefore = now.minus(grace);
+
+        AdherenceCheckpoint checkpoint = checkpoints.compute(medicationId, (id, current) ->
+                current != null && current.schedule.equals(schedule) ? current : new AdherenceCheckpoint(schedule));
+        synchronized (checkpoint) {
+            LocalDateTime firstDose = schedule.startDate().atTime(schedule.timeToAdminister());
+            if (checkpoint.loggedBefore != doseAdministrationRepository.countInRange(medicationId, firstDose, checkpoint.settledThrough)) {
+                checkpoint.reset(); // a settled dose was logged late (here or on another node)
+            }
+
+            // one query for every logged dose the walk below can meet
+            Set<LocalDateTime> logged = new HashSet<>(
+                    doseAdministrationRepository.findDueTimes(medicationId, checkpoint.settledThrough, now.plusNanos(1)));
+
+            int pendingTaken = 0;
+            for (LocalDateTime dose : (Iterable<LocalDateTime>) schedule.rule()
+                    .occurrences(firstDose, schedule.endDate(), checkpoint.settledThrough, now.plusNanos(1))::iterator) {
+                boolean taken = logged.contains(dose);
+                if (dose.isBefore(settleBefore)) {
+                    checkpoint.fold(taken);
+                } else if (taken) {
+                    // still within the grace period: counts if logged, isn't missed if not
+                    pendingTaken++;
+                }
+            }
+            if (settleBefore.isAfter(checkpoint.settledThrough)) {
+                checkpoint.loggedBefore += logged.stream().filter(dueAt -> dueAt.isBefore(settleBefore)).count();
+                checkpoint.settledThrough = settleBefore;
+            }
+
+            int streak = checkpoint.streak + pendingTaken;
+            return new Adherence(checkpoint.taken + pendingTaken, checkpoint.missed, streak,
+                    Math.max(checkpoint.longestStreak, streak));
+        }
+    }
+
+    /**
+     * Drop the log and adherence checkpoints of deleted medications.
+     */
+    @Scheduled(fixedDelayString = "${doses.log.purge-interval:24h}", initialDelayString = "${doses.log.purge-interval:24h}")
+    @Transactional
+    public void purge() {
+        int orphaned = doseAdministrationRepository.deleteOfDeletedMedications();
+        if (!checkpoints.isEmpty()) {
+            checkpoints.keySet().retainAll(new HashSet<>(medicationRepository.findExistingIds(checkpoints.keySet())));
+        }
+        log.info("Purged dose log of deleted medications: {} entries", orphaned);
+    }
+
+    /**
+     * Log entries waiting for the writer (for monitoring).
+     */
+    public int getQueuedCount() {
+        return writer.queuedCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.close();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private Medication findMedication(Long medicationId, Long petId, Long requestingOwnerId) {
+        Medication medication = medicationRepository.findById(medicationId)
+                .filter(m -> m.getPet().getId().equals(petId))
+                .orElseThrow(() -> new IllegalArgumentException("Medication not found with id: " + medicationId));
+        petService.getPetById(petId, requestingOwnerId); // verify the pet belongs to the owner
+        return medication;
+    }
+
+    private static boolean isScheduled(DoseSchedule schedule, LocalDateTime dueAt) {
+        return schedule.rule()
+                .occurrences(schedule.startDate().atTime(schedule.timeToAdminister()), schedule.endDate(),
+                        dueAt, dueAt.plusNanos(1))
+                .findAny()
+                .isPresent();
+    }
+
+    private LocalDateTime localNow(Instant now) {
+        return LocalDateTime.ofInstant(now, zone);
+    }
+
+    private boolean await(Future<Boolean> inserted) {
+        try {
+            return inserted.get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // still queued or being written - it may be committed after all
+            throw new RuntimeException("Dose log write timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Dose log write was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException rejected) {
+                throw rejected;
+            }
+            throw new RuntimeException("Failed to log dose: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * A dose log entry, and whether this call created it (false if the dose was already logged).
+     */
+    public record LoggedDose(DoseAdministration entry, boolean created) {
+    }
+
+    /**
+     * Adherence to a medication's schedule so far.
+     *
+     * @param taken doses logged as given
+     * @param missed doses past the grace period that weren't logged
+     * @param currentStreak doses given in a row, up to the latest one
+     * @param longestStreak longest run of doses given in a row
+     */
+    public record Adherence(int taken, int missed, int currentStreak, int longestStreak) {
+    }
+
+    // running totals over every dose due before settledThrough
+    private static final class AdherenceCheckpoint {
+        private final DoseSchedule schedule;
+        private LocalDateTime settledThrough;
+        private long loggedBefore; // log entries with a dose time in [first dose, settledThrough)
+        private int taken;
+        private int missed;
+        private int streak;
+        private int longestStreak;
+
+        private AdherenceCheckpoint(DoseSchedule schedule) {
+            this.schedule = schedule;
+            reset();
+        }
+
+        private void reset() {
+            settledThrough = schedule.startDate().atTime(schedule.timeToAdminister());
+            loggedBefore = 0;
+            taken = 0;
+            missed = 0;
+            streak = 0;
+            longestStreak = 0;
+        }
+
+        private void fold(boolean doseTaken) {
+            if (doseTaken) {
+                taken++;
+                streak++;
+                longestStreak = Math.max(longestStreak, streak);
+            } else {
+                missed++;
+                streak = 0;
+            }
+        }
+    }
+}
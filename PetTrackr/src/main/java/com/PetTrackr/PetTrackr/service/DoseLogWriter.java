@@ -0,0 +1,175 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for the dose log: appends from all request threads go through one bounded
+ * queue and a single writer thread, which inserts whatever has queued up since its last
+ * write as one JDBC batch in one transaction.
+ *
+ * A caller's future completes only after the batch holding its entry has committed, so an
+ * acknowledged dose is durable. Nothing waits for a batch to fill: under light load each
+ * batch holds one entry, and when many owners log doses at once they queue up behind the
+ * write in progress and share the next commit, instead of each paying for its own.
+ */
+class DoseLogWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DoseLogWriter.class);
+
+    // how often an idle writer checks whether it has been closed
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final DoseAdministrationRepository doseAdministrationRepository;
+    private final TransactionOperations transactionOperations;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingAppend> queue;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+
+    DoseLogWriter(DoseAdministrationRepository doseAdministrationRepository,
+                  TransactionOperations transactionOperations,
+                  MeterRegistry meterRegistry,
+                  int queueCapacity,
+                  int maxBatchSize) {
+        if (queueCapacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Dose log queue capacity and batch size must be greater than zero");
+        }
+        this.doseAdministrationRepository = doseAdministrationRepository;
+        this.transactionOperations = transactionOperations;
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizes = DistributionSummary.builder("doses.log.batch.size")
+                .description("Dose log entries written per commit")
+                .register(meterRegistry);
+        Gauge.builder("doses.log.queued", queue, BlockingQueue::size)
+                .description("Dose log entries waiting to be written")
+                .register(meterRegistry);
+
+        this.thread = new Thread(this::run, "dose-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queue an entry for the next batch.
+     *
+     * @return completes with whether the entry was inserted (false if its dose was already
+     *         logged) once its batch has committed, or exceptionally if the batch failed
+     * @throws RejectedExecutionException if the queue is full or the writer is closed
+     */
+    CompletableFuture<Boolean> append(DoseAdministration entry) {
+        if (!running) {
+            throw new RejectedExecutionException("Dose log is shutting down");
+        }
+        PendingAppend pending = new PendingAppend(entry, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new RejectedExecutionException("Dose log is busy, please retry shortly");
+        }
+        return pending.result();
+    }
+
+    int queuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting entries, write everything already queued and stop the writer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            thread.join(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // only if the final writes hung - or an append slipped in as the thread exited
+        PendingAppend pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new RejectedExecutionException("Dose log is shutting down"));
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private void run() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            PendingAppend first;
+            try {
+                first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue; // only close() stops the writer, after the queue is written
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingAppend> batch) {
+        List<DoseAdministration> entries = batch.stream().map(PendingAppend::entry).toList();
+        boolean[] inserted;
+        try {
+            inserted = appendInTransaction(entries);
+        } catch (DuplicateKeyException e) {
+            // another node inserted one of these doses between our check and insert; the
+            // retry sees its row and skips it
+            try {
+                inserted = appendInTransaction(entries);
+            } catch (RuntimeException retryFailure) {
+                fail(batch, retryFailure);
+                return;
+            }
+        } catch (RuntimeException e) {
+            fail(batch, e);
+            return;
+        }
+
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(inserted[i]);
+        }
+    }
+
+    private boolean[] appendInTransaction(List<DoseAdministration> entries) {
+        return transactionOperations.execute(status -> doseAdministrationRepository.appendAll(entries));
+    }
+
+    private static void fail(List<PendingAppend> batch, RuntimeException e) {
+        log.warn("Failed to write dose log batch ({} entries): {}", batch.size(), e.getMessage());
+        for (PendingAppend pending : batch) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingAppend(DoseAdministration entry, CompletableFuture<Boolean> result) {
+    }
+}
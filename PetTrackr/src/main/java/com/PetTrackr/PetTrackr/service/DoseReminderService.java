@@ -0,0 +1,297 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Fires a DoseDueEvent whenever a medication dose comes due.
+ *
+ * Each running medication has exactly one timer - for its next dose - in a hierarchical
+ * timing wheel (see TimingWheel), so scheduling, rescheduling and cancelling are O(1) and
+ * memory grows with the number of running medications, not with doses. When a timer fires
+ * the medication is rescheduled for its following dose, and dropped once its course ends.
+ *
+ * The wheel is loaded from the database once at startup and then kept current by
+ * MedicationService after each commit on this node, and by polling for medications updated
+ * through other nodes (by updatedAt) - the table is never rescanned. Deletions made elsewhere
+ * are caught when the deleted medication's next dose comes due: due medications are checked
+ * against the database before their events are published.
+ *
+ * Events are published in-process on the tick thread of whichever nodes have reminders
+ * enabled, so enable them on one node to get each reminder once. Doses that fell due while
+ * that node was down are not replayed: the wheel is loaded from the time it starts.
+ */
+@Service
+public class DoseReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(DoseReminderService.class);
+
+    // each refresh re-reads medications updated shortly before the last one, for transactions that
+    // were still open at the last poll and for clock differences between nodes (rescheduling is harmless)
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final MedicationRepository medicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final ZoneId zone;
+
+    private final TimingWheel<ScheduledDose> wheel;
+    private final Map<Long, TimingWheel.Timer<ScheduledDose>> timersByMedication = new HashMap<>();
+
+    // medications changed while the startup load runs - the load's older copy must not win
+    private Set<Long> changedDuringLoad = new HashSet<>();
+
+    // null until the startup load has run
+    private Instant refreshedUpTo;
+
+    private final Counter dosesDue;
+
+    public DoseReminderService(MedicationRepository medicationRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               Clock clock,
+                               MeterRegistry meterRegistry,
+                               @Value("${reminders.enabled:true}") boolean enabled,
+                               @Value("${reminders.tick:1s}") Duration tick,
+                               @Value("${reminders.zone:}") String zone) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("reminders.tick must be at least 1ms");
+        }
+        this.medicationRepository = medicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.tickMillis = tick.toMillis();
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.wheel = new TimingWheel<>(clock.millis() / tickMillis);
+
+        this.dosesDue = Counter.builder("reminders.doses.due")
+                .description("Medication doses that came due")
+                .register(meterRegistry);
+        Gauge.builder("reminders.scheduled", this, DoseReminderService::scheduledCount)
+                .description("Medications with a pending dose reminder")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load every running medication into the wheel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        int loaded = 0;
+        try (Stream<DoseSchedule> schedules = medicationRepository.streamActiveSchedules(LocalDate.ofInstant(now, zone))) {
+            for (DoseSchedule schedule : (Iterable<DoseSchedule>) schedules::iterator) {
+                synchronized (this) {
+                    if (!changedDuringLoad.contains(schedule.medicationId()) && schedule(schedule, now)) {
+                        loaded++;
+                    }
+                }
+            }
+        }
+        synchronized (this) {
+            changedDuringLoad = null;
+            refreshedUpTo = now;
+        }
+        log.info("Dose reminders loaded: {} medications", loaded);
+    }
+
+    /**
+     * Schedule (or reschedule) a created or changed medication once the transaction commits.
+     */
+    public void medicationSaved(Medication medication) {
+        if (!enabled) {
+            return;
+        }
+        DoseSchedule schedule = DoseSchedule.of(medication);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                markChanged(schedule.medicationId());
+                schedule(schedule, clock.instant());
+            }
+        });
+    }
+
+    /**
+     * Stop reminders for deleted medications once the transaction commits.
+     */
+    public void medicationsDeleted(Collection<Long> medicationIds) {
+        if (!enabled || medicationIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(medicationIds);
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                ids.forEach(id -> {
+                    markChanged(id);
+                    cancel(id);
+                });
+            }
+        });
+    }
+
+    /**
+     * Reschedule medications created or changed (through any node) since the last refresh.
+     */
+    @Scheduled(fixedDelayString = "${reminders.refresh-interval:10s}", initialDelayString = "${reminders.refresh-interval:10s}")
+    public void refresh() {
+        Instant since;
+        synchronized (this) {
+            if (!enabled || refreshedUpTo == null) {
+                return;
+            }
+            since = refreshedUpTo.minus(REFRESH_OVERLAP);
+        }
+        Instant now = clock.instant();
+        List<DoseSchedule> updated = medicationRepository.findSchedulesUpdatedSince(since);
+        synchronized (this) {
+            for (DoseSchedule schedule : updated) {
+                TimingWheel.Timer<ScheduledDose> pending = timersByMedication.get(schedule.medicationId());
+                // unchanged (e.g. already applied after a commit on this node) - keep the pending dose
+                if (pending == null || !pending.value().schedule().equals(schedule)) {
+                    schedule(schedule, now);
+                }
+            }
+            refreshedUpTo = now;
+        }
+    }
+
+    /**
+     * Advance the wheel to now, publish an event for every dose that came due and schedule
+     * each medication's next dose. Medications deleted through another node are dropped
+     * instead.
+     */
+    @Scheduled(fixedDelayString = "${reminders.tick:1s}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        List<ScheduledDose> due = new ArrayList<>();
+        synchronized (this) {
+            for (TimingWheel.Timer<ScheduledDose> timer : wheel.advanceTo(now / tickMillis)) {
+                DoseSchedule schedule = timer.value().schedule();
+                timersByMedication.remove(schedule.medicationId());
+                due.add(timer.value());
+                // doses missed while the tick stalled come due right away (downtime isn't replayed - see load)
+                Instant next = schedule.nextDoseAfter(timer.value().dueAt(), zone);
+                while (next != null && next.toEpochMilli() <= now) {
+                    due.add(new ScheduledDose(schedule, next));
+                    next = schedule.nextDoseAfter(next, zone);
+                }
+                if (next != null) {
+                    add(schedule, next);
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = existingMedications(due);
+        for (ScheduledDose dose : due) {
+            DoseSchedule schedule = dose.schedule();
+            if (!existing.contains(schedule.medicationId())) {
+                continue;
+            }
+            dosesDue.increment();
+            try {
+                eventPublisher.publishEvent(new DoseDueEvent(schedule.medicationId(), schedule.petId(), dose.dueAt()));
+            } catch (RuntimeException e) {
+                log.warn("Dose reminder listener failed for medication {}", schedule.medicationId(), e);
+            }
+        }
+    }
+
+    /**
+     * Number of medications with a pending reminder.
+     */
+    public synchronized int scheduledCount() {
+        return timersByMedication.size();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // replaces any pending reminder; false if the course is already over or has no fixed schedule
+    private boolean schedule(DoseSchedule schedule, Instant after) {
+        cancel(schedule.medicationId());
+        Instant next = schedule.rule().isScheduled() ? schedule.nextDoseAfter(after, zone) : null;
+        if (next == null) {
+            return false;
+        }
+        add(schedule, next);
+        return true;
+    }
+
+    private void add(DoseSchedule schedule, Instant dueAt) {
+        // round up, so a reminder never fires before its dose is due
+        long deadlineTick = -Math.floorDiv(-dueAt.toEpochMilli(), tickMillis);
+        timersByMedication.put(schedule.medicationId(), wheel.add(deadlineTick, new ScheduledDose(schedule, dueAt)));
+    }
+
+    private void cancel(Long medicationId) {
+        TimingWheel.Timer<ScheduledDose> timer = timersByMedication.remove(medicationId);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    // due medications still in the database; any others were deleted through another node
+    private Set<Long> existingMedications(List<ScheduledDose> due) {
+        Set<Long> ids = new HashSet<>();
+        due.forEach(dose -> ids.add(dose.schedule().medicationId()));
+        try {
+            Set<Long> existing = new HashSet<>(medicationRepository.findExistingIds(ids));
+            synchronized (this) {
+                ids.stream().filter(id -> !existing.contains(id)).forEach(this::cancel);
+            }
+            return existing;
+        } catch (RuntimeException e) {
+            // rather a reminder for a deleted medication than none at all
+            log.warn("Could not check due medications still exist", e);
+            return ids;
+        }
+    }
+
+    private void markChanged(Long medicationId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(medicationId);
+        }
+    }
+
+    private record ScheduledDose(DoseSchedule schedule, Instant dueAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Medication.RecurrenceUnit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * What the reminder engine keeps per medication: just enough to work out the next dose.
+ * Doses follow the medication's recurrence rule from startDate at timeToAdminister
+ * through endDate (open-ended if null).
+ */
+public record DoseSchedule(Long medicationId, Long petId, LocalTime timeToAdminister,
+                           LocalDate startDate, LocalDate endDate, RecurrenceRule rule) {
+
+    /**
+     * Used by MedicationRepository's projection query; the frequency text is only kept
+     * long enough to parse it for medications saved before rules were stored.
+     */
+    public DoseSchedule(Long medicationId, Long petId, LocalTime timeToAdminister, LocalDate startDate,
+                        LocalDate endDate, RecurrenceUnit recurrenceUnit, Integer recurrenceInterval, String frequency) {
+        this(medicationId, petId, timeToAdminister, startDate, endDate,
+                RecurrenceRule.of(recurrenceUnit, recurrenceInterval, frequency));
+    }
+
+    public static DoseSchedule of(Medication medication) {
+        return new DoseSchedule(medication.getId(), medication.getPet().getId(),
+                medication.getTimeToAdminister(), medication.getStartDate(), medication.getEndDate(),
+                RecurrenceRule.of(medication));
+    }
+
+    /**
+     * The first dose strictly after the given instant, or null once the course is over
+     * (or if the medication has no fixed schedule).
+     *
+     * @param zone the zone timeToAdminister and the dates are in
+     */
+    public Instant nextDoseAfter(Instant after, ZoneId zone) {
+        LocalDateTime firstDose = startDate.atTime(timeToAdminister);
+        LocalDateTime dose = rule.nextAfter(firstDose, endDate, LocalDateTime.ofInstant(after, zone));
+        // a wall-clock time repeated when clocks go back can map to an instant already passed
+        while (dose != null && !dose.atZone(zone).toInstant().isAfter(after)) {
+            dose = rule.nextAfter(firstDose, endDate, dose);
+        }
+        return dose == null ? null : dose.atZone(zone).toInstant();
+    }
+}
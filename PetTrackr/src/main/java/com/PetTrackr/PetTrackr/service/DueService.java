@@ -0,0 +1,182 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingScheduleRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * What an owner has to do across all their pets in the next few hours: scheduled feedings
+ * and medication doses, in due-time order.
+ *
+ * The feed takes a fixed number of queries however many pets the owner has: one for the
+ * feeding schedules whose time of day falls in the window (an owner-scoped range on the
+ * (petId, time) index), one for the medications running in it (expanded through the dose
+ * calendar), and one each to find which of those feedings and doses were already logged.
+ * Items due a little while ago that weren't done yet are included as overdue.
+ */
+@Service
+@Transactional
+public class DueService {
+
+    public static final int MAX_HOURS = 48;
+
+    public enum ItemType {
+        FEEDING,
+        DOSE
+    }
+
+    private final FeedingScheduleRepository feedingScheduleRepository;
+    private final FeedingEventRepository feedingEventRepository;
+    private final DoseAdministrationRepository doseAdministrationRepository;
+    private final MedicationService medicationService;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final Duration overdue;
+
+    public DueService(FeedingScheduleRepository feedingScheduleRepository,
+                      FeedingEventRepository feedingEventRepository,
+                      DoseAdministrationRepository doseAdministrationRepository,
+                      MedicationService medicationService,
+                      Clock clock,
+                      @Value("${reminders.zone:}") String zone,
+                      @Value("${due.overdue:2h}") Duration overdue) {
+        this.feedingScheduleRepository = feedingScheduleRepository;
+        this.feedingEventRepository = feedingEventRepository;
+        this.doseAdministrationRepository = doseAdministrationRepository;
+        this.medicationService = medicationService;
+        this.clock = clock;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.overdue = overdue;
+    }
+
+    /**
+     * A feeding or dose that is due.
+     *
+     * @param itemId id of the feeding schedule or medication
+     * @param name food type or medication name
+     * @param unit quantity or dosage unit
+     * @param done whether it was already logged
+     */
+    public record DueItem(ItemType type, LocalDateTime dueAt, Pet pet, Long itemId, String name,
+                          double amount, String unit, boolean done) {
+    }
+
+    /**
+     * The items in a window, and the window itself (local date-times in the reminder zone).
+     */
+    public record DueFeed(LocalDateTime from, LocalDateTime to, List<DueItem> items) {
+    }
+
+    /**
+     * Get everything due for the owner's pets from a little while ago (see due.overdue)
+     * until {@code hours} from now, ordered by due time.
+     *
+     * @param ownerId the owner (the logged-in one, see OwnerPathAuthorizationFilter)
+     * @param hours how far ahead to look (1-48)
+     * @throws IllegalArgumentException if hours is out of range
+     */
+    public DueFeed getDue(Long ownerId, int hours) {
+        if (hours < 1 || hours > MAX_HOURS) {
+            throw new IllegalArgumentException("hours must be between 1 and " + MAX_HOURS);
+        }
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), zone);
+        LocalDateTime from = now.minus(overdue);
+        LocalDateTime to = now.plusHours(hours);
+
+        List<DueItem> items = new ArrayList<>();
+        items.addAll(dueFeedings(ownerId, from, to));
+        items.addAll(dueDoses(ownerId, from, to));
+        items.sort(Comparator.comparing(DueItem::dueAt)
+                .thenComparing(DueItem::type)
+                .thenComparing(DueItem::itemId));
+        return new DueFeed(from, to, items);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private List<DueItem> dueFeedings(Long ownerId, LocalDateTime from, LocalDateTime to) {
+        // only the schedules whose time of day falls in the window (all of them once it spans a day)
+        List<FeedingSchedule> schedules;
+        if (Duration.between(from, to).compareTo(Duration.ofDays(1)) >= 0) {
+            schedules = feedingScheduleRepository.findForOwnerWrapping(ownerId, from.toLocalTime(), from.toLocalTime());
+        } else if (from.toLocalTime().isBefore(to.toLocalTime())) {
+            schedules = feedingScheduleRepository.findForOwnerBetween(ownerId, from.toLocalTime(), to.toLocalTime());
+        } else {
+            schedules = feedingScheduleRepository.findForOwnerWrapping(ownerId, from.toLocalTime(), to.toLocalTime());
+        }
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+
+        // a schedule counts as done on a day once a feeding following it was logged that day
+        Set<Long> petIds = schedules.stream().map(schedule -> schedule.getPet().getId()).collect(Collectors.toSet());
+        Set<Logged> fed = new HashSet<>();
+        for (FeedingEvent event : feedingEventRepository.findScheduledForPets(petIds,
+                from.toLocalDate().atStartOfDay(zone).toInstant(), to.atZone(zone).toInstant())) {
+            fed.add(new Logged(event.getFeedingScheduleId(), LocalDate.ofInstant(event.getFedAt(), zone)));
+        }
+
+        List<DueItem> items = new ArrayList<>();
+        for (FeedingSchedule schedule : schedules) {
+            for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+                LocalDateTime dueAt = day.atTime(schedule.getTime());
+                if (dueAt.isBefore(from) || !dueAt.isBefore(to)) {
+                    continue;
+                }
+                items.add(new DueItem(ItemType.FEEDING, dueAt, schedule.getPet(), schedule.getId(),
+                        schedule.getFoodType(), schedule.getQuantity(), schedule.getQuantityUnit().name(),
+                        fed.contains(new Logged(schedule.getId(), day))));
+            }
+        }
+        return items;
+    }
+
+    private List<DueItem> dueDoses(Long ownerId, LocalDateTime from, LocalDateTime to) {
+        List<MedicationService.Dose> doses = medicationService.getDoseCalendar(ownerId, null, from, to).toList();
+        if (doses.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> medicationIds = doses.stream().map(dose -> dose.medication().getId()).collect(Collectors.toSet());
+        Set<Logged> given = new HashSet<>();
+        for (DoseAdministration administration : doseAdministrationRepository
+                .findByMedicationIdInAndDueAtGreaterThanEqualAndDueAtLessThan(medicationIds, from, to)) {
+            given.add(new Logged(administration.getMedicationId(), administration.getDueAt()));
+        }
+
+        List<DueItem> items = new ArrayList<>(doses.size());
+        for (MedicationService.Dose dose : doses) {
+            Medication medication = dose.medication();
+            items.add(new DueItem(ItemType.DOSE, dose.dueAt(), medication.getPet(), medication.getId(),
+                    medication.getName(), medication.getDosageAmount(), medication.getDosageUnit().name(),
+                    given.contains(new Logged(medication.getId(), dose.dueAt()))));
+        }
+        return items;
+    }
+
+    // a feeding schedule on a day, or a medication's dose at a due time, that was logged
+    private record Logged(Long itemId, Object at) {
+    }
+}
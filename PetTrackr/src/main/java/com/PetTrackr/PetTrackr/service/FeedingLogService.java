@@ -0,0 +1,204 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.FeedingDay;
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+import com.PetTrackr.PetTrackr.repository.FeedingDayRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingScheduleRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records what pets were actually fed, and keeps daily nutrition totals for the charts.
+ *
+ * Every event's quantity is normalized to grams when it is logged (cups and cans by the
+ * configured weights) and added to its (pet, day, food type) row in FeedingDay in the same
+ * transaction; deleting an event subtracts it again. The charts read only those rows - at
+ * most one per food per day - so their cost doesn't grow with the length of the log.
+ */
+@Service
+@Transactional
+public class FeedingLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedingLogService.class);
+
+    static final double GRAMS_PER_OUNCE = 28.349523125;
+
+    private final FeedingEventRepository feedingEventRepository;
+    private final FeedingDayRepository feedingDayRepository;
+    private final FeedingScheduleRepository feedingScheduleRepository;
+    private final PetService petService; // to verify pet ownership
+    private final Clock clock;
+
+    private final ZoneId zone;
+    private final double gramsPerCup;
+    private final double gramsPerCan;
+
+    public FeedingLogService(FeedingEventRepository feedingEventRepository,
+                             FeedingDayRepository feedingDayRepository,
+                             FeedingScheduleRepository feedingScheduleRepository,
+                             PetService petService,
+                             Clock clock,
+                             @Value("${feeding.zone:}") String zone,
+                             @Value("${feeding.units.grams-per-cup:100}") double gramsPerCup,
+                             @Value("${feeding.units.grams-per-can:370}") double gramsPerCan) {
+        if (gramsPerCup <= 0 || gramsPerCan <= 0) {
+            throw new IllegalArgumentException("feeding.units weights must be greater than zero");
+        }
+        this.feedingEventRepository = feedingEventRepository;
+        this.feedingDayRepository = feedingDayRepository;
+        this.feedingScheduleRepository = feedingScheduleRepository;
+        this.petService = petService;
+        this.clock = clock;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.gramsPerCup = gramsPerCup;
+        this.gramsPerCan = gramsPerCan;
+    }
+
+    /**
+     * Log a feeding. When it follows a feeding schedule, food type, quantity and unit
+     * default to the schedule's.
+     *
+     * @param feedingScheduleId the planned feeding this follows (optional)
+     * @param fedAt when the pet was fed (null for now)
+     * @throws IllegalArgumentException if the pet or schedule doesn't exist, or input is invalid
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public FeedingEvent logFeeding(Long petId, Long requestingOwnerId, Long feedingScheduleId, Instant fedAt,
+                                   String foodType, Double quantity, QuantityUnit quantityUnit, String notes) {
+        petService.getPetById(petId, requestingOwnerId);
+
+        if (feedingScheduleId != null) {
+            FeedingSchedule schedule = feedingScheduleRepository.findById(feedingScheduleId)
+                    .filter(s -> s.getPet().getId().equals(petId))
+                    .orElseThrow(() -> new IllegalArgumentException("Feeding schedule not found with id: " + feedingScheduleId));
+            foodType = foodType != null ? foodType : schedule.getFoodType();
+            quantity = quantity != null ? quantity : schedule.getQuantity();
+            quantityUnit = quantityUnit != null ? quantityUnit : schedule.getQuantityUnit();
+        }
+
+        // trim inputs
+        foodType = foodType != null ? foodType.trim().replaceAll("\\s+", " ") : null;
+        notes = notes != null ? notes.trim() : null;
+
+        Instant now = clock.instant();
+        if (foodType == null || foodType.isBlank()) {
+            throw new IllegalArgumentException("Food type cannot be empty");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than zero");
+        }
+        if (quantityUnit == null) {
+            throw new IllegalArgumentException("Quantity unit cannot be null");
+        }
+        if (fedAt == null) {
+            fedAt = now;
+        } else if (fedAt.isAfter(now)) {
+            throw new IllegalArgumentException("Feeding time cannot be in the future");
+        }
+
+        FeedingEvent event = feedingEventRepository.save(new FeedingEvent(petId, feedingScheduleId, fedAt, foodType,
+                quantity, quantityUnit, toGrams(quantity, quantityUnit), notes == null || notes.isBlank() ? null : notes));
+        feedingDayRepository.addToDay(petId, dayOf(event), foodKey(foodType), foodType, event.getQuantityGrams(), 1);
+        return event;
+    }
+
+    /**
+     * Delete a logged feeding (e.g. logged by mistake) and take it out of its day's totals.
+     *
+     * @throws IllegalArgumentException if the feeding doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public FeedingEvent deleteFeeding(Long feedingId, Long petId, Long requestingOwnerId) {
+        FeedingEvent event = feedingEventRepository.findById(feedingId)
+                .filter(e -> e.getPetId().equals(petId))
+                .orElseThrow(() -> new IllegalArgumentException("Feeding not found with id: " + feedingId));
+        petService.getPetById(petId, requestingOwnerId);
+
+        feedingEventRepository.delete(event);
+        feedingDayRepository.addToDay(petId, dayOf(event), foodKey(event.getFoodType()), event.getFoodType(),
+                -event.getQuantityGrams(), -1);
+        return event;
+    }
+
+    /**
+     * Get a pet's feedings over the last {@code days} days (including today), newest first.
+     *
+     * @throws IllegalArgumentException if the pet doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public List<FeedingEvent> getFeedings(Long petId, Long requestingOwnerId, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be greater than zero");
+        }
+        petService.getPetById(petId, requestingOwnerId);
+        return feedingEventRepository.findByPetIdAndFedAtGreaterThanEqualOrderByFedAtDesc(petId,
+                firstDay(days).atStartOfDay(zone).toInstant());
+    }
+
+    /**
+     * Get a pet's daily totals per food type over the last {@code days} days (including
+     * today), oldest first. Days without feedings are left out.
+     *
+     * @throws IllegalArgumentException if the pet doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public List<FeedingDay> getNutrition(Long petId, Long requestingOwnerId, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be greater than zero");
+        }
+        petService.getPetById(petId, requestingOwnerId);
+        return feedingDayRepository.findByPetIdAndFeedingDateGreaterThanEqualOrderByFeedingDateAscFoodKeyAsc(petId, firstDay(days));
+    }
+
+    /**
+     * Drop the feeding log and totals of deleted pets.
+     */
+    @Scheduled(fixedDelayString = "${feeding.log.purge-interval:24h}", initialDelayString = "${feeding.log.purge-interval:24h}")
+    public void purge() {
+        int events = feedingEventRepository.deleteOfDeletedPets();
+        int days = feedingDayRepository.deleteOfDeletedPets();
+        log.info("Purged feeding log of deleted pets: {} events, {} daily totals", events, days);
+    }
+
+    /**
+     * A quantity in grams; cups and cans use the configured weights (food density varies).
+     */
+    double toGrams(double quantity, QuantityUnit unit) {
+        return switch (unit) {
+            case GRAMS -> quantity;
+            case OUNCES -> quantity * GRAMS_PER_OUNCE;
+            case CUPS -> quantity * gramsPerCup;
+            case CANS -> quantity * gramsPerCan;
+        };
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private LocalDate dayOf(FeedingEvent event) {
+        return LocalDate.ofInstant(event.getFedAt(), zone);
+    }
+
+    private LocalDate firstDay(int days) {
+        return LocalDate.ofInstant(clock.instant(), zone).minusDays(days - 1L);
+    }
+
+    private static String foodKey(String foodType) {
+        return foodType.toLowerCase(Locale.ROOT);
+    }
+}
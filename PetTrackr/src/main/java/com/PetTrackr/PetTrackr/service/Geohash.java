@@ -0,0 +1,157 @@
+package com.PetTrackr.PetTrackr.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash encoding plus the helpers radius queries need.
+ *
+ * A geohash interleaves longitude and latitude bits (longitude first) and writes them five
+ * bits per base32 character, so every prefix is a rectangular cell that contains all longer
+ * hashes starting with it. Sorting by geohash therefore keeps each cell contiguous, and a
+ * radius query becomes a handful of prefix range scans over the cells covering its
+ * bounding box.
+ */
+public final class Geohash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LATITUDE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private Geohash() {
+    }
+
+    /**
+     * Encode a position as a geohash of the given length (1-12 characters).
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and " + MAX_PRECISION);
+        }
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        char[] hash = new char[precision];
+        boolean lonBit = true;
+        for (int c = 0; c < precision; c++) {
+            int index = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                index <<= 1;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (longitude >= mid) {
+                        index |= 1;
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        index |= 1;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                lonBit = !lonBit;
+            }
+            hash[c] = BASE32[index];
+        }
+        return new String(hash);
+    }
+
+    /**
+     * Geohash cells of the given precision that together cover a circle, i.e. its bounding
+     * box. Boxes crossing the antimeridian wrap around; near the poles the box spans all
+     * longitudes.
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm, int precision) {
+        int latBits = latitudeBits(precision);
+        int lonBits = 5 * precision - latBits;
+        double cellHeight = 180.0 / (1L << latBits);
+        double cellWidth = 360.0 / (1L << lonBits);
+        long lonCells = 1L << lonBits;
+
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        long firstRow = cellIndex(minLat + 90, cellHeight, 1L << latBits);
+        long lastRow = cellIndex(maxLat + 90, cellHeight, 1L << latBits);
+
+        long firstColumn;
+        long lastColumn;
+        double lonDelta = longitudeDelta(latitude, radiusKm);
+        if (lonDelta >= 180) {
+            firstColumn = 0;
+            lastColumn = lonCells - 1;
+        } else {
+            firstColumn = (long) Math.floor((longitude - lonDelta + 180) / cellWidth);
+            lastColumn = (long) Math.floor((longitude + lonDelta + 180) / cellWidth);
+            if (lastColumn - firstColumn >= lonCells) {
+                lastColumn = firstColumn + lonCells - 1;
+            }
+        }
+
+        List<String> cells = new ArrayList<>();
+        for (long row = firstRow; row <= lastRow; row++) {
+            double cellLatitude = -90 + (row + 0.5) * cellHeight;
+            for (long column = firstColumn; column <= lastColumn; column++) {
+                long wrapped = Math.floorMod(column, lonCells);
+                cells.add(encode(cellLatitude, -180 + (wrapped + 0.5) * cellWidth, precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Upper bound on the number of cells {@link #coveringCells} returns, without building them.
+     */
+    public static long countCoveringCells(double latitude, double radiusKm, int precision) {
+        int latBits = latitudeBits(precision);
+        int lonBits = 5 * precision - latBits;
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double lonDelta = longitudeDelta(latitude, radiusKm);
+        long rows = (long) Math.ceil(2 * latDelta / (180.0 / (1L << latBits))) + 1;
+        long columns = lonDelta >= 180 ? 1L << lonBits : (long) Math.ceil(2 * lonDelta / (360.0 / (1L << lonBits))) + 1;
+        return rows * Math.min(columns, 1L << lonBits);
+    }
+
+    /**
+     * Great-circle distance between two positions in kilometres (haversine).
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // of the 5 bits per character, longitude gets the extra one on odd positions
+    private static int latitudeBits(int precision) {
+        return 5 * precision / 2;
+    }
+
+    private static long cellIndex(double offset, double cellSize, long cells) {
+        return Math.min(cells - 1, (long) Math.floor(offset / cellSize));
+    }
+
+    // half-width of the bounding box in degrees of longitude, widest at the box's pole-side edge
+    private static double longitudeDelta(double latitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double widestLatitude = Math.min(90, Math.abs(latitude) + latDelta);
+        double cos = Math.cos(Math.toRadians(widestLatitude));
+        if (cos < 1e-9) {
+            return 180;
+        }
+        return Math.min(180, radiusKm / (KM_PER_DEGREE_LATITUDE * cos));
+    }
+}
@@ -0,0 +1,178 @@
+package com.PetTrackr.PetTrackr.service;
+
+import java.util.Optional;
+
+/**
+ * Identifies an image from its first bytes instead of trusting the filename.
+ *
+ * Only the container headers are parsed (JPEG markers up to the SOF segment,
+ * PNG IHDR, GIF logical screen descriptor, WebP VP8/VP8L/VP8X chunk), so the
+ * format and pixel dimensions are known without decoding any image data.
+ */
+public final class ImageHeaderSniffer {
+
+    // JPEG metadata segments (EXIF with embedded thumbnail, ICC profile) can push
+    // the SOF marker well past the first few KB, so allow a generous prefix
+    public static final int MAX_HEADER_BYTES = 256 * 1024;
+
+    private ImageHeaderSniffer() {
+    }
+
+    public enum ImageFormat {
+        JPEG, PNG, GIF, WEBP;
+
+        /**
+         * Check whether a (lowercase, dotted) filename extension belongs to this format.
+         */
+        public boolean matchesExtension(String extension) {
+            return switch (this) {
+                case JPEG -> ".jpg".equals(extension) || ".jpeg".equals(extension);
+                case PNG -> ".png".equals(extension);
+                case GIF -> ".gif".equals(extension);
+                case WEBP -> ".webp".equals(extension);
+            };
+        }
+    }
+
+    /**
+     * Format and dimensions read from an image header.
+     * Width and height are -1 when the format was recognized but the
+     * dimensions were not within the supplied prefix.
+     */
+    public record ImageHeader(ImageFormat format, int width, int height) {
+        public boolean hasDimensions() {
+            return width > 0 && height > 0;
+        }
+
+        public long pixelCount() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * Sniff the format and dimensions from the beginning of a file.
+     *
+     * @param header the first bytes of the file (up to MAX_HEADER_BYTES)
+     * @return the detected header, or empty if the bytes are not a supported image
+     */
+    public static Optional<ImageHeader> sniff(byte[] header) {
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(sniffJpeg(header));
+        }
+        if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(sniffPng(header));
+        }
+        if (startsWith(header, 'G', 'I', 'F', '8', '7', 'a') || startsWith(header, 'G', 'I', 'F', '8', '9', 'a')) {
+            return Optional.of(header.length >= 10
+                    ? new ImageHeader(ImageFormat.GIF, readLe16(header, 6), readLe16(header, 8))
+                    : new ImageHeader(ImageFormat.GIF, -1, -1));
+        }
+        if (header.length >= 12 && startsWith(header, 'R', 'I', 'F', 'F')
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return Optional.of(sniffWebp(header));
+        }
+        return Optional.empty();
+    }
+
+    // ========================================
+    // Helper Methods - Per-format Parsers
+    // ========================================
+
+    private static ImageHeader sniffJpeg(byte[] data) {
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                break; // corrupt marker stream
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++; // fill byte
+                continue;
+            }
+            // standalone markers carry no length
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                pos += 2;
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                break; // end of image / start of scan before any frame header
+            }
+            int length = readBe16(data, pos + 2);
+            if (length < 2) {
+                break;
+            }
+            if (isStartOfFrame(marker)) {
+                if (pos + 9 > data.length) {
+                    break;
+                }
+                int height = readBe16(data, pos + 5);
+                int width = readBe16(data, pos + 7);
+                return new ImageHeader(ImageFormat.JPEG, width, height);
+            }
+            pos += 2 + length;
+        }
+        return new ImageHeader(ImageFormat.JPEG, -1, -1);
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        // SOF0-SOF15, excluding DHT (C4), JPG (C8) and DAC (CC)
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static ImageHeader sniffPng(byte[] data) {
+        // the IHDR chunk must come first: length(4) "IHDR"(4) width(4) height(4)
+        if (data.length < 24 || data[12] != 'I' || data[13] != 'H' || data[14] != 'D' || data[15] != 'R') {
+            return new ImageHeader(ImageFormat.PNG, -1, -1);
+        }
+        return new ImageHeader(ImageFormat.PNG, readBe32(data, 16), readBe32(data, 20));
+    }
+
+    private static ImageHeader sniffWebp(byte[] data) {
+        if (data.length >= 30 && startsWithAt(data, 12, 'V', 'P', '8', 'X')) {
+            // extended format: 24-bit canvas width-1 and height-1
+            int width = 1 + ((data[24] & 0xFF) | (data[25] & 0xFF) << 8 | (data[26] & 0xFF) << 16);
+            int height = 1 + ((data[27] & 0xFF) | (data[28] & 0xFF) << 8 | (data[29] & 0xFF) << 16);
+            return new ImageHeader(ImageFormat.WEBP, width, height);
+        }
+        if (data.length >= 30 && startsWithAt(data, 12, 'V', 'P', '8', ' ')
+                && (data[23] & 0xFF) == 0x9D && (data[24] & 0xFF) == 0x01 && (data[25] & 0xFF) == 0x2A) {
+            // lossy: 14-bit width and height after the key frame start code
+            return new ImageHeader(ImageFormat.WEBP, readLe16(data, 26) & 0x3FFF, readLe16(data, 28) & 0x3FFF);
+        }
+        if (data.length >= 25 && startsWithAt(data, 12, 'V', 'P', '8', 'L') && (data[20] & 0xFF) == 0x2F) {
+            // lossless: 14 bits width-1, 14 bits height-1, packed little-endian
+            int bits = (data[21] & 0xFF) | (data[22] & 0xFF) << 8 | (data[23] & 0xFF) << 16 | (data[24] & 0xFF) << 24;
+            return new ImageHeader(ImageFormat.WEBP, 1 + (bits & 0x3FFF), 1 + ((bits >>> 14) & 0x3FFF));
+        }
+        return new ImageHeader(ImageFormat.WEBP, -1, -1);
+    }
+
+    private static boolean startsWith(byte[] data, int... prefix) {
+        return startsWithAt(data, 0, prefix);
+    }
+
+    private static boolean startsWithAt(byte[] data, int offset, int... prefix) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((data[offset + i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readLe16(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int readBe16(byte[] data, int offset) {
+        return (data[offset] & 0xFF) << 8 | (data[offset + 1] & 0xFF);
+    }
+
+    private static int readBe32(byte[] data, int offset) {
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+                | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,352 @@
+package com.PetTrackr.PetTrackr.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingest stage for uploaded pet photos.
+ *
+ * Phones upload multi-megabyte originals that are far larger than anything the
+ * app displays. Each upload is decoded once, its longest edge is capped at
+ * image.ingest.max-edge, EXIF orientation is applied and all metadata (EXIF,
+ * GPS, ICC, comments) is dropped, then it is re-encoded at the target quality.
+ *
+ * Decoding is CPU- and memory-heavy, so it runs on a small dedicated pool with a
+ * bounded queue. When the queue is full the upload is rejected immediately
+ * (RejectedExecutionException, surfaced as 503) instead of piling up threads.
+ *
+ * Formats the JDK cannot decode (WebP) and animated GIFs are stored verbatim.
+ */
+@Service
+public class ImageIngestService {
+
+    private final boolean enabled;
+    private final int maxEdge;
+    private final float quality;
+    private final boolean keepOriginal;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    public ImageIngestService(@Value("${image.ingest.enabled:true}") boolean enabled,
+                              @Value("${image.ingest.max-edge:1600}") int maxEdge,
+                              @Value("${image.ingest.quality:0.82}") float quality,
+                              @Value("${image.ingest.keep-original:false}") boolean keepOriginal,
+                              @Value("${image.ingest.threads:2}") int threads,
+                              @Value("${image.ingest.queue-capacity:16}") int queueCapacity,
+                              @Value("${image.ingest.timeout:15s}") Duration timeout) {
+        if (maxEdge <= 0) {
+            throw new IllegalArgumentException("image.ingest.max-edge must be greater than zero");
+        }
+        if (quality <= 0 || quality > 1) {
+            throw new IllegalArgumentException("image.ingest.quality must be in (0, 1]");
+        }
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.quality = quality;
+        this.keepOriginal = keepOriginal;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-ingest-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isKeepOriginal() {
+        return enabled && keepOriginal;
+    }
+
+    /**
+     * Whether uploads with this extension go through the ingest stage at all.
+     * GIFs may be animated and WebP has no JDK decoder, so both are stored as uploaded.
+     */
+    public boolean shouldProcess(String extension) {
+        return enabled && !".gif".equals(extension) && !".webp".equals(extension);
+    }
+
+    /**
+     * Downscale and re-encode an uploaded image on the ingest pool.
+     *
+     * @param original the uploaded bytes
+     * @param extension the validated extension of the upload (e.g. ".jpg")
+     * @return the processed image, or empty if the upload should be stored as-is
+     *         (ingest disabled, undecodable or animated format)
+     * @throws RejectedExecutionException if the ingest queue is full
+     */
+    public Optional<ProcessedImage> process(byte[] original, String extension) {
+        if (!shouldProcess(extension)) {
+            return Optional.empty();
+        }
+
+        Future<Optional<ProcessedImage>> future;
+        try {
+            future = executor.submit(() -> transcode(original));
+        } catch (RejectedExecutionException e) {
+            throw new RejectedExecutionException("Image processing is busy, please retry shortly", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RuntimeException("Image processing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Image processing was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to process image: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Queue depth of the ingest pool (for monitoring).
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========================================
+    // Helper Methods - Decode / Resize / Encode
+    // ========================================
+
+    private Optional<ProcessedImage> transcode(byte[] original) throws IOException {
+        BufferedImage image = decode(original);
+        if (image == null) {
+            return Optional.empty();
+        }
+
+        image = applyOrientation(image, readExifOrientation(original));
+        image = scaleToFit(image);
+
+        // keep transparency as PNG; everything else becomes a baseline JPEG
+        boolean hasAlpha = image.getColorModel().hasAlpha();
+        byte[] encoded = hasAlpha ? encodePng(image) : encodeJpeg(image);
+        return Optional.of(new ProcessedImage(encoded,
+                hasAlpha ? ".png" : ".jpg",
+                hasAlpha ? "image/png" : "image/jpeg",
+                image.getWidth(),
+                image.getHeight()));
+    }
+
+    /**
+     * Decode the image, subsampling rows/columns while reading when the source is much
+     * larger than the target so a 12 MP photo never has to be fully materialized.
+     */
+    private BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longest / (maxEdge * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } catch (IOException e) {
+                // corrupt or unsupported variant (e.g. CMYK JPEG) - fall back to storing it verbatim
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scaleToFit(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longest = Math.max(width, height);
+        boolean hasAlpha = image.getColorModel().hasAlpha();
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        double scale = longest > maxEdge ? (double) maxEdge / longest : 1.0;
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // always redraw so the output has a plain RGB/ARGB raster the encoders accept
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, type);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            // no metadata is passed to the writer, so EXIF/GPS/comments from the upload are dropped
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Rotate/flip the decoded pixels according to the EXIF orientation tag (1-8),
+     * since dropping the metadata would otherwise leave phone photos sideways.
+     */
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00*x + m01*y + m02, y' = m10*x + m11*y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);        // mirror horizontal
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);  // rotate 180
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);       // mirror vertical
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);             // transpose
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);       // rotate 90 clockwise
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);  // transverse
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);       // 8: rotate 90 counter-clockwise
+        };
+
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage rotated = new BufferedImage(swap ? height : width, swap ? width : height, type);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * Read the EXIF orientation tag (0x0112) from a JPEG's APP1 segment.
+     *
+     * @return the orientation (1-8), or 1 if the image has none
+     */
+    static int readExifOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= jpeg.length && (jpeg[pos] & 0xFF) == 0xFF) {
+            int marker = jpeg[pos + 1] & 0xFF;
+            int length = ((jpeg[pos + 2] & 0xFF) << 8) | (jpeg[pos + 3] & 0xFF);
+            if (marker == 0xDA || length < 2) {
+                break; // start of scan - no more metadata segments
+            }
+            int segment = pos + 4;
+            if (marker == 0xE1 && segment + 14 <= jpeg.length
+                    && jpeg[segment] == 'E' && jpeg[segment + 1] == 'x' && jpeg[segment + 2] == 'i' && jpeg[segment + 3] == 'f') {
+                return readTiffOrientation(jpeg, segment + 6, Math.min(jpeg.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        // the header (byte order, magic, IFD offset) and the IFD come from the upload - check before reading
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian = data[tiff] == 'I';
+        long ifdOffset = readInt(data, tiff + 4, littleEndian) & 0xFFFFFFFFL;
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+        int entries = readShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readShort(data, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return littleEndian ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * Result of the ingest stage.
+     *
+     * @param content re-encoded image bytes
+     * @param extension extension matching the new encoding (".jpg" or ".png")
+     * @param contentType MIME type matching the new encoding
+     * @param width output width in pixels
+     * @param height output height in pixels
+     */
+    public record ProcessedImage(byte[] content, String extension, String contentType, int width, int height) {
+    }
+}
@@ -1,21 +1,26 @@
 package com.PetTrackr.PetTrackr.service;
 
+import com.PetTrackr.PetTrackr.storage.BlobStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.transaction.Transactional;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.util.Optional;
 
 @Transactional
 @Service
 public class ImageUploadService {
     
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    // where uploaded images are written (local directory or S3-compatible store)
+    private final BlobStore blobStore;
+
+    // downscales/re-encodes uploads before they are stored
+    private final ImageIngestService imageIngestService;
     
     // Allowed image file extensions
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
@@ -23,6 +28,17 @@ public class ImageUploadService {
     // Max file size: 5 MB
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
+    // Largest accepted image (width * height), checked from the header before decoding
+    private final long maxPixels;
+
+    public ImageUploadService(BlobStore blobStore,
+                              ImageIngestService imageIngestService,
+                              @Value("${image.validation.max-pixels:40000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.imageIngestService = imageIngestService;
+        this.maxPixels = maxPixels;
+    }
+
     /**
      * Upload a pet image and return the filename.
      * 
@@ -30,8 +46,10 @@ public class ImageUploadService {
      * @param ownerId ID of the owner (for authorization verification)
      * @param file The image file to upload
      * @return The filename (relative path) where the image was saved
-     * @throws IllegalArgumentException if file is invalid or validation fails
-     * @throws IOException if file cannot be saved to disk
+     * @throws IllegalArgumentException if file is invalid, its content doesn't match its extension,
+     *         or its dimensions exceed the pixel limit
+     * @throws java.util.concurrent.RejectedExecutionException if the image processing queue is full
+     * @throws RuntimeException if the file cannot be written to the blob store
      */
     public String uploadPetImage(Long petId, Long ownerId, MultipartFile file) {
         // Validate file is not null
@@ -41,11 +59,27 @@ public class ImageUploadService {
 
         // Validate file size
         if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("File size exceeds maximum allowed size of 5MB");
+            throw new PayloadTooLargeException("File size exceeds maximum allowed size of 5MB");
+        }
+
+        String extension = resolveExtension(file.getOriginalFilename());
+
+        try (InputStream content = file.getInputStream()) {
+            return storePetImage(petId, extension, content, file.getSize(), file.getContentType());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save image file: " + e.getMessage(), e);
         }
+    }
 
+    /**
+     * Extract and validate the extension of an uploaded file's name.
+     *
+     * @param originalFilename the client-supplied filename
+     * @return the lowercase extension including the dot (e.g. ".jpg")
+     * @throws IllegalArgumentException if the name has no extension or the type is not allowed
+     */
+    public String resolveExtension(String originalFilename) {
         // Get original filename and extract extension
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.isEmpty()) {
             throw new IllegalArgumentException("File must have a valid name");
         }
@@ -62,26 +96,103 @@ public class ImageUploadService {
             throw new IllegalArgumentException("File type not allowed. Allowed types: jpg, jpeg, png, gif, webp");
         }
 
+        return extension;
+    }
+
+    /**
+     * Validate an image stream by its header and store it (after the ingest stage, if applicable).
+     * Nothing is written to the blob store unless the content is a supported image whose
+     * type matches the extension and whose dimensions are within the configured pixel limit.
+     *
+     * @param petId ID of the pet (used in filename)
+     * @param extension validated, lowercase file extension (e.g. ".jpg")
+     * @param content the image bytes
+     * @param size total length of the content in bytes
+     * @param contentType declared content type of the upload
+     * @return the filename (storage key)
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     * @throws IOException if reading the content or writing to the blob store fails
+     */
+    public String storePetImage(Long petId, String extension, InputStream content, long size, String contentType)
+            throws IOException {
+        // Sniff the real format and dimensions from the first bytes, then rewind
+        InputStream buffered = new BufferedInputStream(content, ImageHeaderSniffer.MAX_HEADER_BYTES);
+        buffered.mark(ImageHeaderSniffer.MAX_HEADER_BYTES);
+        byte[] header = buffered.readNBytes(ImageHeaderSniffer.MAX_HEADER_BYTES);
+        buffered.reset();
+        ImageHeaderSniffer.ImageHeader image = validateHeader(header, extension);
+
         // Generate unique filename to avoid collisions: petId_timestamp.extension
-        String uniqueFilename = petId + "_" + System.currentTimeMillis() + extension;
+        String baseName = petId + "_" + System.currentTimeMillis();
+        String storedContentType = contentTypeFor(image.format());
 
-        try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
+        // Formats we don't re-encode are streamed straight into the blob store
+        if (!imageIngestService.shouldProcess(extension)) {
+            String uniqueFilename = baseName + extension;
+            blobStore.put(uniqueFilename, buffered, size, storedContentType);
+            return uniqueFilename;
+        }
 
-            // Save file to disk
-            Path filePath = uploadPath.resolve(uniqueFilename);
-            Files.write(filePath, file.getBytes());
+        byte[] original = buffered.readAllBytes();
+        Optional<ImageIngestService.ProcessedImage> processed = imageIngestService.process(original, extension);
 
-            // Return the filename (relative path)
+        // undecodable uploads are kept as they came in
+        if (processed.isEmpty()) {
+            String uniqueFilename = baseName + extension;
+            blobStore.put(uniqueFilename, new ByteArrayInputStream(original), original.length, storedContentType);
             return uniqueFilename;
+        }
 
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to save image file: " + e.getMessage(), e);
+        // keep the uploaded extension (".jpeg" vs ".jpg") unless the ingest stage changed the format
+        ImageIngestService.ProcessedImage result = processed.get();
+        String storedExtension = result.contentType().equals(storedContentType) ? extension : result.extension();
+        String uniqueFilename = baseName + storedExtension;
+        blobStore.put(uniqueFilename, new ByteArrayInputStream(result.content()), result.content().length, result.contentType());
+
+        if (imageIngestService.isKeepOriginal()) {
+            blobStore.put("originals/" + baseName + extension,
+                    new ByteArrayInputStream(original), original.length, storedContentType);
         }
+
+        // Return the filename (storage key)
+        return uniqueFilename;
+    }
+
+    /**
+     * Check the sniffed header against the extension and the pixel limit.
+     *
+     * @return the parsed header
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     */
+    private ImageHeaderSniffer.ImageHeader validateHeader(byte[] header, String extension) {
+        ImageHeaderSniffer.ImageHeader image = ImageHeaderSniffer.sniff(header)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "File content is not a supported image. Allowed types: jpg, jpeg, png, gif, webp"));
+
+        if (!image.format().matchesExtension(extension)) {
+            throw new IllegalArgumentException("File content (" + image.format().name().toLowerCase()
+                    + ") does not match its extension " + extension);
+        }
+
+        if (!image.hasDimensions()) {
+            throw new IllegalArgumentException("Could not read image dimensions from file header");
+        }
+
+        // reject decompression bombs before any pixel data is decoded
+        if (image.pixelCount() > maxPixels) {
+            throw new IllegalArgumentException("Image dimensions " + image.width() + "x" + image.height()
+                    + " exceed the maximum of " + maxPixels + " pixels");
+        }
+        return image;
+    }
+
+    private static String contentTypeFor(ImageHeaderSniffer.ImageFormat format) {
+        return switch (format) {
+            case JPEG -> "image/jpeg";
+            case PNG -> "image/png";
+            case GIF -> "image/gif";
+            case WEBP -> "image/webp";
+        };
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.PetTrackr.PetTrackr.service;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a time series (Steinarsson, 2013).
+ *
+ * Keeps the first and last point and splits the rest into equally sized buckets, one per
+ * remaining output point. From each bucket it keeps the point forming the largest triangle
+ * with the point kept from the previous bucket and the average of the next bucket, which
+ * preserves peaks and dips that plain averaging or every-nth sampling would flatten. Runs in
+ * a single pass, O(n).
+ */
+final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Pick at most {@code threshold} points of the series to draw.
+     *
+     * @param x the x values (e.g. epoch millis), ascending
+     * @param y the y values, same length as x
+     * @param threshold how many points to keep (at least 3)
+     * @return indices of the kept points, ascending; all indices if the series is not longer than threshold
+     */
+    static int[] select(long[] x, double[] y, int threshold) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold must be at least 3");
+        }
+        int n = x.length;
+        if (n <= threshold) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] kept = new int[threshold];
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int a = 0; // the point kept from the previous bucket
+        kept[0] = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // average of the next bucket (just the last point for the final bucket)
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += x[j] - x[0]; // relative to the first point, so millis keep their precision as doubles
+                avgY += y[j];
+            }
+            avgX /= nextEnd - nextStart;
+            avgY /= nextEnd - nextStart;
+
+            // the point of this bucket forming the largest triangle with a and the average
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            double ax = x[a] - x[0];
+            double ay = y[a];
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs((ax - avgX) * (y[j] - ay) - (ax - (x[j] - x[0])) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            kept[bucket + 1] = maxIndex;
+            a = maxIndex;
+        }
+
+        kept[threshold - 1] = n - 1;
+        return kept;
+    }
+}
@@ -9,20 +9,38 @@ import com.PetTrackr.PetTrackr.entity.Pet;
 import com.PetTrackr.PetTrackr.repository.MedicationRepository;
 
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @Transactional
 public class MedicationService {
 
+    // longest range the dose calendar expands in one request
+    static final Duration MAX_CALENDAR_RANGE = Duration.ofDays(366);
+
     private final MedicationRepository medicationRepository;
 
     private final PetService petService; // to verify pet existence
 
-    public MedicationService(MedicationRepository medicationRepository, PetService petService) {
+    // dose reminders follow every change to a medication's schedule
+    private final DoseReminderService doseReminderService;
+
+    public MedicationService(MedicationRepository medicationRepository, PetService petService,
+                             DoseReminderService doseReminderService) {
         this.medicationRepository = medicationRepository;
 
         this.petService = petService;
+        this.doseReminderService = doseReminderService;
     }
 
     public Medication addMedicationToPet(Long petId, Long requestingOwnerId, String name, double dosageAmount, 
@@ -64,6 +82,7 @@ public class MedicationService {
         medication.setDosageAmount(dosageAmount);
         medication.setDosageUnit(dosageUnit);
         medication.setFrequency(frequency);
+        applyRecurrence(medication, frequency);
         medication.setTimeToAdminister(timeToAdminister);
         medication.setPet(pet);
         medication.setStartDate(startDate);
@@ -72,7 +91,9 @@ public class MedicationService {
             medication.setEndDate(endDate);
         }
 
-        return medicationRepository.save(medication);
+        Medication saved = medicationRepository.save(medication);
+        doseReminderService.medicationSaved(saved);
+        return saved;
     }
 
     // update medications for a pet - not listed in use cases but useful for completeness
@@ -103,6 +124,7 @@ public class MedicationService {
         }
         if (frequency != null && !frequency.isBlank()) {
             medication.setFrequency(frequency);
+            applyRecurrence(medication, frequency);
         }
         if (timeToAdminister != null) {
             medication.setTimeToAdminister(timeToAdminister);
@@ -118,7 +140,9 @@ public class MedicationService {
             medication.setEndDate(endDate);
         }
 
-        return medicationRepository.save(medication);
+        Medication saved = medicationRepository.save(medication);
+        doseReminderService.medicationSaved(saved);
+        return saved;
     }
 
     // delete a medication by ID - not listed in use cases but useful for completeness CRUD
@@ -131,6 +155,7 @@ public class MedicationService {
         petService.getPetById(medication.getPet().getId(), requestingOwnerId);
         
         medicationRepository.delete(medication);
+        doseReminderService.medicationsDeleted(List.of(medicationId));
         return medication;
     }
 
@@ -142,4 +167,79 @@ public class MedicationService {
         // after test passes, return medications
         return medicationRepository.findByPetIdOrderByTimeToAdministerAsc(petId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Every dose of the owner's medications due at or after {@code from} and before {@code to},
+     * ordered by due time (optionally for one pet only).
+     *
+     * Nothing is stored per dose: each medication's recurrence rule is expanded lazily and the
+     * per-medication sequences are merged through a heap, so the stream costs one query plus
+     * O(log m) per dose for m medications, and never holds more than one pending dose each.
+     *
+     * @throws IllegalArgumentException if the range is empty or longer than a year
+     */
+    public Stream<Dose> getDoseCalendar(Long ownerId, Long petId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_CALENDAR_RANGE) > 0) {
+            throw new IllegalArgumentException("Range cannot be longer than " + MAX_CALENDAR_RANGE.toDays() + " days");
+        }
+
+        PriorityQueue<DoseCursor> cursors = new PriorityQueue<>(
+                Comparator.comparing(DoseCursor::dueAt).thenComparing(cursor -> cursor.medication().getId()));
+        for (Medication medication : medicationRepository.findRunningForOwner(ownerId, from.toLocalDate(), to.toLocalDate())) {
+            if (petId != null && !petId.equals(medication.getPet().getId())) {
+                continue;
+            }
+            RecurrenceRule rule = RecurrenceRule.of(medication);
+            if (!rule.isScheduled()) {
+                continue; // given as needed - no doses to list
+            }
+            Iterator<LocalDateTime> doses = rule
+                    .occurrences(medication.getStartDate().atTime(medication.getTimeToAdminister()),
+                            medication.getEndDate(), from, to)
+                    .iterator();
+            if (doses.hasNext()) {
+                cursors.add(new DoseCursor(medication, doses, doses.next()));
+            }
+        }
+
+        Spliterator<Dose> merged = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Dose> action) {
+                DoseCursor cursor = cursors.poll();
+                if (cursor == null) {
+                    return false;
+                }
+                action.accept(new Dose(cursor.medication(), cursor.dueAt()));
+                if (cursor.doses().hasNext()) {
+                    cursors.add(new DoseCursor(cursor.medication(), cursor.doses(), cursor.doses().next()));
+                }
+                return true;
+            }
+        };
+        return StreamSupport.stream(merged, false);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // store the parsed rule next to the text; unrecognized text leaves it empty (no fixed schedule)
+    private static void applyRecurrence(Medication medication, String frequency) {
+        RecurrenceRule rule = RecurrenceRule.parse(frequency).orElse(null);
+        medication.setRecurrenceUnit(rule == null ? null : rule.unit());
+        medication.setRecurrenceInterval(rule == null ? null : rule.interval());
+    }
+
+    /**
+     * A scheduled dose of a medication (with its pet loaded).
+     */
+    public record Dose(Medication medication, LocalDateTime dueAt) {
+    }
+
+    private record DoseCursor(Medication medication, Iterator<LocalDateTime> doses, LocalDateTime dueAt) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.storage.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Background mark-and-sweep collector for pet images that no pet references any more
+ * (replaced photos, deleted pets and owners).
+ *
+ * Mark: every Pet.photoURL is streamed from the database into a compact set of 64-bit
+ * key hashes (8 bytes per photo instead of a String per photo).
+ *
+ * Sweep: the blob store is listed lazily and every object that is not referenced and is
+ * older than the grace period is deleted. The grace period protects uploads whose pet row
+ * hasn't been updated yet. Listing and deleting are paced by an I/O budget (operations per
+ * second) so a large sweep never competes with request traffic.
+ *
+ * "originals/" copies are kept as long as their processed image is referenced; in-progress
+ * chunked uploads under "uploads/" are left to UploadSessionService.
+ */
+@Service
+public class OrphanImageCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanImageCollector.class);
+
+    private static final String ORIGINALS_PREFIX = "originals/";
+
+    private final PetService petService;
+    private final BlobStore blobStore;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    private final int opsPerSecond;
+    private final int maxDeletesPerRun;
+
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+    private final Timer sweepTimer;
+
+    public OrphanImageCollector(PetService petService,
+                                BlobStore blobStore,
+                                Clock clock,
+                                MeterRegistry meterRegistry,
+                                @Value("${image.gc.enabled:true}") boolean enabled,
+                                @Value("${image.gc.dry-run:false}") boolean dryRun,
+                                @Value("${image.gc.grace-period:1h}") Duration gracePeriod,
+                                @Value("${image.gc.io-ops-per-second:50}") int opsPerSecond,
+                                @Value("${image.gc.max-deletes-per-run:10000}") int maxDeletesPerRun) {
+        if (opsPerSecond <= 0) {
+            throw new IllegalArgumentException("image.gc.io-ops-per-second must be greater than zero");
+        }
+        this.petService = petService;
+        this.blobStore = blobStore;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.gracePeriod = gracePeriod;
+        this.opsPerSecond = opsPerSecond;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+
+        this.deletedCounter = Counter.builder("image.gc.deleted")
+                .description("Orphaned images deleted")
+                .register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("image.gc.reclaimed")
+                .baseUnit("bytes")
+                .description("Storage reclaimed from orphaned images")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("image.gc.duration")
+                .description("Duration of a full mark-and-sweep run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${image.gc.interval:6h}", initialDelayString = "${image.gc.initial-delay:10m}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect();
+        } catch (RuntimeException e) {
+            log.warn("Orphan image collection failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Run one mark-and-sweep pass.
+     *
+     * @return what the pass found and removed
+     */
+    public SweepResult collect() {
+        long startNanos = System.nanoTime();
+        Instant cutoff = clock.instant().minus(gracePeriod);
+
+        // mark: collect the base names ("12_1700000000000") of every referenced image
+        KeyHashSet referenced = new KeyHashSet();
+        petService.forEachPhotoURL(photoURL -> referenced.add(baseName(normalize(photoURL))));
+        referenced.seal();
+
+        // sweep
+        IoBudget budget = new IoBudget(opsPerSecond);
+        long scanned = 0;
+        long deleted = 0;
+        long reclaimedBytes = 0;
+        try (Stream<BlobStore.BlobInfo> listing = blobStore.list("")) {
+            Iterator<BlobStore.BlobInfo> objects = listing.iterator();
+            while (objects.hasNext() && deleted < maxDeletesPerRun) {
+                budget.acquire();
+                BlobStore.BlobInfo object = objects.next();
+                scanned++;
+
+                if (!isCollectable(object, cutoff, referenced)) {
+                    continue;
+                }
+
+                budget.acquire();
+                if (!dryRun) {
+                    blobStore.delete(object.key());
+                }
+                deleted++;
+                reclaimedBytes += object.size();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to sweep image store: " + e.getMessage(), e);
+        } finally {
+            sweepTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (!dryRun) {
+            deletedCounter.increment(deleted);
+            reclaimedBytesCounter.increment(reclaimedBytes);
+        }
+        SweepResult result = new SweepResult(referenced.size(), scanned, deleted, reclaimedBytes, dryRun);
+        log.info("Orphan image sweep{}: {} referenced, {} scanned, {} deleted, {} bytes reclaimed",
+                dryRun ? " (dry run)" : "", result.referenced(), scanned, deleted, reclaimedBytes);
+        return result;
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static boolean isCollectable(BlobStore.BlobInfo object, Instant cutoff, KeyHashSet referenced) {
+        String key = object.key();
+        if (key.startsWith(UploadSessionService.UPLOAD_PREFIX)) {
+            return false;
+        }
+        if (object.lastModified().isAfter(cutoff)) {
+            return false; // too young - its pet row may not be updated yet
+        }
+        String base = key.startsWith(ORIGINALS_PREFIX) ? key.substring(ORIGINALS_PREFIX.length()) : key;
+        return !referenced.contains(baseName(base));
+    }
+
+    /**
+     * Accept both bare keys and URLs that embed the key after "/uploads/".
+     */
+    private static String normalize(String photoURL) {
+        int index = photoURL.lastIndexOf("/uploads/");
+        return index >= 0 ? photoURL.substring(index + "/uploads/".length()) : photoURL;
+    }
+
+    /**
+     * Key without its extension, so a processed image and its original share a name.
+     */
+    static String baseName(String key) {
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        return dot > slash + 1 ? key.substring(0, dot) : key;
+    }
+
+    /**
+     * Outcome of one collector pass.
+     *
+     * @param referenced number of photo references found in the database
+     * @param scanned number of stored objects examined
+     * @param deleted number of orphaned objects deleted (or that would be, in a dry run)
+     * @param reclaimedBytes total size of the deleted objects
+     * @param dryRun true if nothing was actually deleted
+     */
+    public record SweepResult(int referenced, long scanned, long deleted, long reclaimedBytes, boolean dryRun) {
+    }
+
+    /**
+     * Append-only set of 64-bit string hashes, stored as a sorted long[] and queried
+     * by binary search. A hash collision can only make an orphan look referenced
+     * (it is kept), never the other way round.
+     */
+    static class KeyHashSet {
+        private long[] hashes = new long[1024];
+        private int size;
+
+        void add(String key) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = hash(key);
+        }
+
+        void seal() {
+            Arrays.sort(hashes, 0, size);
+        }
+
+        boolean contains(String key) {
+            return Arrays.binarySearch(hashes, 0, size, hash(key)) >= 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // FNV-1a over the UTF-16 chars, finished with a 64-bit mix
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+
+    /**
+     * Paces storage operations to a fixed rate by sleeping the collector thread.
+     */
+    private static class IoBudget {
+        private final long intervalNanos;
+        private long nextSlot = System.nanoTime();
+
+        IoBudget(int opsPerSecond) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / opsPerSecond;
+        }
+
+        void acquire() {
+            long now = System.nanoTime();
+            if (nextSlot > now) {
+                LockSupport.parkNanos(nextSlot - now);
+            }
+            nextSlot = Math.max(nextSlot, now) + intervalNanos;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.PetTrackr.PetTrackr.service;
 
+import com.PetTrackr.PetTrackr.entity.Medication;
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.repository.OwnerRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,7 +16,16 @@ public class OwnerService {
     
     // final variables for repository and password encoder
     private final OwnerRepository ownerRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
+
+    // cached QR codes of the owner's pets are dropped when the owner is deleted
+    private final QRCodeCache qrCodeCache;
+
+    // owner name and phone are shown on the public lost-pet page
+    private final PublicPetService publicPetService;
+
+    // reminders for the medications of the owner's pets stop when the owner is deleted
+    private final DoseReminderService doseReminderService;
     
     // Email regex pattern for validation
     private static final String EMAIL_PATTERN = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
@@ -26,9 +36,14 @@ public class OwnerService {
     private static final Pattern phonePattern = Pattern.compile(PHONE_PATTERN);
     
     // constructor injection
-    public OwnerService(OwnerRepository ownerRepository, BCryptPasswordEncoder passwordEncoder) {
+    public OwnerService(OwnerRepository ownerRepository, PasswordEncoder passwordEncoder,
+                        QRCodeCache qrCodeCache, PublicPetService publicPetService,
+                        DoseReminderService doseReminderService) {
         this.ownerRepository = ownerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.qrCodeCache = qrCodeCache;
+        this.publicPetService = publicPetService;
+        this.doseReminderService = doseReminderService;
     }
     
     // helper method to validate email format
@@ -77,7 +92,7 @@ public class OwnerService {
             throw new IllegalArgumentException("Email already registered");
         }
         
-        // Hash password using BCrypt
+        // Hash password using BCrypt (on the bounded hashing pool, may throw RejectedExecutionException)
         String hashedPassword = passwordEncoder.encode(rawPassword);
         
         // Create and save new owner
@@ -124,8 +139,10 @@ public class OwnerService {
             // if here, email is valid and unique
             owner.setEmail(email);
         }
-        
-        return ownerRepository.save(owner);
+
+        Owner saved = ownerRepository.save(owner);
+        publicPetService.updateOwner(saved);
+        return saved;
     }
     
     // verifies an owner's password -- used for login
@@ -141,5 +158,11 @@ public class OwnerService {
     public void deleteOwner(Long id) {
         Owner owner = getOwnerById(id);
         ownerRepository.delete(owner);
+        qrCodeCache.invalidateOwner(id);
+        publicPetService.removeOwner(id);
+        doseReminderService.medicationsDeleted(owner.getPets().stream()
+                .flatMap(pet -> pet.getMedications().stream())
+                .map(Medication::getId)
+                .toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.PetTrackr.PetTrackr.service;
+
+/**
+ * Thrown when an uploaded file or chunk is larger than allowed (mapped to 413 Payload Too Large).
+ * Extends IllegalArgumentException so callers that only care about invalid input can treat it
+ * like any other validation error.
+ */
+public class PayloadTooLargeException extends IllegalArgumentException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
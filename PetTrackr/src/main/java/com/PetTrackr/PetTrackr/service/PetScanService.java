@@ -0,0 +1,186 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.PetScanDay;
+import com.PetTrackr.PetTrackr.repository.PetScanDayRepository;
+import com.PetTrackr.PetTrackr.repository.PetScanDayRepositoryCustom.ScanCount;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts public QR code scans per pet and day, for the owner's scan history.
+ *
+ * A scan only bumps an in-memory striped counter (LongAdder), so the public lookup never
+ * waits on a database write and concurrent scans of the same tag don't contend. The
+ * counters are drained periodically and written in one batched upsert per flush.
+ * Scans not yet flushed are included in the history, and lost only if the process dies
+ * before the next flush (a graceful shutdown flushes).
+ */
+@Service
+public class PetScanService {
+
+    private static final Logger log = LoggerFactory.getLogger(PetScanService.class);
+
+    private final PetScanDayRepository petScanDayRepository;
+    private final PetService petService;
+    private final Clock clock;
+
+    private final Duration retention;
+
+    private final Map<ScanKey, ScanCounter> pending = new ConcurrentHashMap<>();
+
+    public PetScanService(PetScanDayRepository petScanDayRepository,
+                          PetService petService,
+                          Clock clock,
+                          @Value("${qr-code.scans.retention:365d}") Duration retention) {
+        this.petScanDayRepository = petScanDayRepository;
+        this.petService = petService;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    /**
+     * Count a scan of a pet's QR code. Never touches the database.
+     */
+    public void recordScan(Long petId) {
+        Instant now = clock.instant();
+        ScanKey key = new ScanKey(petId, LocalDate.ofInstant(now, ZoneOffset.UTC));
+        ScanCounter counter = pending.get(key);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(key, k -> new ScanCounter());
+        }
+        // time before count, so a flush that sees the count also sees the time (see flush)
+        counter.lastScannedAt.accumulate(now.toEpochMilli());
+        counter.count.increment();
+    }
+
+    /**
+     * Get a pet's scans per day over the last {@code days} days (including today), oldest first.
+     *
+     * @throws IllegalArgumentException if the pet doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public List<PetScanDay> getScanHistory(Long petId, Long requestingOwnerId, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Days must be greater than zero");
+        }
+        petService.getPetById(petId, requestingOwnerId);
+
+        LocalDate from = LocalDate.ofInstant(clock.instant(), ZoneOffset.UTC).minusDays(days - 1L);
+        Map<LocalDate, PetScanDay> byDay = new TreeMap<>();
+        for (PetScanDay day : petScanDayRepository.findByPetIdAndScanDateGreaterThanEqualOrderByScanDate(petId, from)) {
+            byDay.put(day.getScanDate(), day);
+        }
+
+        // add what hasn't been flushed yet (as copies - the loaded rows stay untouched)
+        pending.forEach((key, counter) -> {
+            long count = counter.count.sum();
+            if (!key.petId().equals(petId) || key.day().isBefore(from) || count == 0) {
+                return;
+            }
+            long lastScannedMillis = counter.lastScannedAt.get();
+            Instant lastScannedAt = lastScannedMillis == Long.MIN_VALUE
+                    ? clock.instant() // being flushed right now
+                    : Instant.ofEpochMilli(lastScannedMillis);
+            PetScanDay flushed = byDay.get(key.day());
+            if (flushed != null) {
+                count += flushed.getScanCount();
+                if (flushed.getLastScannedAt().isAfter(lastScannedAt)) {
+                    lastScannedAt = flushed.getLastScannedAt();
+                }
+            }
+            byDay.put(key.day(), new PetScanDay(petId, key.day(), count, lastScannedAt));
+        });
+        return new ArrayList<>(byDay.values());
+    }
+
+    /**
+     * Write the counted scans to the database in a single batch.
+     *
+     * @return number of (pet, day) rows written
+     */
+    @Scheduled(fixedDelayString = "${qr-code.scans.flush-interval:30s}", initialDelayString = "${qr-code.scans.flush-interval:30s}")
+    public synchronized int flush() {
+        LocalDate today = LocalDate.ofInstant(clock.instant(), ZoneOffset.UTC);
+        List<ScanCount> batch = new ArrayList<>();
+        List<ScanCounter> drained = new ArrayList<>();
+
+        for (Map.Entry<ScanKey, ScanCounter> entry : pending.entrySet()) {
+            ScanKey key = entry.getKey();
+            ScanCounter counter = entry.getValue();
+            // count first: a scan records its time before its count, so if the count
+            // includes a scan, the time drained below includes it too
+            long count = counter.count.sumThenReset();
+            long lastScannedAt = counter.lastScannedAt.getThenReset();
+            if (count == 0) {
+                if (lastScannedAt != Long.MIN_VALUE) {
+                    counter.lastScannedAt.accumulate(lastScannedAt); // its count arrives next time
+                } else if (key.day().isBefore(today)) {
+                    pending.remove(key, counter); // day is over and nothing left to write
+                }
+                continue;
+            }
+            batch.add(new ScanCount(key.petId(), key.day(), count, Instant.ofEpochMilli(lastScannedAt)));
+            drained.add(counter);
+        }
+
+        try {
+            petScanDayRepository.addScanCounts(batch);
+        } catch (RuntimeException e) {
+            // put the counts back so the next flush retries them
+            for (int i = 0; i < batch.size(); i++) {
+                drained.get(i).count.add(batch.get(i).scanCount());
+                drained.get(i).lastScannedAt.accumulate(batch.get(i).lastScannedAt().toEpochMilli());
+            }
+            log.warn("Failed to flush QR scan counts ({} rows), will retry: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+        return batch.size();
+    }
+
+    /**
+     * Drop history older than the retention period and history of deleted pets.
+     */
+    @Scheduled(fixedDelayString = "${qr-code.scans.purge-interval:24h}", initialDelayString = "${qr-code.scans.purge-interval:24h}")
+    @Transactional
+    public void purge() {
+        LocalDate cutoff = LocalDate.ofInstant(clock.instant().minus(retention), ZoneOffset.UTC);
+        int expired = petScanDayRepository.deleteByScanDateBefore(cutoff);
+        int orphaned = petScanDayRepository.deleteOfDeletedPets();
+        log.info("Purged QR scan history: {} expired, {} of deleted pets", expired, orphaned);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ========================================
+    // Helper Types
+    // ========================================
+
+    private record ScanKey(Long petId, LocalDate day) {
+    }
+
+    private static final class ScanCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator lastScannedAt = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+}
@@ -4,13 +4,22 @@ import java.time.LocalDate;
 
 import org.springframework.stereotype.Service;
 
+import com.PetTrackr.PetTrackr.entity.Medication;
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
 import com.PetTrackr.PetTrackr.repository.OwnerRepository;
 import com.PetTrackr.PetTrackr.repository.PetRepository;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
 
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.web.multipart.MultipartFile;
 
 
@@ -20,12 +29,23 @@ public class PetService {
     private final PetRepository petRepository;
     private final OwnerRepository ownerRepository;
     private final ImageUploadService imageUploadService;
+    private final QRCodeCache qrCodeCache;
+    private final PublicPetService publicPetService;
+    private final DoseReminderService doseReminderService;
+    private final WeightSampleRepository weightSampleRepository;
 
     // Constructor injection
-    public PetService(PetRepository petRepository, OwnerRepository ownerRepository, ImageUploadService imageUploadService) {
+    public PetService(PetRepository petRepository, OwnerRepository ownerRepository,
+                      ImageUploadService imageUploadService, QRCodeCache qrCodeCache,
+                      PublicPetService publicPetService, DoseReminderService doseReminderService,
+                      WeightSampleRepository weightSampleRepository) {
         this.petRepository = petRepository;
         this.ownerRepository = ownerRepository;
         this.imageUploadService = imageUploadService;
+        this.qrCodeCache = qrCodeCache;
+        this.publicPetService = publicPetService;
+        this.doseReminderService = doseReminderService;
+        this.weightSampleRepository = weightSampleRepository;
     }
 
     // Creates a new pet profile for the given owner -- Implements Use Case-2
@@ -80,17 +100,15 @@ public class PetService {
 
         // ** photoURL is null by default (will be set on image upload) **
         
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        recordWeight(saved); // first point of the weight history
+        publicPetService.indexPet(saved);
+        return saved;
     }
 
     // Get all pets for a given owner -- Implements Use Case-3
+    // ownerId is the authenticated owner (see OwnerPathAuthorizationFilter), so it is known to exist
     public List<Pet> getAllPetsByOwnerId(Long ownerId) {
-        // Verify owner exists first
-        if (!ownerRepository.existsById(ownerId)) {
-            throw new IllegalArgumentException("Owner not found with ID: " + ownerId);
-        }
-        
-        // then retrieve and return all pets by owner ID
         return petRepository.findByOwnerId(ownerId);
     }
 
@@ -119,6 +137,7 @@ public class PetService {
         
         // Get pet with authorization check
         Pet pet = getPetById(petId, requestingOwnerId);
+        int gramsBefore = WeightHistoryService.toGrams(pet.getWeight(), pet.getWeightType());
         
         // Update fields only if provided (null = no change)
         if (name != null && !name.isBlank()) {
@@ -151,7 +170,30 @@ public class PetService {
         }
         
         // Save and return the updated pet
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        // a new weight (or the same number in another unit) extends the weight history
+        if (WeightHistoryService.toGrams(saved.getWeight(), saved.getWeightType()) != gramsBefore) {
+            recordWeight(saved);
+        }
+        publicPetService.indexPet(saved);
+        return saved;
+    }
+
+    // Load pets (all, or the selected ones) together with their owner in one query, for bulk QR tags
+    // Every selected pet must belong to the requesting owner
+    public List<Pet> getPetsForTagSheet(Long requestingOwnerId, Collection<Long> petIds) {
+        if (petIds == null || petIds.isEmpty()) {
+            return petRepository.findByOwnerIdFetchOwner(requestingOwnerId);
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(petIds);
+        List<Pet> pets = petRepository.findByOwnerIdAndIdInFetchOwner(requestingOwnerId, requested);
+        if (pets.size() != requested.size()) {
+            // pets of other owners are reported the same as missing ones
+            pets.forEach(pet -> requested.remove(pet.getId()));
+            throw new IllegalArgumentException("Pet not found with ID(s): " + requested);
+        }
+        return pets;
     }
 
     // Delete a pet profile - not specified in use cases but necessary for completeness
@@ -161,6 +203,9 @@ public class PetService {
         
         // Delete (cascades to related entities due to @OneToMany cascade settings)
         petRepository.delete(pet);
+        qrCodeCache.invalidatePet(petId);
+        publicPetService.removePet(petId);
+        doseReminderService.medicationsDeleted(pet.getMedications().stream().map(Medication::getId).toList());
     }
 
 
@@ -177,11 +222,30 @@ public class PetService {
         pet.setPhotoURL(filename);
     
         // Save and return
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        publicPetService.indexPet(saved);
+        return saved;
+    }
+
+    // Point the pet at an already stored image (e.g. a finished resumable upload)
+    public Pet assignPetPhoto(Long petId, Long requestingOwnerId, String filename) {
+        Pet pet = getPetById(petId, requestingOwnerId);
+        pet.setPhotoURL(filename);
+        Pet saved = petRepository.save(pet);
+        publicPetService.indexPet(saved);
+        return saved;
     }
     
 
 
+    // Feed every stored photo key to the consumer without materializing the pets
+    // (used by the orphan image collector's mark phase)
+    public void forEachPhotoURL(Consumer<String> consumer) {
+        try (Stream<String> photoURLs = petRepository.streamAllPhotoURLs()) {
+            photoURLs.forEach(consumer);
+        }
+    }
+
     // helper method to check if a pet belongs to an owner
     // good for controller-level authorization checks
     public boolean isPetOwnedBy(Long petId, Long ownerId) {
@@ -190,6 +254,12 @@ public class PetService {
             .orElse(false);
     }
 
+    // Helper method to add the pet's current weight to its weight history
+    private void recordWeight(Pet pet) {
+        weightSampleRepository.save(new WeightSample(pet.getId(), Instant.now(),
+                WeightHistoryService.toGrams(pet.getWeight(), pet.getWeightType())));
+    }
+
     // Helper method to calculate age from date of birth
     private int calculateAge(LocalDate dateOfBirth) {
         if (dateOfBirth == null) {
@@ -0,0 +1,309 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.DTO.PetDTOs.PublicPetResponse;
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.PetRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Public lost-pet lookup by token - the target of every pet's QR code.
+ *
+ * The QR code only encodes a short URL with the pet's random public token, so the code is
+ * small and quick to scan, and it never has to be reprinted when contact details change.
+ *
+ * Lookups are served from an in-memory index (token -> ready-made response and ETag) that
+ * is built at startup and updated by PetService/OwnerService after each commit on this node.
+ * The index is only a cache: changes made through other nodes don't reach it, so entries
+ * older than qr-code.lookup.index-ttl are re-read from the database, and a token that isn't
+ * indexed is always looked up there (pets created elsewhere). Unknown tokens and deleted
+ * pet ids are remembered briefly in bounded negative caches so repeated scans of a bad code,
+ * or sightings of a deleted pet, don't each hit the database. Reads are lock-free; the rare writes are serialized.
+ */
+@Service
+public class PublicPetService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicPetService.class);
+
+    public static final String GUIDE_URL = "https://www.americanhumane.org/public-education/what-to-if-youve-lost-your-pet/";
+
+    // tokens are 12 characters; anything much longer isn't worth a hash lookup
+    private static final int MAX_TOKEN_LENGTH = 32;
+
+    private final PetRepository petRepository;
+    private final Clock clock;
+    private final long indexTtlMillis;
+    private final long missTtlMillis;
+    private final int maxMisses;
+
+    private final Map<String, IndexedEntry> entriesByToken = new ConcurrentHashMap<>();
+    private final Map<Long, String> tokensByPet = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> petsByOwner = new ConcurrentHashMap<>();
+
+    // tokens with no pet -> when to look them up again
+    private final Map<String, Long> missesByToken = new ConcurrentHashMap<>();
+
+    // ids of deleted pets -> when to look them up again
+    private final Map<Long, Long> missesByPet = new ConcurrentHashMap<>();
+
+    public PublicPetService(PetRepository petRepository,
+                            Clock clock,
+                            @Value("${qr-code.lookup.index-ttl:5m}") Duration indexTtl,
+                            @Value("${qr-code.lookup.miss-ttl:30s}") Duration missTtl,
+                            @Value("${qr-code.lookup.max-misses:10000}") int maxMisses) {
+        this.petRepository = petRepository;
+        this.clock = clock;
+        this.indexTtlMillis = indexTtl.toMillis();
+        this.missTtlMillis = missTtl.toMillis();
+        this.maxMisses = maxMisses;
+    }
+
+    /**
+     * Give older pets a token and load every pet into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIndex() {
+        List<Pet> withoutToken = petRepository.findByPublicTokenIsNull();
+        for (Pet pet : withoutToken) {
+            pet.setPublicToken(Pet.generatePublicToken());
+        }
+        petRepository.saveAll(withoutToken);
+
+        long now = clock.millis();
+        try (Stream<Pet> pets = petRepository.streamAllFetchOwner()) {
+            pets.forEach(pet -> put(toEntry(pet), now));
+        }
+        log.info("Public pet index built: {} pets ({} tokens assigned)", entriesByToken.size(), withoutToken.size());
+    }
+
+    /**
+     * Look up a pet by its public token.
+     *
+     * @return the public view of the pet, or empty if no pet has this token
+     */
+    public Optional<PublicPetEntry> lookup(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return Optional.empty();
+        }
+        long now = clock.millis();
+        IndexedEntry indexed = entriesByToken.get(token);
+        if (indexed != null && now - indexed.loadedAt() < indexTtlMillis) {
+            return Optional.of(indexed.entry());
+        }
+        if (indexed == null) {
+            Long retryAt = missesByToken.get(token);
+            if (retryAt != null && now < retryAt) {
+                return Optional.empty();
+            }
+        }
+
+        // not indexed here, or indexed long enough ago that another node may have changed it
+        Optional<PublicPetEntry> loaded = petRepository.findByPublicToken(token).map(PublicPetService::toEntry);
+        if (loaded.isPresent()) {
+            put(loaded.get(), now);
+        } else {
+            removeToken(token);
+            if (missesByToken.size() >= maxMisses) {
+                missesByToken.clear();
+            }
+            missesByToken.put(token, now + missTtlMillis);
+        }
+        return loaded;
+    }
+
+    /**
+     * Look up a pet's public view by its id (e.g. to show which pet a sighting is of).
+     *
+     * @return the public view of the pet, or empty if the pet doesn't exist
+     */
+    public Optional<PublicPetEntry> findByPetId(Long petId) {
+        long now = clock.millis();
+        String token = tokensByPet.get(petId);
+        IndexedEntry indexed = token == null ? null : entriesByToken.get(token);
+        if (indexed != null && now - indexed.loadedAt() < indexTtlMillis) {
+            return Optional.of(indexed.entry());
+        }
+        if (indexed == null) {
+            Long retryAt = missesByPet.get(petId);
+            if (retryAt != null && now < retryAt) {
+                return Optional.empty();
+            }
+        }
+
+        Optional<PublicPetEntry> loaded = petRepository.findByIdFetchOwner(petId)
+                .filter(pet -> pet.getPublicToken() != null)
+                .map(PublicPetService::toEntry);
+        if (loaded.isPresent()) {
+            put(loaded.get(), now);
+        } else {
+            remove(petId);
+            if (missesByPet.size() >= maxMisses) {
+                missesByPet.clear();
+            }
+            missesByPet.put(petId, now + missTtlMillis);
+        }
+        return loaded;
+    }
+
+    /**
+     * Add or refresh a pet after it was created or changed (applied once the transaction commits).
+     */
+    public void indexPet(Pet pet) {
+        if (pet == null || pet.getPublicToken() == null) {
+            return;
+        }
+        PublicPetEntry entry = toEntry(pet);
+        TransactionCallbacks.afterCommit(() -> put(entry, clock.millis()));
+    }
+
+    /**
+     * Drop a deleted pet.
+     */
+    public void removePet(Long petId) {
+        TransactionCallbacks.afterCommit(() -> remove(petId));
+    }
+
+    /**
+     * Refresh the contact details shown for every pet of an owner.
+     */
+    public void updateOwner(Owner owner) {
+        if (owner == null) {
+            return;
+        }
+        Long ownerId = owner.getId();
+        String name = owner.getName();
+        String phoneNumber = owner.getPhoneNumber();
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                long now = clock.millis();
+                for (Long petId : petsByOwner.getOrDefault(ownerId, Set.of())) {
+                    String token = tokensByPet.get(petId);
+                    IndexedEntry current = token == null ? null : entriesByToken.get(token);
+                    if (current != null) {
+                        PublicPetResponse pet = current.entry().response();
+                        entriesByToken.put(token, new IndexedEntry(entry(petId, ownerId, token, new PublicPetResponse(
+                                pet.getName(), pet.getType(), pet.getBreed(), pet.getPhotoURL(),
+                                name, phoneNumber, GUIDE_URL)), now));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop every pet of a deleted owner.
+     */
+    public void removeOwner(Long ownerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                Set<Long> petIds = petsByOwner.remove(ownerId);
+                if (petIds != null) {
+                    petIds.forEach(this::remove);
+                }
+            }
+        });
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private synchronized void put(PublicPetEntry entry, long loadedAt) {
+        String previous = tokensByPet.put(entry.petId(), entry.token());
+        if (previous != null && !previous.equals(entry.token())) {
+            entriesByToken.remove(previous);
+        }
+        IndexedEntry replaced = entriesByToken.put(entry.token(), new IndexedEntry(entry, loadedAt));
+        if (replaced != null && !replaced.entry().ownerId().equals(entry.ownerId())) {
+            Set<Long> petIds = petsByOwner.get(replaced.entry().ownerId());
+            if (petIds != null) {
+                petIds.remove(entry.petId());
+            }
+        }
+        petsByOwner.computeIfAbsent(entry.ownerId(), id -> ConcurrentHashMap.newKeySet()).add(entry.petId());
+        missesByToken.remove(entry.token());
+        missesByPet.remove(entry.petId());
+    }
+
+    private synchronized void remove(Long petId) {
+        String token = tokensByPet.remove(petId);
+        if (token != null) {
+            IndexedEntry removed = entriesByToken.remove(token);
+            if (removed != null) {
+                Set<Long> petIds = petsByOwner.get(removed.entry().ownerId());
+                if (petIds != null) {
+                    petIds.remove(petId);
+                }
+            }
+        }
+    }
+
+    // a token that no longer exists (pet deleted or token rotated through another node)
+    private synchronized void removeToken(String token) {
+        IndexedEntry removed = entriesByToken.get(token);
+        if (removed != null) {
+            if (token.equals(tokensByPet.get(removed.entry().petId()))) {
+                remove(removed.entry().petId());
+            } else {
+                entriesByToken.remove(token);
+            }
+        }
+    }
+
+    private static PublicPetEntry toEntry(Pet pet) {
+        Owner owner = pet.getOwner();
+        return entry(pet.getId(), owner.getId(), pet.getPublicToken(), new PublicPetResponse(
+                pet.getName(), pet.getType(), pet.getBreed(), pet.getPhotoURL(),
+                owner.getName(), owner.getPhoneNumber(), GUIDE_URL));
+    }
+
+    private static PublicPetEntry entry(Long petId, Long ownerId, String token, PublicPetResponse response) {
+        return new PublicPetEntry(petId, ownerId, token, response, etag(response));
+    }
+
+    // hash of every field shown, so the tag changes exactly when the page does
+    private static String etag(PublicPetResponse response) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[] {response.getName(), response.getType(), response.getBreed(),
+                    response.getPhotoURL(), response.getOwnerName(), response.getOwnerPhoneNumber()}) {
+                digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A pet's public view as served by the lookup endpoint.
+     *
+     * @param etag tag of the response content, for conditional requests
+     */
+    public record PublicPetEntry(Long petId, Long ownerId, String token, PublicPetResponse response, String etag) {
+    }
+
+    private record IndexedEntry(PublicPetEntry entry, long loadedAt) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.storage.ByteBudgetCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Rendered QR code images, keyed by a hash of their encoded content plus size and format.
+ *
+ * A QR code only encodes the link to the pet's public token, so it only changes when the
+ * token does. Because the key is derived from the content, a stale entry can never be
+ * served: caching the image for a new token replaces the pet's previous entry (see put),
+ * and PetService and OwnerService drop a pet's entries when it is deleted so the memory is
+ * reclaimed right away instead of waiting for eviction. Profile and contact changes don't
+ * touch the cache.
+ */
+@Component
+public class QRCodeCache {
+
+    private final ByteBudgetCache<String> cache;
+
+    // (petId, format) -> the key currently cached for it, so a new token or a deletion can find the entries to drop
+    private final Map<PetVariant, PetEntry> keysByPet = new ConcurrentHashMap<>();
+
+    public QRCodeCache(@Value("${qr-code.cache.max-size:4MB}") DataSize maxSize) {
+        // QR PNGs are a few KB, so they stay on-heap
+        this.cache = maxSize.toBytes() > 0 ? new ByteBudgetCache<>(maxSize.toBytes(), maxSize.toBytes(), false) : null;
+    }
+
+    /**
+     * @return the cached image bytes for this key, or empty on a miss
+     */
+    public Optional<byte[]> get(String key) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        return cache.get(key).map(value -> {
+            ByteBuffer body = value.body();
+            byte[] bytes = new byte[body.remaining()];
+            body.get(bytes);
+            return bytes;
+        });
+    }
+
+    /**
+     * Cache a rendered image for a pet, replacing whatever was cached for that pet in the
+     * same format before.
+     */
+    public void put(Long petId, Long ownerId, String format, String key, byte[] image, String contentType) {
+        if (cache == null) {
+            return;
+        }
+        PetEntry previous = keysByPet.put(new PetVariant(petId, format), new PetEntry(ownerId, key));
+        if (previous != null && !previous.key().equals(key)) {
+            cache.invalidate(previous.key());
+        }
+        cache.put(key, image, contentType);
+    }
+
+    /**
+     * Drop the cached images of one pet (pet deleted).
+     */
+    public void invalidatePet(Long petId) {
+        invalidateIf(variant -> variant.petId().equals(petId), entry -> true);
+    }
+
+    /**
+     * Drop the cached images of every pet of an owner (owner deleted).
+     */
+    public void invalidateOwner(Long ownerId) {
+        invalidateIf(variant -> true, entry -> Objects.equals(entry.ownerId(), ownerId));
+    }
+
+    private void invalidateIf(Predicate<PetVariant> variantMatches, Predicate<PetEntry> entryMatches) {
+        keysByPet.entrySet().removeIf(mapping -> {
+            if (!variantMatches.test(mapping.getKey()) || !entryMatches.test(mapping.getValue())) {
+                return false;
+            }
+            if (cache != null) {
+                cache.invalidate(mapping.getValue().key());
+            }
+            return true;
+        });
+    }
+
+    private record PetVariant(Long petId, String format) {
+    }
+
+    private record PetEntry(Long ownerId, String key) {
+    }
+}
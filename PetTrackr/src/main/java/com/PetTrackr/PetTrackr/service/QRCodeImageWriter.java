@@ -0,0 +1,187 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.google.zxing.common.BitArray;
+import com.google.zxing.common.BitMatrix;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a QR BitMatrix straight to PNG or SVG without going through BufferedImage/ImageIO.
+ *
+ * PNG: 1-bit grayscale, one IDAT chunk. Each matrix row is packed 8 pixels per byte from
+ * the matrix's own bit words, then deflated. The row buffer, deflater, output scratch and
+ * CRC are kept per thread and reused, so the only allocation per image is the result array.
+ *
+ * SVG: one path made of a rectangle per horizontal run of dark modules, drawn on the
+ * module grid and scaled by the viewBox, so the markup stays small at any size.
+ */
+public final class QRCodeImageWriter {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+
+    // chunk framing: length + type + crc
+    private static final int CHUNK_OVERHEAD = 12;
+    private static final int IHDR_LENGTH = 13;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private QRCodeImageWriter() {
+    }
+
+    /**
+     * Encode the matrix as a 1-bit grayscale PNG, one pixel per matrix cell (set = black).
+     */
+    public static byte[] toPng(BitMatrix matrix) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int rowBytes = (width + 7) / 8;
+        Scratch scratch = SCRATCH.get();
+
+        // raw scanlines: filter byte (0 = none) followed by the packed row
+        byte[] raw = scratch.raw(height * (rowBytes + 1));
+        BitArray row = scratch.row(width);
+        int pos = 0;
+        for (int y = 0; y < height; y++) {
+            row = matrix.getRow(y, row);
+            raw[pos++] = 0;
+            packRow(row.getBitArray(), raw, pos, rowBytes);
+            pos += rowBytes;
+        }
+
+        // deflate into the reusable scratch buffer, growing it only if an image is unusually large
+        Deflater deflater = scratch.deflater;
+        deflater.reset();
+        deflater.setInput(raw, 0, pos);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == scratch.compressed.length) {
+                scratch.growCompressed();
+            }
+            compressedLength += deflater.deflate(scratch.compressed, compressedLength,
+                    scratch.compressed.length - compressedLength);
+        }
+
+        byte[] png = new byte[PNG_SIGNATURE.length
+                + CHUNK_OVERHEAD + IHDR_LENGTH
+                + CHUNK_OVERHEAD + compressedLength
+                + CHUNK_OVERHEAD];
+        System.arraycopy(PNG_SIGNATURE, 0, png, 0, PNG_SIGNATURE.length);
+        int offset = PNG_SIGNATURE.length;
+
+        byte[] header = scratch.header;
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 1;  // bit depth
+        header[9] = 0;  // color type: grayscale
+        header[10] = 0; // compression: deflate
+        header[11] = 0; // filter method
+        header[12] = 0; // no interlace
+        offset = writeChunk(png, offset, IHDR, header, IHDR_LENGTH, scratch.crc);
+        offset = writeChunk(png, offset, IDAT, scratch.compressed, compressedLength, scratch.crc);
+        writeChunk(png, offset, IEND, header, 0, scratch.crc);
+        return png;
+    }
+
+    /**
+     * Encode the matrix as SVG. The matrix should be at module resolution (one cell per
+     * module); {@code size} is the rendered width and height in pixels.
+     */
+    public static String toSvg(BitMatrix matrix, int size) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        StringBuilder svg = new StringBuilder(256 + width * height / 2);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+                .append(width).append(' ').append(height)
+                .append("\" width=\"").append(size).append("\" height=\"").append(size)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+
+        BitArray row = new BitArray(width);
+        for (int y = 0; y < height; y++) {
+            row = matrix.getRow(y, row);
+            int x = row.getNextSet(0);
+            while (x < width) {
+                int end = row.getNextUnset(x);
+                int run = end - x;
+                svg.append('M').append(x).append(' ').append(y)
+                        .append('h').append(run).append("v1h-").append(run).append('z');
+                x = row.getNextSet(end);
+            }
+        }
+        return svg.append("\"/></svg>").toString();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    /**
+     * Pack one row MSB-first with 1 = white. BitArray stores pixel x at bit (x % 32) of word
+     * x / 32 with 1 = black, so each word is inverted and bit-reversed, then split into bytes.
+     * Padding bits past the row width come out as 1 (white), which PNG ignores anyway.
+     */
+    private static void packRow(int[] bits, byte[] out, int offset, int rowBytes) {
+        int word = 0;
+        for (int i = 0; i < rowBytes; i++) {
+            if ((i & 3) == 0) {
+                word = Integer.reverse(~bits[i >> 2]);
+            }
+            out[offset + i] = (byte) (word >>> (24 - 8 * (i & 3)));
+        }
+    }
+
+    private static int writeChunk(byte[] out, int offset, byte[] type, byte[] data, int length, CRC32 crc) {
+        writeInt(out, offset, length);
+        System.arraycopy(type, 0, out, offset + 4, 4);
+        System.arraycopy(data, 0, out, offset + 8, length);
+        crc.reset();
+        crc.update(out, offset + 4, 4 + length);
+        writeInt(out, offset + 8 + length, (int) crc.getValue());
+        return offset + CHUNK_OVERHEAD + length;
+    }
+
+    private static void writeInt(byte[] out, int offset, int value) {
+        out[offset] = (byte) (value >>> 24);
+        out[offset + 1] = (byte) (value >>> 16);
+        out[offset + 2] = (byte) (value >>> 8);
+        out[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Per-thread buffers reused across images.
+     */
+    private static class Scratch {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        private final CRC32 crc = new CRC32();
+        private final byte[] header = new byte[IHDR_LENGTH];
+        private byte[] raw = new byte[0];
+        private byte[] compressed = new byte[4096];
+        private BitArray row = new BitArray(0);
+
+        byte[] raw(int size) {
+            if (raw.length < size) {
+                raw = new byte[size];
+            }
+            return raw;
+        }
+
+        BitArray row(int width) {
+            if (row.getSize() != width) {
+                row = new BitArray(width);
+            }
+            return row;
+        }
+
+        void growCompressed() {
+            compressed = Arrays.copyOf(compressed, compressed.length * 2);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.PetTrackr.PetTrackr.service;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
 import com.google.zxing.common.BitMatrix;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.PetTrackr.PetTrackr.entity.Pet;
@@ -18,97 +21,159 @@ import jakarta.transaction.Transactional;
 @Transactional
 @Service
 public class QRCodeService {
-    // we want to generate QR codes that contain text data about the pet
-    // e.g., pet name, owner contact info, etc.
-    // and a guide to what to do if the pet is found
+    // we want to generate QR codes that lead a finder to the pet's details
+    // the code only holds a short link to the public lost-pet lookup (PublicPetService),
+    // which shows the pet, the owner's current contact info and a guide to what to do
 
     // used to verify pet existence
     private final PetService petService;
 
+    // rendered images, so repeat requests skip the encode
+    private final QRCodeCache qrCodeCache;
+
     // QR code dimensions
     private static final int QR_CODE_WIDTH = 300;
     private static final int QR_CODE_HEIGHT = 300;
 
+    // the pet's public token is appended to this to form the encoded link
+    private final String lookupUrlPrefix;
+
     // constructor
-    public QRCodeService(PetService petService) {
+    public QRCodeService(PetService petService, QRCodeCache qrCodeCache,
+                         @Value("${qr-code.lookup-url-prefix:http://localhost:8080/api/public/pets/}") String lookupUrlPrefix) {
         this.petService = petService;
+        this.qrCodeCache = qrCodeCache;
+        this.lookupUrlPrefix = lookupUrlPrefix;
     }
 
     // main method to generate QR code data for a pet
     public byte[] generateQRCodeForPet(Long petId, Long requestingOwnerId) {
+        return getQRCodeForPet(petId, requestingOwnerId).image();
+    }
+
+    // PNG QR code for a pet, with its ETag
+    public QRCodeImage getQRCodeForPet(Long petId, Long requestingOwnerId) {
+        return getQRCodeForPet(petId, requestingOwnerId, QRCodeFormat.PNG);
+    }
+
+    /**
+     * Get the QR code for a pet in the given format together with its ETag.
+     * The image is only encoded on a cache miss; the ETag is the cache key, so it changes
+     * exactly when the encoded content (or size/format) changes.
+     */
+    public QRCodeImage getQRCodeForPet(Long petId, Long requestingOwnerId, QRCodeFormat format) {
         // firstly verify pet existence and ownership
         Pet pet = petService.getPetById(petId, requestingOwnerId);
+        return getQRCodeForLoadedPet(pet, format);
+    }
 
+    /**
+     * Render (or fetch from cache) the QR code of a pet that is already loaded and authorized,
+     * with its owner. Doesn't touch the database, so it can run on worker threads without
+     * a transaction.
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public QRCodeImage getQRCodeForLoadedPet(Pet pet, QRCodeFormat format) {
         // get the owner info
         Owner owner = pet.getOwner();
 
         // build the QR code content
-        String qrCodeContent = buildQRCodeContent(pet, owner);
+        String qrCodeContent = buildQRCodeContent(pet);
+        String key = cacheKey(qrCodeContent, QR_CODE_WIDTH, QR_CODE_HEIGHT, format.name());
 
-        // generate QR code image bytes
+        Optional<byte[]> cached = qrCodeCache.get(key);
+        if (cached.isPresent()) {
+            return new QRCodeImage(cached.get(), key);
+        }
+
+        byte[] image = renderQRCode(qrCodeContent, format);
+        qrCodeCache.put(pet.getId(), owner.getId(), format.name(), key, image, format.getContentType());
+        return new QRCodeImage(image, key);
+    }
+
+    // encode the content and write it out in the requested format
+    private byte[] renderQRCode(String qrCodeContent, QRCodeFormat format) {
         try {
             // use google zxing to generate QR code as a bit matrix, which is a 2D array of bits
             QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(qrCodeContent, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT);
 
-            // convert bit matrix to byte array (PNG format)
-            // uses a byte array output stream to hold the image data
-            // and saves the bit matrix as a PNG image into that stream
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
-
-            // return the byte array
-            return outputStream.toByteArray();
+            if (format == QRCodeFormat.SVG) {
+                // SVG scales itself, so encode at one cell per module (size 0 = smallest)
+                BitMatrix modules = qrCodeWriter.encode(qrCodeContent, BarcodeFormat.QR_CODE, 0, 0);
+                return QRCodeImageWriter.toSvg(modules, QR_CODE_WIDTH).getBytes(StandardCharsets.UTF_8);
+            }
 
+            // PNG: rasterize at full size and pack straight into a 1-bit image
+            BitMatrix bitMatrix = qrCodeWriter.encode(qrCodeContent, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT);
+            return QRCodeImageWriter.toPng(bitMatrix);
         }
-        catch (WriterException | IOException e) {
+        catch (WriterException e) {
             // handles a writer exception which is thrown if QR code generation fails
-            // and an IO exception which is thrown if writing to the output stream fails
             throw new RuntimeException("Failed to generate QR code: " + e.getMessage(), e);
         }
+    }
+
+    // SHA-256 of everything that affects the rendered bytes, hex encoded
+    static String cacheKey(String content, int width, int height, String format) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content.getBytes(StandardCharsets.UTF_8));
+            digest.update(("|" + width + "x" + height + "|" + format).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // helper method to create the QR code content: a link to the public lookup for the pet
+    // it doesn't contain any pet or owner details, so the code stays small (fast to scan)
+    // and doesn't change when those details do
+    String buildQRCodeContent(Pet pet) {
+        if (pet.getPublicToken() == null) {
+            throw new IllegalStateException("Pet " + pet.getId() + " has no public token yet");
+        }
+        return lookupUrlPrefix + pet.getPublicToken();
+    }
+
+    /**
+     * Output formats for QR codes.
+     */
+    public enum QRCodeFormat {
+        PNG("image/png", "png"),
+        SVG("image/svg+xml", "svg");
 
+        private final String contentType;
+        private final String fileExtension;
 
+        QRCodeFormat(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the name is not a supported format
+         */
+        public static QRCodeFormat fromParameter(String value) {
+            for (QRCodeFormat format : values()) {
+                if (format.fileExtension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported QR code format: " + value + " (expected png or svg)");
+        }
     }
 
-    // helper method to create QR code image bytes from text data
     /**
-     * Format:
-     * LOST PET - PLEASE HELP!
-     * Pet: [name]
-     * Type: [type]
-     * Breed: [breed]
-     * 
-     * CONTACT OWNER:
-     * Name: [owner name]
-     * Phone: [phone]
-     * 
-     * FOUND THIS PET?
-     * Step-by-step guide:
-     * [guidance URL]
+     * A rendered QR code and the tag identifying its content (usable as an HTTP ETag).
      */
-    private String buildQRCodeContent(Pet pet, Owner owner) {
-        // we use a string builder for efficiency
-        StringBuilder content = new StringBuilder();
-
-        // header
-        content.append("LOST PET - PLEASE HELP!\n");
-
-        // pet details
-        content.append("Pet: ").append(pet.getName()).append("\n");
-        content.append("Type: ").append(pet.getType()).append("\n");
-        content.append("Breed: ").append(pet.getBreed()).append("\n\n");
-
-        // owner contact info
-        content.append("CONTACT OWNER:\n");
-        content.append("Name: ").append(owner.getName()).append("\n");
-        content.append("Phone: ").append(owner.getPhoneNumber()).append("\n\n");
-
-        // guidance
-        content.append("FOUND THIS PET?\n");
-        content.append("Visit this guide:\n");
-        content.append("https://www.americanhumane.org/public-education/what-to-if-youve-lost-your-pet/\n");
-
-        // and return the built string
-        return content.toString();
+    public record QRCodeImage(byte[] image, String etag) {
     }
-}
\ No newline at end of file
+}
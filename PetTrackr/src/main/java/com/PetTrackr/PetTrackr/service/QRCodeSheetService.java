@@ -0,0 +1,197 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Printable sheets of QR tags for many pets at once (e.g. a shelter tagging every animal).
+ *
+ * Pets and their owner are loaded and authorized in a single query up front. The codes are
+ * then rendered on a bounded worker pool while the sheet is written: each request keeps a
+ * small window of codes in flight and writes them in order as they finish, so the first
+ * page reaches the client while later ones are still being encoded and no request ever
+ * holds more than a window of rendered codes.
+ *
+ * The sheet is an HTML page with inline SVG codes, one CSS print page per group of tags,
+ * so it prints at full resolution from any browser.
+ */
+@Service
+public class QRCodeSheetService {
+
+    private static final String SHEET_HEADER = """
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+            <meta charset="utf-8">
+            <title>Pet QR tags</title>
+            <style>
+            @page { size: A4; margin: 10mm; }
+            body { margin: 0; font-family: sans-serif; }
+            .page { display: grid; grid-template-columns: repeat(3, 1fr); gap: 6mm; break-after: page; }
+            .page:last-of-type { break-after: auto; }
+            .tag { border: 1px dashed #999; padding: 3mm; text-align: center; break-inside: avoid; }
+            .tag svg { width: 100%; height: auto; }
+            .tag p { margin: 1mm 0 0; }
+            .tag .name { font-size: 13pt; font-weight: bold; }
+            .tag .meta { font-size: 9pt; color: #444; }
+            </style>
+            </head>
+            <body>
+            """;
+
+    private static final String SHEET_FOOTER = """
+            </body>
+            </html>
+            """;
+
+    private final PetService petService;
+    private final QRCodeService qrCodeService;
+
+    private final int maxPets;
+    private final int window;
+    private final ThreadPoolExecutor executor;
+
+    public QRCodeSheetService(PetService petService,
+                              QRCodeService qrCodeService,
+                              @Value("${qr-code.sheet.threads:2}") int threads,
+                              @Value("${qr-code.sheet.queue-capacity:32}") int queueCapacity,
+                              @Value("${qr-code.sheet.max-pets:500}") int maxPets) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("qr-code.sheet.threads must be greater than zero");
+        }
+        this.petService = petService;
+        this.qrCodeService = qrCodeService;
+        this.maxPets = maxPets;
+        this.window = threads * 2;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "qr-sheet-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // when many sheets are being built at once, the request thread encodes its own codes
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Load and authorize the pets for a sheet.
+     *
+     * @param petIds the pets to include, or null/empty for all of the owner's pets
+     * @throws IllegalArgumentException if a selected pet doesn't exist or isn't the owner's,
+     *                                  or the sheet would have too many pets
+     */
+    public List<Pet> loadPets(Long ownerId, Collection<Long> petIds) {
+        if (petIds != null && petIds.size() > maxPets) {
+            throw new IllegalArgumentException("Too many pets for one sheet (maximum " + maxPets + ")");
+        }
+        List<Pet> pets = petService.getPetsForTagSheet(ownerId, petIds);
+        if (pets.size() > maxPets) {
+            throw new IllegalArgumentException("Too many pets for one sheet (maximum " + maxPets
+                    + "), select the pets to include");
+        }
+        return pets;
+    }
+
+    /**
+     * Render the tags and stream the sheet, flushing after every page.
+     *
+     * @param pets pets returned by {@link #loadPets}
+     * @param tagsPerPage tags per printed page
+     */
+    public void writeSheet(List<Pet> pets, int tagsPerPage, OutputStream out) throws IOException {
+        if (tagsPerPage <= 0) {
+            throw new IllegalArgumentException("Tags per page must be greater than zero");
+        }
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(SHEET_HEADER);
+
+        Deque<PendingTag> inFlight = new ArrayDeque<>();
+        Iterator<Pet> remaining = pets.iterator();
+        try {
+            int written = 0;
+            while (remaining.hasNext() || !inFlight.isEmpty()) {
+                while (inFlight.size() < window && remaining.hasNext()) {
+                    Pet pet = remaining.next();
+                    inFlight.add(new PendingTag(pet, executor.submit(
+                            () -> qrCodeService.getQRCodeForLoadedPet(pet, QRCodeService.QRCodeFormat.SVG))));
+                }
+
+                PendingTag next = inFlight.poll();
+                if (written % tagsPerPage == 0) {
+                    writer.write("<section class=\"page\">\n");
+                }
+                writeTag(writer, next.pet(), await(next.image()));
+                written++;
+                if (written % tagsPerPage == 0 || (!remaining.hasNext() && inFlight.isEmpty())) {
+                    writer.write("</section>\n");
+                    writer.flush();
+                }
+            }
+            writer.write(SHEET_FOOTER);
+            writer.flush();
+        } finally {
+            // client went away or a render failed - don't keep encoding for nobody
+            inFlight.forEach(pending -> pending.image().cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static void writeTag(Writer writer, Pet pet, QRCodeService.QRCodeImage image) throws IOException {
+        writer.write("<div class=\"tag\">");
+        writer.write(new String(image.image(), StandardCharsets.UTF_8));
+        writer.write("<p class=\"name\">");
+        writer.write(HtmlUtils.htmlEscape(String.valueOf(pet.getName())));
+        writer.write("</p><p class=\"meta\">");
+        writer.write(HtmlUtils.htmlEscape(pet.getType() + " · " + pet.getBreed()));
+        writer.write("</p></div>\n");
+    }
+
+    private static QRCodeService.QRCodeImage await(Future<QRCodeService.QRCodeImage> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rendering QR tags");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Failed to generate QR code: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private record PendingTag(Pet pet, Future<QRCodeService.QRCodeImage> image) {
+    }
+}
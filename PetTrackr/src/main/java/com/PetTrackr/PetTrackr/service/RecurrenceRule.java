@@ -0,0 +1,226 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Medication.RecurrenceUnit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A medication's dosing rhythm: one dose every {@code interval} units, counted from the
+ * first dose (startDate at timeToAdminister). "Twice daily" is every 12 hours, "every
+ * other day" every 2 days, "monthly" every month on the start date's day of month.
+ *
+ * Occurrences are computed, never stored: the first one in a range is found by arithmetic
+ * and the rest are generated lazily, so expanding a rule costs nothing per skipped dose.
+ * Steps are taken in local (wall clock) time, so an 8am dose stays at 8am across DST.
+ *
+ * NONE is a medication without a fixed schedule ("as needed", or text that isn't
+ * recognized): it has no occurrences, so it gets no reminders, calendar entries or
+ * missed doses.
+ */
+public record RecurrenceRule(RecurrenceUnit unit, int interval) {
+
+    public static final RecurrenceRule DAILY = new RecurrenceRule(RecurrenceUnit.DAYS, 1);
+
+    public static final RecurrenceRule NONE = new RecurrenceRule(null, 0);
+
+    private static final Map<String, Integer> NUMBER_WORDS = Map.ofEntries(
+            Map.entry("once", 1), Map.entry("one", 1), Map.entry("a", 1), Map.entry("an", 1),
+            Map.entry("twice", 2), Map.entry("two", 2), Map.entry("other", 2),
+            Map.entry("three", 3), Map.entry("thrice", 3), Map.entry("four", 4), Map.entry("five", 5),
+            Map.entry("six", 6), Map.entry("seven", 7), Map.entry("eight", 8), Map.entry("twelve", 12));
+
+    private static final Map<String, RecurrenceRule> KEYWORDS = Map.ofEntries(
+            Map.entry("hourly", new RecurrenceRule(RecurrenceUnit.HOURS, 1)),
+            Map.entry("daily", DAILY), Map.entry("qd", DAILY), Map.entry("sid", DAILY),
+            Map.entry("bid", new RecurrenceRule(RecurrenceUnit.HOURS, 12)),
+            Map.entry("tid", new RecurrenceRule(RecurrenceUnit.HOURS, 8)),
+            Map.entry("qid", new RecurrenceRule(RecurrenceUnit.HOURS, 6)),
+            Map.entry("weekly", new RecurrenceRule(RecurrenceUnit.WEEKS, 1)),
+            Map.entry("biweekly", new RecurrenceRule(RecurrenceUnit.WEEKS, 2)),
+            Map.entry("fortnightly", new RecurrenceRule(RecurrenceUnit.WEEKS, 2)),
+            Map.entry("monthly", new RecurrenceRule(RecurrenceUnit.MONTHS, 1)));
+
+    private static final String COUNT = "(\\d{1,3}|[a-z]+)";
+
+    // "every 8 hours", "every other day", "every week"
+    private static final Pattern EVERY = Pattern.compile("every\\s+(?:" + COUNT + "\\s+)?(hour|day|week|month)s?");
+
+    // "twice daily", "3 times a day", "2x per day", "once a week"
+    private static final Pattern TIMES_PER = Pattern.compile(
+            COUNT + "\\s*(?:x|times)?\\s+(?:(?:a|an|per|each|every)\\s+)?(day|daily|week|weekly|month|monthly)");
+
+    // "q8h", "q12h", "q2d"
+    private static final Pattern Q_INTERVAL = Pattern.compile("q\\s*(\\d{1,3})\\s*(h|hr|hrs|d)");
+
+    public RecurrenceRule {
+        boolean none = unit == null && interval == 0;
+        if (!none && (unit == null || interval < 1)) {
+            throw new IllegalArgumentException("Recurrence needs a unit and a positive interval");
+        }
+    }
+
+    /**
+     * The rule stored with a medication, falling back to parsing its frequency text and
+     * then to NONE.
+     */
+    public static RecurrenceRule of(Medication medication) {
+        return of(medication.getRecurrenceUnit(), medication.getRecurrenceInterval(), medication.getFrequency());
+    }
+
+    public static RecurrenceRule of(RecurrenceUnit unit, Integer interval, String frequency) {
+        if (unit != null && interval != null && interval > 0) {
+            return new RecurrenceRule(unit, interval);
+        }
+        return parse(frequency).orElse(NONE);
+    }
+
+    /**
+     * Parse common ways of writing a dosing frequency ("Once daily", "Twice a day",
+     * "every 8 hours", "every other day", "weekly", "q12h", ...).
+     *
+     * @return the rule, or empty if the text isn't recognized (e.g. "as needed")
+     */
+    public static Optional<RecurrenceRule> parse(String frequency) {
+        if (frequency == null) {
+            return Optional.empty();
+        }
+        String text = frequency.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9 ]", " ").replaceAll("\\s+", " ");
+
+        RecurrenceRule keyword = KEYWORDS.get(text.replace("once ", "").replace("every ", ""));
+        if (keyword != null) {
+            return Optional.of(keyword);
+        }
+
+        Matcher every = EVERY.matcher(text);
+        if (every.matches()) {
+            Integer count = every.group(1) == null ? Integer.valueOf(1) : count(every.group(1));
+            return count == null ? Optional.empty() : rule(unitOf(every.group(2)), count);
+        }
+
+        Matcher timesPer = TIMES_PER.matcher(text);
+        if (timesPer.matches()) {
+            Integer times = count(timesPer.group(1));
+            RecurrenceUnit per = unitOf(timesPer.group(2));
+            if (times == null) {
+                return Optional.empty();
+            }
+            if (times == 1) {
+                return rule(per, 1);
+            }
+            // several doses a day are spread evenly over it; several a week/month don't fit a fixed step
+            return per == RecurrenceUnit.DAYS && 24 % times == 0 ? rule(RecurrenceUnit.HOURS, 24 / times) : Optional.empty();
+        }
+
+        Matcher q = Q_INTERVAL.matcher(text);
+        if (q.matches()) {
+            return rule(q.group(2).equals("d") ? RecurrenceUnit.DAYS : RecurrenceUnit.HOURS, Integer.parseInt(q.group(1)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether doses follow a fixed rhythm - false for NONE.
+     */
+    public boolean isScheduled() {
+        return unit != null;
+    }
+
+    /**
+     * Lazily expand the rule: every dose at or after {@code from} and before {@code to},
+     * in order, for a course starting at {@code firstDose} and ending on {@code endDate}
+     * (inclusive, null if open-ended).
+     */
+    public Stream<LocalDateTime> occurrences(LocalDateTime firstDose, LocalDate endDate,
+                                             LocalDateTime from, LocalDateTime to) {
+        if (!isScheduled()) {
+            return Stream.empty();
+        }
+        long first = firstIndexAtOrAfter(firstDose, from);
+        Spliterator<LocalDateTime> doses = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL) {
+            private long index = first;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super LocalDateTime> action) {
+                LocalDateTime dose = nth(firstDose, index);
+                if (!dose.isBefore(to) || (endDate != null && dose.toLocalDate().isAfter(endDate))) {
+                    return false;
+                }
+                index++;
+                action.accept(dose);
+                return true;
+            }
+        };
+        return StreamSupport.stream(doses, false);
+    }
+
+    /**
+     * The first dose strictly after {@code after}, or null once the course is over.
+     */
+    public LocalDateTime nextAfter(LocalDateTime firstDose, LocalDate endDate, LocalDateTime after) {
+        return occurrences(firstDose, endDate, after.plusNanos(1), LocalDateTime.MAX).findFirst().orElse(null);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // index of the first dose at or after the given time - O(1) however far away it is
+    private long firstIndexAtOrAfter(LocalDateTime firstDose, LocalDateTime from) {
+        if (!from.isAfter(firstDose)) {
+            return 0;
+        }
+        long index = chronoUnit().between(firstDose, from) / interval;
+        while (nth(firstDose, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+
+    // each dose is computed from the first one, so month-end clamping doesn't drift
+    private LocalDateTime nth(LocalDateTime firstDose, long index) {
+        return firstDose.plus(index * interval, chronoUnit());
+    }
+
+    private ChronoUnit chronoUnit() {
+        return switch (unit) {
+            case HOURS -> ChronoUnit.HOURS;
+            case DAYS -> ChronoUnit.DAYS;
+            case WEEKS -> ChronoUnit.WEEKS;
+            case MONTHS -> ChronoUnit.MONTHS;
+        };
+    }
+
+    private static Integer count(String word) {
+        if (Character.isDigit(word.charAt(0))) {
+            return Integer.parseInt(word);
+        }
+        return NUMBER_WORDS.get(word);
+    }
+
+    private static RecurrenceUnit unitOf(String word) {
+        return switch (word) {
+            case "hour" -> RecurrenceUnit.HOURS;
+            case "day", "daily" -> RecurrenceUnit.DAYS;
+            case "week", "weekly" -> RecurrenceUnit.WEEKS;
+            default -> RecurrenceUnit.MONTHS;
+        };
+    }
+
+    private static Optional<RecurrenceRule> rule(RecurrenceUnit unit, int interval) {
+        return interval < 1 ? Optional.empty() : Optional.of(new RecurrenceRule(unit, interval));
+    }
+}
@@ -0,0 +1,111 @@
+package com.PetTrackr.PetTrackr.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory spatial index of recent sightings, ordered by geohash.
+ *
+ * Keys are the sighting's full-precision geohash plus its id, so each geohash cell is a
+ * contiguous key range at every precision. A radius query picks the finest cell size whose
+ * cover of the circle stays within a few cells, range-scans just those cells and filters by
+ * exact distance and time - independent of how many sightings exist elsewhere.
+ */
+public final class SightingIndex {
+
+    static final int PRECISION = 9; // ~5m cells; coarser cells are prefixes of this
+
+    // at most this many cells per query; fewer, finer cells when the radius allows
+    private static final int MAX_CELLS = 16;
+
+    // sorts after every base32 character, closing a prefix range
+    private static final char PREFIX_END = '~';
+
+    private final ConcurrentSkipListMap<String, IndexedSighting> sightings = new ConcurrentSkipListMap<>();
+
+    void add(IndexedSighting sighting) {
+        sightings.put(key(sighting), sighting);
+    }
+
+    void remove(IndexedSighting sighting) {
+        sightings.remove(key(sighting));
+    }
+
+    /**
+     * Drop every sighting of a pet.
+     *
+     * @return how many were dropped
+     */
+    int removePet(Long petId) {
+        int before = sightings.size();
+        sightings.values().removeIf(sighting -> sighting.petId().equals(petId));
+        return before - sightings.size();
+    }
+
+    int size() {
+        return sightings.size();
+    }
+
+    /**
+     * Drop sightings from before the cutoff.
+     *
+     * @return how many were dropped
+     */
+    int removeOlderThan(Instant cutoff) {
+        int before = sightings.size();
+        sightings.values().removeIf(sighting -> sighting.sightedAt().isBefore(cutoff));
+        return before - sightings.size();
+    }
+
+    /**
+     * Sightings within radiusKm of the position, seen at or after {@code since}, newest first.
+     */
+    List<NearbySighting> findWithin(double latitude, double longitude, double radiusKm, Instant since, int limit) {
+        List<NearbySighting> found = new ArrayList<>();
+        for (String cell : Geohash.coveringCells(latitude, longitude, radiusKm, queryPrecision(latitude, radiusKm))) {
+            for (IndexedSighting sighting : sightings.subMap(cell, cell + PREFIX_END).values()) {
+                if (sighting.sightedAt().isBefore(since)) {
+                    continue;
+                }
+                double distanceKm = Geohash.distanceKm(latitude, longitude, sighting.latitude(), sighting.longitude());
+                if (distanceKm <= radiusKm) {
+                    found.add(new NearbySighting(sighting, distanceKm));
+                }
+            }
+        }
+        found.sort(Comparator.comparing((NearbySighting nearby) -> nearby.sighting().sightedAt()).reversed());
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    /**
+     * Finest geohash precision whose cover of the circle needs at most MAX_CELLS cells.
+     */
+    static int queryPrecision(double latitude, double radiusKm) {
+        for (int precision = PRECISION; precision > 1; precision--) {
+            if (Geohash.countCoveringCells(latitude, radiusKm, precision) <= MAX_CELLS) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    private static String key(IndexedSighting sighting) {
+        return sighting.geohash() + "#" + sighting.id();
+    }
+
+    /**
+     * Snapshot of a sighting as kept in the index.
+     */
+    public record IndexedSighting(Long id, Long petId, double latitude, double longitude, String geohash,
+                           Instant sightedAt, String note) {
+    }
+
+    /**
+     * A sighting matched by a radius query.
+     */
+    public record NearbySighting(IndexedSighting sighting, double distanceKm) {
+    }
+}
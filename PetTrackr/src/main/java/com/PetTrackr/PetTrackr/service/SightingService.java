@@ -0,0 +1,241 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import com.PetTrackr.PetTrackr.repository.SightingRepository;
+import com.PetTrackr.PetTrackr.service.SightingIndex.IndexedSighting;
+import com.PetTrackr.PetTrackr.service.SightingIndex.NearbySighting;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Lost-pet sightings: finders report where they saw a pet (via its public token), owners
+ * see their pet's sightings, and anyone can ask for sightings near a position.
+ *
+ * Area queries are answered from an in-memory geohash index of the sightings inside the
+ * query window (see SightingIndex), so they only touch the few cells around the position
+ * no matter how many reports exist. The index is loaded at startup and updated after each
+ * report committed on this node; reports made through other nodes are picked up every
+ * sighting.refresh-interval by polling the (indexed) reportedAt column. Until the index is
+ * loaded, area queries fall back to prefix queries on the persisted geohash column.
+ */
+@Service
+public class SightingService {
+
+    private static final Logger log = LoggerFactory.getLogger(SightingService.class);
+
+    // reports may carry a slightly fast device clock
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    // each refresh re-reads this much before the previous one, for reports whose transaction
+    // was still open at the last poll and for clock differences between nodes (re-adding is harmless)
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final SightingRepository sightingRepository;
+    private final PetService petService;
+    private final PublicPetService publicPetService;
+    private final Clock clock;
+
+    private final Duration window;
+    private final Duration retention;
+    private final double maxRadiusKm;
+    private final int maxResults;
+
+    private final SightingIndex index = new SightingIndex();
+
+    // until the index is built, area queries go to the database
+    private volatile boolean indexed;
+
+    // reports up to this time have been loaded into the index
+    private volatile Instant refreshedUpTo;
+
+    public SightingService(SightingRepository sightingRepository,
+                           PetService petService,
+                           PublicPetService publicPetService,
+                           Clock clock,
+                           @Value("${sighting.window:7d}") Duration window,
+                           @Value("${sighting.retention:90d}") Duration retention,
+                           @Value("${sighting.max-radius-km:50}") double maxRadiusKm,
+                           @Value("${sighting.max-results:200}") int maxResults) {
+        this.sightingRepository = sightingRepository;
+        this.petService = petService;
+        this.publicPetService = publicPetService;
+        this.clock = clock;
+        this.window = window;
+        this.retention = retention;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Load the sightings inside the query window into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        Instant now = clock.instant();
+        List<Sighting> recent = sightingRepository.findBySightedAtGreaterThanEqual(now.minus(window));
+        recent.forEach(sighting -> index.add(toIndexed(sighting)));
+        refreshedUpTo = now;
+        indexed = true;
+        log.info("Sighting index built: {} sightings", index.size());
+    }
+
+    /**
+     * Report a sighting of the pet with this public token.
+     *
+     * @param sightedAt when the pet was seen, or null for now
+     * @throws IllegalArgumentException if no pet has this token, or the time is in the
+     *                                  future or older than the sighting window
+     */
+    @Transactional
+    public Sighting reportSighting(String publicToken, double latitude, double longitude,
+                                   Instant sightedAt, String note) {
+        Long petId = publicPetService.lookup(publicToken)
+                .orElseThrow(() -> new IllegalArgumentException("Pet not found"))
+                .petId();
+
+        Instant now = clock.instant();
+        if (sightedAt == null) {
+            sightedAt = now;
+        } else if (sightedAt.isAfter(now.plus(CLOCK_SKEW))) {
+            throw new IllegalArgumentException("Sighting time cannot be in the future");
+        } else if (sightedAt.isBefore(now.minus(window))) {
+            throw new IllegalArgumentException("Sighting is too old to report (limit " + window.toDays() + " days)");
+        }
+        validatePosition(latitude, longitude);
+
+        String trimmedNote = note == null || note.isBlank() ? null : note.trim();
+        Sighting saved = sightingRepository.save(new Sighting(petId, latitude, longitude,
+                Geohash.encode(latitude, longitude, SightingIndex.PRECISION), sightedAt, now, trimmedNote));
+
+        IndexedSighting indexedSighting = toIndexed(saved);
+        TransactionCallbacks.afterCommit(() -> index.add(indexedSighting));
+        return saved;
+    }
+
+    /**
+     * Sightings within radiusKm of a position during the last {@code hours} hours, newest first.
+     *
+     * @throws IllegalArgumentException if the position, radius or period is out of range
+     */
+    public List<NearbySighting> findNearby(double latitude, double longitude, double radiusKm, int hours) {
+        validatePosition(latitude, longitude);
+        if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("Radius must be greater than 0 and at most " + maxRadiusKm + " km");
+        }
+        if (hours <= 0 || hours > window.toHours()) {
+            throw new IllegalArgumentException("Hours must be between 1 and " + window.toHours());
+        }
+        Instant since = clock.instant().minus(Duration.ofHours(hours));
+
+        if (indexed) {
+            return index.findWithin(latitude, longitude, radiusKm, since, maxResults);
+        }
+
+        List<NearbySighting> found = new ArrayList<>();
+        int precision = SightingIndex.queryPrecision(latitude, radiusKm);
+        for (String cell : Geohash.coveringCells(latitude, longitude, radiusKm, precision)) {
+            for (Sighting sighting : sightingRepository.findByGeohashStartingWithAndSightedAtGreaterThanEqual(cell, since)) {
+                double distanceKm = Geohash.distanceKm(latitude, longitude, sighting.getLatitude(), sighting.getLongitude());
+                if (distanceKm <= radiusKm) {
+                    found.add(new NearbySighting(toIndexed(sighting), distanceKm));
+                }
+            }
+        }
+        found.sort(Comparator.comparing((NearbySighting nearby) -> nearby.sighting().sightedAt()).reversed());
+        return found.size() > maxResults ? found.subList(0, maxResults) : found;
+    }
+
+    /**
+     * A pet's sightings during the last {@code hours} hours, newest first.
+     *
+     * @throws IllegalArgumentException if the pet doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public List<Sighting> getSightingsForPet(Long petId, Long requestingOwnerId, int hours) {
+        if (hours <= 0) {
+            throw new IllegalArgumentException("Hours must be greater than zero");
+        }
+        petService.getPetById(petId, requestingOwnerId);
+        return sightingRepository.findByPetIdAndSightedAtGreaterThanEqualOrderBySightedAtDesc(
+                petId, clock.instant().minus(Duration.ofHours(hours)));
+    }
+
+    /**
+     * Add sightings reported since the last refresh (through any node) to the index.
+     */
+    @Scheduled(fixedDelayString = "${sighting.refresh-interval:10s}", initialDelayString = "${sighting.refresh-interval:10s}")
+    public void refreshIndex() {
+        if (!indexed) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(window);
+        for (Sighting sighting : sightingRepository.findByReportedAtGreaterThanEqual(refreshedUpTo.minus(REFRESH_OVERLAP))) {
+            if (!sighting.getSightedAt().isBefore(cutoff)) {
+                index.add(toIndexed(sighting));
+            }
+        }
+        refreshedUpTo = now;
+    }
+
+    /**
+     * Drop the sightings of a pet that no longer exists (deleted through any node) from the
+     * index, so they stop taking up area query results. Pet ids are never reused.
+     */
+    public void removeDeletedPet(Long petId) {
+        int removed = index.removePet(petId);
+        if (removed > 0) {
+            log.debug("Dropped {} sightings of deleted pet {} from the index", removed, petId);
+        }
+    }
+
+    /**
+     * Drop sightings that fell out of the query window from the index.
+     */
+    @Scheduled(fixedDelayString = "${sighting.prune-interval:10m}", initialDelayString = "${sighting.prune-interval:10m}")
+    public void pruneIndex() {
+        int removed = index.removeOlderThan(clock.instant().minus(window));
+        if (removed > 0) {
+            log.debug("Pruned {} sightings from the index ({} left)", removed, index.size());
+        }
+    }
+
+    /**
+     * Delete reports past the retention period and reports of deleted pets.
+     */
+    @Scheduled(fixedDelayString = "${sighting.purge-interval:24h}", initialDelayString = "${sighting.purge-interval:24h}")
+    @Transactional
+    public void purge() {
+        int expired = sightingRepository.deleteBySightedAtBefore(clock.instant().minus(retention));
+        int orphaned = sightingRepository.deleteOfDeletedPets();
+        log.info("Purged sightings: {} expired, {} of deleted pets", expired, orphaned);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static void validatePosition(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+    }
+
+    private static IndexedSighting toIndexed(Sighting sighting) {
+        return new IndexedSighting(sighting.getId(), sighting.getPetId(), sighting.getLatitude(),
+                sighting.getLongitude(), sighting.getGeohash(), sighting.getSightedAt(), sighting.getNote());
+    }
+}
@@ -0,0 +1,338 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import com.PetTrackr.PetTrackr.repository.SightingRepository;
+import com.PetTrackr.PetTrackr.repository.VetVisitRepository;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Merges everything dated about a pet - vet visits, medication courses, doses given,
+ * feedings, weigh-ins and sightings - into one timeline, newest first.
+ *
+ * Each kind of event is read from its own table in index order, a small batch at a time,
+ * and the batches are k-way merged with a priority queue, so a page costs a few short index
+ * range scans no matter how far back it is. Pages are chained with an opaque cursor holding
+ * the (time, type, id) of the last event returned; every source resumes strictly after it
+ * (keyset paging), so nothing is skipped or repeated when events are added in between, and
+ * no offset ever has to be counted through.
+ *
+ * Events that only have a date (vet visits, medication start/end) sort at the start of that
+ * day in the configured zone. Events after now are left out.
+ */
+@Service
+@Transactional
+public class TimelineService {
+
+    public static final int MAX_LIMIT = 100;
+
+    // event types, in the order they sort among events at the same time
+    public enum EventType {
+        VET_VISIT,
+        MEDICATION_STARTED,
+        MEDICATION_ENDED,
+        DOSE_GIVEN,
+        FEEDING,
+        WEIGHT,
+        SIGHTING
+    }
+
+    private final VetVisitRepository vetVisitRepository;
+    private final MedicationRepository medicationRepository;
+    private final DoseAdministrationRepository doseAdministrationRepository;
+    private final FeedingEventRepository feedingEventRepository;
+    private final WeightSampleRepository weightSampleRepository;
+    private final SightingRepository sightingRepository;
+    private final PetService petService; // to verify pet ownership
+    private final Clock clock;
+    private final ZoneId zone;
+
+    public TimelineService(VetVisitRepository vetVisitRepository,
+                           MedicationRepository medicationRepository,
+                           DoseAdministrationRepository doseAdministrationRepository,
+                           FeedingEventRepository feedingEventRepository,
+                           WeightSampleRepository weightSampleRepository,
+                           SightingRepository sightingRepository,
+                           PetService petService,
+                           Clock clock,
+                           @Value("${reminders.zone:}") String zone) {
+        this.vetVisitRepository = vetVisitRepository;
+        this.medicationRepository = medicationRepository;
+        this.doseAdministrationRepository = doseAdministrationRepository;
+        this.feedingEventRepository = feedingEventRepository;
+        this.weightSampleRepository = weightSampleRepository;
+        this.sightingRepository = sightingRepository;
+        this.petService = petService;
+        this.clock = clock;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    /**
+     * One event on the timeline.
+     *
+     * @param id id of the underlying record (a vet visit, medication, feeding, ...)
+     * @param at when it happened; the start of the day for date-only events
+     * @param date the day, for date-only events (null otherwise)
+     */
+    public record Entry(EventType type, Long id, Instant at, LocalDate date, String title, String detail) {
+    }
+
+    /**
+     * A page of the timeline.
+     *
+     * @param nextCursor where the next page starts (null on the last page)
+     */
+    public record Page(List<Entry> entries, String nextCursor) {
+    }
+
+    // position on the timeline; entries are ordered by it, descending
+    record Key(Instant at, int type, long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::at)
+                .thenComparingInt(Key::type)
+                .thenComparingLong(Key::id);
+
+        static Key of(Entry entry) {
+            return new Key(entry.at(), entry.type().ordinal(), entry.id());
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Get a page of a pet's timeline, newest first.
+     *
+     * @param cursor nextCursor of the previous page (null for the first page)
+     * @param limit how many events to return (1-100)
+     * @throws IllegalArgumentException if the pet doesn't exist, the cursor is invalid or limit is out of range
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public Page getTimeline(Long petId, Long requestingOwnerId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        // before anything of any type at this instant, i.e. everything up to and including now
+        Key after = cursor == null ? new Key(clock.instant(), EventType.values().length, Long.MAX_VALUE) : decodeCursor(cursor);
+        Pet pet = petService.getPetById(petId, requestingOwnerId);
+
+        // small batches: a page usually draws from several sources, and a busy one just fetches again
+        int batchSize = limit / 4 + 2;
+        PriorityQueue<SourceCursor> heads = new PriorityQueue<>(
+                Comparator.comparing((SourceCursor source) -> Key.of(source.peek())).reversed());
+        for (EventType type : EventType.values()) {
+            SourceCursor source = new SourceCursor(type, sourceFor(type, pet), after, batchSize);
+            if (source.peek() != null) {
+                heads.add(source);
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(limit);
+        while (entries.size() < limit && !heads.isEmpty()) {
+            SourceCursor source = heads.poll();
+            entries.add(source.next());
+            if (source.peek() != null) {
+                heads.add(source);
+            }
+        }
+
+        String nextCursor = heads.isEmpty() ? null : encodeCursor(Key.of(entries.get(entries.size() - 1)));
+        return new Page(entries, nextCursor);
+    }
+
+    // ========================================
+    // Sources
+    // ========================================
+
+    /**
+     * Reads one kind of event, newest first, strictly before a (time, id) position.
+     */
+    @FunctionalInterface
+    private interface Source {
+        List<Entry> fetch(Instant at, long id, int limit);
+    }
+
+    /**
+     * Reads one kind of date-only event, newest first, strictly before a (date, id) position.
+     */
+    @FunctionalInterface
+    private interface DateSource {
+        List<Entry> fetch(LocalDate date, long id, int limit);
+    }
+
+    private Source sourceFor(EventType type, Pet pet) {
+        Long petId = pet.getId();
+        return switch (type) {
+            case VET_VISIT -> byDate((date, id, limit) -> vetVisitRepository.findTimelinePage(petId, date, id, Limit.of(limit))
+                    .stream()
+                    .map(visit -> dateEntry(type, visit.getId(), visit.getVisitDate(),
+                            "Vet visit: " + visit.getReasonForVisit(), visit.getVetName()))
+                    .toList());
+            case MEDICATION_STARTED -> byDate((date, id, limit) -> medicationRepository.findStartedTimelinePage(petId, date, id, Limit.of(limit))
+                    .stream()
+                    .map(medication -> dateEntry(type, medication.getId(), medication.getStartDate(),
+                            "Started " + medication.getName(), describeDosage(medication)))
+                    .toList());
+            case MEDICATION_ENDED -> byDate((date, id, limit) -> medicationRepository.findEndedTimelinePage(petId, date, id, Limit.of(limit))
+                    .stream()
+                    .map(medication -> dateEntry(type, medication.getId(), medication.getEndDate(),
+                            "Finished " + medication.getName(), describeDosage(medication)))
+                    .toList());
+            case DOSE_GIVEN -> (at, id, limit) -> doseEntries(doseAdministrationRepository.findTimelinePage(petId, at, id, Limit.of(limit)));
+            case FEEDING -> (at, id, limit) -> feedingEventRepository.findTimelinePage(petId, at, id, Limit.of(limit))
+                    .stream()
+                    .map(feeding -> new Entry(type, feeding.getId(), feeding.getFedAt(), null,
+                            "Fed " + feeding.getFoodType(),
+                            formatAmount(feeding.getQuantity()) + " " + feeding.getQuantityUnit().name().toLowerCase(Locale.ROOT)))
+                    .toList();
+            case WEIGHT -> (at, id, limit) -> weightSampleRepository.findTimelinePage(petId, at, id, Limit.of(limit))
+                    .stream()
+                    .map(sample -> new Entry(type, sample.getId(), sample.getMeasuredAt(), null,
+                            "Weighed " + formatAmount(WeightHistoryService.fromGrams(sample.getWeightGrams(), pet.getWeightType()))
+                                    + " " + pet.getWeightType().name().toLowerCase(Locale.ROOT),
+                            null))
+                    .toList();
+            case SIGHTING -> (at, id, limit) -> sightingRepository.findTimelinePage(petId, at, id, Limit.of(limit))
+                    .stream()
+                    .map(sighting -> new Entry(type, sighting.getId(), sighting.getSightedAt(), null,
+                            "Reported seen", sighting.getNote()))
+                    .toList();
+        };
+    }
+
+    /**
+     * Adapt a date-only source to instants: a day's events all sit at its start.
+     */
+    private Source byDate(DateSource source) {
+        return (at, id, limit) -> {
+            LocalDate date = LocalDate.ofInstant(at, zone);
+            // strictly before a point inside the day means up to and including every event of that day
+            return source.fetch(date, date.atStartOfDay(zone).toInstant().equals(at) ? id : Long.MAX_VALUE, limit);
+        };
+    }
+
+    private Entry dateEntry(EventType type, Long id, LocalDate date, String title, String detail) {
+        return new Entry(type, id, date.atStartOfDay(zone).toInstant(), date, title, detail);
+    }
+
+    private List<Entry> doseEntries(List<DoseAdministration> doses) {
+        // the log stores only the medication id; look the names up for the whole batch
+        Map<Long, String> names = new HashMap<>();
+        medicationRepository.findAllById(doses.stream().map(DoseAdministration::getMedicationId).distinct().toList())
+                .forEach(medication -> names.put(medication.getId(), medication.getName()));
+        return doses.stream()
+                .map(dose -> new Entry(EventType.DOSE_GIVEN, dose.getId(), dose.getAdministeredAt(), null,
+                        "Gave " + names.getOrDefault(dose.getMedicationId(), "medication"), dose.getNotes()))
+                .toList();
+    }
+
+    /**
+     * One source's read position. Fetches the next batch once the current one runs out.
+     */
+    private static final class SourceCursor {
+        private final Source source;
+        private final int batchSize;
+        private List<Entry> batch = List.of();
+        private int position;
+        private Instant at;
+        private long id;
+        private boolean exhausted;
+
+        SourceCursor(EventType type, Source source, Key after, int batchSize) {
+            this.source = source;
+            this.batchSize = batchSize;
+            this.at = after.at();
+            // at the cursor's instant, types sorting below the cursor's come after it (all of their
+            // ids), the cursor's own type continues below its id, and types above it are done
+            int cursorType = after.type();
+            this.id = type.ordinal() < cursorType ? Long.MAX_VALUE
+                    : type.ordinal() == cursorType ? after.id() : Long.MIN_VALUE;
+        }
+
+        Entry peek() {
+            if (position == batch.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                batch = source.fetch(at, id, batchSize);
+                position = 0;
+                exhausted = batch.size() < batchSize;
+                if (batch.isEmpty()) {
+                    return null;
+                }
+                Entry last = batch.get(batch.size() - 1);
+                at = last.at();
+                id = last.id();
+            }
+            return batch.get(position);
+        }
+
+        Entry next() {
+            Entry entry = peek();
+            position++;
+            return entry;
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    static String encodeCursor(Key key) {
+        String raw = key.at().getEpochSecond() + "." + key.at().getNano() + "." + key.type() + "." + key.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static Key decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split("\\.");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Instant at = Instant.ofEpochSecond(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            int type = Integer.parseInt(parts[2]);
+            if (type < 0 || type > EventType.values().length) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Key(at, type, Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            // bad base64, numbers or instant
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String describeDosage(Medication medication) {
+        String dosage = formatAmount(medication.getDosageAmount()) + " " + medication.getDosageUnit().name().toLowerCase(Locale.ROOT);
+        return medication.getFrequency() == null || medication.getFrequency().isBlank()
+                ? dosage : dosage + ", " + medication.getFrequency();
+    }
+
+    // 2.0 -> "2", 1.50 -> "1.5"
+    private static String formatAmount(double amount) {
+        return BigDecimal.valueOf(amount).stripTrailingZeros().toPlainString();
+    }
+}
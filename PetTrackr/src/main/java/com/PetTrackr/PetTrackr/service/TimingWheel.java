@@ -0,0 +1,177 @@
+package com.PetTrackr.PetTrackr.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: timers bucketed by deadline tick on 4 levels of 256 slots,
+ * each level 256 times coarser than the one below (1s ticks span ~136 years).
+ *
+ * Adding and cancelling a timer is O(1) (link/unlink in a bucket's list) no matter how many
+ * are scheduled. Advancing by a tick expires one level-0 bucket; every 256 ticks a bucket of
+ * the level above is cascaded down, so each timer is moved at most once per level. Memory is
+ * one node per scheduled timer plus the fixed slot array.
+ *
+ * Not thread-safe - callers serialize access.
+ */
+final class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELTA = 1L << (SLOT_BITS * LEVELS);
+
+    private final Timer<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.buckets = new Timer[LEVELS][SLOTS];
+        for (Timer<T>[] level : buckets) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = Timer.sentinel();
+            }
+        }
+    }
+
+    /**
+     * Schedule a timer for the given tick; a tick that has already passed fires on the next advance.
+     *
+     * @return the timer, for {@link #cancel}
+     */
+    Timer<T> add(long deadlineTick, T value) {
+        Timer<T> timer = new Timer<>(value, deadlineTick);
+        place(timer, currentTick + 1);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Remove a timer that hasn't fired yet (no-op if it already fired or was cancelled).
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.unlink()) {
+            size--;
+        }
+    }
+
+    /**
+     * Advance to the given tick, collecting every timer that came due on the way, tick by tick.
+     */
+    List<Timer<T>> advanceTo(long tick) {
+        List<Timer<T>> expired = new ArrayList<>();
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+            return expired;
+        }
+        while (currentTick < tick) {
+            currentTick++;
+            // a level's current bucket moves down when all the levels below it wrapped around
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                }
+            }
+            Timer<T> head = buckets[0][(int) currentTick & SLOT_MASK];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                timer.unlink();
+                size--;
+                expired.add(timer);
+            }
+        }
+        return expired;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // earliest: the first tick the timer may still fire on (the current one while cascading,
+    // as its level-0 bucket is expired right after)
+    private void place(Timer<T> timer, long earliest) {
+        long tick = Math.max(timer.deadlineTick, earliest);
+        long delta = tick - currentTick;
+        if (delta >= MAX_DELTA) {
+            // beyond the wheel's span: park in the top level's last bucket to be cascaded, and re-placed, in turn
+            int slot = (int) ((currentTick >>> (SLOT_BITS * (LEVELS - 1))) - 1) & SLOT_MASK;
+            buckets[LEVELS - 1][slot].append(timer);
+            return;
+        }
+        // the lowest level whose span covers the delta
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        buckets[level][(int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK].append(timer);
+    }
+
+    private void cascade(int level, int slot) {
+        Timer<T> head = buckets[level][slot];
+        while (head.next != head) {
+            Timer<T> timer = head.next;
+            timer.unlink();
+            place(timer, currentTick);
+        }
+    }
+
+    /**
+     * A scheduled timer: a node in its bucket's circular list.
+     */
+    static final class Timer<T> {
+
+        private final T value;
+        private final long deadlineTick;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static <T> Timer<T> sentinel() {
+            Timer<T> head = new Timer<>(null, 0);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        T value() {
+            return value;
+        }
+
+        long deadlineTick() {
+            return deadlineTick;
+        }
+
+        private void append(Timer<T> timer) {
+            timer.prev = prev;
+            timer.next = this;
+            prev.next = timer;
+            prev = timer;
+        }
+
+        private boolean unlink() {
+            if (next == null) {
+                return false;
+            }
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.UploadSession;
+import com.PetTrackr.PetTrackr.repository.UploadSessionRepository;
+import com.PetTrackr.PetTrackr.storage.BlobStore;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Resumable (chunked) uploads for pet photos.
+ *
+ * Protocol:
+ *   1. create a session with the final file name and size
+ *   2. send chunks in order, each tagged with the offset it starts at; a chunk is only
+ *      accepted at the currently committed offset, so a retry after a dropped
+ *      connection never duplicates or skips bytes
+ *   3. query the committed offset to find where to resume
+ *   4. complete the session - the chunks are streamed back in order through the
+ *      same validation and ingest stage as a single-request upload
+ *
+ * Each chunk is streamed straight into the blob store as its own object under
+ * "uploads/{sessionId}/", so no request ever has to hold the whole file.
+ */
+@Transactional
+@Service
+public class UploadSessionService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSessionService.class);
+
+    // prefix for in-progress chunks in the blob store
+    public static final String UPLOAD_PREFIX = "uploads/";
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final PetService petService;
+    private final ImageUploadService imageUploadService;
+    private final BlobStore blobStore;
+    private final Clock clock;
+
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration sessionTtl;
+
+    public UploadSessionService(UploadSessionRepository uploadSessionRepository,
+                                PetService petService,
+                                ImageUploadService imageUploadService,
+                                BlobStore blobStore,
+                                Clock clock,
+                                @Value("${upload.resumable.max-file-size:25MB}") DataSize maxFileSize,
+                                @Value("${upload.resumable.max-chunk-size:4MB}") DataSize maxChunkSize,
+                                @Value("${upload.resumable.session-ttl:24h}") Duration sessionTtl) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.petService = petService;
+        this.imageUploadService = imageUploadService;
+        this.blobStore = blobStore;
+        this.clock = clock;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.sessionTtl = sessionTtl;
+    }
+
+    public long getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    /**
+     * Start a resumable upload of a pet photo.
+     *
+     * @throws PayloadTooLargeException if the declared size is over the file size limit
+     * @throws IllegalArgumentException if the pet doesn't exist, the name/type is invalid or the size is empty
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public UploadSession createSession(Long petId, Long ownerId, String filename, long size, String contentType) {
+        // authorize against the pet before accepting any bytes
+        petService.getPetById(petId, ownerId);
+
+        String extension = imageUploadService.resolveExtension(filename);
+        if (size <= 0) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
+        if (size > maxFileSize) {
+            throw new PayloadTooLargeException("File size exceeds maximum allowed size of "
+                    + DataSize.ofBytes(maxFileSize).toMegabytes() + "MB");
+        }
+
+        Instant now = clock.instant();
+        UploadSession session = new UploadSession(petId, ownerId, extension, contentType, size, now, now.plus(sessionTtl));
+        return uploadSessionRepository.save(session);
+    }
+
+    /**
+     * Look up a session, checking that it belongs to this owner and pet and hasn't expired.
+     *
+     * @throws IllegalArgumentException if the session doesn't exist (or has expired)
+     * @throws SecurityException if the session belongs to another owner or pet
+     */
+    public UploadSession getSession(Long petId, Long ownerId, Long uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found with ID: " + uploadId));
+
+        if (!session.getOwnerId().equals(ownerId) || !session.getPetId().equals(petId)) {
+            throw new SecurityException("Access denied: Upload session does not belong to this pet");
+        }
+        if (session.getExpiresAt().isBefore(clock.instant())) {
+            throw new IllegalArgumentException("Upload session not found with ID: " + uploadId + " (expired)");
+        }
+        return session;
+    }
+
+    /**
+     * Store the next chunk of an upload.
+     *
+     * @param offset byte offset of the first byte of this chunk in the final file
+     * @param content chunk bytes, streamed straight into the blob store
+     * @param length chunk length in bytes (the request's Content-Length)
+     * @return the session with its new committed offset
+     * @throws IllegalStateException if offset is not the committed offset (the client should resume from there)
+     * @throws PayloadTooLargeException if the chunk is larger than the chunk limit
+     * @throws IllegalArgumentException if the chunk is empty or runs past the declared size
+     */
+    public UploadSession appendChunk(Long petId, Long ownerId, Long uploadId, long offset,
+                                     InputStream content, long length) {
+        UploadSession session = getSession(petId, ownerId, uploadId);
+
+        if (offset != session.getCommittedOffset()) {
+            throw new IllegalStateException("Upload offset mismatch: expected offset "
+                    + session.getCommittedOffset() + " but got " + offset);
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("Chunk cannot be empty (Content-Length is required)");
+        }
+        if (length > maxChunkSize) {
+            throw new PayloadTooLargeException("Chunk size exceeds maximum allowed size of "
+                    + DataSize.ofBytes(maxChunkSize).toMegabytes() + "MB");
+        }
+        if (offset + length > session.getTotalSize()) {
+            throw new IllegalArgumentException("Chunk runs past the declared upload size of "
+                    + session.getTotalSize() + " bytes");
+        }
+
+        // the part index is fixed by the committed offset, so a retried chunk overwrites its own part
+        String partKey = partKey(session.getId(), session.getPartCount());
+        CountingInputStream counted = new CountingInputStream(content, length);
+        try {
+            blobStore.put(partKey, counted, length, "application/octet-stream");
+        } catch (IOException e) {
+            if (counted.getCount() < length) {
+                // client went away mid-chunk (or the store noticed the short body) - it will resend this chunk
+                deleteQuietly(partKey);
+                throw new IllegalArgumentException("Chunk body was shorter than its Content-Length");
+            }
+            throw new RuntimeException("Failed to save upload chunk: " + e.getMessage(), e);
+        }
+        if (counted.getCount() != length) {
+            deleteQuietly(partKey);
+            throw new IllegalArgumentException("Chunk body was shorter than its Content-Length");
+        }
+
+        session.setCommittedOffset(offset + length);
+        session.setPartCount(session.getPartCount() + 1);
+        return uploadSessionRepository.save(session);
+    }
+
+    /**
+     * Assemble the chunks, validate and store the image, and set it as the pet's photo.
+     *
+     * @return the updated pet
+     * @throws IllegalStateException if not all bytes have been received yet
+     */
+    public Pet completeUpload(Long petId, Long ownerId, Long uploadId) {
+        UploadSession session = getSession(petId, ownerId, uploadId);
+        if (!session.isComplete()) {
+            throw new IllegalStateException("Upload incomplete: received " + session.getCommittedOffset()
+                    + " of " + session.getTotalSize() + " bytes");
+        }
+
+        String filename;
+        try (InputStream content = openParts(session)) {
+            filename = imageUploadService.storePetImage(petId, session.getExtension(), content,
+                    session.getTotalSize(), session.getContentType());
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to save image file: " + e.getMessage(), e);
+        }
+
+        Pet pet = petService.assignPetPhoto(petId, ownerId, filename);
+        discard(session);
+        return pet;
+    }
+
+    /**
+     * Abandon an upload and delete its chunks.
+     */
+    public void abortUpload(Long petId, Long ownerId, Long uploadId) {
+        discard(getSession(petId, ownerId, uploadId));
+    }
+
+    /**
+     * Reclaim chunks of sessions that were never completed.
+     */
+    @Scheduled(fixedDelayString = "${upload.resumable.cleanup-interval:1h}")
+    public void purgeExpiredSessions() {
+        List<UploadSession> expired = uploadSessionRepository.findByExpiresAtBefore(clock.instant());
+        for (UploadSession session : expired) {
+            discard(session);
+        }
+        if (!expired.isEmpty()) {
+            log.info("Purged {} expired upload session(s)", expired.size());
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    static String partKey(Long sessionId, int partIndex) {
+        return UPLOAD_PREFIX + sessionId + "/part-" + String.format("%05d", partIndex);
+    }
+
+    private void discard(UploadSession session) {
+        for (int i = 0; i < session.getPartCount(); i++) {
+            deleteQuietly(partKey(session.getId(), i));
+        }
+        uploadSessionRepository.delete(session);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload chunk {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Concatenate the parts in order, opening each one only when the previous one is exhausted.
+     */
+    private InputStream openParts(UploadSession session) {
+        Enumeration<InputStream> parts = new Enumeration<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < session.getPartCount();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                String key = partKey(session.getId(), next++);
+                try {
+                    return blobStore.get(key)
+                            .orElseThrow(() -> new IOException("Upload chunk missing: " + key))
+                            .content();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return new SequenceInputStream(parts);
+    }
+
+    /**
+     * Passes through at most {@code limit} bytes and counts how many were read, so a body that
+     * is shorter than its declared length is detected and a longer one is cut off.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        CountingInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (count >= limit) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            if (count >= limit) {
+                return -1;
+            }
+            int n = super.read(buffer, off, (int) Math.min(len, limit - count));
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, limit - count));
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            // the caller owns the request stream
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the history of a pet's weight, which Pet itself only holds the current value of.
+ *
+ * Samples come from measurements logged here and from every change of the weight on the pet
+ * profile (see PetService). They are stored in whole grams; charts ask for a range and a
+ * number of points, and long histories are downsampled with {@link Lttb} on the server so a
+ * multi-year chart never ships more points than it can draw.
+ */
+@Service
+@Transactional
+public class WeightHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(WeightHistoryService.class);
+
+    static final double GRAMS_PER_KG = 1000;
+    static final double GRAMS_PER_POUND = 453.59237;
+
+    public static final int MIN_POINTS = 3;
+    public static final int MAX_POINTS = 5000;
+
+    private final WeightSampleRepository weightSampleRepository;
+    private final PetService petService; // to verify pet ownership
+    private final Clock clock;
+
+    public WeightHistoryService(WeightSampleRepository weightSampleRepository, PetService petService, Clock clock) {
+        this.weightSampleRepository = weightSampleRepository;
+        this.petService = petService;
+        this.clock = clock;
+    }
+
+    /**
+     * A range of a pet's weight history, downsampled.
+     *
+     * @param unit the unit to show the weights in
+     * @param totalSamples how many samples the range holds before downsampling
+     * @param samples the samples to draw, oldest first
+     */
+    public record WeightHistory(WeightType unit, int totalSamples, List<WeightSample> samples) {
+    }
+
+    /**
+     * A logged measurement and the unit it was entered in.
+     */
+    public record LoggedWeight(WeightSample sample, WeightType unit) {
+    }
+
+    /**
+     * Log a weight measurement. A measurement at least as recent as every other sample also
+     * becomes the pet's current weight.
+     *
+     * @param weightType unit of the weight (null for the pet's unit)
+     * @param measuredAt when the pet was weighed (null for now)
+     * @throws IllegalArgumentException if the pet doesn't exist or input is invalid
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public LoggedWeight logWeight(Long petId, Long requestingOwnerId, Double weight, WeightType weightType,
+                                  Instant measuredAt) {
+        Pet pet = petService.getPetById(petId, requestingOwnerId);
+
+        Instant now = clock.instant();
+        if (weight == null || weight <= 0) {
+            throw new IllegalArgumentException("Weight must be greater than zero");
+        }
+        if (measuredAt == null) {
+            measuredAt = now;
+        } else if (measuredAt.isAfter(now)) {
+            throw new IllegalArgumentException("Measurement time cannot be in the future");
+        }
+        if (weightType == null) {
+            weightType = pet.getWeightType();
+        }
+
+        Optional<WeightSample> latest = weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(petId);
+        WeightSample sample = weightSampleRepository.save(new WeightSample(petId, measuredAt, toGrams(weight, weightType)));
+        if (latest.isEmpty() || !measuredAt.isBefore(latest.get().getMeasuredAt())) {
+            // keep the exact value when the units match, rather than a round trip through grams
+            pet.setWeight(weightType == pet.getWeightType() ? weight : fromGrams(sample.getWeightGrams(), pet.getWeightType()));
+        }
+        return new LoggedWeight(sample, weightType);
+    }
+
+    /**
+     * Delete a sample (e.g. a typo). Deleting the latest one puts the pet's current weight
+     * back to the one before it.
+     *
+     * @throws IllegalArgumentException if the sample doesn't exist
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public WeightSample deleteWeight(Long sampleId, Long petId, Long requestingOwnerId) {
+        WeightSample sample = weightSampleRepository.findById(sampleId)
+                .filter(s -> s.getPetId().equals(petId))
+                .orElseThrow(() -> new IllegalArgumentException("Weight sample not found with id: " + sampleId));
+        Pet pet = petService.getPetById(petId, requestingOwnerId);
+
+        boolean wasLatest = weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(petId)
+                .map(latest -> latest.getId().equals(sampleId))
+                .orElse(false);
+        weightSampleRepository.delete(sample);
+        if (wasLatest) {
+            weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(petId)
+                    .ifPresent(previous -> pet.setWeight(fromGrams(previous.getWeightGrams(), pet.getWeightType())));
+        }
+        return sample;
+    }
+
+    /**
+     * Get a pet's weight samples in [from, to), downsampled to at most {@code points} samples.
+     *
+     * @param from start of the range (null for the beginning of the history)
+     * @param to end of the range, exclusive (null for now)
+     * @param points the most samples to return (3-5000)
+     * @param unit the unit to show the weights in (null for the pet's unit)
+     * @throws IllegalArgumentException if the pet doesn't exist or the range is invalid
+     * @throws SecurityException if the pet doesn't belong to the owner
+     */
+    public WeightHistory getWeightHistory(Long petId, Long requestingOwnerId, Instant from, Instant to,
+                                          int points, WeightType unit) {
+        if (points < MIN_POINTS || points > MAX_POINTS) {
+            throw new IllegalArgumentException("points must be between " + MIN_POINTS + " and " + MAX_POINTS);
+        }
+        if (from == null) {
+            from = Instant.EPOCH;
+        }
+        if (to == null) {
+            to = clock.instant().plusMillis(1); // samples at exactly now are included
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        Pet pet = petService.getPetById(petId, requestingOwnerId);
+
+        List<WeightSample> samples = weightSampleRepository
+                .findByPetIdAndMeasuredAtGreaterThanEqualAndMeasuredAtLessThanOrderByMeasuredAtAsc(petId, from, to);
+        return new WeightHistory(unit != null ? unit : pet.getWeightType(), samples.size(), downsample(samples, points));
+    }
+
+    /**
+     * Drop the weight history of deleted pets.
+     */
+    @Scheduled(fixedDelayString = "${weights.purge-interval:24h}", initialDelayString = "${weights.purge-interval:24h}")
+    public void purge() {
+        int deleted = weightSampleRepository.deleteOfDeletedPets();
+        log.info("Purged weight history of deleted pets: {} samples", deleted);
+    }
+
+    /**
+     * A weight in whole grams, the unit samples are stored in.
+     */
+    public static int toGrams(double weight, WeightType unit) {
+        return (int) Math.round(weight * (unit == WeightType.LBS ? GRAMS_PER_POUND : GRAMS_PER_KG));
+    }
+
+    /**
+     * A stored weight in the given unit, to two decimals (a stored gram is finer than that).
+     */
+    public static double fromGrams(int grams, WeightType unit) {
+        double weight = grams / (unit == WeightType.LBS ? GRAMS_PER_POUND : GRAMS_PER_KG);
+        return Math.round(weight * 100) / 100.0;
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static List<WeightSample> downsample(List<WeightSample> samples, int points) {
+        if (samples.size() <= points) {
+            return samples;
+        }
+        long[] x = new long[samples.size()];
+        double[] y = new double[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            x[i] = samples.get(i).getMeasuredAt().toEpochMilli();
+            y[i] = samples.get(i).getWeightGrams();
+        }
+        List<WeightSample> kept = new ArrayList<>(points);
+        for (int index : Lttb.select(x, y, points)) {
+            kept.add(samples.get(index));
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,293 @@
+package com.PetTrackr.PetTrackr.session;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessions in the web_session / web_session_attribute tables of the application database,
+ * shared by every node (enabled with session-store.type=jdbc in session auth mode).
+ *
+ * A request that uses an existing session reads one row; its attributes are a second
+ * query, made only if the request actually reads one. Access times are not written per
+ * request: they are collected in memory and written in one batch every flush-interval,
+ * so an active session costs at most one UPDATE per interval on each node. Expired
+ * sessions are deleted by a periodic sweep (allowing for other nodes' unflushed accesses).
+ */
+@Component
+public class JdbcSessionRepository implements SessionRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcSessionRepository.class);
+
+    private static final String INSERT_SESSION = """
+            INSERT INTO web_session (id, created_at, last_accessed_at, max_inactive_seconds, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_SESSION = """
+            SELECT created_at, last_accessed_at, max_inactive_seconds FROM web_session WHERE id = ?
+            """;
+    private static final String UPDATE_ACCESS = """
+            UPDATE web_session SET last_accessed_at = ?, max_inactive_seconds = ?, expires_at = ?
+            WHERE id = ? AND last_accessed_at <= ?
+            """;
+    private static final String UPDATE_SESSION_ID = "UPDATE web_session SET id = ? WHERE id = ?";
+    private static final String DELETE_SESSION = "DELETE FROM web_session WHERE id = ?";
+    private static final String DELETE_EXPIRED_SESSIONS = "DELETE FROM web_session WHERE expires_at < ?";
+
+    private static final String SELECT_ATTRIBUTES = """
+            SELECT attribute_name, attribute_value FROM web_session_attribute WHERE session_id = ?
+            """;
+    private static final String UPSERT_ATTRIBUTE = """
+            MERGE INTO web_session_attribute t
+            USING (VALUES (CAST(? AS VARCHAR(64)), CAST(? AS VARCHAR(200)), CAST(? AS BLOB)))
+                AS s (session_id, attribute_name, attribute_value)
+            ON t.session_id = s.session_id AND t.attribute_name = s.attribute_name
+            WHEN MATCHED THEN UPDATE SET attribute_value = s.attribute_value
+            WHEN NOT MATCHED THEN INSERT (session_id, attribute_name, attribute_value)
+                VALUES (s.session_id, s.attribute_name, s.attribute_value)
+            """;
+    private static final String DELETE_ATTRIBUTE = """
+            DELETE FROM web_session_attribute WHERE session_id = ? AND attribute_name = ?
+            """;
+    private static final String UPDATE_ATTRIBUTES_SESSION_ID = """
+            UPDATE web_session_attribute SET session_id = ? WHERE session_id = ?
+            """;
+    private static final String DELETE_ATTRIBUTES = "DELETE FROM web_session_attribute WHERE session_id = ?";
+    private static final String DELETE_EXPIRED_ATTRIBUTES = """
+            DELETE FROM web_session_attribute
+            WHERE session_id IN (SELECT id FROM web_session WHERE expires_at < ?)
+            """;
+
+    private static final SecureRandom ID_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration flushInterval;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter(getClass().getClassLoader());
+
+    // accesses not written yet, latest per session
+    private final Map<String, PendingAccess> pendingAccess = new ConcurrentHashMap<>();
+
+    public JdbcSessionRepository(JdbcTemplate jdbcTemplate,
+                                 Clock clock,
+                                 @Value("${session-store.type:jdbc}") String storeType,
+                                 @Value("${auth.mode:session}") String authMode,
+                                 @Value("${session-store.flush-interval:10s}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        // token mode has no sessions at all
+        this.enabled = "jdbc".equalsIgnoreCase(storeType.trim()) && !"token".equalsIgnoreCase(authMode);
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return true if sessions should be kept here rather than in the servlet container
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public StoredSession createSession(Duration maxInactiveInterval) {
+        String id = newSessionId();
+        Instant now = clock.instant();
+        jdbcTemplate.update(INSERT_SESSION, id, utc(now), utc(now), seconds(maxInactiveInterval),
+                utc(now.plus(maxInactiveInterval)));
+        return new StoredSession(id, now, now, maxInactiveInterval, true, this::loadAttributes);
+    }
+
+    @Override
+    public Optional<StoredSession> findById(String id) {
+        if (id == null || id.isEmpty() || id.length() > 64) {
+            return Optional.empty();
+        }
+        List<StoredSession> found = jdbcTemplate.query(SELECT_SESSION, (rs, rowNum) -> new StoredSession(
+                id,
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("last_accessed_at", OffsetDateTime.class).toInstant(),
+                Duration.ofSeconds(rs.getInt("max_inactive_seconds")),
+                false,
+                this::loadAttributes), id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // this node may have seen the session more recently than the database has
+        StoredSession session = found.get(0);
+        PendingAccess pending = pendingAccess.get(id);
+        if (pending != null && pending.accessedAt().isAfter(session.getLastAccessedTime())) {
+            session.setLastAccessedTime(pending.accessedAt());
+            session.setMaxInactiveIntervalValue(pending.maxInactiveInterval());
+        }
+        if (session.isExpired(clock.instant())) {
+            pendingAccess.remove(id);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void setAttribute(StoredSession session, String name, Object value) {
+        if (value == null) {
+            jdbcTemplate.update(DELETE_ATTRIBUTE, session.getId(), name);
+        } else {
+            if (!(value instanceof Serializable)) {
+                throw new IllegalArgumentException("Session attribute " + name + " is not serializable");
+            }
+            jdbcTemplate.update(UPSERT_ATTRIBUTE, session.getId(), name, serializer.convert(value));
+        }
+        session.putAttribute(name, value);
+    }
+
+    @Override
+    public void recordAccess(StoredSession session) {
+        Instant now = clock.instant();
+        session.setLastAccessedTime(now);
+        if (!session.isNew()) {
+            pendingAccess.put(session.getId(), new PendingAccess(now, session.getMaxInactiveInterval()));
+        }
+    }
+
+    @Override
+    public void setMaxInactiveInterval(StoredSession session, Duration maxInactiveInterval) {
+        session.setMaxInactiveIntervalValue(maxInactiveInterval);
+        pendingAccess.put(session.getId(), new PendingAccess(session.getLastAccessedTime(), maxInactiveInterval));
+    }
+
+    @Override
+    @Transactional
+    public String changeSessionId(StoredSession session) {
+        String oldId = session.getId();
+        String newId = newSessionId();
+        jdbcTemplate.update(UPDATE_SESSION_ID, newId, oldId);
+        jdbcTemplate.update(UPDATE_ATTRIBUTES_SESSION_ID, newId, oldId);
+        PendingAccess pending = pendingAccess.remove(oldId);
+        if (pending != null) {
+            pendingAccess.put(newId, pending);
+        }
+        session.setId(newId);
+        return newId;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String id) {
+        pendingAccess.remove(id);
+        jdbcTemplate.update(DELETE_ATTRIBUTES, id);
+        jdbcTemplate.update(DELETE_SESSION, id);
+    }
+
+    /**
+     * Write the collected access times in one batch.
+     */
+    @Scheduled(fixedDelayString = "${session-store.flush-interval:10s}")
+    public void flush() {
+        if (!enabled || pendingAccess.isEmpty()) {
+            return;
+        }
+        Map<String, PendingAccess> drained = new HashMap<>();
+        for (Map.Entry<String, PendingAccess> entry : pendingAccess.entrySet()) {
+            if (pendingAccess.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        List<Map.Entry<String, PendingAccess>> updates = new ArrayList<>(drained.entrySet());
+        try {
+            // the last_accessed_at guard keeps a slower node from moving a session's expiry backwards
+            jdbcTemplate.batchUpdate(UPDATE_ACCESS, updates, updates.size(), (statement, update) -> {
+                PendingAccess access = update.getValue();
+                statement.setObject(1, utc(access.accessedAt()));
+                statement.setInt(2, seconds(access.maxInactiveInterval()));
+                statement.setObject(3, utc(access.accessedAt().plus(access.maxInactiveInterval())));
+                statement.setString(4, update.getKey());
+                statement.setObject(5, utc(access.accessedAt()));
+            });
+        } catch (DataAccessException e) {
+            // keep them for the next flush unless a newer access came in meanwhile
+            drained.forEach(pendingAccess::putIfAbsent);
+            log.warn("Failed to write {} session access times, will retry: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete sessions that have expired, with their attributes.
+     */
+    @Scheduled(fixedDelayString = "${session-store.sweep-interval:5m}", initialDelayString = "${session-store.sweep-interval:5m}")
+    @Transactional
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        // other nodes may still hold an unwritten access for sessions right at the limit
+        OffsetDateTime cutoff = utc(clock.instant().minus(flushInterval.multipliedBy(2)));
+        jdbcTemplate.update(DELETE_EXPIRED_ATTRIBUTES, cutoff);
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SESSIONS, cutoff);
+        log.debug("Swept {} expired sessions", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int pendingAccessCount() {
+        return pendingAccess.size();
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private Map<String, Object> loadAttributes(String sessionId) {
+        Map<String, Object> attributes = new HashMap<>();
+        jdbcTemplate.query(SELECT_ATTRIBUTES, rs -> {
+            attributes.put(rs.getString("attribute_name"), deserializer.convert(rs.getBytes("attribute_value")));
+        }, sessionId);
+        return attributes;
+    }
+
+    private static String newSessionId() {
+        byte[] bytes = new byte[32];
+        ID_RANDOM.nextBytes(bytes);
+        return ID_ENCODER.encodeToString(bytes);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static int seconds(Duration duration) {
+        return (int) Math.min(Integer.MAX_VALUE, duration.toSeconds());
+    }
+
+    private record PendingAccess(Instant accessedAt, Duration maxInactiveInterval) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.PetTrackr.PetTrackr.session;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage for HTTP sessions that outlives a single node (see SessionRepositoryFilter).
+ *
+ * Attribute changes are written when they are made - they are rare (login, logout, profile
+ * updates). Access times change on every request, so implementations may record them
+ * later in batches; a session's expiry can then lag by up to one batch interval.
+ * Implementations must be safe to share between request threads.
+ *
+ * Implementations:
+ *   JdbcSessionRepository - tables in the application's own database
+ */
+public interface SessionRepository {
+
+    /**
+     * Create and store a new, empty session.
+     *
+     * @param maxInactiveInterval idle time after which the session expires
+     */
+    StoredSession createSession(Duration maxInactiveInterval);
+
+    /**
+     * Load a session without its attributes (they are read on first use).
+     *
+     * @return the session, or empty if it doesn't exist or has expired
+     */
+    Optional<StoredSession> findById(String id);
+
+    /**
+     * Store, replace or (with a null value) remove an attribute.
+     *
+     * @throws IllegalArgumentException if the value can't be serialized
+     */
+    void setAttribute(StoredSession session, String name, Object value);
+
+    /**
+     * Note that the session was used now, extending its life. May be written later.
+     */
+    void recordAccess(StoredSession session);
+
+    /**
+     * Change how long the session may be idle. May be written later.
+     */
+    void setMaxInactiveInterval(StoredSession session, Duration maxInactiveInterval);
+
+    /**
+     * Give the session a new id, keeping its attributes (e.g. after login, against session fixation).
+     *
+     * @return the new id
+     */
+    String changeSessionId(StoredSession session);
+
+    /**
+     * Delete a session and its attributes. Deleting a missing session is not an error.
+     */
+    void deleteById(String id);
+}
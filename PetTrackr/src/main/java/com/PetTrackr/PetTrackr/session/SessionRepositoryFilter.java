@@ -0,0 +1,253 @@
+package com.PetTrackr.PetTrackr.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Optional;
+
+/**
+ * Serves request.getSession() from a {@link SessionRepository} instead of the servlet
+ * container's memory, so sessions survive restarts and any node can handle any request.
+ *
+ * Runs ahead of Spring Security; everything downstream (the security context repository,
+ * logout, account deletion) keeps using the plain HttpSession API. The session id travels
+ * in its own HttpOnly cookie. A session is only looked up when something asks for it.
+ */
+public class SessionRepositoryFilter extends OncePerRequestFilter {
+
+    private final SessionRepository sessionRepository;
+    private final String cookieName;
+    private final Duration maxInactiveInterval;
+
+    public SessionRepositoryFilter(SessionRepository sessionRepository, String cookieName,
+                                   Duration maxInactiveInterval) {
+        this.sessionRepository = sessionRepository;
+        this.cookieName = cookieName;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(new SessionRequest(request, response), response);
+    }
+
+    // error pages and async completions must see the same session
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    // ========================================
+    // Request Wrapper
+    // ========================================
+
+    private final class SessionRequest extends HttpServletRequestWrapper {
+
+        private final HttpServletResponse response;
+        private final String requestedSessionId;
+        private boolean resolved;
+        private boolean requestedSessionValid;
+        private StoredSession session; // null if there is none (or it was invalidated)
+
+        SessionRequest(HttpServletRequest request, HttpServletResponse response) {
+            super(request);
+            this.response = response;
+            this.requestedSessionId = readCookie(request);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (!resolved) {
+                resolved = true;
+                Optional<StoredSession> existing = sessionRepository.findById(requestedSessionId);
+                existing.ifPresent(sessionRepository::recordAccess);
+                session = existing.orElse(null);
+                requestedSessionValid = session != null;
+            }
+            if (session == null && create) {
+                session = sessionRepository.createSession(maxInactiveInterval);
+                writeCookie(session.getId(), null);
+            }
+            return session == null ? null : new SessionAdapter(this, session);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            if (getSession(false) == null) {
+                throw new IllegalStateException("No session to change the id of");
+            }
+            String newId = sessionRepository.changeSessionId(session);
+            writeCookie(newId, null);
+            return newId;
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            return requestedSessionId;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            if (requestedSessionId == null) {
+                return false;
+            }
+            getSession(false);
+            return requestedSessionValid && session != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return requestedSessionId != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return false;
+        }
+
+        void invalidate(StoredSession invalidated) {
+            sessionRepository.deleteById(invalidated.getId());
+            session = null;
+            writeCookie("", Duration.ZERO);
+        }
+
+        private String readCookie(HttpServletRequest request) {
+            Cookie[] cookies = request.getCookies();
+            if (cookies != null) {
+                for (Cookie cookie : cookies) {
+                    if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                        return cookie.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+
+        // maxAge null = browser-session cookie; the server decides when the session expires
+        private void writeCookie(String value, Duration maxAge) {
+            String contextPath = getContextPath();
+            ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(cookieName, value)
+                    .path(contextPath.isEmpty() ? "/" : contextPath)
+                    .httpOnly(true)
+                    .secure(isSecure())
+                    .sameSite("Lax");
+            if (maxAge != null) {
+                cookie.maxAge(maxAge);
+            }
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+        }
+    }
+
+    // ========================================
+    // HttpSession Adapter
+    // ========================================
+
+    private final class SessionAdapter implements HttpSession {
+
+        private final SessionRequest request;
+        private final StoredSession session;
+
+        SessionAdapter(SessionRequest request, StoredSession session) {
+            this.request = request;
+            this.session = session;
+        }
+
+        @Override
+        public long getCreationTime() {
+            checkValid();
+            return session.getCreationTime().toEpochMilli();
+        }
+
+        @Override
+        public String getId() {
+            return session.getId();
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            checkValid();
+            return session.getLastAccessedTime().toEpochMilli();
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return request.getServletContext();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            sessionRepository.setMaxInactiveInterval(session, Duration.ofSeconds(interval));
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return (int) session.getMaxInactiveInterval().toSeconds();
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            checkValid();
+            return session.getAttribute(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            checkValid();
+            return Collections.enumeration(session.getAttributeNames());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            checkValid();
+            sessionRepository.setAttribute(session, name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            checkValid();
+            sessionRepository.setAttribute(session, name, null);
+        }
+
+        @Override
+        public void invalidate() {
+            checkValid();
+            request.invalidate(session);
+        }
+
+        @Override
+        public boolean isNew() {
+            checkValid();
+            return session.isNew();
+        }
+
+        private void checkValid() {
+            if (request.session != session) {
+                throw new IllegalStateException("Session has been invalidated");
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.PetTrackr.PetTrackr.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A session as loaded by a {@link SessionRepository} for one request.
+ *
+ * Attributes are fetched from the repository the first time one is read, so requests
+ * that never look at the session (or only check that it exists) cost a single lookup.
+ * Changes go through the repository, which updates this copy as well.
+ */
+public final class StoredSession {
+
+    private String id;
+    private final Instant creationTime;
+    private Instant lastAccessedTime;
+    private Duration maxInactiveInterval;
+    private final boolean isNew;
+
+    private final Function<String, Map<String, Object>> attributeLoader;
+    private Map<String, Object> attributes; // null until first read
+
+    StoredSession(String id, Instant creationTime, Instant lastAccessedTime, Duration maxInactiveInterval,
+                  boolean isNew, Function<String, Map<String, Object>> attributeLoader) {
+        this.id = id;
+        this.creationTime = creationTime;
+        this.lastAccessedTime = lastAccessedTime;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.isNew = isNew;
+        this.attributeLoader = attributeLoader;
+        if (isNew) {
+            this.attributes = new HashMap<>(); // nothing to load yet
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    public Instant getLastAccessedTime() {
+        return lastAccessedTime;
+    }
+
+    public Duration getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    /**
+     * @return true if the session was created during this request
+     */
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Object getAttribute(String name) {
+        return loadedAttributes().get(name);
+    }
+
+    public Set<String> getAttributeNames() {
+        return Collections.unmodifiableSet(loadedAttributes().keySet());
+    }
+
+    /**
+     * @return true once the attributes have been read from the repository
+     */
+    public boolean isAttributesLoaded() {
+        return attributes != null;
+    }
+
+    /**
+     * @return true if the session has been idle longer than its max inactive interval
+     */
+    public boolean isExpired(Instant now) {
+        return !lastAccessedTime.plus(maxInactiveInterval).isAfter(now);
+    }
+
+    // ========================================
+    // Updates (by the repository)
+    // ========================================
+
+    void setId(String id) {
+        this.id = id;
+    }
+
+    void setLastAccessedTime(Instant lastAccessedTime) {
+        this.lastAccessedTime = lastAccessedTime;
+    }
+
+    void setMaxInactiveIntervalValue(Duration maxInactiveInterval) {
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    // attributes that haven't been loaded yet will be read back from the store, change included
+    void putAttribute(String name, Object value) {
+        if (attributes == null) {
+            return;
+        }
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    private Map<String, Object> loadedAttributes() {
+        if (attributes == null) {
+            attributes = new HashMap<>(attributeLoader.apply(id));
+        }
+        return attributes;
+    }
+}
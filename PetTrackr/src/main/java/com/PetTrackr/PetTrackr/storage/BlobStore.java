@@ -0,0 +1,114 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage backend for uploaded binary objects (pet images).
+ *
+ * Keys are relative names such as "12_1700000000000.jpg" - the same value that
+ * is persisted in Pet.photoURL. Keys may use '/' to group objects but can never
+ * be absolute or contain "..". Implementations must be safe to share between
+ * request threads.
+ *
+ * Implementations:
+ *   LocalFileBlobStore - files under a local (or network-mounted) directory
+ *   S3BlobStore        - any S3-compatible object store (AWS S3, MinIO, ...)
+ *   CachingBlobStore   - in-process read cache wrapped around either of the above
+ */
+public interface BlobStore {
+
+    /**
+     * Store an object, replacing any existing object with the same key.
+     * The content stream is consumed but not closed.
+     *
+     * @param key object key
+     * @param content stream positioned at the start of the object body
+     * @param contentLength exact number of bytes that will be read from content
+     * @param contentType MIME type recorded with the object (may be null)
+     * @throws IOException if the object cannot be written
+     */
+    void put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * Open an object for streaming reads.
+     * The caller is responsible for closing the returned blob's stream.
+     *
+     * @param key object key
+     * @return the object, or empty if no object exists under that key
+     * @throws IOException if the backend cannot be read
+     */
+    Optional<Blob> get(String key) throws IOException;
+
+    /**
+     * Check whether an object exists without reading its body.
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Delete an object. Deleting a missing key is not an error.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Build a URL that clients can use to GET the object directly from the backend,
+     * bypassing the app nodes (e.g. an S3 presigned URL).
+     *
+     * @param key object key
+     * @param ttl how long the URL should stay valid
+     * @return the URL, or empty if the backend can only be read through the app
+     */
+    Optional<URI> directGetUrl(String key, Duration ttl);
+
+    /**
+     * List stored objects whose key starts with the given prefix, in no particular order.
+     * The listing is produced lazily (directory by directory, or page by page), so
+     * walking a large store never holds every key in memory. The caller must close the stream.
+     *
+     * @param prefix key prefix to restrict the listing to ("" for everything)
+     * @throws IOException if the listing cannot be started
+     */
+    Stream<BlobInfo> list(String prefix) throws IOException;
+
+    /**
+     * Validate an object key before it is handed to a backend.
+     *
+     * @param key the key to check
+     * @return the same key, for chaining
+     * @throws IllegalArgumentException if the key is empty, absolute or tries to escape the store
+     */
+    static String requireValidKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Storage key cannot be empty");
+        }
+        if (key.startsWith("/") || key.contains("\\") || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return key;
+    }
+
+    /**
+     * An object opened for reading.
+     *
+     * @param content object body - must be closed by the caller
+     * @param contentLength size of the body in bytes, or -1 if unknown
+     * @param contentType MIME type recorded with the object, or null if unknown
+     */
+    record Blob(InputStream content, long contentLength, String contentType) {
+    }
+
+    /**
+     * Listing entry for a stored object.
+     *
+     * @param key object key
+     * @param size size of the object in bytes
+     * @param lastModified when the object was last written
+     */
+    record BlobInfo(String key, long size, Instant lastModified) {
+    }
+}
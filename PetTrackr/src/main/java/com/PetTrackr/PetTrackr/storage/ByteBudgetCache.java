@@ -0,0 +1,277 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * In-process cache for binary bodies (images and image derivatives) bounded by
+ * total bytes instead of entry count.
+ *
+ * - Bodies can be kept off-heap in direct ByteBuffers so a large cache doesn't
+ *   inflate GC pauses; reads hand out read-only views without copying.
+ * - Eviction is LRU, but a new entry is only admitted if it has been requested
+ *   more often than the entries it would push out (a TinyLFU-style frequency
+ *   sketch). A one-off request for a large file therefore can't flush the hot
+ *   set of small thumbnails.
+ * - Entries larger than maxEntryBytes are never cached.
+ *
+ * All operations are thread-safe.
+ *
+ * @param <K> cache key type
+ */
+public class ByteBudgetCache<K> {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+
+    // access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long usedBytes;
+
+    // counters are read by the metrics binder without taking the lock
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ByteBudgetCache(long maxBytes, long maxEntryBytes, boolean offHeap) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache budget must be greater than zero");
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.offHeap = offHeap;
+        // size the sketch for the number of small (~16KB) entries the budget could hold
+        this.sketch = new FrequencySketch(maxBytes / (16 * 1024));
+    }
+
+    /**
+     * Look up a cached body.
+     *
+     * @return a read-only view of the body, or empty on a miss
+     */
+    public Optional<CachedValue> get(K key) {
+        Entry entry;
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(new CachedValue(entry.body.asReadOnlyBuffer(), entry.contentType));
+    }
+
+    /**
+     * Check whether a key is cached without counting it as a request.
+     */
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Count a request for a key that is answered elsewhere (e.g. by redirecting the client
+     * to the backend), so the key still builds up frequency for admission.
+     */
+    public void recordMiss(K key) {
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+        }
+        misses.increment();
+    }
+
+    /**
+     * Estimated number of recent requests for a key.
+     */
+    public synchronized int frequency(K key) {
+        return sketch.frequency(key.hashCode());
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Offer a body to the cache. The body is copied; the caller keeps ownership of the array.
+     *
+     * @return true if the body was admitted, false if it was too large or not popular enough
+     */
+    public boolean put(K key, byte[] body, String contentType) {
+        if (body.length > maxEntryBytes) {
+            rejections.increment();
+            return false;
+        }
+
+        synchronized (this) {
+            Entry existing = entries.remove(key);
+            if (existing != null) {
+                usedBytes -= existing.size();
+            }
+
+            long needed = usedBytes + body.length - maxBytes;
+            if (needed > 0 && !evictFor(key, needed)) {
+                rejections.increment();
+                return false;
+            }
+
+            // only admitted bodies get a buffer - direct memory is only returned by GC
+            ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(body.length) : ByteBuffer.allocate(body.length);
+            buffer.put(body).flip();
+            entries.put(key, new Entry(buffer, contentType));
+            usedBytes += body.length;
+        }
+        admissions.increment();
+        return true;
+    }
+
+    /**
+     * Drop an entry (e.g. after the underlying object was replaced or deleted).
+     */
+    public synchronized void invalidate(K key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.size();
+        }
+    }
+
+    /**
+     * Drop every entry whose key matches the predicate.
+     */
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        Iterator<Map.Entry<K, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry> next = it.next();
+            if (predicate.test(next.getKey())) {
+                usedBytes -= next.getValue().size();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), usedBytes, maxBytes,
+                hits.sum(), misses.sum(), admissions.sum(), rejections.sum(), evictions.sum());
+    }
+
+    /**
+     * Free at least {@code needed} bytes by evicting from the LRU end, but only if the
+     * candidate is requested more often than every entry that would have to go.
+     * Must be called while holding the lock.
+     */
+    private boolean evictFor(K candidateKey, long needed) {
+        int candidateFrequency = sketch.frequency(candidateKey.hashCode());
+
+        List<K> victims = new ArrayList<>();
+        long freed = 0;
+        for (Map.Entry<K, Entry> lru : entries.entrySet()) {
+            if (freed >= needed) {
+                break;
+            }
+            if (sketch.frequency(lru.getKey().hashCode()) >= candidateFrequency) {
+                return false;
+            }
+            victims.add(lru.getKey());
+            freed += lru.getValue().size();
+        }
+        if (freed < needed) {
+            return false;
+        }
+
+        for (K victim : victims) {
+            usedBytes -= entries.remove(victim).size();
+            evictions.increment();
+        }
+        return true;
+    }
+
+    /**
+     * A cached body and its content type. The buffer is a read-only view positioned at the start.
+     */
+    public record CachedValue(ByteBuffer body, String contentType) {
+    }
+
+    /**
+     * Point-in-time cache statistics for metrics.
+     */
+    public record Stats(int entries, long usedBytes, long maxBytes,
+                        long hits, long misses, long admissions, long rejections, long evictions) {
+    }
+
+    private record Entry(ByteBuffer body, String contentType) {
+        long size() {
+            return body.capacity();
+        }
+    }
+
+    /**
+     * Count-min sketch with 4-bit saturating counters, used to estimate how often a key
+     * has been requested recently. All counters are halved every sampleSize increments
+     * so the estimate follows changes in popularity.
+     */
+    static class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long expectedEntries) {
+            int width = Integer.highestOneBit((int) Math.min(1 << 24, Math.max(256, expectedEntries * 4)) - 1) << 1;
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = width * 10;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = index(hash, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counters[row][index(hash, row)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
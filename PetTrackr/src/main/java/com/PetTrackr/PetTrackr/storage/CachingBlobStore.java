@@ -0,0 +1,105 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * In-process read cache in front of another BlobStore.
+ *
+ * Popular images are kept in a ByteBudgetCache so repeat reads are served from
+ * memory without touching disk or the network. Image keys are never reused
+ * (every upload gets a new timestamped name), so entries cannot go stale when
+ * another node writes; local writes and deletes still evict for safety.
+ *
+ * Backends that hand out direct download URLs (S3) would otherwise redirect every
+ * request and the cache would never serve anything. Instead, a cached image is served
+ * from memory, and an image that was already requested recently is proxied once so it
+ * can be admitted; only first requests are redirected to the backend.
+ */
+public class CachingBlobStore implements BlobStore {
+
+    private final BlobStore delegate;
+    private final ByteBudgetCache<String> cache;
+
+    public CachingBlobStore(BlobStore delegate, ByteBudgetCache<String> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public BlobStore getDelegate() {
+        return delegate;
+    }
+
+    public ByteBudgetCache<String> getCache() {
+        return cache;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        cache.invalidate(key);
+        delegate.put(key, content, contentLength, contentType);
+    }
+
+    @Override
+    public Optional<Blob> get(String key) throws IOException {
+        Optional<ByteBudgetCache.CachedValue> cached = cache.get(key);
+        if (cached.isPresent()) {
+            ByteBudgetCache.CachedValue value = cached.get();
+            return Optional.of(new Blob(new ByteBufferInputStream(value.body()),
+                    value.body().remaining(), value.contentType()));
+        }
+
+        Optional<Blob> blob = delegate.get(key);
+        if (blob.isEmpty()) {
+            return blob;
+        }
+
+        // only buffer objects that could ever be admitted - large ones are streamed through untouched
+        long length = blob.get().contentLength();
+        if (length < 0 || length > cache.getMaxEntryBytes()) {
+            return blob;
+        }
+
+        byte[] body;
+        try (InputStream in = blob.get().content()) {
+            body = in.readAllBytes();
+        }
+        cache.put(key, body, blob.get().contentType());
+        return Optional.of(new Blob(new ByteArrayInputStream(body), body.length, blob.get().contentType()));
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        // peek without counting as a request, so existence checks don't skew admission
+        return cache.contains(key) || delegate.exists(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        cache.invalidate(key);
+        delegate.delete(key);
+    }
+
+    @Override
+    public Optional<URI> directGetUrl(String key, Duration ttl) {
+        // empty means "read it through get()", which serves or fills the cache
+        if (cache.contains(key) || cache.frequency(key) > 0) {
+            return Optional.empty();
+        }
+        Optional<URI> url = delegate.directGetUrl(key, ttl);
+        if (url.isPresent()) {
+            cache.recordMiss(key);
+        }
+        return url;
+    }
+
+    @Override
+    public Stream<BlobInfo> list(String prefix) throws IOException {
+        return delegate.list(prefix);
+    }
+}
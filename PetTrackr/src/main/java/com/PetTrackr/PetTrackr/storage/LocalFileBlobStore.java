@@ -0,0 +1,138 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * BlobStore backed by a directory on the local filesystem.
+ *
+ * This is the default backend and keeps the existing "file.upload-dir" layout,
+ * so images uploaded before the BlobStore abstraction are still served.
+ * Multiple app nodes can share it only if the directory is a shared mount.
+ */
+public class LocalFileBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalFileBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // write to a temp file first and move it into place so readers never see a half-written image
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                long copied = content.transferTo(out);
+                if (contentLength >= 0 && copied != contentLength) {
+                    throw new IOException("Expected " + contentLength + " bytes but received " + copied);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<Blob> get(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            long size = Files.size(path);
+            InputStream in = Files.newInputStream(path);
+            return Optional.of(new Blob(in, size, contentTypeFor(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<URI> directGetUrl(String key, Duration ttl) {
+        // local files are only reachable through ImageController
+        return Optional.empty();
+    }
+
+    @Override
+    public Stream<BlobInfo> list(String prefix) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        // Files.walk reads directories lazily; closing the returned stream releases the handles
+        return Files.walk(root)
+                .filter(Files::isRegularFile)
+                .map(this::toBlobInfo)
+                .filter(info -> info != null && info.key().startsWith(prefix));
+    }
+
+    private BlobInfo toBlobInfo(Path path) {
+        String key = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            // deleted between listing and stat - nothing to report
+            return null;
+        }
+    }
+
+    /**
+     * Resolve a key to a path and make sure it stays inside the root directory.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(BlobStore.requireValidKey(key)).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    /**
+     * Determine the content type based on file extension.
+     */
+    static String contentTypeFor(String key) {
+        String lowerKey = key.toLowerCase();
+        if (lowerKey.endsWith(".jpg") || lowerKey.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (lowerKey.endsWith(".png")) {
+            return "image/png";
+        } else if (lowerKey.endsWith(".gif")) {
+            return "image/gif";
+        } else if (lowerKey.endsWith(".webp")) {
+            return "image/webp";
+        }
+        return null;
+    }
+}
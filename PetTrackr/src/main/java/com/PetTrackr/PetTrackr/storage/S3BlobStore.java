@@ -0,0 +1,396 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * BlobStore backed by an S3-compatible object store (AWS S3, MinIO, Ceph RGW, ...).
+ *
+ * Talks to the store over plain HTTP using the JDK HttpClient and signs every
+ * request with AWS Signature Version 4, so no vendor SDK is needed. Objects are
+ * addressed path-style ({endpoint}/{bucket}/{key}), which every S3-compatible
+ * server supports, and bodies are streamed in both directions.
+ *
+ * Presigned GET URLs let clients download images straight from the store, which
+ * keeps image egress off the app nodes entirely.
+ */
+public class S3BlobStore implements BlobStore {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter DATE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // S3 rejects presigned URLs valid for more than 7 days
+    private static final Duration MAX_PRESIGN_TTL = Duration.ofDays(7);
+
+    private final URI endpoint;
+    private final String region;
+    private final String bucket;
+    private final String accessKey;
+    private final String secretKey;
+    private final HttpClient httpClient;
+
+    public S3BlobStore(URI endpoint, String region, String bucket, String accessKey, String secretKey) {
+        this(endpoint, region, bucket, accessKey, secretKey,
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build());
+    }
+
+    public S3BlobStore(URI endpoint, String region, String bucket, String accessKey, String secretKey,
+                       HttpClient httpClient) {
+        if (bucket == null || bucket.isBlank()) {
+            throw new IllegalArgumentException("S3 bucket must be configured");
+        }
+        // drop a trailing slash so path building below stays simple
+        String base = endpoint.toString();
+        this.endpoint = URI.create(base.endsWith("/") ? base.substring(0, base.length() - 1) : base);
+        this.region = region;
+        this.bucket = bucket;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        URI uri = objectUri(key, "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .PUT(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> new NonClosingInputStream(content)),
+                        contentLength));
+        if (contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+        sign(builder, "PUT", uri);
+
+        HttpResponse<String> response = send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 PUT " + key + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    @Override
+    public Optional<Blob> get(String key) throws IOException {
+        URI uri = objectUri(key, "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET();
+        sign(builder, "GET", uri);
+
+        HttpResponse<InputStream> response = send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 404) {
+            response.body().close();
+            return Optional.empty();
+        }
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw new IOException("S3 GET " + key + " failed with status " + response.statusCode());
+        }
+
+        long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        return Optional.of(new Blob(response.body(), length, contentType));
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        URI uri = objectUri(key, "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).method("HEAD", HttpRequest.BodyPublishers.noBody());
+        sign(builder, "HEAD", uri);
+
+        int status = send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 404) {
+            return false;
+        }
+        if (status / 100 != 2) {
+            throw new IOException("S3 HEAD " + key + " failed with status " + status);
+        }
+        return true;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        URI uri = objectUri(key, "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).DELETE();
+        sign(builder, "DELETE", uri);
+
+        int status = send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        // S3 answers 204 for deletes (even for missing keys); some compatible servers answer 404
+        if (status / 100 != 2 && status != 404) {
+            throw new IOException("S3 DELETE " + key + " failed with status " + status);
+        }
+    }
+
+    @Override
+    public Optional<URI> directGetUrl(String key, Duration ttl) {
+        Duration expires = ttl.compareTo(MAX_PRESIGN_TTL) > 0 ? MAX_PRESIGN_TTL : ttl;
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(now);
+        String scope = DATE_STAMP.format(now) + "/" + region + "/" + SERVICE + "/aws4_request";
+
+        // query-string authentication: everything except the signature goes into the canonical query
+        Map<String, String> query = new TreeMap<>();
+        query.put("X-Amz-Algorithm", ALGORITHM);
+        query.put("X-Amz-Credential", accessKey + "/" + scope);
+        query.put("X-Amz-Date", amzDate);
+        query.put("X-Amz-Expires", Long.toString(expires.toSeconds()));
+        query.put("X-Amz-SignedHeaders", "host");
+        String canonicalQuery = canonicalQuery(query);
+
+        URI unsigned = objectUri(key, canonicalQuery);
+        String canonicalRequest = "GET\n"
+                + unsigned.getRawPath() + "\n"
+                + canonicalQuery + "\n"
+                + "host:" + hostHeader(unsigned) + "\n\n"
+                + "host\n"
+                + UNSIGNED_PAYLOAD;
+
+        String signature = signature(now, scope, canonicalRequest);
+        return Optional.of(objectUri(key, canonicalQuery + "&X-Amz-Signature=" + signature));
+    }
+
+    @Override
+    public Stream<BlobInfo> list(String prefix) throws IOException {
+        // ListObjectsV2 returns up to 1000 keys per page; the next page is only fetched once this one is consumed
+        Spliterator<BlobInfo> pages = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.NONNULL) {
+            private Iterator<BlobInfo> page = Collections.emptyIterator();
+            private String continuationToken;
+            private boolean lastPage;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super BlobInfo> action) {
+                while (!page.hasNext()) {
+                    if (lastPage) {
+                        return false;
+                    }
+                    try {
+                        ListPage next = listPage(prefix, continuationToken);
+                        page = next.objects().iterator();
+                        continuationToken = next.nextContinuationToken();
+                        lastPage = continuationToken == null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                action.accept(page.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(pages, false);
+    }
+
+    private ListPage listPage(String prefix, String continuationToken) throws IOException {
+        Map<String, String> query = new TreeMap<>();
+        query.put("list-type", "2");
+        query.put("prefix", prefix);
+        if (continuationToken != null) {
+            query.put("continuation-token", continuationToken);
+        }
+        URI uri = URI.create(endpoint + "/" + uriEncode(bucket, true) + "?" + canonicalQuery(query));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET();
+        sign(builder, "GET", uri);
+
+        HttpResponse<InputStream> response = send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("S3 LIST " + prefix + " failed with status " + response.statusCode());
+            }
+            return parseListPage(body);
+        }
+    }
+
+    /**
+     * Parse a ListObjectsV2 response body into keys plus the token for the next page.
+     */
+    static ListPage parseListPage(InputStream body) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            Document document = factory.newDocumentBuilder().parse(body);
+
+            List<BlobInfo> objects = new ArrayList<>();
+            NodeList contents = document.getElementsByTagName("Contents");
+            for (int i = 0; i < contents.getLength(); i++) {
+                Element entry = (Element) contents.item(i);
+                objects.add(new BlobInfo(
+                        childText(entry, "Key"),
+                        Long.parseLong(childText(entry, "Size")),
+                        Instant.parse(childText(entry, "LastModified"))));
+            }
+
+            Element root = document.getDocumentElement();
+            boolean truncated = "true".equals(childText(root, "IsTruncated"));
+            String token = truncated ? childText(root, "NextContinuationToken") : null;
+            return new ListPage(objects, token);
+        } catch (ParserConfigurationException | SAXException | RuntimeException e) {
+            throw new IOException("Invalid S3 list response: " + e.getMessage(), e);
+        }
+    }
+
+    private static String childText(Element parent, String name) {
+        NodeList nodes = parent.getElementsByTagName(name);
+        return nodes.getLength() == 0 ? null : nodes.item(0).getTextContent();
+    }
+
+    record ListPage(List<BlobInfo> objects, String nextContinuationToken) {
+    }
+
+    // ========================================
+    // Helper Methods - Request Signing
+    // ========================================
+
+    /**
+     * Add the SigV4 Authorization headers to a request.
+     * The payload is sent as UNSIGNED-PAYLOAD so bodies can be streamed without hashing them first.
+     */
+    private void sign(HttpRequest.Builder builder, String method, URI uri) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(now);
+        String scope = DATE_STAMP.format(now) + "/" + region + "/" + SERVICE + "/aws4_request";
+        String signedHeaders = "host;x-amz-content-sha256;x-amz-date";
+
+        String canonicalRequest = method + "\n"
+                + uri.getRawPath() + "\n"
+                + (uri.getRawQuery() != null ? uri.getRawQuery() : "") + "\n"
+                + "host:" + hostHeader(uri) + "\n"
+                + "x-amz-content-sha256:" + UNSIGNED_PAYLOAD + "\n"
+                + "x-amz-date:" + amzDate + "\n\n"
+                + signedHeaders + "\n"
+                + UNSIGNED_PAYLOAD;
+
+        builder.header("x-amz-date", amzDate)
+                .header("x-amz-content-sha256", UNSIGNED_PAYLOAD)
+                .header("Authorization", ALGORITHM
+                        + " Credential=" + accessKey + "/" + scope
+                        + ", SignedHeaders=" + signedHeaders
+                        + ", Signature=" + signature(now, scope, canonicalRequest));
+    }
+
+    private String signature(ZonedDateTime now, String scope, String canonicalRequest) {
+        String stringToSign = ALGORITHM + "\n"
+                + AMZ_DATE.format(now) + "\n"
+                + scope + "\n"
+                + HexFormat.of().formatHex(sha256(canonicalRequest));
+
+        byte[] signingKey = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE_STAMP.format(now));
+        signingKey = hmac(signingKey, region);
+        signingKey = hmac(signingKey, SERVICE);
+        signingKey = hmac(signingKey, "aws4_request");
+        return HexFormat.of().formatHex(hmac(signingKey, stringToSign));
+    }
+
+    private URI objectUri(String key, String rawQuery) {
+        String path = "/" + uriEncode(bucket, true) + "/" + uriEncode(BlobStore.requireValidKey(key), false);
+        return URI.create(endpoint + path + (rawQuery.isEmpty() ? "" : "?" + rawQuery));
+    }
+
+    private static String hostHeader(URI uri) {
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String canonicalQuery(Map<String, String> sortedParams) {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String> param : sortedParams.entrySet()) {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(uriEncode(param.getKey(), true)).append('=').append(uriEncode(param.getValue(), true));
+        }
+        return query.toString();
+    }
+
+    /**
+     * RFC 3986 percent-encoding as required by SigV4 (unreserved characters are kept as-is).
+     */
+    private static String uriEncode(String value, boolean encodeSlash) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(String.format("%02X", b & 0xFF));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        try {
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while talking to object store", e);
+        }
+    }
+
+    /**
+     * Keeps HttpClient from closing the caller's stream once the body has been sent.
+     */
+    private static class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // caller owns the underlying stream
+        }
+    }
+}
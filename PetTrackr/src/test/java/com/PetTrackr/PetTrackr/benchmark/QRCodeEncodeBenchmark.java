@@ -0,0 +1,87 @@
+package com.PetTrackr.PetTrackr.benchmark;
+
+import com.PetTrackr.PetTrackr.service.QRCodeImageWriter;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ImageIO PNG path (MatrixToImageWriter) with QRCodeImageWriter for a
+ * 300x300 pet QR code. Not a test - surefire skips it.
+ *
+ * Run from the project root after "mvn test-compile":
+ *   mvn exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.PetTrackr.PetTrackr.benchmark.QRCodeEncodeBenchmark
+ *
+ * The GC profiler reports gc.alloc.rate.norm, the bytes allocated per encoded code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QRCodeEncodeBenchmark {
+
+    private static final String CONTENT = "LOST PET - PLEASE HELP!\n"
+            + "Pet: Max\nType: Dog\nBreed: Golden Retriever\n\n"
+            + "CONTACT OWNER:\nName: John Smith\nPhone: 555-1234\n\n"
+            + "FOUND THIS PET?\nVisit this guide:\n"
+            + "https://www.americanhumane.org/public-education/what-to-if-youve-lost-your-pet/\n";
+
+    private BitMatrix matrix;
+    private BitMatrix modules;
+
+    @Setup
+    public void setUp() throws WriterException {
+        QRCodeWriter writer = new QRCodeWriter();
+        matrix = writer.encode(CONTENT, BarcodeFormat.QR_CODE, 300, 300);
+        modules = writer.encode(CONTENT, BarcodeFormat.QR_CODE, 0, 0);
+    }
+
+    @Benchmark
+    public byte[] imageIoPng() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatrixToImageWriter.writeToStream(matrix, "PNG", out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] bitPackedPng() {
+        return QRCodeImageWriter.toPng(matrix);
+    }
+
+    @Benchmark
+    public String svg() {
+        return QRCodeImageWriter.toSvg(modules, 300);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(QRCodeEncodeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
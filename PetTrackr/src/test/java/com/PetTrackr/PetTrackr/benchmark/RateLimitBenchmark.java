@@ -0,0 +1,123 @@
+package com.PetTrackr.PetTrackr.benchmark;
+
+import com.PetTrackr.PetTrackr.config.OwnerPrincipal;
+import com.PetTrackr.PetTrackr.config.RateLimitFilter;
+import com.PetTrackr.PetTrackr.config.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the API rate limiter per request. Not a test - surefire skips it.
+ *
+ *   unlimitedPath   - a request outside /api (filter only checks the path)
+ *   ownerRequest    - a logged-in owner's request through the whole filter
+ *   sharedBucket    - 4 threads taking tokens from one bucket (CAS contention)
+ *
+ * Limits are set high enough that every request is admitted, so the numbers are pure
+ * overhead. Run from the project root after "mvn test-compile" (the forked benchmark JVM
+ * needs the test classpath on its command line):
+ *   mvn dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *       org.openjdk.jmh.Main RateLimitBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @State(Scope.Benchmark)
+    public static class Limiter {
+        RateLimiter rateLimiter;
+        RateLimitFilter filter;
+        RateLimiter.RouteGroup apiGroup;
+
+        @Setup
+        public void setUp() {
+            Duration refill = Duration.ofMillis(1);
+            rateLimiter = new RateLimiter(Clock.systemUTC(), new SimpleMeterRegistry(), true, 100_000,
+                    1_000_000_000, refill, 1_000_000_000, refill, 1_000_000_000, refill, 1_000_000_000, refill);
+            filter = new RateLimitFilter(rateLimiter, JsonMapper.builder().build());
+            apiGroup = rateLimiter.match("GET", "/api/owners/1/pets");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        MockHttpServletRequest apiRequest;
+        MockHttpServletRequest healthRequest;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() {
+            long ownerId = Thread.currentThread().getId();
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    OwnerPrincipal.authenticated(ownerId, "Owner", "owner@example.com", null), null, null));
+            apiRequest = new MockHttpServletRequest("GET", "/api/owners/" + ownerId + "/pets");
+            healthRequest = new MockHttpServletRequest("GET", "/actuator/health");
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public void unlimitedPath(Limiter limiter, Client client) throws Exception {
+        limiter.filter.doFilter(client.healthRequest, client.response, NO_OP_CHAIN);
+        clearFilteredMarker(client.healthRequest);
+    }
+
+    @Benchmark
+    public void ownerRequest(Limiter limiter, Client client) throws Exception {
+        limiter.filter.doFilter(client.apiRequest, client.response, NO_OP_CHAIN);
+        clearFilteredMarker(client.apiRequest);
+    }
+
+    @Benchmark
+    @Group("sharedBucket")
+    @GroupThreads(4)
+    public long sharedBucket(Limiter limiter) {
+        return limiter.rateLimiter.tryAcquire(limiter.apiGroup, "owner:1");
+    }
+
+    // OncePerRequestFilter marks the request; reusing it would skip the filter after the first call
+    private static void clearFilteredMarker(MockHttpServletRequest request) throws IOException {
+        request.removeAttribute(RateLimitFilter.class.getName() + ".FILTERED");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RateLimitBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
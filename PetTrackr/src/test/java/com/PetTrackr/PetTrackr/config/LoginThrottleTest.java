@@ -0,0 +1,110 @@
+package com.PetTrackr.PetTrackr.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle loginThrottle;
+    private long now = NOW;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(invocation -> now);
+        meterRegistry = new SimpleMeterRegistry();
+        // 3 attempts per address (one more every 2s), 2 per account (one more every 30s)
+        loginThrottle = new LoginThrottle(clock, meterRegistry, 3, Duration.ofSeconds(2), 2, Duration.ofSeconds(30));
+    }
+
+    // ========================================
+    // Per-IP Tests
+    // ========================================
+
+    @Test
+    void testTryAcquire_IpBucketEmpty_ReturnsRetryAfter() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            assertTrue(loginThrottle.tryAcquire("10.0.0.1", null).isEmpty());
+        }
+
+        // Act
+        Optional<Duration> retryAfter = loginThrottle.tryAcquire("10.0.0.1", null);
+
+        // Assert - throttled until the next token, other addresses unaffected
+        assertEquals(Optional.of(Duration.ofSeconds(2)), retryAfter);
+        assertTrue(loginThrottle.tryAcquire("10.0.0.2", null).isEmpty());
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("scope", "ip").counter().count());
+    }
+
+    @Test
+    void testTryAcquire_AfterRefillPeriod_AllowsAgain() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.tryAcquire("10.0.0.1", null);
+        }
+        now += 1_000;
+        assertEquals(Optional.of(Duration.ofSeconds(1)), loginThrottle.tryAcquire("10.0.0.1", null));
+
+        // Act
+        now += 1_000;
+
+        // Assert
+        assertTrue(loginThrottle.tryAcquire("10.0.0.1", null).isEmpty());
+        assertTrue(loginThrottle.tryAcquire("10.0.0.1", null).isPresent());
+    }
+
+    // ========================================
+    // Per-Account Tests
+    // ========================================
+
+    @Test
+    void testTryAcquire_AccountGuessedFromManyAddresses_Throttled() {
+        // Arrange
+        assertTrue(loginThrottle.tryAcquire("10.0.0.1", "john@example.com").isEmpty());
+        assertTrue(loginThrottle.tryAcquire("10.0.0.2", "john@example.com").isEmpty());
+
+        // Act
+        Optional<Duration> retryAfter = loginThrottle.tryAcquire("10.0.0.3", "john@example.com");
+
+        // Assert
+        assertEquals(Optional.of(Duration.ofSeconds(30)), retryAfter);
+        assertTrue(loginThrottle.tryAcquire("10.0.0.3", "jane@example.com").isEmpty());
+        assertEquals(1.0, meterRegistry.get("auth.login.throttled").tag("scope", "account").counter().count());
+    }
+
+    // ========================================
+    // Sweep Tests
+    // ========================================
+
+    @Test
+    void testSweep_DropsOnlyRefilledBuckets() {
+        // Arrange
+        loginThrottle.tryAcquire("10.0.0.1", "john@example.com");
+        now += 10_000; // address bucket full again, account bucket not yet
+        assertEquals(2, loginThrottle.trackedBuckets());
+
+        // Act
+        loginThrottle.sweep();
+
+        // Assert
+        assertEquals(1, loginThrottle.trackedBuckets());
+    }
+}
@@ -0,0 +1,103 @@
+package com.PetTrackr.PetTrackr.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OwnerPathAuthorizationFilterTest {
+
+    private OwnerPathAuthorizationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new OwnerPathAuthorizationFilter(JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ========================================
+    // Path Tests
+    // ========================================
+
+    @Test
+    void testPathOwnerId_OnlyForNumericOwnerPaths() {
+        // Act & Assert
+        assertEquals(Optional.of(7L), OwnerPathAuthorizationFilter.pathOwnerId("/api/owners/7"));
+        assertEquals(Optional.of(7L), OwnerPathAuthorizationFilter.pathOwnerId("/api/owners/7/pets/3/medications"));
+        assertEquals(Optional.empty(), OwnerPathAuthorizationFilter.pathOwnerId("/api/owners/register"));
+        assertEquals(Optional.empty(), OwnerPathAuthorizationFilter.pathOwnerId("/api/auth/me"));
+        assertEquals(Optional.empty(), OwnerPathAuthorizationFilter.pathOwnerId("/api/public/pets/abc"));
+    }
+
+    // ========================================
+    // Filter Tests
+    // ========================================
+
+    @Test
+    void testFilter_OwnPath_PassesThrough() throws Exception {
+        // Arrange
+        logIn(7L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean reached = new AtomicBoolean();
+
+        // Act
+        filter.doFilter(request("/api/owners/7/pets"), response, (req, res) -> reached.set(true));
+
+        // Assert
+        assertTrue(reached.get());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testFilter_OtherOwnersPath_Returns403() throws Exception {
+        // Arrange
+        logIn(7L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/api/owners/8/pets/1"), response, (req, res) -> fail("should be rejected"));
+
+        // Assert
+        assertEquals(403, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Forbidden"));
+    }
+
+    @Test
+    void testFilter_Anonymous_LeftToAuthorizationRules() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean reached = new AtomicBoolean();
+
+        // Act
+        filter.doFilter(request("/api/owners/8/pets"), response, (req, res) -> reached.set(true));
+
+        // Assert - the authorization filter further down answers 401
+        assertTrue(reached.get());
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private static void logIn(Long ownerId) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                OwnerPrincipal.authenticated(ownerId, "John", "john@example.com", null), null, null));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,104 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.repository.OwnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerUserDetailsServiceTest {
+
+    @Mock
+    private OwnerRepository ownerRepository;
+
+    @InjectMocks
+    private OwnerUserDetailsService ownerUserDetailsService;
+
+    private Owner testOwner;
+
+    @BeforeEach
+    void setUp() {
+        testOwner = new Owner();
+        testOwner.setId(1L);
+        testOwner.setName("John Doe");
+        testOwner.setEmail("john@example.com");
+        testOwner.setPhoneNumber("555-1234");
+        testOwner.setPasswordHash(new BCryptPasswordEncoder(4).encode("password123"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testLoadUserByUsername_ReturnsOwnerPrincipal() {
+        // Arrange
+        when(ownerRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testOwner));
+
+        // Act
+        UserDetails user = ownerUserDetailsService.loadUserByUsername("john@example.com");
+
+        // Assert
+        OwnerPrincipal principal = assertInstanceOf(OwnerPrincipal.class, user);
+        assertEquals(1L, principal.getOwnerId());
+        assertEquals("John Doe", principal.getName());
+        assertEquals("555-1234", principal.getPhoneNumber());
+        assertEquals("john@example.com", principal.getUsername());
+        assertEquals(testOwner.getPasswordHash(), principal.getPassword());
+    }
+
+    @Test
+    void testLoadUserByUsername_WithUnknownEmail_ThrowsException() {
+        // Arrange
+        when(ownerRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class,
+                () -> ownerUserDetailsService.loadUserByUsername("nobody@example.com"));
+    }
+
+    @Test
+    void testAuthenticate_OneLookup_PrincipalWithoutPasswordHash() {
+        // Arrange
+        when(ownerRepository.findByEmail("john@example.com")).thenReturn(Optional.of(testOwner));
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(ownerUserDetailsService);
+        provider.setPasswordEncoder(new BCryptPasswordEncoder(4));
+        ProviderManager authenticationManager = new ProviderManager(provider);
+
+        // Act
+        Authentication auth = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("john@example.com", "password123"));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        // Assert - the session-bound principal has the owner's id but not the hash
+        OwnerPrincipal principal = OwnerPrincipal.current().orElseThrow();
+        assertEquals(1L, principal.getOwnerId());
+        assertNull(principal.getPassword());
+        verify(ownerRepository, times(1)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void testCurrent_WhenNotLoggedIn_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(OwnerPrincipal.current().isEmpty());
+    }
+}
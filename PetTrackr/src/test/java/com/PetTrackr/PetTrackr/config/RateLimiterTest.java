@@ -0,0 +1,173 @@
+package com.PetTrackr.PetTrackr.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private long now = NOW;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenAnswer(invocation -> now);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ========================================
+    // Route Group Tests
+    // ========================================
+
+    @Test
+    void testMatch_PicksFirstMatchingGroup() {
+        // Arrange
+        RateLimiter rateLimiter = rateLimiter(100);
+
+        // Act & Assert
+        assertEquals("public-write", rateLimiter.match("POST", "/api/public/pets/abc/sightings").name());
+        assertEquals("public", rateLimiter.match("GET", "/api/public/pets/abc").name());
+        assertEquals("heavy", rateLimiter.match("GET", "/api/owners/1/pets/qr-sheet").name());
+        assertEquals("heavy", rateLimiter.match("PUT", "/api/owners/1/pets/2/photo/uploads/x").name());
+        assertEquals("api", rateLimiter.match("GET", "/api/owners/1/pets").name());
+        assertNull(rateLimiter.match("GET", "/actuator/health"));
+        assertNull(rateLimiter.match("GET", "/uploads/pet-images/a.jpg"));
+    }
+
+    @Test
+    void testTryAcquire_GroupsAndClientsLimitedSeparately() {
+        // Arrange - api group: 3 requests, then one per 100ms
+        RateLimiter rateLimiter = rateLimiter(100);
+        RateLimiter.RouteGroup api = rateLimiter.match("GET", "/api/owners/1/pets");
+        RateLimiter.RouteGroup heavy = rateLimiter.match("GET", "/api/owners/1/pets/qr-sheet");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(api, "owner:1"));
+        }
+
+        // Act & Assert
+        assertEquals(100, rateLimiter.tryAcquire(api, "owner:1"));
+        assertEquals(0, rateLimiter.tryAcquire(api, "owner:2"));
+        assertEquals(0, rateLimiter.tryAcquire(heavy, "owner:1"));
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("group", "api").counter().count());
+    }
+
+    // ========================================
+    // Eviction Tests
+    // ========================================
+
+    @Test
+    void testTryAcquire_MapFull_EvictsIdleThenSharesOverflow() {
+        // Arrange - room for two clients
+        RateLimiter rateLimiter = rateLimiter(2);
+        RateLimiter.RouteGroup api = rateLimiter.match("GET", "/api/owners/1/pets");
+        rateLimiter.tryAcquire(api, "ip:1");
+        rateLimiter.tryAcquire(api, "ip:2");
+
+        // Act - both still active: new clients share the overflow bucket
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(api, "ip:new-" + i));
+        }
+
+        // Assert
+        assertTrue(rateLimiter.tryAcquire(api, "ip:another") > 0);
+        assertEquals(2, rateLimiter.trackedBuckets());
+
+        // once the first clients are idle they make room
+        now += 5_000;
+        assertEquals(0, rateLimiter.tryAcquire(api, "ip:3"));
+        assertEquals(1, rateLimiter.trackedBuckets());
+    }
+
+    @Test
+    void testSweep_DropsRefilledBuckets() {
+        // Arrange
+        RateLimiter rateLimiter = rateLimiter(100);
+        RateLimiter.RouteGroup api = rateLimiter.match("GET", "/api/owners/1/pets");
+        rateLimiter.tryAcquire(api, "ip:1");
+        now += 50;
+        rateLimiter.tryAcquire(api, "ip:2");
+
+        // Act
+        now += 60;
+        rateLimiter.sweep();
+
+        // Assert - ip:1 refilled at +100ms, ip:2 not until +150ms
+        assertEquals(1, rateLimiter.trackedBuckets());
+    }
+
+    // ========================================
+    // Filter Tests
+    // ========================================
+
+    @Test
+    void testFilter_OverLimit_Returns429WithRetryAfter() throws Exception {
+        // Arrange
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter(100), JsonMapper.builder().build());
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                OwnerPrincipal.authenticated(7L, "John", "john@example.com", null), null, null));
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse ok = new MockHttpServletResponse();
+            filter.doFilter(request("/api/owners/7/pets"), ok, (req, res) -> { });
+            assertEquals(200, ok.getStatus());
+        }
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/owners/7/pets"), response, (req, res) -> fail("should be limited"));
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Too Many Requests"));
+
+        // another client (anonymous, by IP) is unaffected
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("/api/owners/7/pets"), other, (req, res) -> { });
+        assertEquals(200, other.getStatus());
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private RateLimiter rateLimiter(int maxBuckets) {
+        return new RateLimiter(clock, meterRegistry, true, maxBuckets,
+                2, Duration.ofSeconds(6),
+                5, Duration.ofMillis(500),
+                2, Duration.ofSeconds(1),
+                3, Duration.ofMillis(100));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.PetTrackr.PetTrackr.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Test
+    void testTryAcquire_BurstThenOnePerPeriod() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(2));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(NOW));
+        }
+
+        // Act & Assert
+        assertEquals(2_000, bucket.tryAcquire(NOW));
+        assertEquals(500, bucket.tryAcquire(NOW + 1_500));
+        assertEquals(0, bucket.tryAcquire(NOW + 2_000));
+        assertEquals(2_000, bucket.tryAcquire(NOW + 2_000));
+    }
+
+    @Test
+    void testIsFull_AfterIdleLongEnough() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(2));
+        assertTrue(bucket.isFull(NOW));
+        bucket.tryAcquire(NOW);
+        bucket.tryAcquire(NOW);
+
+        // Act & Assert
+        assertFalse(bucket.isFull(NOW + 3_999));
+        assertTrue(bucket.isFull(NOW + 4_000));
+    }
+
+    @Test
+    void testTryAcquire_ConcurrentCallers_NeverExceedCapacity() throws Exception {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1_000, Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> callers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            callers.add(() -> {
+                int granted = 0;
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryAcquire(NOW) == 0) {
+                        granted++;
+                    }
+                }
+                return granted;
+            });
+        }
+
+        // Act
+        int total = 0;
+        for (Future<Integer> result : executor.invokeAll(callers)) {
+            total += result.get();
+        }
+        executor.shutdown();
+
+        // Assert - 4000 attempts, exactly the 1000 tokens granted
+        assertEquals(1_000, total);
+    }
+
+    @Test
+    void testConstructor_InvalidLimit_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,268 @@
+package com.PetTrackr.PetTrackr.config;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.entity.RevokedToken;
+import com.PetTrackr.PetTrackr.repository.OwnerRepository;
+import com.PetTrackr.PetTrackr.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Mock
+    private OwnerRepository ownerRepository;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private Clock clock;
+
+    private Instant now = NOW;
+    private TokenDenyList tokenDenyList;
+    private TokenService tokenService;
+    private OwnerPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        tokenDenyList = new TokenDenyList(revokedTokenRepository, clock, "token", Duration.ofMinutes(15));
+        tokenService = new TokenService(ownerRepository, tokenDenyList, clock, "token", SECRET,
+                Duration.ofMinutes(15), Duration.ofDays(14));
+        principal = OwnerPrincipal.authenticated(1L, "John Doe", "john@example.com", "555-1234");
+    }
+
+    // ========================================
+    // Access Token Tests
+    // ========================================
+
+    @Test
+    void testVerifyAccessToken_IssuedToken_ReturnsPrincipal() {
+        // Arrange
+        TokenService.TokenPair tokens = tokenService.issue(principal);
+
+        // Act
+        Optional<TokenService.VerifiedToken> verified = tokenService.verifyAccessToken(tokens.accessToken());
+
+        // Assert
+        assertTrue(verified.isPresent());
+        OwnerPrincipal result = verified.get().principal();
+        assertEquals(1L, result.getOwnerId());
+        assertEquals("John Doe", result.getName());
+        assertEquals("john@example.com", result.getEmail());
+        assertEquals("555-1234", result.getPhoneNumber());
+        assertNull(result.getPassword());
+        assertEquals(Duration.ofMinutes(15), tokens.accessTtl());
+        verifyNoInteractions(ownerRepository);
+    }
+
+    @Test
+    void testVerifyAccessToken_TamperedToken_ReturnsEmpty() {
+        // Arrange - change the owner id in the payload, keep the signature
+        String token = tokenService.issue(principal).accessToken();
+        int dot = token.indexOf('.');
+        byte[] payload = Base64.getUrlDecoder().decode(token.substring(0, dot));
+        payload[17] = 2;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + token.substring(dot);
+
+        // Act & Assert
+        assertTrue(tokenService.verifyAccessToken(tampered).isEmpty());
+        assertTrue(tokenService.verifyAccessToken("not-a-token").isEmpty());
+        assertTrue(tokenService.verifyAccessToken(null).isEmpty());
+    }
+
+    @Test
+    void testVerifyAccessToken_SignedWithOtherSecret_ReturnsEmpty() {
+        // Arrange
+        byte[] otherKey = new byte[32];
+        otherKey[0] = 1;
+        TokenService other = new TokenService(ownerRepository, tokenDenyList, clock, "token",
+                Base64.getEncoder().encodeToString(otherKey), Duration.ofMinutes(15), Duration.ofDays(14));
+        String token = other.issue(principal).accessToken();
+
+        // Act & Assert
+        assertTrue(tokenService.verifyAccessToken(token).isEmpty());
+    }
+
+    @Test
+    void testVerifyAccessToken_Expired_ReturnsEmpty() {
+        // Arrange
+        String token = tokenService.issue(principal).accessToken();
+        now = NOW.plus(Duration.ofMinutes(16));
+
+        // Act & Assert
+        assertTrue(tokenService.verifyAccessToken(token).isEmpty());
+    }
+
+    @Test
+    void testVerifyAccessToken_RefreshToken_ReturnsEmpty() {
+        // Arrange
+        String refreshToken = tokenService.issue(principal).refreshToken();
+
+        // Act & Assert
+        assertTrue(tokenService.verifyAccessToken(refreshToken).isEmpty());
+    }
+
+    @Test
+    void testVerifyAccessToken_Revoked_ReturnsEmpty() {
+        // Arrange
+        String token = tokenService.issue(principal).accessToken();
+
+        // Act
+        tokenService.revoke(token);
+
+        // Assert
+        assertTrue(tokenService.verifyAccessToken(token).isEmpty());
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).saveAndFlush(saved.capture());
+        assertEquals(NOW.plus(Duration.ofMinutes(15)).getEpochSecond(), saved.getValue().getExpiresAt().getEpochSecond());
+        assertTrue(saved.getValue().getAccessToken());
+        assertEquals(NOW, saved.getValue().getRevokedAt());
+    }
+
+    // ========================================
+    // Refresh Tests
+    // ========================================
+
+    @Test
+    void testRefresh_RotatesTokens() {
+        // Arrange
+        Owner owner = new Owner();
+        owner.setId(1L);
+        owner.setName("Johnny Doe");
+        owner.setEmail("john@example.com");
+        when(ownerRepository.findById(1L)).thenReturn(Optional.of(owner));
+        // the second insert of the same token id hits the unique constraint
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("uk_revoked_token_id"));
+        String refreshToken = tokenService.issue(principal).refreshToken();
+
+        // Act
+        TokenService.TokenPair refreshed = tokenService.refresh(refreshToken);
+
+        // Assert - new access token carries the current profile, old refresh token is spent
+        assertEquals("Johnny Doe", tokenService.verifyAccessToken(refreshed.accessToken()).orElseThrow()
+                .principal().getName());
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(refreshToken));
+        verify(ownerRepository, times(2)).findById(1L);
+        assertEquals(0, tokenDenyList.size()); // spent refresh tokens aren't kept in memory
+    }
+
+    @Test
+    void testRefresh_TokenAlreadySpentOnAnotherNode_ThrowsException() {
+        // Arrange - another node inserted the revocation first (not synced here yet)
+        Owner owner = new Owner();
+        owner.setId(1L);
+        when(ownerRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_revoked_token_id"));
+        String refreshToken = tokenService.issue(principal).refreshToken();
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(refreshToken));
+        assertEquals(0, tokenDenyList.size());
+    }
+
+    @Test
+    void testRefresh_DeletedOwner_ThrowsException() {
+        // Arrange
+        when(ownerRepository.findById(1L)).thenReturn(Optional.empty());
+        String refreshToken = tokenService.issue(principal).refreshToken();
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(refreshToken));
+    }
+
+    @Test
+    void testRefresh_AccessToken_ThrowsException() {
+        // Arrange
+        String accessToken = tokenService.issue(principal).accessToken();
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(accessToken));
+        verifyNoInteractions(ownerRepository);
+    }
+
+    // ========================================
+    // Configuration & Deny List Tests
+    // ========================================
+
+    @Test
+    void testConstructor_ShortSecret_ThrowsException() {
+        // Arrange
+        String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new TokenService(ownerRepository, tokenDenyList, clock,
+                "token", shortSecret, Duration.ofMinutes(15), Duration.ofDays(14)));
+    }
+
+    @Test
+    void testSync_PicksUpOtherNodesRevocations() {
+        // Arrange - another node revoked this token
+        TokenService.TokenPair tokens = tokenService.issue(principal);
+        long tokenId = tokenService.verifyAccessToken(tokens.accessToken()).orElseThrow().tokenId();
+        RevokedToken row = new RevokedToken(tokenId, NOW.plus(Duration.ofMinutes(15)), true, NOW);
+        when(revokedTokenRepository.findByAccessTokenTrueAndRevokedAtGreaterThanEqual(Instant.EPOCH)).thenReturn(List.of(row));
+
+        // Act
+        tokenDenyList.sync();
+
+        // Assert
+        assertTrue(tokenService.verifyAccessToken(tokens.accessToken()).isEmpty());
+
+        // and the entry is forgotten once the token has expired anyway
+        now = NOW.plus(Duration.ofMinutes(20));
+        tokenDenyList.sync();
+        assertEquals(0, tokenDenyList.size());
+        verify(revokedTokenRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testSync_RevocationsCommittedOutOfOrder_AreAllPickedUp() {
+        // Arrange - two nodes revoke concurrently; the later revocation commits first
+        long first = tokenService.verifyAccessToken(tokenService.issue(principal).accessToken()).orElseThrow().tokenId();
+        long second = tokenService.verifyAccessToken(tokenService.issue(principal).accessToken()).orElseThrow().tokenId();
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(15));
+        List<RevokedToken> committed = new ArrayList<>();
+        when(revokedTokenRepository.findByAccessTokenTrueAndRevokedAtGreaterThanEqual(any())).thenAnswer(invocation -> {
+            Instant since = invocation.getArgument(0);
+            return committed.stream().filter(token -> !token.getRevokedAt().isBefore(since)).toList();
+        });
+        committed.add(new RevokedToken(second, expiresAt, true, NOW.plusSeconds(1)));
+        now = NOW.plusSeconds(2);
+        tokenDenyList.sync();
+
+        // Act - the earlier revocation commits after that sync
+        committed.add(new RevokedToken(first, expiresAt, true, NOW));
+        now = NOW.plusSeconds(12);
+        tokenDenyList.sync();
+
+        // Assert
+        assertTrue(tokenDenyList.isRevoked(first));
+        assertTrue(tokenDenyList.isRevoked(second));
+    }
+}
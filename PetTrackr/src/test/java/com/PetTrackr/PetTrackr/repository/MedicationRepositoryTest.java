@@ -4,12 +4,14 @@ import com.PetTrackr.PetTrackr.entity.Medication;
 import com.PetTrackr.PetTrackr.entity.Medication.DosageUnit;
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.service.DoseSchedule;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -109,6 +111,23 @@ public class MedicationRepositoryTest {
         assertEquals(DosageUnit.MG, saved.getDosageUnit());
     }
 
+    @Test
+    void testFindSchedulesUpdatedSince_ReturnsSavedMedication() {
+        // Arrange
+        Instant before = Instant.now().minusSeconds(1);
+        Pet pet = createAndSavePet();
+        Medication med = createAndSaveMedication("Carprofen", LocalTime.of(8, 0), pet);
+        medicationRepository.flush();
+
+        // Act
+        List<DoseSchedule> updated = medicationRepository.findSchedulesUpdatedSince(before);
+
+        // Assert
+        assertNotNull(med.getUpdatedAt());
+        assertEquals(List.of(med.getId()), updated.stream().map(DoseSchedule::medicationId).toList());
+        assertTrue(medicationRepository.findSchedulesUpdatedSince(Instant.now().plusSeconds(60)).isEmpty());
+    }
+
     private Pet createAndSavePet() {
         Owner owner = new Owner();
         owner.setName("Test Owner");
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -115,6 +116,62 @@ public class PetRepositoryTest {
         assertFalse(found.isPresent());
     }
 
+    @Test
+    void testStreamAllPhotoURLs_ReturnsOnlyPetsWithPhotos() {
+        // Arrange
+        Owner owner = createAndSaveOwner("Owner6", "owner6@example.com");
+        Pet withPhoto = createAndSavePet("Max", "Dog", owner);
+        withPhoto.setPhotoURL("1_100.jpg");
+        petRepository.save(withPhoto);
+        createAndSavePet("Luna", "Cat", owner);
+
+        // Act
+        List<String> photoURLs;
+        try (Stream<String> stream = petRepository.streamAllPhotoURLs()) {
+            photoURLs = stream.toList();
+        }
+
+        // Assert
+        assertEquals(List.of("1_100.jpg"), photoURLs);
+    }
+
+    @Test
+    void testFindByOwnerIdAndIdInFetchOwner_ReturnsOnlyThatOwnersSelectedPets() {
+        // Arrange
+        Owner owner = createAndSaveOwner("Owner9", "owner9@example.com");
+        Owner other = createAndSaveOwner("Owner10", "owner10@example.com");
+        Pet max = createAndSavePet("Max", "Dog", owner);
+        Pet luna = createAndSavePet("Luna", "Cat", owner);
+        createAndSavePet("Buddy", "Dog", owner);
+        Pet notMine = createAndSavePet("Rex", "Dog", other);
+
+        // Act
+        List<Pet> pets = petRepository.findByOwnerIdAndIdInFetchOwner(owner.getId(),
+                List.of(luna.getId(), max.getId(), notMine.getId()));
+
+        // Assert - ordered by id, the other owner's pet filtered out
+        assertEquals(List.of(max.getId(), luna.getId()), pets.stream().map(Pet::getId).toList());
+        assertEquals("Owner9", pets.get(0).getOwner().getName());
+        assertEquals(3, petRepository.findByOwnerIdFetchOwner(owner.getId()).size());
+    }
+
+    @Test
+    void testSave_AssignsPublicToken_FindableByToken() {
+        // Arrange
+        Owner owner = createAndSaveOwner("Owner11", "owner11@example.com");
+        Pet pet = createAndSavePet("Max", "Dog", owner);
+
+        // Act
+        Optional<Pet> found = petRepository.findByPublicToken(pet.getPublicToken());
+
+        // Assert
+        assertNotNull(pet.getPublicToken());
+        assertEquals(12, pet.getPublicToken().length());
+        assertTrue(found.isPresent());
+        assertEquals(pet.getId(), found.get().getId());
+        assertTrue(petRepository.findByPublicToken("doesNotExist").isEmpty());
+    }
+
     private Owner createAndSaveOwner(String name, String email) {
         Owner owner = new Owner();
         owner.setName(name);
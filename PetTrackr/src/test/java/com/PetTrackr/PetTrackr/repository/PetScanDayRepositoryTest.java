@@ -0,0 +1,108 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.PetScanDay;
+import com.PetTrackr.PetTrackr.repository.PetScanDayRepositoryCustom.ScanCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@Sql(statements = {"DELETE FROM pet_scan_day", "DELETE FROM feeding_schedule", "DELETE FROM medication", "DELETE FROM vet_visit", "DELETE FROM pet", "DELETE FROM owner"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class PetScanDayRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 15);
+    private static final Instant NOON = Instant.parse("2025-06-15T12:00:00Z");
+
+    @Autowired
+    private PetScanDayRepository petScanDayRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Test
+    void testAddScanCounts_InsertsThenIncrements() {
+        // Arrange
+        Long petId = createAndSavePet().getId();
+        petScanDayRepository.addScanCounts(List.of(
+                new ScanCount(petId, DAY, 3, NOON),
+                new ScanCount(petId, DAY.plusDays(1), 1, NOON.plusSeconds(86_400))));
+
+        // Act - a later flush for the same day, with an older timestamp
+        petScanDayRepository.addScanCounts(List.of(new ScanCount(petId, DAY, 2, NOON.minusSeconds(60))));
+
+        // Assert
+        List<PetScanDay> days = petScanDayRepository.findByPetIdAndScanDateGreaterThanEqualOrderByScanDate(petId, DAY);
+        assertEquals(2, days.size());
+        assertEquals(DAY, days.get(0).getScanDate());
+        assertEquals(5, days.get(0).getScanCount());
+        assertEquals(NOON, days.get(0).getLastScannedAt());
+        assertEquals(1, days.get(1).getScanCount());
+    }
+
+    @Test
+    void testDeleteOfDeletedPets_KeepsHistoryOfExistingPets() {
+        // Arrange
+        Long petId = createAndSavePet().getId();
+        petScanDayRepository.addScanCounts(List.of(
+                new ScanCount(petId, DAY, 1, NOON),
+                new ScanCount(petId + 1000, DAY, 1, NOON)));
+
+        // Act
+        int deleted = petScanDayRepository.deleteOfDeletedPets();
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, petScanDayRepository.count());
+    }
+
+    @Test
+    void testDeleteByScanDateBefore_DeletesOnlyOlderDays() {
+        // Arrange
+        Long petId = createAndSavePet().getId();
+        petScanDayRepository.addScanCounts(List.of(
+                new ScanCount(petId, DAY.minusDays(400), 1, NOON),
+                new ScanCount(petId, DAY, 1, NOON)));
+
+        // Act
+        int deleted = petScanDayRepository.deleteByScanDateBefore(DAY.minusDays(365));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(DAY, petScanDayRepository.findAll().get(0).getScanDate());
+    }
+
+    private Pet createAndSavePet() {
+        Owner owner = new Owner();
+        owner.setName("Owner1");
+        owner.setEmail("scans@example.com");
+        owner.setPhoneNumber("555-0000");
+        owner.setPasswordHash("hashedpassword");
+        ownerRepository.save(owner);
+
+        Pet pet = new Pet();
+        pet.setName("Max");
+        pet.setType("Dog");
+        pet.setBreed("Mixed");
+        pet.setAge(1);
+        pet.setWeight(25.0);
+        pet.setWeightType(Pet.WeightType.KG);
+        pet.setDateOfBirth(LocalDate.now().minusYears(1));
+        pet.setActivityLevel(Pet.ActivityLevel.MEDIUM);
+        pet.setOwner(owner);
+        return petRepository.save(pet);
+    }
+}
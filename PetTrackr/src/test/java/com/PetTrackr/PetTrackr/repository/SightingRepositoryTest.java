@@ -0,0 +1,74 @@
+package com.PetTrackr.PetTrackr.repository;
+
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@Sql(statements = {"DELETE FROM sighting", "DELETE FROM feeding_schedule", "DELETE FROM medication", "DELETE FROM vet_visit", "DELETE FROM pet", "DELETE FROM owner"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class SightingRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Test
+    void testFindByGeohashStartingWith_ReturnsOnlyThatCell() {
+        // Arrange
+        sightingRepository.save(sighting(1L, "drt2yzr9q", NOW));
+        sightingRepository.save(sighting(1L, "drt2yzpxz", NOW));
+        sightingRepository.save(sighting(1L, "drt2zp000", NOW));
+        sightingRepository.save(sighting(1L, "drt2yzr9q", NOW.minusSeconds(7200)));
+
+        // Act
+        List<Sighting> found = sightingRepository.findByGeohashStartingWithAndSightedAtGreaterThanEqual(
+                "drt2yz", NOW.minusSeconds(3600));
+
+        // Assert
+        assertEquals(2, found.size());
+        assertTrue(found.stream().allMatch(s -> s.getGeohash().startsWith("drt2yz")));
+    }
+
+    @Test
+    void testFindByPetId_ReturnsNewestFirst() {
+        // Arrange
+        sightingRepository.save(sighting(1L, "drt2yzr9q", NOW.minusSeconds(60)));
+        sightingRepository.save(sighting(1L, "drt2yzr9q", NOW));
+        sightingRepository.save(sighting(2L, "drt2yzr9q", NOW));
+
+        // Act
+        List<Sighting> found = sightingRepository.findByPetIdAndSightedAtGreaterThanEqualOrderBySightedAtDesc(
+                1L, NOW.minusSeconds(3600));
+
+        // Assert
+        assertEquals(2, found.size());
+        assertEquals(NOW, found.get(0).getSightedAt());
+    }
+
+    @Test
+    void testDeleteOfDeletedPets_DeletesReportsWithoutPet() {
+        // Arrange - no pets exist
+        sightingRepository.save(sighting(1L, "drt2yzr9q", NOW));
+
+        // Act
+        int deleted = sightingRepository.deleteOfDeletedPets();
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(0, sightingRepository.count());
+    }
+
+    private static Sighting sighting(Long petId, String geohash, Instant sightedAt) {
+        return new Sighting(petId, 42.36, -71.06, geohash, sightedAt, sightedAt, null);
+    }
+}
@@ -0,0 +1,228 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DoseLogServiceTest {
+
+    @Mock
+    private DoseAdministrationRepository doseAdministrationRepository;
+
+    @Mock
+    private MedicationRepository medicationRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private Clock clock;
+
+    private DoseLogService doseLogService;
+    private Medication testMedication;
+
+    // 2025-06-06 09:00 UTC - the sixth day of a once-daily 8am course
+    private Instant now = Instant.parse("2025-06-06T09:00:00Z");
+
+    // dose times in the log, served by the mocked range queries
+    private final List<LocalDateTime> logged = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Pet testPet = new Pet();
+        testPet.setId(10L);
+        testPet.setName("Rex");
+
+        testMedication = new Medication();
+        testMedication.setId(1L);
+        testMedication.setName("Heartworm Prevention");
+        testMedication.setFrequency("Once daily");
+        testMedication.setTimeToAdminister(LocalTime.of(8, 0));
+        testMedication.setStartDate(LocalDate.of(2025, 6, 1));
+        testMedication.setPet(testPet);
+
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        lenient().when(medicationRepository.findById(1L)).thenReturn(Optional.of(testMedication));
+        lenient().when(doseAdministrationRepository.findDueTimes(eq(1L), any(), any())).thenAnswer(invocation ->
+                inRange(invocation.getArgument(1), invocation.getArgument(2)));
+        lenient().when(doseAdministrationRepository.countInRange(eq(1L), any(), any())).thenAnswer(invocation ->
+                (long) inRange(invocation.getArgument(1), invocation.getArgument(2)).size());
+
+        doseLogService = new DoseLogService(doseAdministrationRepository, medicationRepository, petService, clock,
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(),
+                "UTC", 100, 500, Duration.ofSeconds(5), Duration.ofHours(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        doseLogService.shutdown();
+    }
+
+    // ========================================
+    // logDose Tests
+    // ========================================
+
+    @Test
+    void testLogDose_WritesEntry() {
+        // Arrange
+        when(doseAdministrationRepository.appendAll(anyList())).thenReturn(new boolean[]{true});
+
+        // Act
+        DoseLogService.LoggedDose result = doseLogService.logDose(1L, 10L, 1L,
+                LocalDateTime.of(2025, 6, 6, 8, 0), null, "  with food  ");
+
+        // Assert
+        assertTrue(result.created());
+        assertEquals(LocalDateTime.of(2025, 6, 6, 8, 0), result.entry().getDueAt());
+        assertEquals(now, result.entry().getAdministeredAt());
+        assertEquals("with food", result.entry().getNotes());
+        verify(petService).getPetById(10L, 1L);
+    }
+
+    @Test
+    void testLogDose_AlreadyLogged_ReturnsExistingEntry() {
+        // Arrange
+        DoseAdministration existing = new DoseAdministration(1L, 10L, LocalDateTime.of(2025, 6, 6, 8, 0),
+                Instant.parse("2025-06-06T08:05:00Z"), Instant.parse("2025-06-06T08:05:00Z"), null);
+        when(doseAdministrationRepository.appendAll(anyList())).thenReturn(new boolean[]{false});
+        when(doseAdministrationRepository.findByMedicationIdAndDueAt(1L, LocalDateTime.of(2025, 6, 6, 8, 0)))
+                .thenReturn(Optional.of(existing));
+
+        // Act
+        DoseLogService.LoggedDose result = doseLogService.logDose(1L, 10L, 1L,
+                LocalDateTime.of(2025, 6, 6, 8, 0), null, null);
+
+        // Assert
+        assertFalse(result.created());
+        assertSame(existing, result.entry());
+    }
+
+    @Test
+    void testLogDose_NoDoseScheduledThen_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                doseLogService.logDose(1L, 10L, 1L, LocalDateTime.of(2025, 6, 6, 9, 0), null, null));
+        assertTrue(exception.getMessage().contains("No dose"));
+        verify(doseAdministrationRepository, never()).appendAll(anyList());
+    }
+
+    @Test
+    void testLogDose_MedicationOfAnotherPet_ThrowsNotFound() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                doseLogService.logDose(1L, 99L, 1L, LocalDateTime.of(2025, 6, 6, 8, 0), null, null));
+        assertTrue(exception.getMessage().contains("not found"));
+        verify(petService, never()).getPetById(any(), any());
+    }
+
+    // ========================================
+    // getAdherence Tests
+    // ========================================
+
+    @Test
+    void testGetAdherence_CountsTakenMissedAndStreaks() {
+        // Arrange - 2 June missed; today's dose is within the grace period and logged
+        logDoses(1, 3, 4, 5, 6);
+
+        // Act
+        DoseLogService.Adherence adherence = doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Assert
+        assertEquals(new DoseLogService.Adherence(5, 1, 4, 4), adherence);
+    }
+
+    @Test
+    void testGetAdherence_PendingDoseNotLoggedYet_IsNotMissed() {
+        // Arrange
+        logDoses(1, 2, 3, 4, 5);
+
+        // Act
+        DoseLogService.Adherence adherence = doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Assert
+        assertEquals(new DoseLogService.Adherence(5, 0, 5, 5), adherence);
+    }
+
+    @Test
+    void testGetAdherence_OnlyReadsTheLogSinceTheCheckpoint() {
+        // Arrange
+        logDoses(1, 2, 3, 4, 5, 6);
+        doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Act - a day later, the 7 June dose not logged yet
+        now = now.plus(Duration.ofDays(1));
+        DoseLogService.Adherence adherence = doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Assert - the second read starts where the first settled (7:00 on 6 June)
+        verify(doseAdministrationRepository).findDueTimes(eq(1L), eq(LocalDateTime.of(2025, 6, 6, 7, 0)), any());
+        assertEquals(new DoseLogService.Adherence(6, 0, 6, 6), adherence);
+    }
+
+    @Test
+    void testGetAdherence_SettledDoseLoggedLate_Recomputes() {
+        // Arrange
+        logDoses(1, 3, 4, 5);
+        assertEquals(1, doseLogService.getAdherence(1L, 10L, 1L).missed());
+
+        // Act - 2 June is logged after it was counted as missed
+        logDoses(2);
+        DoseLogService.Adherence adherence = doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Assert
+        assertEquals(new DoseLogService.Adherence(5, 0, 5, 5), adherence);
+    }
+
+    @Test
+    void testGetAdherence_AsNeededMedication_HasNothingMissed() {
+        // Arrange
+        testMedication.setFrequency("as needed");
+        logDoses(3);
+
+        // Act
+        DoseLogService.Adherence adherence = doseLogService.getAdherence(1L, 10L, 1L);
+
+        // Assert
+        assertEquals(new DoseLogService.Adherence(0, 0, 0, 0), adherence);
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private void logDoses(int... daysOfJune) {
+        for (int day : daysOfJune) {
+            logged.add(LocalDateTime.of(2025, 6, day, 8, 0));
+        }
+    }
+
+    private List<LocalDateTime> inRange(LocalDateTime from, LocalDateTime to) {
+        return logged.stream().filter(dueAt -> !dueAt.isBefore(from) && dueAt.isBefore(to)).sorted().toList();
+    }
+}
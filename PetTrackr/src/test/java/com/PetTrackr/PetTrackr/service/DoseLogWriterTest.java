@@ -0,0 +1,179 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DoseLogWriterTest {
+
+    @Mock
+    private DoseAdministrationRepository doseAdministrationRepository;
+
+    private DoseLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    // ========================================
+    // Batching Tests
+    // ========================================
+
+    @Test
+    void testAppend_EntriesQueuedDuringAWriteShareTheNextCommit() throws Exception {
+        // Arrange - the first write blocks until the others have queued up
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(doseAdministrationRepository.appendAll(anyList())).thenAnswer(invocation -> {
+            List<DoseAdministration> entries = invocation.getArgument(0);
+            batchSizes.add(entries.size());
+            if (batchSizes.size() == 1) {
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await();
+            }
+            return allInserted(entries.size());
+        });
+        writer = newWriter(100);
+
+        // Act
+        CompletableFuture<Boolean> first = writer.append(entry(8));
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Boolean>> queued = List.of(writer.append(entry(9)), writer.append(entry(10)),
+                writer.append(entry(11)));
+        assertFalse(queued.get(0).isDone()); // not acknowledged before its commit
+        releaseFirstWrite.countDown();
+
+        // Assert
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        for (CompletableFuture<Boolean> result : queued) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(1, 3), batchSizes);
+    }
+
+    @Test
+    void testAppend_AlreadyLogged_CompletesFalse() throws Exception {
+        // Arrange
+        when(doseAdministrationRepository.appendAll(anyList())).thenReturn(new boolean[]{false});
+        writer = newWriter(100);
+
+        // Act & Assert
+        assertFalse(writer.append(entry(8)).get(5, TimeUnit.SECONDS));
+    }
+
+    // ========================================
+    // Failure Tests
+    // ========================================
+
+    @Test
+    void testAppend_DuplicateKeyRace_RetriesOnce() throws Exception {
+        // Arrange - another node inserted the same dose concurrently
+        when(doseAdministrationRepository.appendAll(anyList()))
+                .thenThrow(new DuplicateKeyException("uk_dose_administration"))
+                .thenReturn(new boolean[]{false});
+        writer = newWriter(100);
+
+        // Act & Assert
+        assertFalse(writer.append(entry(8)).get(5, TimeUnit.SECONDS));
+        verify(doseAdministrationRepository, times(2)).appendAll(anyList());
+    }
+
+    @Test
+    void testAppend_WriteFails_CompletesExceptionally() {
+        // Arrange
+        when(doseAdministrationRepository.appendAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+        writer = newWriter(100);
+
+        // Act
+        CompletableFuture<Boolean> result = writer.append(entry(8));
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DataAccessResourceFailureException.class, e.getCause());
+    }
+
+    @Test
+    void testAppend_QueueFull_Rejects() throws Exception {
+        // Arrange - the writer is stuck on one entry and the queue holds one more
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        when(doseAdministrationRepository.appendAll(anyList())).thenAnswer(invocation -> {
+            writeStarted.countDown();
+            releaseWrite.await();
+            return allInserted(invocation.<List<?>>getArgument(0).size());
+        });
+        writer = newWriter(1);
+        writer.append(entry(8));
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        writer.append(entry(9));
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> writer.append(entry(10)));
+        releaseWrite.countDown();
+    }
+
+    @Test
+    void testClose_WritesQueuedEntriesThenRejects() throws Exception {
+        // Arrange
+        when(doseAdministrationRepository.appendAll(anyList()))
+                .thenAnswer(invocation -> allInserted(invocation.<List<?>>getArgument(0).size()));
+        writer = newWriter(100);
+        CompletableFuture<Boolean> result = writer.append(entry(8));
+
+        // Act
+        writer.close();
+
+        // Assert
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> writer.append(entry(9)));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private DoseLogWriter newWriter(int queueCapacity) {
+        return new DoseLogWriter(doseAdministrationRepository, TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), queueCapacity, 500);
+    }
+
+    private static DoseAdministration entry(int hour) {
+        return new DoseAdministration(1L, 10L, LocalDateTime.of(2025, 6, 1, hour, 0),
+                Instant.parse("2025-06-01T12:00:00Z"), Instant.parse("2025-06-01T12:00:00Z"), null);
+    }
+
+    private static boolean[] allInserted(int size) {
+        boolean[] inserted = new boolean[size];
+        Arrays.fill(inserted, true);
+        return inserted;
+    }
+}
@@ -0,0 +1,221 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DoseReminderServiceTest {
+
+    // 2025-06-01 07:00 UTC
+    private static final Instant START = Instant.parse("2025-06-01T07:00:00Z");
+
+    @Mock
+    private MedicationRepository medicationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Clock clock;
+
+    private DoseReminderService doseReminderService;
+    private final List<DoseDueEvent> events = new ArrayList<>();
+    private Instant now = START;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(invocation -> now.toEpochMilli());
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        lenient().doAnswer(invocation -> events.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(Object.class));
+        lenient().when(medicationRepository.findExistingIds(any()))
+                .thenAnswer(invocation -> new ArrayList<Long>(invocation.getArgument(0)));
+        doseReminderService = new DoseReminderService(medicationRepository, eventPublisher, clock,
+                new SimpleMeterRegistry(), true, Duration.ofSeconds(1), "UTC");
+    }
+
+    // ========================================
+    // Firing Tests
+    // ========================================
+
+    @Test
+    void testTick_FiresDueDoseAndSchedulesNextDay() {
+        // Arrange - 8am daily, loaded at 7am
+        load(schedule(1L, LocalTime.of(8, 0), null));
+
+        // Act & Assert - nothing before 8am
+        advance(Duration.ofMinutes(59));
+        assertTrue(events.isEmpty());
+
+        advance(Duration.ofMinutes(1));
+        assertEquals(List.of(new DoseDueEvent(1L, 10L, Instant.parse("2025-06-01T08:00:00Z"))), events);
+        assertEquals(1, doseReminderService.scheduledCount());
+
+        advance(Duration.ofDays(1));
+        assertEquals(Instant.parse("2025-06-02T08:00:00Z"), events.get(1).dueAt());
+    }
+
+    @Test
+    void testTick_CourseEnded_DropsMedication() {
+        // Arrange - last dose is today at 8am
+        load(schedule(1L, LocalTime.of(8, 0), LocalDate.of(2025, 6, 1)));
+
+        // Act
+        advance(Duration.ofHours(1));
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals(0, doseReminderService.scheduledCount());
+    }
+
+    @Test
+    void testTick_FollowsRecurrenceRule() {
+        // Arrange - every 8 hours from midnight
+        load(new DoseSchedule(1L, 10L, LocalTime.MIDNIGHT, LocalDate.of(2025, 1, 1), null,
+                new RecurrenceRule(Medication.RecurrenceUnit.HOURS, 8)));
+
+        // Act
+        advance(Duration.ofHours(10));
+
+        // Assert - the 8:00 and 16:00 doses
+        assertEquals(List.of(Instant.parse("2025-06-01T08:00:00Z"), Instant.parse("2025-06-01T16:00:00Z")),
+                events.stream().map(DoseDueEvent::dueAt).toList());
+    }
+
+    @Test
+    void testLoad_MedicationWithoutFixedSchedule_IsNotScheduled() {
+        // Arrange & Act
+        load(new DoseSchedule(1L, 10L, LocalTime.of(8, 0), LocalDate.of(2025, 1, 1), null, RecurrenceRule.NONE));
+        advance(Duration.ofDays(2));
+
+        // Assert
+        assertEquals(0, doseReminderService.scheduledCount());
+        assertTrue(events.isEmpty());
+    }
+
+    // ========================================
+    // Incremental Update Tests
+    // ========================================
+
+    @Test
+    void testMedicationsDeleted_CancelsReminder() {
+        // Arrange
+        load(schedule(1L, LocalTime.of(8, 0), null), schedule(2L, LocalTime.of(7, 30), null));
+
+        // Act
+        doseReminderService.medicationsDeleted(List.of(1L));
+        advance(Duration.ofHours(2));
+
+        // Assert
+        assertEquals(List.of(2L), events.stream().map(DoseDueEvent::medicationId).toList());
+    }
+
+    @Test
+    void testLoad_SkipsMedicationsChangedWhileLoading() {
+        // Arrange - deleted after the load read it, before the load scheduled it
+        doseReminderService.medicationsDeleted(List.of(1L));
+
+        // Act
+        load(schedule(1L, LocalTime.of(8, 0), null));
+
+        // Assert
+        assertEquals(0, doseReminderService.scheduledCount());
+    }
+
+    @Test
+    void testRefresh_PicksUpMedicationSavedThroughAnotherNode() {
+        // Arrange - loaded with nothing; another node then adds an 8am medication and moves one to 7:30
+        load(schedule(2L, LocalTime.of(9, 0), null));
+        when(medicationRepository.findSchedulesUpdatedSince(START.minus(Duration.ofMinutes(1))))
+                .thenReturn(List.of(schedule(1L, LocalTime.of(8, 0), null), schedule(2L, LocalTime.of(7, 30), null)));
+
+        // Act
+        doseReminderService.refresh();
+        advance(Duration.ofHours(2));
+
+        // Assert
+        assertEquals(List.of(Instant.parse("2025-06-01T07:30:00Z"), Instant.parse("2025-06-01T08:00:00Z")),
+                events.stream().map(DoseDueEvent::dueAt).toList());
+    }
+
+    @Test
+    void testRefresh_UnchangedMedication_KeepsPendingDose() {
+        // Arrange - the 8am dose is pending when the refresh runs just after it, before the tick
+        load(schedule(1L, LocalTime.of(8, 0), null));
+        now = Instant.parse("2025-06-01T08:00:00.500Z");
+        when(medicationRepository.findSchedulesUpdatedSince(any())).thenReturn(List.of(schedule(1L, LocalTime.of(8, 0), null)));
+
+        // Act
+        doseReminderService.refresh();
+        advance(Duration.ofSeconds(1));
+
+        // Assert
+        assertEquals(List.of(Instant.parse("2025-06-01T08:00:00Z")), events.stream().map(DoseDueEvent::dueAt).toList());
+    }
+
+    @Test
+    void testTick_MedicationDeletedThroughAnotherNode_IsDropped() {
+        // Arrange
+        load(schedule(1L, LocalTime.of(8, 0), null), schedule(2L, LocalTime.of(8, 0), null));
+        doReturn(List.of(2L)).when(medicationRepository).findExistingIds(any());
+
+        // Act
+        advance(Duration.ofHours(1));
+
+        // Assert
+        assertEquals(List.of(2L), events.stream().map(DoseDueEvent::medicationId).toList());
+        assertEquals(1, doseReminderService.scheduledCount());
+    }
+
+    // ========================================
+    // Schedule Tests
+    // ========================================
+
+    @Test
+    void testNextDoseAfter_StartsOnStartDate() {
+        // Arrange
+        DoseSchedule schedule = new DoseSchedule(1L, 10L, LocalTime.of(8, 0),
+                LocalDate.of(2025, 7, 1), null, RecurrenceRule.DAILY);
+
+        // Act & Assert
+        assertEquals(Instant.parse("2025-07-01T08:00:00Z"), schedule.nextDoseAfter(START, java.time.ZoneOffset.UTC));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private void load(DoseSchedule... schedules) {
+        when(medicationRepository.streamActiveSchedules(any())).thenReturn(Stream.of(schedules));
+        doseReminderService.load();
+    }
+
+    private void advance(Duration duration) {
+        now = now.plus(duration);
+        doseReminderService.tick();
+    }
+
+    private static DoseSchedule schedule(Long medicationId, LocalTime time, LocalDate endDate) {
+        return new DoseSchedule(medicationId, 10L, time, LocalDate.of(2025, 1, 1), endDate, RecurrenceRule.DAILY);
+    }
+}
@@ -0,0 +1,217 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.DoseAdministration;
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DueServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-10T08:30:00Z");
+
+    @Mock
+    private FeedingScheduleRepository feedingScheduleRepository;
+
+    @Mock
+    private FeedingEventRepository feedingEventRepository;
+
+    @Mock
+    private DoseAdministrationRepository doseAdministrationRepository;
+
+    @Mock
+    private MedicationService medicationService;
+
+    @Mock
+    private Clock clock;
+
+    private DueService dueService;
+
+    private Pet rex;
+    private Pet mia;
+
+    @BeforeEach
+    void setUp() {
+        rex = new Pet();
+        rex.setId(10L);
+        rex.setName("Rex");
+        mia = new Pet();
+        mia.setId(11L);
+        mia.setName("Mia");
+
+        lenient().when(clock.instant()).thenReturn(NOW);
+
+        dueService = new DueService(feedingScheduleRepository, feedingEventRepository, doseAdministrationRepository,
+                medicationService, clock, "UTC", Duration.ofHours(2));
+    }
+
+    // ========================================
+    // getDue Tests
+    // ========================================
+
+    @Test
+    void testGetDue_MergesFeedingsAndDosesByDueTime() {
+        // Arrange - window is 06:30 to 10:30
+        FeedingSchedule rexBreakfast = schedule(1L, rex, LocalTime.of(7, 0), "Kibble");
+        FeedingSchedule miaBreakfast = schedule(2L, mia, LocalTime.of(9, 0), "Wet food");
+        when(feedingScheduleRepository.findForOwnerBetween(1L, LocalTime.of(6, 30), LocalTime.of(10, 30)))
+                .thenReturn(List.of(rexBreakfast, miaBreakfast));
+        Medication apoquel = medication(5L, rex, "Apoquel");
+        when(medicationService.getDoseCalendar(1L, null,
+                LocalDateTime.of(2025, 6, 10, 6, 30), LocalDateTime.of(2025, 6, 10, 10, 30)))
+                .thenReturn(Stream.of(new MedicationService.Dose(apoquel, LocalDateTime.of(2025, 6, 10, 8, 0))));
+
+        // Act
+        DueService.DueFeed feed = dueService.getDue(1L, 2);
+
+        // Assert
+        assertEquals(LocalDateTime.of(2025, 6, 10, 6, 30), feed.from());
+        assertEquals(LocalDateTime.of(2025, 6, 10, 10, 30), feed.to());
+        assertEquals(List.of("FEEDING 1 Rex", "DOSE 5 Rex", "FEEDING 2 Mia"),
+                feed.items().stream().map(item -> item.type() + " " + item.itemId() + " " + item.pet().getName()).toList());
+        assertEquals("Apoquel", feed.items().get(1).name());
+        assertEquals("MG", feed.items().get(1).unit());
+        assertEquals("CUPS", feed.items().get(0).unit());
+        assertFalse(feed.items().get(0).done());
+    }
+
+    @Test
+    void testGetDue_MarksLoggedItemsDone() {
+        // Arrange
+        FeedingSchedule rexBreakfast = schedule(1L, rex, LocalTime.of(7, 0), "Kibble");
+        FeedingSchedule miaBreakfast = schedule(2L, mia, LocalTime.of(9, 0), "Wet food");
+        when(feedingScheduleRepository.findForOwnerBetween(any(), any(), any()))
+                .thenReturn(List.of(rexBreakfast, miaBreakfast));
+        when(feedingEventRepository.findScheduledForPets(any(), any(), any())).thenReturn(List.of(
+                new FeedingEvent(10L, 1L, Instant.parse("2025-06-10T07:05:00Z"), "Kibble", 1.0, QuantityUnit.CUPS, 100, null),
+                // yesterday's breakfast for Mia doesn't count today
+                new FeedingEvent(11L, 2L, Instant.parse("2025-06-09T09:00:00Z"), "Wet food", 1.0, QuantityUnit.CUPS, 100, null)));
+        Medication apoquel = medication(5L, rex, "Apoquel");
+        when(medicationService.getDoseCalendar(any(), any(), any(), any()))
+                .thenReturn(Stream.of(new MedicationService.Dose(apoquel, LocalDateTime.of(2025, 6, 10, 8, 0))));
+        when(doseAdministrationRepository.findByMedicationIdInAndDueAtGreaterThanEqualAndDueAtLessThan(any(), any(), any()))
+                .thenReturn(List.of(new DoseAdministration(5L, 10L, LocalDateTime.of(2025, 6, 10, 8, 0),
+                        NOW, NOW, null)));
+
+        // Act
+        List<DueService.DueItem> items = dueService.getDue(1L, 2).items();
+
+        // Assert
+        assertTrue(items.get(0).done());
+        assertTrue(items.get(1).done());
+        assertFalse(items.get(2).done());
+    }
+
+    @Test
+    void testGetDue_WindowPastMidnight_UsesWrappingQuery() {
+        // Arrange - at 22:30 a 4 hour window runs 20:30 to 02:30 the next day
+        when(clock.instant()).thenReturn(Instant.parse("2025-06-10T22:30:00Z"));
+        FeedingSchedule supper = schedule(1L, rex, LocalTime.of(21, 0), "Kibble");
+        FeedingSchedule snack = schedule(2L, rex, LocalTime.of(1, 0), "Treats");
+        when(feedingScheduleRepository.findForOwnerWrapping(1L, LocalTime.of(20, 30), LocalTime.of(2, 30)))
+                .thenReturn(List.of(snack, supper));
+        when(medicationService.getDoseCalendar(any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        // Act
+        List<DueService.DueItem> items = dueService.getDue(1L, 4).items();
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2025, 6, 10, 21, 0), LocalDateTime.of(2025, 6, 11, 1, 0)),
+                items.stream().map(DueService.DueItem::dueAt).toList());
+        verify(feedingScheduleRepository, never()).findForOwnerBetween(any(), any(), any());
+    }
+
+    @Test
+    void testGetDue_WindowOverADay_ListsScheduleOncePerDay() {
+        // Arrange - 06:30 today to 08:30 the day after tomorrow
+        FeedingSchedule breakfast = schedule(1L, rex, LocalTime.of(7, 0), "Kibble");
+        when(feedingScheduleRepository.findForOwnerWrapping(1L, LocalTime.of(6, 30), LocalTime.of(6, 30)))
+                .thenReturn(List.of(breakfast));
+        when(medicationService.getDoseCalendar(any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        // Act
+        List<DueService.DueItem> items = dueService.getDue(1L, 48).items();
+
+        // Assert
+        assertEquals(3, items.size());
+        assertEquals(LocalDate.of(2025, 6, 12), items.get(2).dueAt().toLocalDate());
+    }
+
+    @Test
+    void testGetDue_QueryCountDoesNotGrowWithPets() {
+        // Arrange - many pets, each with a feeding and a dose
+        List<FeedingSchedule> schedules = new ArrayList<>();
+        List<MedicationService.Dose> doses = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            Pet pet = new Pet();
+            pet.setId(100 + i);
+            pet.setName("Pet " + i);
+            schedules.add(schedule(i, pet, LocalTime.of(9, 0), "Kibble"));
+            doses.add(new MedicationService.Dose(medication(i, pet, "Med " + i), LocalDateTime.of(2025, 6, 10, 9, 0)));
+        }
+        when(feedingScheduleRepository.findForOwnerBetween(any(), any(), any())).thenReturn(schedules);
+        when(medicationService.getDoseCalendar(any(), any(), any(), any())).thenReturn(doses.stream());
+
+        // Act
+        List<DueService.DueItem> items = dueService.getDue(1L, 2).items();
+
+        // Assert
+        assertEquals(100, items.size());
+        verify(feedingScheduleRepository, times(1)).findForOwnerBetween(any(), any(), any());
+        verify(feedingEventRepository, times(1)).findScheduledForPets(any(), any(), any());
+        verify(medicationService, times(1)).getDoseCalendar(any(), any(), any(), any());
+        verify(doseAdministrationRepository, times(1))
+                .findByMedicationIdInAndDueAtGreaterThanEqualAndDueAtLessThan(any(), any(), any());
+    }
+
+    @Test
+    void testGetDue_InvalidHours_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> dueService.getDue(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> dueService.getDue(1L, DueService.MAX_HOURS + 1));
+        verifyNoInteractions(feedingScheduleRepository, medicationService);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private FeedingSchedule schedule(Long id, Pet pet, LocalTime time, String foodType) {
+        FeedingSchedule schedule = new FeedingSchedule(time, foodType, 1.0, QuantityUnit.CUPS);
+        schedule.setId(id);
+        schedule.setPet(pet);
+        return schedule;
+    }
+
+    private Medication medication(Long id, Pet pet, String name) {
+        Medication medication = new Medication(name, 5.0, Medication.DosageUnit.MG, "daily",
+                LocalTime.of(8, 0), LocalDate.of(2025, 6, 1), null);
+        medication.setId(id);
+        medication.setPet(pet);
+        return medication;
+    }
+}
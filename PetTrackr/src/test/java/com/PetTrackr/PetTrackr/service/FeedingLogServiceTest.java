@@ -0,0 +1,159 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.FeedingDayRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedingLogServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T23:30:00Z");
+
+    @Mock
+    private FeedingEventRepository feedingEventRepository;
+
+    @Mock
+    private FeedingDayRepository feedingDayRepository;
+
+    @Mock
+    private FeedingScheduleRepository feedingScheduleRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private Clock clock;
+
+    private FeedingLogService feedingLogService;
+    private FeedingSchedule testSchedule;
+
+    @BeforeEach
+    void setUp() {
+        Pet testPet = new Pet();
+        testPet.setId(10L);
+        testPet.setName("Rex");
+
+        testSchedule = new FeedingSchedule(LocalTime.of(8, 0), "Dry Kibble", 1.5, QuantityUnit.CUPS);
+        testSchedule.setId(5L);
+        testSchedule.setPet(testPet);
+
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(feedingEventRepository.save(any(FeedingEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // a zone ahead of UTC, so the day of a late-evening feeding differs from its UTC date
+        feedingLogService = new FeedingLogService(feedingEventRepository, feedingDayRepository,
+                feedingScheduleRepository, petService, clock, "Europe/Berlin", 100, 370);
+    }
+
+    // ========================================
+    // logFeeding Tests
+    // ========================================
+
+    @Test
+    void testLogFeeding_AddsGramsToItsDay() {
+        // Act
+        FeedingEvent event = feedingLogService.logFeeding(10L, 1L, null, null, "  Wet   Food ", 2.0,
+                QuantityUnit.OUNCES, null);
+
+        // Assert - 23:30 UTC is already 2 June in Berlin
+        assertEquals("Wet Food", event.getFoodType());
+        assertEquals(NOW, event.getFedAt());
+        assertEquals(2 * FeedingLogService.GRAMS_PER_OUNCE, event.getQuantityGrams(), 1e-9);
+        verify(petService).getPetById(10L, 1L);
+        verify(feedingDayRepository).addToDay(10L, LocalDate.of(2025, 6, 2), "wet food", "Wet Food",
+                2 * FeedingLogService.GRAMS_PER_OUNCE, 1);
+    }
+
+    @Test
+    void testLogFeeding_FromSchedule_UsesItsDefaults() {
+        // Arrange
+        when(feedingScheduleRepository.findById(5L)).thenReturn(Optional.of(testSchedule));
+
+        // Act
+        FeedingEvent event = feedingLogService.logFeeding(10L, 1L, 5L, null, null, null, null, null);
+
+        // Assert
+        assertEquals("Dry Kibble", event.getFoodType());
+        assertEquals(QuantityUnit.CUPS, event.getQuantityUnit());
+        assertEquals(150.0, event.getQuantityGrams(), 1e-9);
+        assertEquals(5L, event.getFeedingScheduleId());
+    }
+
+    @Test
+    void testLogFeeding_ScheduleOfAnotherPet_ThrowsNotFound() {
+        // Arrange
+        when(feedingScheduleRepository.findById(5L)).thenReturn(Optional.of(testSchedule));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                feedingLogService.logFeeding(99L, 1L, 5L, null, null, null, null, null));
+        assertTrue(exception.getMessage().contains("not found"));
+        verify(feedingEventRepository, never()).save(any());
+    }
+
+    @Test
+    void testLogFeeding_InFuture_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                feedingLogService.logFeeding(10L, 1L, null, NOW.plusSeconds(3600), "Kibble", 100.0,
+                        QuantityUnit.GRAMS, null));
+        verify(feedingDayRepository, never()).addToDay(any(), any(), any(), any(), anyDouble(), anyInt());
+    }
+
+    // ========================================
+    // deleteFeeding Tests
+    // ========================================
+
+    @Test
+    void testDeleteFeeding_SubtractsFromItsDay() {
+        // Arrange
+        FeedingEvent event = new FeedingEvent(10L, null, Instant.parse("2025-05-31T10:00:00Z"), "Dry Kibble",
+                1.0, QuantityUnit.CANS, 370.0, null);
+        event.setId(7L);
+        when(feedingEventRepository.findById(7L)).thenReturn(Optional.of(event));
+
+        // Act
+        feedingLogService.deleteFeeding(7L, 10L, 1L);
+
+        // Assert
+        verify(feedingEventRepository).delete(event);
+        verify(feedingDayRepository).addToDay(10L, LocalDate.of(2025, 5, 31), "dry kibble", "Dry Kibble", -370.0, -1);
+    }
+
+    // ========================================
+    // getNutrition Tests
+    // ========================================
+
+    @Test
+    void testGetNutrition_ReadsOnlyTheRollup() {
+        // Act
+        feedingLogService.getNutrition(10L, 1L, 30);
+
+        // Assert - the 30 days up to 2 June (Berlin)
+        verify(feedingDayRepository).findByPetIdAndFeedingDateGreaterThanEqualOrderByFeedingDateAscFoodKeyAsc(
+                eq(10L), eq(LocalDate.of(2025, 5, 4)));
+        verifyNoInteractions(feedingEventRepository);
+    }
+}
@@ -0,0 +1,85 @@
+package com.PetTrackr.PetTrackr.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeohashTest {
+
+    // ========================================
+    // Encode Tests
+    // ========================================
+
+    @Test
+    void testEncode_KnownPositions() {
+        // Act & Assert - reference values from geohash.org
+        assertEquals("u4pruydqqvj", Geohash.encode(57.64911, 10.40744, 11));
+        assertEquals("ezs42", Geohash.encode(42.6, -5.6, 5));
+        assertEquals("dr5regw3p", Geohash.encode(40.7128, -74.0060, 9));
+    }
+
+    @Test
+    void testEncode_ShorterPrecisionIsPrefix() {
+        // Act
+        String fine = Geohash.encode(40.7128, -74.0060, 9);
+        String coarse = Geohash.encode(40.7128, -74.0060, 5);
+
+        // Assert
+        assertTrue(fine.startsWith(coarse));
+    }
+
+    @Test
+    void testEncode_InvalidPrecision_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Geohash.encode(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Geohash.encode(0, 0, 13));
+    }
+
+    // ========================================
+    // Covering Cell Tests
+    // ========================================
+
+    @Test
+    void testCoveringCells_ContainPointsInsideRadius() {
+        // Arrange - points 2km north, south, east and west of the center
+        double lat = 40.7128;
+        double lon = -74.0060;
+        double[][] points = {{lat + 0.018, lon}, {lat - 0.018, lon}, {lat, lon + 0.0237}, {lat, lon - 0.0237}};
+
+        // Act
+        List<String> cells = Geohash.coveringCells(lat, lon, 2.5, 6);
+
+        // Assert
+        assertTrue(cells.size() <= Geohash.countCoveringCells(lat, 2.5, 6));
+        for (double[] point : points) {
+            assertTrue(Geohash.distanceKm(lat, lon, point[0], point[1]) < 2.5);
+            assertTrue(cells.contains(Geohash.encode(point[0], point[1], 6)), "missing cell for " + point[0] + "," + point[1]);
+        }
+    }
+
+    @Test
+    void testCoveringCells_AcrossAntimeridian_WrapsAround() {
+        // Act
+        List<String> cells = Geohash.coveringCells(0, 179.99, 5, 5);
+
+        // Assert - cells on both sides of the 180th meridian
+        assertTrue(cells.contains(Geohash.encode(0, 179.99, 5)));
+        assertTrue(cells.contains(Geohash.encode(0, -179.99, 5)));
+    }
+
+    // ========================================
+    // Distance Tests
+    // ========================================
+
+    @Test
+    void testDistanceKm_KnownDistance() {
+        // Act - New York to London
+        double distance = Geohash.distanceKm(40.7128, -74.0060, 51.5074, -0.1278);
+
+        // Assert
+        assertEquals(5570, distance, 10);
+        assertEquals(0, Geohash.distanceKm(10, 10, 10, 10), 1e-9);
+    }
+}
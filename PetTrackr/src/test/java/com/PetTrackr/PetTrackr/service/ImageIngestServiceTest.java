@@ -0,0 +1,224 @@
+package com.PetTrackr.PetTrackr.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageIngestServiceTest {
+
+    private ImageIngestService imageIngestService;
+
+    @BeforeEach
+    void setUp() {
+        imageIngestService = new ImageIngestService(true, 800, 0.8f, false, 1, 2, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageIngestService.shutdown();
+    }
+
+    // ========================================
+    // Downscale / Re-encode Tests
+    // ========================================
+
+    @Test
+    void testProcess_WithLargeJpeg_CapsLongestEdge() throws IOException {
+        // Arrange
+        byte[] original = encode(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // Act
+        ImageIngestService.ProcessedImage result = imageIngestService.process(original, ".jpg").orElseThrow();
+
+        // Assert
+        assertEquals(800, result.width());
+        assertEquals(533, result.height());
+        assertEquals("image/jpeg", result.contentType());
+        assertEquals(800, decode(result.content()).getWidth());
+        assertTrue(result.content().length < original.length);
+    }
+
+    @Test
+    void testProcess_WithSmallImage_KeepsDimensions() throws IOException {
+        // Arrange
+        byte[] original = encode(new BufferedImage(320, 240, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // Act
+        ImageIngestService.ProcessedImage result = imageIngestService.process(original, ".jpg").orElseThrow();
+
+        // Assert
+        assertEquals(320, result.width());
+        assertEquals(240, result.height());
+    }
+
+    @Test
+    void testProcess_WithTransparentPng_StaysPng() throws IOException {
+        // Arrange
+        byte[] original = encode(new BufferedImage(1200, 600, BufferedImage.TYPE_INT_ARGB), "png");
+
+        // Act
+        ImageIngestService.ProcessedImage result = imageIngestService.process(original, ".png").orElseThrow();
+
+        // Assert
+        assertEquals(".png", result.extension());
+        assertEquals(800, result.width());
+        assertTrue(decode(result.content()).getColorModel().hasAlpha());
+    }
+
+    // ========================================
+    // Metadata / Orientation Tests
+    // ========================================
+
+    @Test
+    void testProcess_WithExifRotation_AppliesOrientationAndStripsExif() throws IOException {
+        // Arrange - landscape pixels tagged "rotate 90 clockwise" (orientation 6)
+        byte[] original = withExifOrientation(encode(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "jpg"), 6);
+        assertEquals(6, ImageIngestService.readExifOrientation(original));
+
+        // Act
+        ImageIngestService.ProcessedImage result = imageIngestService.process(original, ".jpg").orElseThrow();
+
+        // Assert
+        assertEquals(200, result.width());
+        assertEquals(400, result.height());
+        assertEquals(1, ImageIngestService.readExifOrientation(result.content()));
+        assertFalse(containsExif(result.content()));
+    }
+
+    // ========================================
+    // Passthrough Tests
+    // ========================================
+
+    @Test
+    void testProcess_WithUndecodableBytes_ReturnsEmpty() {
+        // Act
+        Optional<ImageIngestService.ProcessedImage> result = imageIngestService.process("not an image".getBytes(), ".jpg");
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testReadExifOrientation_WithMalformedTiffHeader_FallsBackToNoRotation() throws IOException {
+        // Arrange - an IFD offset pointing before the header, and a header cut short by the segment length
+        byte[] jpeg = encode(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "jpg");
+        byte[] negativeOffset = withExifSegment(jpeg, new byte[]{
+                'M', 'M', 0, 42, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0, 0, 0, 0, 0, 0, 0});
+        byte[] truncated = withExifSegment(jpeg, new byte[]{'I', 'I'});
+
+        // Act & Assert
+        assertEquals(1, ImageIngestService.readExifOrientation(negativeOffset));
+        assertEquals(1, ImageIngestService.readExifOrientation(truncated));
+        assertTrue(imageIngestService.process(negativeOffset, ".jpg").isPresent());
+    }
+
+    @Test
+    void testProcess_WithGifOrWebp_IsNotProcessed() throws IOException {
+        // Arrange
+        byte[] gif = encode(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), "gif");
+
+        // Act & Assert
+        assertFalse(imageIngestService.shouldProcess(".gif"));
+        assertFalse(imageIngestService.shouldProcess(".webp"));
+        assertTrue(imageIngestService.process(gif, ".gif").isEmpty());
+    }
+
+    @Test
+    void testProcess_WhenDisabled_ReturnsEmpty() throws IOException {
+        // Arrange
+        ImageIngestService disabled = new ImageIngestService(false, 800, 0.8f, true, 1, 2, Duration.ofSeconds(10));
+        byte[] original = encode(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // Act & Assert
+        assertTrue(disabled.process(original, ".jpg").isEmpty());
+        assertFalse(disabled.isKeepOriginal());
+        disabled.shutdown();
+    }
+
+    // ========================================
+    // Back-pressure Tests
+    // ========================================
+
+    @Test
+    void testProcess_WhenPoolUnavailable_ThrowsRejectedExecution() throws IOException {
+        // Arrange
+        byte[] original = encode(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "jpg");
+        imageIngestService.shutdown();
+
+        // Act & Assert
+        RejectedExecutionException exception = assertThrows(RejectedExecutionException.class, () -> {
+            imageIngestService.process(original, ".jpg");
+        });
+        assertTrue(exception.getMessage().contains("busy"));
+    }
+
+    @Test
+    void testConstructor_WithInvalidQuality_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ImageIngestService(true, 800, 1.5f, false, 1, 2, Duration.ofSeconds(10));
+        });
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Insert a minimal big-endian APP1/Exif segment carrying only the orientation tag right after SOI.
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,         // header, IFD0 at offset 8
+                0, 1,                               // one entry
+                0x01, 0x12, 0, 3, 0, 0, 0, 1,       // tag 0x0112, SHORT, count 1
+                0, (byte) orientation, 0, 0,        // value
+                0, 0, 0, 0                          // no next IFD
+        };
+        return withExifSegment(jpeg, tiff);
+    }
+
+    private static byte[] withExifSegment(byte[] jpeg, byte[] tiff) {
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static boolean containsExif(byte[] jpeg) {
+        for (int i = 0; i + 4 < jpeg.length; i++) {
+            if (jpeg[i] == 'E' && jpeg[i + 1] == 'x' && jpeg[i + 2] == 'i' && jpeg[i + 3] == 'f') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,24 +1,29 @@
 package com.PetTrackr.PetTrackr.service;
 
+import com.PetTrackr.PetTrackr.storage.LocalFileBlobStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 class ImageUploadServiceTest {
 
-    @InjectMocks
     private ImageUploadService imageUploadService;
 
     @TempDir
@@ -26,8 +31,14 @@ class ImageUploadServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Inject the temp directory as the upload directory for testing
-        ReflectionTestUtils.setField(imageUploadService, "uploadDir", tempDir.toString());
+        // Use the temp directory as the local blob store for testing
+        imageUploadService = new ImageUploadService(new LocalFileBlobStore(tempDir), newIngestService(), MAX_PIXELS);
+    }
+
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private static ImageIngestService newIngestService() {
+        return new ImageIngestService(true, 1600, 0.82f, false, 1, 4, Duration.ofSeconds(10));
     }
 
     // ========================================
@@ -38,7 +49,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithValidJpgFile_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "jpg content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -55,7 +66,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithValidPngFile_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.png", "image/png", "png content".getBytes()
+            "file", "photo.png", "image/png", pngBytes()
         );
 
         // Act
@@ -72,7 +83,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithValidGifFile_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.gif", "image/gif", "gif content".getBytes()
+            "file", "photo.gif", "image/gif", gifBytes()
         );
 
         // Act
@@ -87,7 +98,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithValidWebpFile_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.webp", "image/webp", "webp content".getBytes()
+            "file", "photo.webp", "image/webp", webpBytes()
         );
 
         // Act
@@ -102,7 +113,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithValidJpegFile_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpeg", "image/jpeg", "jpeg content".getBytes()
+            "file", "photo.jpeg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -117,10 +128,10 @@ class ImageUploadServiceTest {
     void testUploadPetImage_GeneratesUniqueFilename() throws InterruptedException {
         // Arrange
         MockMultipartFile file1 = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content1".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
         MockMultipartFile file2 = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content2".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -137,9 +148,9 @@ class ImageUploadServiceTest {
     @Test
     void testUploadPetImage_FileContentSavedCorrectly() throws IOException {
         // Arrange
-        byte[] fileContent = "test image content".getBytes();
+        byte[] fileContent = gifBytes();
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", fileContent
+            "file", "photo.gif", "image/gif", fileContent
         );
 
         // Act
@@ -154,9 +165,9 @@ class ImageUploadServiceTest {
     void testUploadPetImage_CreatesDirectoryIfNotExists() {
         // Arrange - Use a non-existent directory path
         Path newDir = tempDir.resolve("subdir");
-        ReflectionTestUtils.setField(imageUploadService, "uploadDir", newDir.toString());
+        imageUploadService = new ImageUploadService(new LocalFileBlobStore(newDir), newIngestService(), MAX_PIXELS);
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -171,7 +182,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithUppercaseExtension_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.JPG", "image/jpeg", "content".getBytes()
+            "file", "photo.JPG", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -187,7 +198,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithMixedCaseExtension_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.PnG", "image/png", "content".getBytes()
+            "file", "photo.PnG", "image/png", pngBytes()
         );
 
         // Act
@@ -200,8 +211,8 @@ class ImageUploadServiceTest {
     @Test
     void testUploadPetImage_WithDifferentPetIds_IncludesIdInFilename() {
         // Arrange
-        MockMultipartFile file1 = new MockMultipartFile("file", "p1.jpg", "image/jpeg", "c1".getBytes());
-        MockMultipartFile file2 = new MockMultipartFile("file", "p2.jpg", "image/jpeg", "c2".getBytes());
+        MockMultipartFile file1 = new MockMultipartFile("file", "p1.jpg", "image/jpeg", jpegBytes());
+        MockMultipartFile file2 = new MockMultipartFile("file", "p2.jpg", "image/jpeg", jpegBytes());
 
         // Act
         String filename1 = imageUploadService.uploadPetImage(100L, 1L, file1);
@@ -251,7 +262,7 @@ class ImageUploadServiceTest {
         );
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        IllegalArgumentException exception = assertThrows(PayloadTooLargeException.class, () -> {
             imageUploadService.uploadPetImage(1L, 1L, largeFile);
         });
         assertTrue(exception.getMessage().contains("exceeds maximum allowed size"));
@@ -259,10 +270,10 @@ class ImageUploadServiceTest {
 
     @Test
     void testUploadPetImage_WithMaxAllowedSize_Success() {
-        // Arrange - Create a file exactly 5MB
-        byte[] maxSizeContent = new byte[5 * 1024 * 1024];
+        // Arrange - Create a file exactly 5MB (valid GIF header, zero padding)
+        byte[] maxSizeContent = Arrays.copyOf(gifBytes(), 5 * 1024 * 1024);
         MockMultipartFile maxFile = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", maxSizeContent
+            "file", "photo.gif", "image/gif", maxSizeContent
         );
 
         // Act
@@ -275,9 +286,9 @@ class ImageUploadServiceTest {
 
     @Test
     void testUploadPetImage_WithSmallFile_Success() {
-        // Arrange - Create a small file (1 byte)
+        // Arrange - Smallest file the header check accepts (bare GIF header + screen descriptor)
         MockMultipartFile smallFile = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", new byte[]{1}
+            "file", "photo.gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '9', 'a', 1, 0, 1, 0}
         );
 
         // Act
@@ -406,7 +417,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithMultipleExtensions_UsesLastExtension() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg.png", "image/png", "content".getBytes()
+            "file", "photo.jpg.png", "image/png", pngBytes()
         );
 
         // Act
@@ -420,7 +431,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithDotInFilename_ExtractsCorrectExtension() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "my.photo.file.jpg", "image/jpeg", "content".getBytes()
+            "file", "my.photo.file.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -437,9 +448,9 @@ class ImageUploadServiceTest {
     @Test
     void testUploadPetImage_WithMultipleUploadsForSamePet_AllSucceed() {
         // Arrange
-        MockMultipartFile file1 = new MockMultipartFile("file", "p1.jpg", "image/jpeg", "c1".getBytes());
-        MockMultipartFile file2 = new MockMultipartFile("file", "p2.png", "image/png", "c2".getBytes());
-        MockMultipartFile file3 = new MockMultipartFile("file", "p3.gif", "image/gif", "c3".getBytes());
+        MockMultipartFile file1 = new MockMultipartFile("file", "p1.jpg", "image/jpeg", jpegBytes());
+        MockMultipartFile file2 = new MockMultipartFile("file", "p2.png", "image/png", pngBytes());
+        MockMultipartFile file3 = new MockMultipartFile("file", "p3.gif", "image/gif", gifBytes());
 
         // Act
         String filename1 = imageUploadService.uploadPetImage(1L, 1L, file1);
@@ -458,7 +469,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithLongOwnerId_Success() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
         Long largeOwnerId = Long.MAX_VALUE;
 
@@ -474,7 +485,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_WithLongPetId_IncludedInFilename() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
         Long largePetId = 999999999L;
 
@@ -489,7 +500,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_FilenameBeginsWithPetId() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -506,7 +517,7 @@ class ImageUploadServiceTest {
     void testUploadPetImage_FilenameHasTimestampPortion() {
         // Arrange
         MockMultipartFile file = new MockMultipartFile(
-            "file", "photo.jpg", "image/jpeg", "content".getBytes()
+            "file", "photo.jpg", "image/jpeg", jpegBytes()
         );
 
         // Act
@@ -518,4 +529,157 @@ class ImageUploadServiceTest {
         // Middle part should be a number (timestamp)
         assertTrue(parts[1].matches("\\d+\\.jpg"));
     }
+
+    // ========================================
+    // Content (Header) Validation Tests
+    // ========================================
+
+    @Test
+    void testUploadPetImage_WithNonImageContent_ThrowsExceptionAndStoresNothing() throws IOException {
+        // Arrange - a text file renamed to .jpg
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "photo.jpg", "image/jpeg", "definitely not an image".getBytes()
+        );
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            imageUploadService.uploadPetImage(1L, 1L, file);
+        });
+        assertTrue(exception.getMessage().contains("not a supported image"));
+        try (Stream<Path> stored = Files.list(tempDir)) {
+            assertEquals(0, stored.count());
+        }
+    }
+
+    @Test
+    void testUploadPetImage_WithContentNotMatchingExtension_ThrowsException() {
+        // Arrange - PNG bytes uploaded as .gif
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "photo.gif", "image/gif", pngBytes()
+        );
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            imageUploadService.uploadPetImage(1L, 1L, file);
+        });
+        assertTrue(exception.getMessage().contains("does not match"));
+    }
+
+    @Test
+    void testUploadPetImage_WithDecompressionBombDimensions_ThrowsException() {
+        // Arrange - tiny GIF whose header claims 65535 x 65535 pixels
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "bomb.gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '9', 'a', (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF}
+        );
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            imageUploadService.uploadPetImage(1L, 1L, file);
+        });
+        assertTrue(exception.getMessage().contains("exceed the maximum"));
+    }
+
+    @Test
+    void testUploadPetImage_WithPixelLimit_RejectsLargerImages() throws IOException {
+        // Arrange
+        imageUploadService = new ImageUploadService(new LocalFileBlobStore(tempDir), newIngestService(), 100 * 100);
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "photo.jpg", "image/jpeg", encode(new BufferedImage(101, 100, BufferedImage.TYPE_INT_RGB), "jpg")
+        );
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            imageUploadService.uploadPetImage(1L, 1L, file);
+        });
+    }
+
+    // ========================================
+    // Ingest (Downscale / Re-encode) Tests
+    // ========================================
+
+    @Test
+    void testUploadPetImage_WithOversizedPhoto_IsDownscaled() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "photo.jpg", "image/jpeg", encode(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), "jpg")
+        );
+
+        // Act
+        String filename = imageUploadService.uploadPetImage(1L, 1L, file);
+
+        // Assert
+        BufferedImage stored = ImageIO.read(tempDir.resolve(filename).toFile());
+        assertEquals(1600, stored.getWidth());
+        assertEquals(1200, stored.getHeight());
+    }
+
+    @Test
+    void testUploadPetImage_WithOpaquePng_IsStoredAsJpeg() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "photo.png", "image/png", encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "png")
+        );
+
+        // Act
+        String filename = imageUploadService.uploadPetImage(1L, 1L, file);
+
+        // Assert
+        assertTrue(filename.endsWith(".jpg"));
+        assertTrue(Files.exists(tempDir.resolve(filename)));
+    }
+
+    @Test
+    void testUploadPetImage_WithKeepOriginal_StoresOriginalUnderPrefix() throws IOException {
+        // Arrange
+        imageUploadService = new ImageUploadService(new LocalFileBlobStore(tempDir),
+                new ImageIngestService(true, 100, 0.8f, true, 1, 4, Duration.ofSeconds(10)), MAX_PIXELS);
+        byte[] original = encode(new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB), "jpg");
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", original);
+
+        // Act
+        String filename = imageUploadService.uploadPetImage(1L, 1L, file);
+
+        // Assert
+        Path originalPath = tempDir.resolve("originals").resolve(filename);
+        assertArrayEquals(original, Files.readAllBytes(originalPath));
+        assertEquals(100, ImageIO.read(tempDir.resolve(filename).toFile()).getWidth());
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpegBytes() {
+        return encodeUnchecked(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "jpg");
+    }
+
+    // with alpha, so the ingest stage keeps it as PNG
+    private static byte[] pngBytes() {
+        return encodeUnchecked(new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB), "png");
+    }
+
+    private static byte[] gifBytes() {
+        return encodeUnchecked(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "gif");
+    }
+
+    // minimal lossless WebP header (8x8) - the JDK has no WebP codec to produce a real one
+    private static byte[] webpBytes() {
+        int bits = 7 | (7 << 14);
+        return new byte[]{
+            'R', 'I', 'F', 'F', 26, 0, 0, 0, 'W', 'E', 'B', 'P',
+            'V', 'P', '8', 'L', 14, 0, 0, 0, 0x2F,
+            (byte) bits, (byte) (bits >> 8), (byte) (bits >> 16), (byte) (bits >> 24),
+            0, 0, 0, 0, 0, 0, 0, 0, 0
+        };
+    }
+
+    private static byte[] encodeUnchecked(BufferedImage image, String format) {
+        try {
+            return encode(image, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
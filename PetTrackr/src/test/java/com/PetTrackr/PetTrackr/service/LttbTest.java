@@ -0,0 +1,74 @@
+package com.PetTrackr.PetTrackr.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbTest {
+
+    // ========================================
+    // select Tests
+    // ========================================
+
+    @Test
+    void testSelect_ShortSeries_KeepsEveryPoint() {
+        // Act
+        int[] kept = Lttb.select(new long[]{1, 2, 3}, new double[]{5, 6, 7}, 10);
+
+        // Assert
+        assertArrayEquals(new int[]{0, 1, 2}, kept);
+    }
+
+    @Test
+    void testSelect_KeepsThresholdPointsIncludingEnds() {
+        // Arrange - a slow sine wave
+        int n = 1000;
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i * 86_400_000L;
+            y[i] = Math.sin(i / 50.0);
+        }
+
+        // Act
+        int[] kept = Lttb.select(x, y, 100);
+
+        // Assert
+        assertEquals(100, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(n - 1, kept[99]);
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i] > kept[i - 1], "indices must be strictly ascending");
+        }
+    }
+
+    @Test
+    void testSelect_KeepsSpikes() {
+        // Arrange - a flat line with one spike and one dip
+        int n = 500;
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 10;
+        }
+        y[137] = 14;
+        y[388] = 6;
+
+        // Act
+        int[] kept = Lttb.select(x, y, 20);
+
+        // Assert
+        assertTrue(Arrays.stream(kept).anyMatch(i -> i == 137));
+        assertTrue(Arrays.stream(kept).anyMatch(i -> i == 388));
+    }
+
+    @Test
+    void testSelect_InvalidInput_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Lttb.select(new long[5], new double[5], 2));
+        assertThrows(IllegalArgumentException.class, () -> Lttb.select(new long[5], new double[4], 3));
+    }
+}
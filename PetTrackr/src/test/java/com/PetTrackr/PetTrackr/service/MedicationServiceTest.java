@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +32,9 @@ public class MedicationServiceTest {
     @Mock
     private PetService petService;
 
+    @Mock
+    private DoseReminderService doseReminderService;
+
     @InjectMocks
     private MedicationService medicationService;
 
@@ -98,6 +102,8 @@ public class MedicationServiceTest {
         assertEquals(250.0, result.getDosageAmount());
         assertEquals(DosageUnit.MG, result.getDosageUnit());
         assertEquals("Twice daily", result.getFrequency());
+        assertEquals(Medication.RecurrenceUnit.HOURS, result.getRecurrenceUnit());
+        assertEquals(12, result.getRecurrenceInterval());
         verify(petService).getPetById(1L, 1L);
         verify(medicationRepository).save(any(Medication.class));
     }
@@ -714,4 +720,59 @@ public class MedicationServiceTest {
         assertTrue(result.isEmpty());
         verify(medicationRepository).findByPetIdOrderByTimeToAdministerAsc(1L);
     }
+
+    // ========================================
+    // Dose Calendar Tests
+    // ========================================
+
+    @Test
+    void testGetDoseCalendar_MergesMedicationsInDueOrder() {
+        // Arrange - monthly at 9:00 and every 12 hours from 8:00
+        Medication twiceDaily = new Medication("Antibiotics", 250.0, DosageUnit.MG, "Twice daily",
+                LocalTime.of(8, 0), LocalDate.of(2024, 3, 1), null);
+        twiceDaily.setId(2L);
+        twiceDaily.setPet(testPet);
+        when(medicationRepository.findRunningForOwner(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)))
+                .thenReturn(List.of(testMedication, twiceDaily));
+
+        // Act
+        List<MedicationService.Dose> doses = medicationService.getDoseCalendar(1L, null,
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 2, 0, 0)).toList();
+
+        // Assert
+        assertEquals(List.of(
+                LocalDateTime.of(2024, 3, 1, 8, 0),
+                LocalDateTime.of(2024, 3, 1, 9, 0),
+                LocalDateTime.of(2024, 3, 1, 20, 0)
+        ), doses.stream().map(MedicationService.Dose::dueAt).toList());
+        assertEquals(List.of(2L, 1L, 2L), doses.stream().map(dose -> dose.medication().getId()).toList());
+    }
+
+    @Test
+    void testGetDoseCalendar_AsNeededMedication_IsSkipped() {
+        // Arrange
+        Medication asNeeded = new Medication("Pain relief", 50.0, DosageUnit.MG, "As needed",
+                LocalTime.of(8, 0), LocalDate.of(2024, 3, 1), null);
+        asNeeded.setId(2L);
+        asNeeded.setPet(testPet);
+        when(medicationRepository.findRunningForOwner(any(), any(), any())).thenReturn(List.of(testMedication, asNeeded));
+
+        // Act
+        List<MedicationService.Dose> doses = medicationService.getDoseCalendar(1L, null,
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 2, 0, 0)).toList();
+
+        // Assert
+        assertEquals(List.of(1L), doses.stream().map(dose -> dose.medication().getId()).toList());
+    }
+
+    @Test
+    void testGetDoseCalendar_RangeTooLong_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            medicationService.getDoseCalendar(1L, null,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 6, 1, 0, 0));
+        });
+        assertTrue(exception.getMessage().contains("366 days"));
+        verifyNoInteractions(medicationRepository);
+    }
 }
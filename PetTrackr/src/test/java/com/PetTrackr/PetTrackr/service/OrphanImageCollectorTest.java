@@ -0,0 +1,157 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.storage.LocalFileBlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanImageCollectorTest {
+
+    @Mock
+    private PetService petService;
+
+    @TempDir
+    private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofDays(2));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // ========================================
+    // Sweep Tests
+    // ========================================
+
+    @Test
+    void testCollect_DeletesOnlyOldUnreferencedImages() throws IOException {
+        // Arrange
+        referencedPhotos("1_100.jpg", "2_200.png");
+        write("1_100.jpg", 10, OLD);          // referenced
+        write("2_200.png", 10, OLD);          // referenced
+        write("1_050.jpg", 40, OLD);          // replaced photo - orphan
+        write("3_300.gif", 25, OLD);          // deleted pet - orphan
+        write("4_400.jpg", 30, NOW.minusSeconds(60)); // fresh upload, pet row not updated yet
+
+        // Act
+        OrphanImageCollector.SweepResult result = collector(false).collect();
+
+        // Assert
+        assertEquals(2, result.deleted());
+        assertEquals(65, result.reclaimedBytes());
+        assertEquals(5, result.scanned());
+        assertTrue(Files.exists(tempDir.resolve("1_100.jpg")));
+        assertTrue(Files.exists(tempDir.resolve("2_200.png")));
+        assertTrue(Files.exists(tempDir.resolve("4_400.jpg")));
+        assertFalse(Files.exists(tempDir.resolve("1_050.jpg")));
+        assertFalse(Files.exists(tempDir.resolve("3_300.gif")));
+        assertEquals(65.0, meterRegistry.get("image.gc.reclaimed").counter().count());
+    }
+
+    @Test
+    void testCollect_KeepsOriginalsOfReferencedImagesAndSkipsChunkedUploads() throws IOException {
+        // Arrange
+        referencedPhotos("1_100.jpg");
+        write("1_100.jpg", 10, OLD);
+        write("originals/1_100.png", 50, OLD);       // original of a referenced (re-encoded) photo
+        write("originals/1_050.png", 70, OLD);       // original of a replaced photo - orphan
+        write("uploads/9/part-00000", 5, OLD);       // owned by UploadSessionService
+
+        // Act
+        OrphanImageCollector.SweepResult result = collector(false).collect();
+
+        // Assert
+        assertEquals(1, result.deleted());
+        assertTrue(Files.exists(tempDir.resolve("originals/1_100.png")));
+        assertFalse(Files.exists(tempDir.resolve("originals/1_050.png")));
+        assertTrue(Files.exists(tempDir.resolve("uploads/9/part-00000")));
+    }
+
+    @Test
+    void testCollect_InDryRun_DeletesNothing() throws IOException {
+        // Arrange
+        referencedPhotos();
+        write("1_050.jpg", 40, OLD);
+
+        // Act
+        OrphanImageCollector.SweepResult result = collector(true).collect();
+
+        // Assert
+        assertTrue(result.dryRun());
+        assertEquals(1, result.deleted());
+        assertTrue(Files.exists(tempDir.resolve("1_050.jpg")));
+        assertEquals(0.0, meterRegistry.get("image.gc.deleted").counter().count());
+    }
+
+    @Test
+    void testCollect_WithEmptyStore_ReportsNothing() {
+        // Arrange
+        referencedPhotos("1_100.jpg");
+
+        // Act
+        OrphanImageCollector.SweepResult result = collector(false).collect();
+
+        // Assert
+        assertEquals(1, result.referenced());
+        assertEquals(0, result.scanned());
+        assertEquals(0, result.deleted());
+    }
+
+    @Test
+    void testBaseName_StripsExtensionOnly() {
+        // Act & Assert
+        assertEquals("1_100", OrphanImageCollector.baseName("1_100.jpg"));
+        assertEquals("originals/1_100", OrphanImageCollector.baseName("originals/1_100.png"));
+        assertEquals("noext", OrphanImageCollector.baseName("noext"));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private OrphanImageCollector collector(boolean dryRun) {
+        return new OrphanImageCollector(petService, new LocalFileBlobStore(tempDir),
+                Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry,
+                true, dryRun, Duration.ofHours(1), 100_000, 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void referencedPhotos(String... photoURLs) {
+        doAnswer(inv -> {
+            Consumer<String> consumer = inv.getArgument(0);
+            List.of(photoURLs).forEach(consumer);
+            return null;
+        }).when(petService).forEachPhotoURL(any(Consumer.class));
+    }
+
+    private void write(String key, int size, Instant lastModified) throws IOException {
+        Path path = tempDir.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[size]);
+        Files.setLastModifiedTime(path, FileTime.from(lastModified));
+    }
+}
@@ -26,6 +26,15 @@ public class OwnerServiceTest {
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Mock
+    private QRCodeCache qrCodeCache;
+
+    @Mock
+    private PublicPetService publicPetService;
+
+    @Mock
+    private DoseReminderService doseReminderService;
+
     @InjectMocks
     private OwnerService ownerService;
 
@@ -312,6 +321,7 @@ public class OwnerServiceTest {
         assertEquals("5555555555", testOwner.getPhoneNumber());
         verify(ownerRepository).findById(1L);
         verify(ownerRepository).save(testOwner);
+        verify(publicPetService).updateOwner(testOwner);
     }
 
     @Test
@@ -607,6 +617,8 @@ public class OwnerServiceTest {
         // Assert
         verify(ownerRepository).findById(ownerId);
         verify(ownerRepository).delete(testOwner);
+        verify(qrCodeCache).invalidateOwner(ownerId);
+        verify(publicPetService).removeOwner(ownerId);
     }
 
     @Test
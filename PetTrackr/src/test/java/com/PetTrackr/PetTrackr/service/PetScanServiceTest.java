@@ -0,0 +1,221 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.PetScanDay;
+import com.PetTrackr.PetTrackr.repository.PetScanDayRepository;
+import com.PetTrackr.PetTrackr.repository.PetScanDayRepositoryCustom.ScanCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PetScanServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Mock
+    private PetScanDayRepository petScanDayRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private Clock clock;
+
+    private PetScanService petScanService;
+
+    @BeforeEach
+    void setUp() {
+        petScanService = new PetScanService(petScanDayRepository, petService, clock, Duration.ofDays(365));
+    }
+
+    // ========================================
+    // Flush Tests
+    // ========================================
+
+    @Test
+    void testFlush_WritesOneRowPerPetAndDay() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plusSeconds(5), NOW);
+        petScanService.recordScan(1L);
+        petScanService.recordScan(1L);
+        petScanService.recordScan(2L);
+
+        // Act
+        int written = petScanService.flush();
+
+        // Assert
+        assertEquals(2, written);
+        List<ScanCount> batch = captureBatch();
+        assertTrue(batch.contains(new ScanCount(1L, TODAY, 2, NOW)));
+        assertTrue(batch.contains(new ScanCount(2L, TODAY, 1, NOW.plusSeconds(5))));
+    }
+
+    @Test
+    void testFlush_DrainsCounters() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+        petScanService.recordScan(1L);
+        petScanService.flush();
+
+        // Act
+        int written = petScanService.flush();
+
+        // Assert - nothing new since the first flush
+        assertEquals(0, written);
+    }
+
+    @Test
+    void testFlush_WhenWriteFails_RetriesCountsNextTime() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+        petScanService.recordScan(1L);
+        doThrow(new RuntimeException("database unavailable"))
+                .doNothing()
+                .when(petScanDayRepository).addScanCounts(anyList());
+
+        // Act
+        int failed = petScanService.flush();
+        petScanService.recordScan(1L);
+        int written = petScanService.flush();
+
+        // Assert
+        assertEquals(0, failed);
+        assertEquals(1, written);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScanCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(petScanDayRepository, times(2)).addScanCounts(captor.capture());
+        assertEquals(List.of(new ScanCount(1L, TODAY, 2, NOW)), captor.getAllValues().get(1));
+    }
+
+    @Test
+    void testFlush_ConcurrentScans_NoneLost() throws Exception {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+        List<ScanCount> written = new ArrayList<>();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+                .when(petScanDayRepository).addScanCounts(anyList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    petScanService.recordScan(1L);
+                }
+                return null;
+            });
+        }
+
+        // Act - flush while scans are coming in
+        start.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            petScanService.flush();
+        }
+        petScanService.flush();
+
+        // Assert
+        assertEquals(40_000, written.stream().mapToLong(ScanCount::scanCount).sum());
+    }
+
+    @Test
+    void testFlush_AfterDayRollover_DropsFinishedDay() {
+        // Arrange - a scan yesterday, flushed today
+        when(clock.instant()).thenReturn(NOW.minus(Duration.ofDays(1)), NOW);
+        petScanService.recordScan(1L);
+        petScanService.flush();
+
+        // Act
+        petScanService.flush();
+
+        // Assert - yesterday's counter is gone, so it no longer shows up in history
+        when(petService.getPetById(1L, 1L)).thenReturn(new Pet());
+        when(petScanDayRepository.findByPetIdAndScanDateGreaterThanEqualOrderByScanDate(eq(1L), any()))
+                .thenReturn(List.of());
+        assertTrue(petScanService.getScanHistory(1L, 1L, 7).isEmpty());
+    }
+
+    // ========================================
+    // History Tests
+    // ========================================
+
+    @Test
+    void testGetScanHistory_MergesUnflushedScans() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+        when(petService.getPetById(1L, 1L)).thenReturn(new Pet());
+        PetScanDay yesterday = new PetScanDay(1L, TODAY.minusDays(1), 4, NOW.minus(Duration.ofDays(1)));
+        PetScanDay todayFlushed = new PetScanDay(1L, TODAY, 3, NOW.minusSeconds(60));
+        when(petScanDayRepository.findByPetIdAndScanDateGreaterThanEqualOrderByScanDate(1L, TODAY.minusDays(29)))
+                .thenReturn(List.of(yesterday, todayFlushed));
+        petScanService.recordScan(1L);
+        petScanService.recordScan(2L);
+
+        // Act
+        List<PetScanDay> history = petScanService.getScanHistory(1L, 1L, 30);
+
+        // Assert - today's flushed and pending scans are combined, other pets are ignored
+        assertEquals(2, history.size());
+        assertEquals(4, history.get(0).getScanCount());
+        assertEquals(TODAY, history.get(1).getScanDate());
+        assertEquals(4, history.get(1).getScanCount());
+        assertEquals(NOW, history.get(1).getLastScannedAt());
+        assertEquals(3, todayFlushed.getScanCount()); // loaded row left untouched
+    }
+
+    @Test
+    void testGetScanHistory_PetNotOwned_ThrowsSecurityException() {
+        // Arrange
+        when(petService.getPetById(1L, 2L))
+                .thenThrow(new SecurityException("Access denied: Pet does not belong to this owner"));
+
+        // Act & Assert
+        assertThrows(SecurityException.class, () -> petScanService.getScanHistory(1L, 2L, 30));
+        verifyNoInteractions(petScanDayRepository);
+    }
+
+    // ========================================
+    // Purge Tests
+    // ========================================
+
+    @Test
+    void testPurge_DeletesExpiredAndOrphanedHistory() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+
+        // Act
+        petScanService.purge();
+
+        // Assert
+        verify(petScanDayRepository).deleteByScanDateBefore(TODAY.minusDays(365));
+        verify(petScanDayRepository).deleteOfDeletedPets();
+    }
+
+    private List<ScanCount> captureBatch() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScanCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(petScanDayRepository).addScanCounts(captor.capture());
+        return captor.getValue();
+    }
+}
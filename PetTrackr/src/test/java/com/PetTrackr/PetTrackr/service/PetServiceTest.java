@@ -2,8 +2,10 @@ package com.PetTrackr.PetTrackr.service;
 
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
 import com.PetTrackr.PetTrackr.repository.OwnerRepository;
 import com.PetTrackr.PetTrackr.repository.PetRepository;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +34,18 @@ class PetServiceTest {
     @Mock
     private ImageUploadService imageUploadService;
 
+    @Mock
+    private QRCodeCache qrCodeCache;
+
+    @Mock
+    private PublicPetService publicPetService;
+
+    @Mock
+    private DoseReminderService doseReminderService;
+
+    @Mock
+    private WeightSampleRepository weightSampleRepository;
+
     @InjectMocks
     private PetService petService;
 
@@ -84,6 +98,8 @@ class PetServiceTest {
         assertEquals("Max", result.getName());
         assertEquals("Dog", result.getType());
         verify(petRepository, times(1)).save(any(Pet.class));
+        verify(weightSampleRepository).save(argThat(sample ->
+                sample.getPetId().equals(1L) && sample.getWeightGrams() == 30000)); // starts the weight history
     }
 
     @Test
@@ -294,7 +310,6 @@ class PetServiceTest {
         pet2.setOwner(testOwner);
 
         List<Pet> pets = Arrays.asList(testPet, pet2);
-        when(ownerRepository.existsById(1L)).thenReturn(true);
         when(petRepository.findByOwnerId(1L)).thenReturn(pets);
 
         // Act
@@ -307,20 +322,20 @@ class PetServiceTest {
     }
 
     @Test
-    void testGetAllPetsByOwnerId_WithInvalidOwnerId_ThrowsException() {
-        // Arrange
-        when(ownerRepository.existsById(999L)).thenReturn(false);
+    void testGetAllPetsByOwnerId_DoesNotLookUpOwner() {
+        // Arrange - the owner was authorized (and so exists) before the service is called
+        when(petRepository.findByOwnerId(1L)).thenReturn(Arrays.asList(testPet));
 
-        // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
-            petService.getAllPetsByOwnerId(999L);
-        });
+        // Act
+        petService.getAllPetsByOwnerId(1L);
+
+        // Assert
+        verifyNoInteractions(ownerRepository);
     }
 
     @Test
     void testGetAllPetsByOwnerId_WithNoOwnedPets_ReturnsEmptyList() {
         // Arrange
-        when(ownerRepository.existsById(1L)).thenReturn(true);
         when(petRepository.findByOwnerId(1L)).thenReturn(Arrays.asList());
 
         // Act
@@ -391,6 +406,8 @@ class PetServiceTest {
         // Assert
         assertNotNull(result);
         verify(petRepository, times(1)).save(any(Pet.class));
+        verify(qrCodeCache, never()).invalidatePet(any());
+        verify(publicPetService).indexPet(testPet);
     }
 
     @Test
@@ -579,6 +596,8 @@ class PetServiceTest {
         // Assert
         assertEquals(35.5, testPet.getWeight());
         verify(petRepository).save(testPet);
+        verify(weightSampleRepository).save(argThat(sample ->
+                sample.getWeightGrams() == WeightHistoryService.toGrams(35.5, testPet.getWeightType())));
     }
 
     @Test
@@ -672,6 +691,37 @@ class PetServiceTest {
         assertEquals(originalType, testPet.getType());
         assertEquals(originalBreed, testPet.getBreed());
         verify(petRepository).save(testPet);
+        verify(weightSampleRepository, never()).save(any(WeightSample.class)); // weight unchanged
+    }
+
+    // ========================================
+    // Tag Sheet Tests
+    // ========================================
+
+    @Test
+    void testGetPetsForTagSheet_WithoutSelection_LoadsAllOwnerPets() {
+        // Arrange
+        when(petRepository.findByOwnerIdFetchOwner(1L)).thenReturn(List.of(testPet));
+
+        // Act
+        List<Pet> pets = petService.getPetsForTagSheet(1L, null);
+
+        // Assert
+        assertEquals(List.of(testPet), pets);
+        verify(petRepository, never()).findByOwnerIdAndIdInFetchOwner(any(), any());
+    }
+
+    @Test
+    void testGetPetsForTagSheet_WithPetOfAnotherOwner_ThrowsNotFound() {
+        // Arrange - pet 2 is filtered out by the owner condition of the query
+        when(petRepository.findByOwnerIdAndIdInFetchOwner(eq(1L), any())).thenReturn(List.of(testPet));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            petService.getPetsForTagSheet(1L, List.of(1L, 2L));
+        });
+        assertTrue(exception.getMessage().contains("not found"));
+        assertTrue(exception.getMessage().contains("[2]"));
     }
 
     // ========================================
@@ -689,6 +739,8 @@ class PetServiceTest {
 
         // Assert
         verify(petRepository, times(1)).delete(testPet);
+        verify(qrCodeCache).invalidatePet(1L);
+        verify(publicPetService).removePet(1L);
     }
 
     @Test
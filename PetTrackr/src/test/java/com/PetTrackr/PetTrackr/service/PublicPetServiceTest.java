@@ -0,0 +1,289 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.repository.PetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublicPetServiceTest {
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Mock
+    private Clock clock;
+
+    private PublicPetService publicPetService;
+
+    private long now = 1_000_000L;
+
+    private Owner testOwner;
+    private Pet testPet;
+
+    @BeforeEach
+    void setUp() {
+        testOwner = new Owner();
+        testOwner.setId(1L);
+        testOwner.setName("John Doe");
+        testOwner.setPhoneNumber("555-1234");
+
+        testPet = new Pet();
+        testPet.setId(1L);
+        testPet.setName("Max");
+        testPet.setType("Dog");
+        testPet.setBreed("Golden Retriever");
+        testPet.setPublicToken("maxToken0001");
+        testPet.setOwner(testOwner);
+
+        lenient().when(clock.millis()).thenAnswer(invocation -> now);
+        publicPetService = new PublicPetService(petRepository, clock,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+    }
+
+    // ========================================
+    // Lookup Tests
+    // ========================================
+
+    @Test
+    void testLookup_AfterIndexPet_ReturnsPublicView() {
+        // Arrange
+        publicPetService.indexPet(testPet);
+
+        // Act
+        Optional<PublicPetService.PublicPetEntry> entry = publicPetService.lookup("maxToken0001");
+
+        // Assert
+        assertTrue(entry.isPresent());
+        assertEquals("Max", entry.get().response().getName());
+        assertEquals("John Doe", entry.get().response().getOwnerName());
+        assertEquals("555-1234", entry.get().response().getOwnerPhoneNumber());
+        assertEquals(PublicPetService.GUIDE_URL, entry.get().response().getGuideURL());
+        assertNotNull(entry.get().etag());
+        verifyNoInteractions(petRepository);
+    }
+
+    @Test
+    void testLookup_WithInvalidToken_ReturnsEmptyWithoutQuery() {
+        // Act & Assert
+        assertTrue(publicPetService.lookup(null).isEmpty());
+        assertTrue(publicPetService.lookup("").isEmpty());
+        assertTrue(publicPetService.lookup("x".repeat(33)).isEmpty());
+        verifyNoInteractions(petRepository);
+    }
+
+    @Test
+    void testLookup_BeforeIndexBuilt_FallsBackToDatabase() {
+        // Arrange
+        when(petRepository.findByPublicToken("maxToken0001")).thenReturn(Optional.of(testPet));
+
+        // Act
+        Optional<PublicPetService.PublicPetEntry> entry = publicPetService.lookup("maxToken0001");
+
+        // Assert
+        assertTrue(entry.isPresent());
+        assertEquals(1L, entry.get().petId());
+    }
+
+    @Test
+    void testLookup_AfterIndexBuilt_HitDoesNotQueryDatabase() {
+        // Arrange
+        when(petRepository.findByPublicTokenIsNull()).thenReturn(List.of());
+        when(petRepository.streamAllFetchOwner()).thenReturn(Stream.of(testPet));
+        publicPetService.rebuildIndex();
+
+        // Act
+        Optional<PublicPetService.PublicPetEntry> found = publicPetService.lookup("maxToken0001");
+
+        // Assert
+        assertTrue(found.isPresent());
+        verify(petRepository, never()).findByPublicToken(anyString());
+    }
+
+    @Test
+    void testLookup_PetCreatedOnAnotherNode_IsFoundInDatabase() {
+        // Arrange - the index was built before the pet existed
+        when(petRepository.findByPublicTokenIsNull()).thenReturn(List.of());
+        when(petRepository.streamAllFetchOwner()).thenReturn(Stream.empty());
+        publicPetService.rebuildIndex();
+        when(petRepository.findByPublicToken("maxToken0001")).thenReturn(Optional.of(testPet));
+
+        // Act
+        Optional<PublicPetService.PublicPetEntry> first = publicPetService.lookup("maxToken0001");
+        Optional<PublicPetService.PublicPetEntry> second = publicPetService.lookup("maxToken0001");
+
+        // Assert - found, then served from the index
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        verify(petRepository, times(1)).findByPublicToken("maxToken0001");
+    }
+
+    @Test
+    void testLookup_UnknownToken_IsRememberedForMissTtl() {
+        // Arrange
+        when(petRepository.findByPublicToken("unknownToken")).thenReturn(Optional.empty());
+
+        // Act
+        publicPetService.lookup("unknownToken");
+        publicPetService.lookup("unknownToken");
+        now += Duration.ofSeconds(31).toMillis();
+        publicPetService.lookup("unknownToken");
+
+        // Assert
+        verify(petRepository, times(2)).findByPublicToken("unknownToken");
+    }
+
+    @Test
+    void testFindByPetId_DeletedPet_IsRememberedForMissTtl() {
+        // Arrange
+        when(petRepository.findByIdFetchOwner(7L)).thenReturn(Optional.empty());
+
+        // Act
+        publicPetService.findByPetId(7L);
+        publicPetService.findByPetId(7L);
+        now += Duration.ofSeconds(31).toMillis();
+        publicPetService.findByPetId(7L);
+
+        // Assert
+        verify(petRepository, times(2)).findByIdFetchOwner(7L);
+    }
+
+    @Test
+    void testLookup_StaleEntry_IsRefreshedFromDatabase() {
+        // Arrange - indexed here, then the owner's phone number changed through another node
+        publicPetService.indexPet(testPet);
+        Owner changed = new Owner();
+        changed.setId(1L);
+        changed.setName("John Doe");
+        changed.setPhoneNumber("555-0000");
+        Pet reloaded = new Pet();
+        reloaded.setId(1L);
+        reloaded.setName("Max");
+        reloaded.setPublicToken("maxToken0001");
+        reloaded.setOwner(changed);
+        when(petRepository.findByPublicToken("maxToken0001")).thenReturn(Optional.of(reloaded));
+
+        // Act
+        String before = publicPetService.lookup("maxToken0001").orElseThrow().response().getOwnerPhoneNumber();
+        now += Duration.ofMinutes(6).toMillis();
+        String after = publicPetService.lookup("maxToken0001").orElseThrow().response().getOwnerPhoneNumber();
+
+        // Assert
+        assertEquals("555-1234", before);
+        assertEquals("555-0000", after);
+    }
+
+    @Test
+    void testLookup_StaleEntryOfDeletedPet_IsDropped() {
+        // Arrange - the pet was deleted through another node
+        publicPetService.indexPet(testPet);
+        when(petRepository.findByPublicToken("maxToken0001")).thenReturn(Optional.empty());
+        when(petRepository.findByIdFetchOwner(1L)).thenReturn(Optional.empty());
+
+        // Act
+        now += Duration.ofMinutes(6).toMillis();
+
+        // Assert
+        assertTrue(publicPetService.lookup("maxToken0001").isEmpty());
+        assertTrue(publicPetService.findByPetId(1L).isEmpty());
+    }
+
+    // ========================================
+    // Index Maintenance Tests
+    // ========================================
+
+    @Test
+    void testUpdateOwner_ChangesContactDetailsAndETag() {
+        // Arrange
+        publicPetService.indexPet(testPet);
+        String etagBefore = publicPetService.lookup("maxToken0001").orElseThrow().etag();
+        testOwner.setPhoneNumber("555-9999");
+
+        // Act
+        publicPetService.updateOwner(testOwner);
+
+        // Assert
+        PublicPetService.PublicPetEntry entry = publicPetService.lookup("maxToken0001").orElseThrow();
+        assertEquals("555-9999", entry.response().getOwnerPhoneNumber());
+        assertEquals("Max", entry.response().getName());
+        assertNotEquals(etagBefore, entry.etag());
+    }
+
+    @Test
+    void testIndexPet_WithNewToken_DropsOldToken() {
+        // Arrange
+        publicPetService.indexPet(testPet);
+        testPet.setPublicToken("maxToken0002");
+
+        // Act
+        publicPetService.indexPet(testPet);
+
+        // Assert
+        assertTrue(publicPetService.lookup("maxToken0001").isEmpty());
+        assertTrue(publicPetService.lookup("maxToken0002").isPresent());
+    }
+
+    @Test
+    void testRemovePet_DropsPetFromIndex() {
+        // Arrange
+        publicPetService.indexPet(testPet);
+        when(petRepository.findByPublicToken("maxToken0001")).thenReturn(Optional.empty());
+
+        // Act
+        publicPetService.removePet(1L);
+
+        // Assert
+        assertTrue(publicPetService.lookup("maxToken0001").isEmpty());
+    }
+
+    @Test
+    void testRemoveOwner_DropsAllOwnersPets() {
+        // Arrange
+        Pet luna = new Pet();
+        luna.setId(2L);
+        luna.setName("Luna");
+        luna.setPublicToken("lunaToken001");
+        luna.setOwner(testOwner);
+        publicPetService.indexPet(testPet);
+        publicPetService.indexPet(luna);
+        when(petRepository.findByPublicToken(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        publicPetService.removeOwner(1L);
+
+        // Assert
+        assertTrue(publicPetService.lookup("maxToken0001").isEmpty());
+        assertTrue(publicPetService.lookup("lunaToken001").isEmpty());
+    }
+
+    @Test
+    void testRebuildIndex_AssignsTokensToPetsWithoutOne() {
+        // Arrange
+        testPet.setPublicToken(null);
+        when(petRepository.findByPublicTokenIsNull()).thenReturn(List.of(testPet));
+        when(petRepository.streamAllFetchOwner()).thenAnswer(invocation -> Stream.of(testPet));
+
+        // Act
+        publicPetService.rebuildIndex();
+
+        // Assert
+        assertNotNull(testPet.getPublicToken());
+        assertEquals(12, testPet.getPublicToken().length());
+        verify(petRepository).saveAll(List.of(testPet));
+        assertTrue(publicPetService.lookup(testPet.getPublicToken()).isPresent());
+    }
+}
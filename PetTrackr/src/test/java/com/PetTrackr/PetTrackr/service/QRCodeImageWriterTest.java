@@ -0,0 +1,96 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.Result;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.google.zxing.qrcode.QRCodeWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QRCodeImageWriterTest {
+
+    private static final String CONTENT = "LOST PET - PLEASE HELP!\nPet: Max\nPhone: 555-1234\n";
+
+    // ========================================
+    // PNG Tests
+    // ========================================
+
+    @Test
+    void testToPng_MatchesMatrixPixelForPixel() throws Exception {
+        // Arrange
+        BitMatrix matrix = new QRCodeWriter().encode(CONTENT, BarcodeFormat.QR_CODE, 300, 300);
+
+        // Act
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(QRCodeImageWriter.toPng(matrix)));
+
+        // Assert
+        assertEquals(300, image.getWidth());
+        assertEquals(300, image.getHeight());
+        for (int y = 0; y < 300; y++) {
+            for (int x = 0; x < 300; x++) {
+                int expected = matrix.get(x, y) ? 0x000000 : 0xFFFFFF;
+                assertEquals(expected, image.getRGB(x, y) & 0xFFFFFF, "pixel " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void testToPng_WithWidthNotMultipleOf32_DecodesBackToContent() throws Exception {
+        // Arrange - odd size exercises the partial last byte and word of each row
+        BitMatrix matrix = new QRCodeWriter().encode(CONTENT, BarcodeFormat.QR_CODE, 203, 203);
+
+        // Act
+        byte[] png = QRCodeImageWriter.toPng(matrix);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        Result decoded = new QRCodeReader().decode(
+                new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image))));
+
+        // Assert
+        assertEquals(203, image.getWidth());
+        assertEquals(CONTENT, decoded.getText());
+    }
+
+    @Test
+    void testToPng_RepeatedCalls_ProduceIdenticalBytes() throws Exception {
+        // Arrange - the deflater and buffers are reused between calls
+        BitMatrix large = new QRCodeWriter().encode(CONTENT, BarcodeFormat.QR_CODE, 600, 600);
+        BitMatrix small = new QRCodeWriter().encode(CONTENT, BarcodeFormat.QR_CODE, 300, 300);
+
+        // Act
+        byte[] first = QRCodeImageWriter.toPng(small);
+        QRCodeImageWriter.toPng(large);
+        byte[] second = QRCodeImageWriter.toPng(small);
+
+        // Assert
+        assertArrayEquals(first, second);
+    }
+
+    // ========================================
+    // SVG Tests
+    // ========================================
+
+    @Test
+    void testToSvg_DrawsOneRectanglePerRunOnModuleGrid() throws Exception {
+        // Arrange
+        BitMatrix modules = new QRCodeWriter().encode(CONTENT, BarcodeFormat.QR_CODE, 0, 0);
+
+        // Act
+        String svg = QRCodeImageWriter.toSvg(modules, 300);
+
+        // Assert
+        assertTrue(svg.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 "
+                + modules.getWidth() + " " + modules.getHeight() + "\" width=\"300\" height=\"300\""));
+        assertTrue(svg.endsWith("\"/></svg>"));
+        // top-left finder pattern starts after the 4-module quiet zone and is 7 modules wide
+        assertTrue(svg.contains("M4 4h7v1h-7z"));
+    }
+}
@@ -2,13 +2,21 @@ package com.PetTrackr.PetTrackr.service;
 
 import com.PetTrackr.PetTrackr.entity.Owner;
 import com.PetTrackr.PetTrackr.entity.Pet;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.Result;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,14 +28,20 @@ public class QRCodeServiceTest {
     @Mock
     private PetService petService;
 
-    @InjectMocks
+    private QRCodeCache qrCodeCache;
+
     private QRCodeService qrCodeService;
 
+    private static final String LOOKUP_URL_PREFIX = "https://pettrackr.example/api/public/pets/";
+
     private Owner testOwner;
     private Pet testPet;
 
     @BeforeEach
     void setUp() {
+        qrCodeCache = new QRCodeCache(DataSize.ofMegabytes(1));
+        qrCodeService = new QRCodeService(petService, qrCodeCache, LOOKUP_URL_PREFIX);
+
         // Create test owner
         testOwner = new Owner();
         testOwner.setId(1L);
@@ -47,6 +61,7 @@ public class QRCodeServiceTest {
         testPet.setWeightType(Pet.WeightType.KG);
         testPet.setDateOfBirth(LocalDate.of(2021, 6, 15));
         testPet.setActivityLevel(Pet.ActivityLevel.HIGH);
+        testPet.setPublicToken("maxToken0001");
         testPet.setOwner(testOwner);
     }
 
@@ -136,6 +151,7 @@ public class QRCodeServiceTest {
         pet2.setWeightType(Pet.WeightType.KG);
         pet2.setDateOfBirth(LocalDate.of(2022, 3, 10));
         pet2.setActivityLevel(Pet.ActivityLevel.MEDIUM);
+        pet2.setPublicToken("lunaToken001");
         pet2.setOwner(testOwner);
 
         when(petService.getPetById(1L, 1L)).thenReturn(testPet);
@@ -205,12 +221,11 @@ public class QRCodeServiceTest {
         // Act
         byte[] qrCode = qrCodeService.generateQRCodeForPet(1L, 1L);
 
-        // Assert - QR code should be generated with guidance link
+        // Assert - QR code should be generated
         assertNotNull(qrCode);
         assertTrue(qrCode.length > 0);
-        // Note: The actual content (including the guidance URL) is encoded in the QR code
-        // We verify the method executes successfully and produces output
-        // Manual testing: scan the QR code to verify the guidance link is present and clickable
+        // Note: the guidance URL is served by the public lookup the code links to
+        // (see PublicPetServiceTest); the encoded link itself is checked above
         verify(petService).getPetById(1L, 1L);
     }
 
@@ -223,8 +238,7 @@ public class QRCodeServiceTest {
         byte[] qrCode = qrCodeService.generateQRCodeForPet(1L, 1L);
 
         // Assert - QR code should be generated
-        // The content includes "LOST PET - PLEASE HELP!" header
-        // This makes the QR code more actionable for finders
+        // The "lost pet" details are on the public lookup page the code links to
         assertNotNull(qrCode);
         assertTrue(qrCode.length > 0);
         verify(petService).getPetById(1L, 1L);
@@ -238,6 +252,7 @@ public class QRCodeServiceTest {
         pet2.setName("Luna");
         pet2.setType("Cat");
         pet2.setBreed("Siamese");
+        pet2.setPublicToken("lunaToken001");
         pet2.setOwner(testOwner);
 
         when(petService.getPetById(1L, 1L)).thenReturn(testPet);
@@ -253,4 +268,125 @@ public class QRCodeServiceTest {
         // Different pet IDs should produce different QR codes
         assertFalse(java.util.Arrays.equals(qrCode1, qrCode2));
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // Cache / ETag Tests
+    // ========================================
+
+    @Test
+    void testGetQRCodeForPet_SecondCall_ServedFromCacheWithSameETag() {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+
+        // Act
+        QRCodeService.QRCodeImage first = qrCodeService.getQRCodeForPet(1L, 1L);
+        QRCodeService.QRCodeImage second = qrCodeService.getQRCodeForPet(1L, 1L);
+
+        // Assert - identical bytes and tag, and authorization still runs every time
+        assertArrayEquals(first.image(), second.image());
+        assertEquals(first.etag(), second.etag());
+        assertTrue(qrCodeCache.get(first.etag()).isPresent());
+        verify(petService, times(2)).getPetById(1L, 1L);
+    }
+
+    @Test
+    void testGetQRCodeForPet_AfterOwnerPhoneChange_KeepsSameCode() {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+        QRCodeService.QRCodeImage before = qrCodeService.getQRCodeForPet(1L, 1L);
+
+        // Act - contact details live behind the link, not in the code
+        testOwner.setPhoneNumber("555-9999");
+        QRCodeService.QRCodeImage after = qrCodeService.getQRCodeForPet(1L, 1L);
+
+        // Assert
+        assertEquals(before.etag(), after.etag());
+        assertArrayEquals(before.image(), after.image());
+    }
+
+    @Test
+    void testGetQRCodeForPet_AfterTokenChange_ChangesETag() {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+        QRCodeService.QRCodeImage before = qrCodeService.getQRCodeForPet(1L, 1L);
+
+        // Act
+        testPet.setPublicToken("maxToken0002");
+        QRCodeService.QRCodeImage after = qrCodeService.getQRCodeForPet(1L, 1L);
+
+        // Assert - new content, new tag; the pet's previous image is no longer cached
+        assertNotEquals(before.etag(), after.etag());
+        assertFalse(qrCodeCache.get(before.etag()).isPresent());
+    }
+
+    @Test
+    void testGenerateQRCodeForPet_EncodesOnlyTheLookupLink() throws Exception {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+
+        // Act
+        byte[] qrCode = qrCodeService.generateQRCodeForPet(1L, 1L);
+
+        // Assert
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(qrCode));
+        Result decoded = new QRCodeReader().decode(
+                new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image))));
+        assertEquals(LOOKUP_URL_PREFIX + "maxToken0001", decoded.getText());
+    }
+
+    @Test
+    void testGenerateQRCodeForPet_WithoutPublicToken_ThrowsException() {
+        // Arrange
+        testPet.setPublicToken(null);
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> qrCodeService.generateQRCodeForPet(1L, 1L));
+    }
+
+    @Test
+    void testInvalidateOwner_DropsCachedImagesOfOwnersPets() {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+        String etag = qrCodeService.getQRCodeForPet(1L, 1L).etag();
+
+        // Act
+        qrCodeCache.invalidateOwner(1L);
+
+        // Assert
+        assertFalse(qrCodeCache.get(etag).isPresent());
+    }
+
+    @Test
+    void testCacheKey_DependsOnContentSizeAndFormat() {
+        // Act & Assert
+        String key = QRCodeService.cacheKey("content", 300, 300, "PNG");
+        assertEquals(64, key.length());
+        assertEquals(key, QRCodeService.cacheKey("content", 300, 300, "PNG"));
+        assertNotEquals(key, QRCodeService.cacheKey("content2", 300, 300, "PNG"));
+        assertNotEquals(key, QRCodeService.cacheKey("content", 600, 600, "PNG"));
+        assertNotEquals(key, QRCodeService.cacheKey("content", 300, 300, "SVG"));
+    }
+
+    @Test
+    void testGetQRCodeForPet_AsSvg_ReturnsSvgWithItsOwnETag() {
+        // Arrange
+        when(petService.getPetById(1L, 1L)).thenReturn(testPet);
+
+        // Act
+        QRCodeService.QRCodeImage png = qrCodeService.getQRCodeForPet(1L, 1L, QRCodeService.QRCodeFormat.PNG);
+        QRCodeService.QRCodeImage svg = qrCodeService.getQRCodeForPet(1L, 1L, QRCodeService.QRCodeFormat.SVG);
+
+        // Assert
+        assertTrue(new String(svg.image()).startsWith("<svg"));
+        assertNotEquals(png.etag(), svg.etag());
+    }
+
+    @Test
+    void testQRCodeFormat_FromParameter() {
+        // Act & Assert
+        assertEquals(QRCodeService.QRCodeFormat.PNG, QRCodeService.QRCodeFormat.fromParameter("png"));
+        assertEquals(QRCodeService.QRCodeFormat.SVG, QRCodeService.QRCodeFormat.fromParameter("SVG"));
+        assertThrows(IllegalArgumentException.class, () -> QRCodeService.QRCodeFormat.fromParameter("gif"));
+    }
+}
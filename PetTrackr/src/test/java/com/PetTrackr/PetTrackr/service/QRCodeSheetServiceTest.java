@@ -0,0 +1,151 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Owner;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QRCodeSheetServiceTest {
+
+    @Mock
+    private PetService petService;
+
+    private QRCodeSheetService qrCodeSheetService;
+
+    private Owner owner;
+
+    @BeforeEach
+    void setUp() {
+        QRCodeService qrCodeService = new QRCodeService(petService, new QRCodeCache(DataSize.ofMegabytes(1)),
+                "http://localhost:8080/api/public/pets/");
+        qrCodeSheetService = new QRCodeSheetService(petService, qrCodeService, 2, 4, 10);
+
+        owner = new Owner();
+        owner.setId(1L);
+        owner.setName("Happy Paws Shelter");
+        owner.setPhoneNumber("555-1234");
+    }
+
+    @AfterEach
+    void tearDown() {
+        qrCodeSheetService.shutdown();
+    }
+
+    // ========================================
+    // Load Tests
+    // ========================================
+
+    @Test
+    void testLoadPets_OverLimit_ThrowsException() {
+        // Arrange
+        when(petService.getPetsForTagSheet(1L, null)).thenReturn(pets(11));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            qrCodeSheetService.loadPets(1L, null);
+        });
+        assertTrue(exception.getMessage().contains("Too many pets"));
+    }
+
+    // ========================================
+    // Sheet Tests
+    // ========================================
+
+    @Test
+    void testWriteSheet_SplitsIntoPagesInPetOrder() throws Exception {
+        // Arrange
+        List<Pet> pets = pets(5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        qrCodeSheetService.writeSheet(pets, 2, out);
+
+        // Assert - 5 tags at 2 per page = 3 pages, each tag has its code
+        String html = out.toString(StandardCharsets.UTF_8);
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.trim().endsWith("</html>"));
+        assertEquals(3, count(html, "<section class=\"page\">"));
+        assertEquals(3, count(html, "</section>"));
+        assertEquals(5, count(html, "<svg "));
+        int previous = -1;
+        for (int i = 1; i <= 5; i++) {
+            int position = html.indexOf(">Pet " + i + "<");
+            assertTrue(position > previous, "pet " + i + " out of order");
+            previous = position;
+        }
+    }
+
+    @Test
+    void testWriteSheet_EscapesPetFields() throws Exception {
+        // Arrange
+        Pet pet = pet(1L, "<script>alert(1)</script>");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        qrCodeSheetService.writeSheet(List.of(pet), 12, out);
+
+        // Assert
+        String html = out.toString(StandardCharsets.UTF_8);
+        assertFalse(html.contains("<script>"));
+        assertTrue(html.contains("&lt;script&gt;"));
+    }
+
+    @Test
+    void testWriteSheet_WithNoPets_WritesEmptySheet() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        qrCodeSheetService.writeSheet(List.of(), 12, out);
+
+        // Assert
+        String html = out.toString(StandardCharsets.UTF_8);
+        assertEquals(0, count(html, "<section"));
+        assertTrue(html.trim().endsWith("</html>"));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private List<Pet> pets(int count) {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            pets.add(pet((long) i, "Pet " + i));
+        }
+        return pets;
+    }
+
+    private Pet pet(Long id, String name) {
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName(name);
+        pet.setType("Dog");
+        pet.setBreed("Mixed");
+        pet.setPublicToken("token" + id);
+        pet.setOwner(owner);
+        return pet;
+    }
+
+    private static int count(String text, String needle) {
+        int count = 0;
+        for (int i = text.indexOf(needle); i >= 0; i = text.indexOf(needle, i + needle.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,123 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Medication.RecurrenceUnit;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    // ========================================
+    // Parse Tests
+    // ========================================
+
+    @Test
+    void testParse_CommonFrequencies() {
+        // Act & Assert
+        assertEquals(rule(RecurrenceUnit.DAYS, 1), RecurrenceRule.parse("Once daily"));
+        assertEquals(rule(RecurrenceUnit.DAYS, 1), RecurrenceRule.parse("Daily"));
+        assertEquals(rule(RecurrenceUnit.DAYS, 1), RecurrenceRule.parse("once a day"));
+        assertEquals(rule(RecurrenceUnit.HOURS, 12), RecurrenceRule.parse("Twice daily"));
+        assertEquals(rule(RecurrenceUnit.HOURS, 12), RecurrenceRule.parse("2x per day"));
+        assertEquals(rule(RecurrenceUnit.HOURS, 8), RecurrenceRule.parse("3 times a day"));
+        assertEquals(rule(RecurrenceUnit.HOURS, 8), RecurrenceRule.parse("Every 8 hours"));
+        assertEquals(rule(RecurrenceUnit.HOURS, 6), RecurrenceRule.parse("q6h"));
+        assertEquals(rule(RecurrenceUnit.DAYS, 2), RecurrenceRule.parse("every other day"));
+        assertEquals(rule(RecurrenceUnit.WEEKS, 1), RecurrenceRule.parse("Weekly"));
+        assertEquals(rule(RecurrenceUnit.WEEKS, 2), RecurrenceRule.parse("every 2 weeks"));
+        assertEquals(rule(RecurrenceUnit.MONTHS, 1), RecurrenceRule.parse("Monthly"));
+        assertEquals(rule(RecurrenceUnit.MONTHS, 1), RecurrenceRule.parse("once a month"));
+    }
+
+    @Test
+    void testParse_UnrecognizedText_ReturnsEmpty() {
+        // Act & Assert
+        assertEquals(Optional.empty(), RecurrenceRule.parse("as needed"));
+        assertEquals(Optional.empty(), RecurrenceRule.parse("twice a week"));
+        assertEquals(Optional.empty(), RecurrenceRule.parse("every 0 days"));
+        assertEquals(Optional.empty(), RecurrenceRule.parse(null));
+    }
+
+    @Test
+    void testOf_UnrecognizedText_HasNoFixedSchedule() {
+        // Act
+        RecurrenceRule rule = RecurrenceRule.of(null, null, "PRN");
+
+        // Assert
+        assertEquals(RecurrenceRule.NONE, rule);
+        assertFalse(rule.isScheduled());
+        assertEquals(0, rule.occurrences(LocalDateTime.of(2025, 6, 1, 8, 0), null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)).count());
+        assertNull(rule.nextAfter(LocalDateTime.of(2025, 6, 1, 8, 0), null, LocalDateTime.of(2025, 6, 1, 8, 0)));
+    }
+
+    // ========================================
+    // Occurrence Tests
+    // ========================================
+
+    @Test
+    void testOccurrences_StartsAtFirstDoseInRange() {
+        // Arrange - every 8 hours since the start of 2020
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceUnit.HOURS, 8);
+        LocalDateTime firstDose = LocalDateTime.of(2020, 1, 1, 6, 0);
+
+        // Act
+        List<LocalDateTime> doses = rule.occurrences(firstDose, null,
+                LocalDateTime.of(2025, 6, 1, 12, 0), LocalDateTime.of(2025, 6, 2, 0, 0)).toList();
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2025, 6, 1, 14, 0), LocalDateTime.of(2025, 6, 1, 22, 0)), doses);
+    }
+
+    @Test
+    void testOccurrences_StopsAfterEndDate() {
+        // Arrange
+        RecurrenceRule rule = RecurrenceRule.DAILY;
+        LocalDateTime firstDose = LocalDateTime.of(2025, 6, 1, 9, 0);
+
+        // Act
+        long count = rule.occurrences(firstDose, LocalDate.of(2025, 6, 10),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)).count();
+
+        // Assert
+        assertEquals(10, count);
+    }
+
+    @Test
+    void testOccurrences_MonthlyKeepsDayOfMonth() {
+        // Arrange - the 31st, clamped in shorter months but not drifting
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceUnit.MONTHS, 1);
+        LocalDateTime firstDose = LocalDateTime.of(2025, 1, 31, 9, 0);
+
+        // Act
+        List<LocalDateTime> doses = rule.occurrences(firstDose, null,
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0)).toList();
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2025, 2, 28, 9, 0), LocalDateTime.of(2025, 3, 31, 9, 0)), doses);
+    }
+
+    @Test
+    void testNextAfter_ExcludesTheGivenTime() {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceUnit.HOURS, 12);
+        LocalDateTime firstDose = LocalDateTime.of(2025, 6, 1, 8, 0);
+
+        // Act & Assert
+        assertEquals(LocalDateTime.of(2025, 6, 1, 20, 0), rule.nextAfter(firstDose, null, firstDose));
+        assertNull(rule.nextAfter(firstDose, LocalDate.of(2025, 6, 1), LocalDateTime.of(2025, 6, 1, 20, 0)));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private static Optional<RecurrenceRule> rule(RecurrenceUnit unit, int interval) {
+        return Optional.of(new RecurrenceRule(unit, interval));
+    }
+}
@@ -0,0 +1,292 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.DTO.PetDTOs.PublicPetResponse;
+import com.PetTrackr.PetTrackr.entity.Sighting;
+import com.PetTrackr.PetTrackr.repository.SightingRepository;
+import com.PetTrackr.PetTrackr.service.SightingIndex.NearbySighting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SightingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+
+    // downtown Boston
+    private static final double LAT = 42.3601;
+    private static final double LON = -71.0589;
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private PublicPetService publicPetService;
+
+    private SightingService sightingService;
+
+    @BeforeEach
+    void setUp() {
+        sightingService = new SightingService(sightingRepository, petService, publicPetService,
+                Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofDays(7), Duration.ofDays(90), 50, 200);
+    }
+
+    // ========================================
+    // Report Tests
+    // ========================================
+
+    @Test
+    void testReportSighting_WithValidToken_SavesWithGeohash() {
+        // Arrange
+        when(publicPetService.lookup("maxToken0001")).thenReturn(Optional.of(entry(1L)));
+        when(sightingRepository.save(any(Sighting.class))).thenAnswer(invocation -> {
+            Sighting sighting = invocation.getArgument(0);
+            sighting.setId(10L);
+            return sighting;
+        });
+
+        // Act
+        Sighting sighting = sightingService.reportSighting("maxToken0001", LAT, LON, null, "  near the park  ");
+
+        // Assert
+        assertEquals(1L, sighting.getPetId());
+        assertEquals(Geohash.encode(LAT, LON, SightingIndex.PRECISION), sighting.getGeohash());
+        assertEquals(NOW, sighting.getSightedAt());
+        assertEquals("near the park", sighting.getNote());
+    }
+
+    @Test
+    void testReportSighting_WithUnknownToken_ThrowsException() {
+        // Arrange
+        when(publicPetService.lookup("unknownToken")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> sightingService.reportSighting("unknownToken", LAT, LON, null, null));
+        assertTrue(exception.getMessage().contains("not found"));
+        verify(sightingRepository, never()).save(any());
+    }
+
+    @Test
+    void testReportSighting_InTheFuture_ThrowsException() {
+        // Arrange
+        when(publicPetService.lookup("maxToken0001")).thenReturn(Optional.of(entry(1L)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> sightingService.reportSighting("maxToken0001", LAT, LON, NOW.plus(Duration.ofHours(1)), null));
+        verify(sightingRepository, never()).save(any());
+    }
+
+    @Test
+    void testReportSighting_OlderThanWindow_ThrowsException() {
+        // Arrange
+        when(publicPetService.lookup("maxToken0001")).thenReturn(Optional.of(entry(1L)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> sightingService.reportSighting("maxToken0001", LAT, LON, NOW.minus(Duration.ofDays(8)), null));
+    }
+
+    // ========================================
+    // Nearby Tests
+    // ========================================
+
+    @Test
+    void testFindNearby_AfterReport_FindsItWithinRadiusOnly() {
+        // Arrange
+        indexEmpty();
+        when(publicPetService.lookup("maxToken0001")).thenReturn(Optional.of(entry(1L)));
+        when(sightingRepository.save(any(Sighting.class))).thenAnswer(invocation -> {
+            Sighting sighting = invocation.getArgument(0);
+            sighting.setId(10L);
+            return sighting;
+        });
+        sightingService.reportSighting("maxToken0001", LAT + 0.009, LON, NOW.minus(Duration.ofHours(2)), null);
+
+        // Act - the sighting is ~1km north
+        List<NearbySighting> withinTwoKm = sightingService.findNearby(LAT, LON, 2, 24);
+        List<NearbySighting> withinHalfKm = sightingService.findNearby(LAT, LON, 0.5, 24);
+        List<NearbySighting> lastHour = sightingService.findNearby(LAT, LON, 2, 1);
+
+        // Assert
+        assertEquals(1, withinTwoKm.size());
+        assertEquals(1.0, withinTwoKm.get(0).distanceKm(), 0.01);
+        assertTrue(withinHalfKm.isEmpty());
+        assertTrue(lastHour.isEmpty());
+    }
+
+    @Test
+    void testFindNearby_MatchesFullScan() {
+        // Arrange - 5,000 sightings spread over ~60km around the city
+        Random random = new Random(42);
+        List<Sighting> sightings = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            double lat = LAT + (random.nextDouble() - 0.5) * 0.6;
+            double lon = LON + (random.nextDouble() - 0.5) * 0.8;
+            Instant sightedAt = NOW.minus(Duration.ofMinutes(random.nextInt(7 * 24 * 60)));
+            sightings.add(sighting(id, lat, lon, sightedAt));
+        }
+        when(sightingRepository.findBySightedAtGreaterThanEqual(NOW.minus(Duration.ofDays(7)))).thenReturn(sightings);
+        sightingService.rebuildIndex();
+
+        for (double radiusKm : new double[] {0.3, 1, 3, 10, 25}) {
+            // Act
+            Set<Long> found = sightingService.findNearby(LAT, LON, radiusKm, 48).stream()
+                    .map(nearby -> nearby.sighting().id())
+                    .collect(Collectors.toSet());
+
+            // Assert
+            Instant since = NOW.minus(Duration.ofHours(48));
+            Set<Long> expected = sightings.stream()
+                    .filter(s -> !s.getSightedAt().isBefore(since))
+                    .filter(s -> Geohash.distanceKm(LAT, LON, s.getLatitude(), s.getLongitude()) <= radiusKm)
+                    .map(Sighting::getId)
+                    .limit(200)
+                    .collect(Collectors.toSet());
+            if (expected.size() < 200) {
+                assertEquals(expected, found, "radius " + radiusKm);
+            } else {
+                assertEquals(200, found.size(), "radius " + radiusKm);
+            }
+        }
+    }
+
+    @Test
+    void testFindNearby_BeforeIndexBuilt_QueriesGeohashCells() {
+        // Arrange
+        Sighting near = sighting(1L, LAT + 0.001, LON, NOW.minus(Duration.ofHours(1)));
+        when(sightingRepository.findByGeohashStartingWithAndSightedAtGreaterThanEqual(anyString(), any()))
+                .thenReturn(List.of());
+        when(sightingRepository.findByGeohashStartingWithAndSightedAtGreaterThanEqual(
+                eq(Geohash.encode(LAT + 0.001, LON, SightingIndex.queryPrecision(LAT, 1))), any()))
+                .thenReturn(List.of(near));
+
+        // Act
+        List<NearbySighting> found = sightingService.findNearby(LAT, LON, 1, 24);
+
+        // Assert
+        assertEquals(1, found.size());
+        verify(sightingRepository, never()).findBySightedAtGreaterThanEqual(any());
+    }
+
+    @Test
+    void testRefreshIndex_PicksUpSightingsReportedThroughOtherNodes() {
+        // Arrange - index built, then a report is saved by another node
+        when(sightingRepository.findBySightedAtGreaterThanEqual(any())).thenReturn(List.of());
+        sightingService.rebuildIndex();
+        Sighting elsewhere = new Sighting(3L, LAT, LON, Geohash.encode(LAT, LON, SightingIndex.PRECISION),
+                NOW.minusSeconds(30), NOW.minusSeconds(20), null);
+        elsewhere.setId(30L);
+        when(sightingRepository.findByReportedAtGreaterThanEqual(NOW.minus(Duration.ofMinutes(1))))
+                .thenReturn(List.of(elsewhere));
+        assertTrue(sightingService.findNearby(LAT, LON, 1, 1).isEmpty());
+
+        // Act
+        sightingService.refreshIndex();
+
+        // Assert
+        List<NearbySighting> found = sightingService.findNearby(LAT, LON, 1, 1);
+        assertEquals(1, found.size());
+        assertEquals(30L, found.get(0).sighting().id());
+    }
+
+    @Test
+    void testFindNearby_WithTooLargeRadius_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sightingService.findNearby(LAT, LON, 51, 24));
+        assertThrows(IllegalArgumentException.class, () -> sightingService.findNearby(LAT, LON, 5, 24 * 8));
+        assertThrows(IllegalArgumentException.class, () -> sightingService.findNearby(91, LON, 5, 24));
+    }
+
+    @Test
+    void testPruneIndex_DropsSightingsOutsideWindow() {
+        // Arrange
+        when(sightingRepository.findBySightedAtGreaterThanEqual(any())).thenReturn(List.of(
+                sighting(1L, LAT, LON, NOW.minus(Duration.ofDays(8))),
+                sighting(2L, LAT, LON, NOW.minus(Duration.ofDays(1)))));
+        sightingService.rebuildIndex();
+
+        // Act
+        sightingService.pruneIndex();
+
+        // Assert
+        List<NearbySighting> found = sightingService.findNearby(LAT, LON, 1, 24 * 7);
+        assertEquals(List.of(2L), found.stream().map(nearby -> nearby.sighting().id()).toList());
+    }
+
+    @Test
+    void testRemoveDeletedPet_DropsItsSightingsFromIndex() {
+        // Arrange
+        Sighting otherPet = sighting(3L, LAT, LON, NOW.minus(Duration.ofHours(2)));
+        otherPet.setPetId(2L);
+        when(sightingRepository.findBySightedAtGreaterThanEqual(any())).thenReturn(List.of(
+                sighting(1L, LAT, LON, NOW.minus(Duration.ofHours(1))), otherPet));
+        sightingService.rebuildIndex();
+
+        // Act
+        sightingService.removeDeletedPet(1L);
+
+        // Assert
+        List<NearbySighting> found = sightingService.findNearby(LAT, LON, 1, 24);
+        assertEquals(List.of(3L), found.stream().map(nearby -> nearby.sighting().id()).toList());
+    }
+
+    // ========================================
+    // Owner Tests
+    // ========================================
+
+    @Test
+    void testGetSightingsForPet_PetNotOwned_ThrowsSecurityException() {
+        // Arrange
+        when(petService.getPetById(1L, 2L))
+                .thenThrow(new SecurityException("Access denied: Pet does not belong to this owner"));
+
+        // Act & Assert
+        assertThrows(SecurityException.class, () -> sightingService.getSightingsForPet(1L, 2L, 24));
+        verifyNoInteractions(sightingRepository);
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private void indexEmpty() {
+        when(sightingRepository.findBySightedAtGreaterThanEqual(any())).thenReturn(List.of());
+        sightingService.rebuildIndex();
+    }
+
+    private static Sighting sighting(Long id, double lat, double lon, Instant sightedAt) {
+        Sighting sighting = new Sighting(1L, lat, lon, Geohash.encode(lat, lon, SightingIndex.PRECISION),
+                sightedAt, sightedAt, null);
+        sighting.setId(id);
+        return sighting;
+    }
+
+    private static PublicPetService.PublicPetEntry entry(Long petId) {
+        return new PublicPetService.PublicPetEntry(petId, 1L, "maxToken0001",
+                new PublicPetResponse("Max", "Dog", "Golden Retriever", null, "John Doe", "555-1234",
+                        PublicPetService.GUIDE_URL), "etag");
+    }
+}
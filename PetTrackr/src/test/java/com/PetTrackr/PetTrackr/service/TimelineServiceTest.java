@@ -0,0 +1,232 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.FeedingEvent;
+import com.PetTrackr.PetTrackr.entity.FeedingSchedule.QuantityUnit;
+import com.PetTrackr.PetTrackr.entity.Medication;
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.VetVisit;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
+import com.PetTrackr.PetTrackr.repository.DoseAdministrationRepository;
+import com.PetTrackr.PetTrackr.repository.FeedingEventRepository;
+import com.PetTrackr.PetTrackr.repository.MedicationRepository;
+import com.PetTrackr.PetTrackr.repository.SightingRepository;
+import com.PetTrackr.PetTrackr.repository.VetVisitRepository;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-10T12:00:00Z");
+
+    @Mock
+    private VetVisitRepository vetVisitRepository;
+
+    @Mock
+    private MedicationRepository medicationRepository;
+
+    @Mock
+    private DoseAdministrationRepository doseAdministrationRepository;
+
+    @Mock
+    private FeedingEventRepository feedingEventRepository;
+
+    @Mock
+    private WeightSampleRepository weightSampleRepository;
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private Clock clock;
+
+    private TimelineService timelineService;
+
+    private final List<VetVisit> visits = new ArrayList<>();
+    private final List<Medication> medications = new ArrayList<>();
+    private final List<FeedingEvent> feedings = new ArrayList<>();
+    private final List<WeightSample> samples = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Pet testPet = new Pet();
+        testPet.setId(10L);
+        testPet.setName("Rex");
+        testPet.setWeight(30.0);
+        testPet.setWeightType(Pet.WeightType.KG);
+
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(petService.getPetById(10L, 1L)).thenReturn(testPet);
+
+        // the repositories' keyset queries, over in-memory lists
+        lenient().when(vetVisitRepository.findTimelinePage(eq(10L), any(), any(), any())).thenAnswer(invocation ->
+                page(visits, VetVisit::getVisitDate, VetVisit::getId, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(medicationRepository.findStartedTimelinePage(eq(10L), any(), any(), any())).thenAnswer(invocation ->
+                page(medications, Medication::getStartDate, Medication::getId, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(feedingEventRepository.findTimelinePage(eq(10L), any(), any(), any())).thenAnswer(invocation ->
+                page(feedings, FeedingEvent::getFedAt, FeedingEvent::getId, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(weightSampleRepository.findTimelinePage(eq(10L), any(), any(), any())).thenAnswer(invocation ->
+                page(samples, WeightSample::getMeasuredAt, WeightSample::getId, invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+
+        timelineService = new TimelineService(vetVisitRepository, medicationRepository, doseAdministrationRepository,
+                feedingEventRepository, weightSampleRepository, sightingRepository, petService, clock, "UTC");
+    }
+
+    // ========================================
+    // getTimeline Tests
+    // ========================================
+
+    @Test
+    void testGetTimeline_MergesSourcesNewestFirst() {
+        // Arrange
+        addVisit(1L, LocalDate.of(2025, 6, 9), "Checkup");
+        addMedication(2L, "Apoquel", LocalDate.of(2025, 6, 1));
+        addFeeding(3L, Instant.parse("2025-06-09T08:00:00Z"));
+        addFeeding(4L, Instant.parse("2025-06-10T08:00:00Z"));
+        addSample(5L, Instant.parse("2025-06-05T09:30:00Z"), 30_500);
+
+        // Act
+        TimelineService.Page page = timelineService.getTimeline(10L, 1L, null, 10);
+
+        // Assert - the visit sits at the start of its day, below that day's feeding
+        assertEquals(List.of("FEEDING 4", "FEEDING 3", "VET_VISIT 1", "WEIGHT 5", "MEDICATION_STARTED 2"),
+                page.entries().stream().map(entry -> entry.type() + " " + entry.id()).toList());
+        assertEquals("Vet visit: Checkup", page.entries().get(2).title());
+        assertEquals(LocalDate.of(2025, 6, 9), page.entries().get(2).date());
+        assertEquals("Weighed 30.5 kg", page.entries().get(3).title());
+        assertEquals("5 mg, twice daily", page.entries().get(4).detail());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testGetTimeline_PagingReturnsEveryEventOnce() {
+        // Arrange - events at the same instants across sources, to exercise the tiebreaks
+        long id = 1;
+        for (int day = 0; day < 12; day++) {
+            Instant midnight = NOW.minus(Duration.ofDays(day)).truncatedTo(ChronoUnit.DAYS);
+            addVisit(id++, LocalDate.ofInstant(midnight, ZoneOffset.UTC), "Visit " + day);
+            addFeeding(id++, midnight);
+            addFeeding(id++, midnight);
+            addSample(id++, midnight, 30_000 + day);
+            addFeeding(id++, midnight.plus(Duration.ofHours(7)));
+        }
+        List<String> all = timelineService.getTimeline(10L, 1L, null, 100).entries().stream()
+                .map(entry -> entry.type() + " " + entry.id()).toList();
+        assertEquals(60, all.size());
+
+        for (int limit : new int[]{1, 3, 7, 20}) {
+            // Act
+            List<String> paged = new ArrayList<>();
+            String cursor = null;
+            do {
+                TimelineService.Page page = timelineService.getTimeline(10L, 1L, cursor, limit);
+                assertTrue(page.entries().size() <= limit);
+                page.entries().forEach(entry -> paged.add(entry.type() + " " + entry.id()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            // Assert
+            assertEquals(all, paged, "limit " + limit);
+        }
+    }
+
+    @Test
+    void testGetTimeline_LeavesOutFutureEvents() {
+        // Arrange
+        addFeeding(1L, NOW.minusSeconds(60));
+        addVisit(2L, LocalDate.of(2025, 6, 20), "Booked");
+
+        // Act
+        TimelineService.Page page = timelineService.getTimeline(10L, 1L, null, 10);
+
+        // Assert
+        assertEquals(1, page.entries().size());
+        assertEquals(TimelineService.EventType.FEEDING, page.entries().get(0).type());
+    }
+
+    @Test
+    void testGetTimeline_InvalidCursorOrLimit_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> timelineService.getTimeline(10L, 1L, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> timelineService.getTimeline(10L, 1L, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> timelineService.getTimeline(10L, 1L, null, 101));
+        verifyNoInteractions(feedingEventRepository);
+    }
+
+    @Test
+    void testCursor_RoundTrips() {
+        // Arrange
+        TimelineService.Key key = new TimelineService.Key(Instant.parse("2025-06-01T08:00:00.123456789Z"), 4, 42L);
+
+        // Act & Assert
+        assertEquals(key, TimelineService.decodeCursor(TimelineService.encodeCursor(key)));
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private void addVisit(Long id, LocalDate date, String reason) {
+        VetVisit visit = new VetVisit(date, null, "Dr. Smith", reason, null);
+        visit.setId(id);
+        visits.add(visit);
+    }
+
+    private void addMedication(Long id, String name, LocalDate startDate) {
+        Medication medication = new Medication(name, 5.0, Medication.DosageUnit.MG, "twice daily",
+                LocalTime.of(8, 0), startDate, null);
+        medication.setId(id);
+        medications.add(medication);
+    }
+
+    private void addFeeding(Long id, Instant fedAt) {
+        FeedingEvent feeding = new FeedingEvent(10L, null, fedAt, "Kibble", 1.0, QuantityUnit.CUPS, 100, null);
+        feeding.setId(id);
+        feedings.add(feeding);
+    }
+
+    private void addSample(Long id, Instant measuredAt, int grams) {
+        WeightSample sample = new WeightSample(10L, measuredAt, grams);
+        sample.setId(id);
+        samples.add(sample);
+    }
+
+    // rows strictly before (position, id), newest first, like the repositories' timeline queries
+    private static <T, P extends Comparable<P>> List<T> page(List<T> rows, Function<T, P> position, Function<T, Long> id,
+                                                              P beforePosition, Long beforeId, Limit limit) {
+        Comparator<T> order = Comparator.comparing(position).thenComparing(id);
+        return rows.stream()
+                .filter(row -> {
+                    int compared = position.apply(row).compareTo(beforePosition);
+                    return compared < 0 || (compared == 0 && id.apply(row) < beforeId);
+                })
+                .sorted(order.reversed())
+                .limit(limit.max())
+                .toList();
+    }
+}
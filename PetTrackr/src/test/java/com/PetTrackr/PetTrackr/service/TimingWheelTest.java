@@ -0,0 +1,106 @@
+package com.PetTrackr.PetTrackr.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    // ========================================
+    // Expiry Tests
+    // ========================================
+
+    @Test
+    void testAdvanceTo_FiresTimersOnTheirTick() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.add(1005, "a");
+        wheel.add(1003, "b");
+
+        // Act & Assert
+        assertTrue(wheel.advanceTo(1002).isEmpty());
+        assertEquals(List.of("b"), values(wheel.advanceTo(1004)));
+        assertEquals(List.of("a"), values(wheel.advanceTo(1005)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceTo_CascadesFromHigherLevelsAtTheRightTick() {
+        // Arrange - deadlines on every level below the top, from an unaligned start
+        long start = 0x683c0880L;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = start + 1 + random.nextInt(1 << 18);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        // Act - advance tick by tick, checking each timer fires exactly on its tick
+        List<Long> fired = new ArrayList<>();
+        for (long tick = start + 1; wheel.size() > 0; tick++) {
+            for (TimingWheel.Timer<Long> timer : wheel.advanceTo(tick)) {
+                assertEquals(timer.deadlineTick(), tick);
+                fired.add(timer.value());
+            }
+        }
+
+        // Assert
+        assertEquals(deadlines.stream().sorted().toList(), fired.stream().sorted().toList());
+    }
+
+    @Test
+    void testAdvanceTo_BigStep_FiresEverythingDue() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(0x683c0880L);
+        wheel.add(0x683c0880L + 86_400, "tomorrow");
+        wheel.add(0x683c0880L + 86_401, "later");
+
+        // Act & Assert
+        assertEquals(List.of("tomorrow"), values(wheel.advanceTo(0x683c0880L + 86_400)));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void testAdd_PastDeadline_FiresOnNextTick() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(500);
+        wheel.add(100, "late");
+
+        // Act & Assert
+        assertEquals(List.of("late"), values(wheel.advanceTo(501)));
+    }
+
+    // ========================================
+    // Cancel Tests
+    // ========================================
+
+    @Test
+    void testCancel_RemovesTimer() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> cancelled = wheel.add(70_000, "cancelled");
+        wheel.add(70_000, "kept");
+
+        // Act
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+
+        // Assert
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), values(wheel.advanceTo(70_000)));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private static <T> List<T> values(List<TimingWheel.Timer<T>> timers) {
+        return timers.stream().map(TimingWheel.Timer::value).toList();
+    }
+}
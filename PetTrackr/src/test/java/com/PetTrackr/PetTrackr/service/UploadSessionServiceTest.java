@@ -0,0 +1,258 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.UploadSession;
+import com.PetTrackr.PetTrackr.repository.UploadSessionRepository;
+import com.PetTrackr.PetTrackr.storage.LocalFileBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceTest {
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private ImageUploadService imageUploadService;
+
+    @TempDir
+    private Path tempDir;
+
+    private UploadSessionService uploadSessionService;
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        uploadSessionService = new UploadSessionService(
+                uploadSessionRepository, petService, imageUploadService,
+                new LocalFileBlobStore(tempDir), Clock.fixed(NOW, ZoneOffset.UTC),
+                DataSize.ofMegabytes(25), DataSize.ofBytes(8), Duration.ofHours(24));
+    }
+
+    // ========================================
+    // Create Session Tests
+    // ========================================
+
+    @Test
+    void testCreateSession_WithValidRequest_Success() {
+        // Arrange
+        when(imageUploadService.resolveExtension("big.jpg")).thenReturn(".jpg");
+        when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        UploadSession session = uploadSessionService.createSession(1L, 2L, "big.jpg", 12, "image/jpeg");
+
+        // Assert
+        verify(petService).getPetById(1L, 2L);
+        assertEquals(".jpg", session.getExtension());
+        assertEquals(12, session.getTotalSize());
+        assertEquals(0, session.getCommittedOffset());
+        assertEquals(NOW.plus(Duration.ofHours(24)), session.getExpiresAt());
+    }
+
+    @Test
+    void testCreateSession_WithSizeOverLimit_ThrowsException() {
+        // Arrange
+        when(imageUploadService.resolveExtension("huge.jpg")).thenReturn(".jpg");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            uploadSessionService.createSession(1L, 2L, "huge.jpg", DataSize.ofMegabytes(26).toBytes(), "image/jpeg");
+        });
+        assertTrue(exception.getMessage().contains("size"));
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    // ========================================
+    // Append Chunk Tests
+    // ========================================
+
+    @Test
+    void testAppendChunk_AtCommittedOffset_AdvancesOffset() {
+        // Arrange
+        UploadSession session = session(12);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.save(session)).thenReturn(session);
+
+        // Act
+        UploadSession updated = uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abcdefgh"), 8);
+
+        // Assert
+        assertEquals(8, updated.getCommittedOffset());
+        assertEquals(1, updated.getPartCount());
+        assertTrue(Files.exists(tempDir.resolve(UploadSessionService.partKey(7L, 0))));
+    }
+
+    @Test
+    void testAppendChunk_AtWrongOffset_ThrowsConflict() {
+        // Arrange
+        UploadSession session = session(12);
+        session.setCommittedOffset(8);
+        session.setPartCount(1);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        // Act & Assert - a retry of the first chunk after it was already committed
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abcdefgh"), 8);
+        });
+        assertTrue(exception.getMessage().contains("expected offset 8"));
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    @Test
+    void testAppendChunk_PastDeclaredSize_ThrowsException() {
+        // Arrange
+        UploadSession session = session(4);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        // Act & Assert - a bad request, not a too-large payload
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abcdef"), 6);
+        });
+        assertFalse(exception instanceof PayloadTooLargeException);
+    }
+
+    @Test
+    void testAppendChunk_WithShortBody_ThrowsExceptionAndDiscardsPart() {
+        // Arrange
+        UploadSession session = session(12);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        // Act & Assert - Content-Length says 8 but the connection dropped after 3 bytes
+        assertThrows(IllegalArgumentException.class, () -> {
+            uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abc"), 8);
+        });
+        assertEquals(0, session.getCommittedOffset());
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.partKey(7L, 0))));
+    }
+
+    @Test
+    void testGetSession_ForAnotherOwner_ThrowsSecurityException() {
+        // Arrange
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session(12)));
+
+        // Act & Assert
+        assertThrows(SecurityException.class, () -> {
+            uploadSessionService.getSession(1L, 99L, 7L);
+        });
+    }
+
+    @Test
+    void testGetSession_WhenExpired_ThrowsNotFound() {
+        // Arrange
+        UploadSession session = session(12);
+        session.setExpiresAt(NOW.minusSeconds(1));
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            uploadSessionService.getSession(1L, 2L, 7L);
+        });
+        assertTrue(exception.getMessage().contains("not found"));
+    }
+
+    // ========================================
+    // Complete / Abort Tests
+    // ========================================
+
+    @Test
+    void testCompleteUpload_StreamsChunksInOrderAndCleansUp() throws Exception {
+        // Arrange
+        UploadSession session = session(12);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.save(session)).thenReturn(session);
+        uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abcdefgh"), 8);
+        uploadSessionService.appendChunk(1L, 2L, 7L, 8, stream("ijkl"), 4);
+
+        AtomicReference<String> assembled = new AtomicReference<>();
+        when(imageUploadService.storePetImage(eq(1L), eq(".jpg"), any(InputStream.class), eq(12L), any()))
+                .thenAnswer(inv -> {
+                    assembled.set(new String(inv.<InputStream>getArgument(2).readAllBytes()));
+                    return "1_123.jpg";
+                });
+        Pet pet = new Pet();
+        when(petService.assignPetPhoto(1L, 2L, "1_123.jpg")).thenReturn(pet);
+
+        // Act
+        Pet result = uploadSessionService.completeUpload(1L, 2L, 7L);
+
+        // Assert
+        assertSame(pet, result);
+        assertEquals("abcdefghijkl", assembled.get());
+        verify(uploadSessionRepository).delete(session);
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.partKey(7L, 0))));
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.partKey(7L, 1))));
+    }
+
+    @Test
+    void testCompleteUpload_WhenIncomplete_ThrowsConflict() throws Exception {
+        // Arrange
+        UploadSession session = session(12);
+        session.setCommittedOffset(8);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> {
+            uploadSessionService.completeUpload(1L, 2L, 7L);
+        });
+        verify(imageUploadService, never()).storePetImage(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void testPurgeExpiredSessions_DeletesChunksAndSessions() {
+        // Arrange
+        UploadSession session = session(12);
+        when(uploadSessionRepository.findById(7L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.save(session)).thenReturn(session);
+        uploadSessionService.appendChunk(1L, 2L, 7L, 0, stream("abcdefgh"), 8);
+        when(uploadSessionRepository.findByExpiresAtBefore(NOW)).thenReturn(List.of(session));
+
+        // Act
+        uploadSessionService.purgeExpiredSessions();
+
+        // Assert
+        verify(uploadSessionRepository).delete(session);
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.partKey(7L, 0))));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private static UploadSession session(long totalSize) {
+        UploadSession session = new UploadSession(1L, 2L, ".jpg", "image/jpeg", totalSize,
+                NOW, NOW.plus(Duration.ofHours(24)));
+        session.setId(7L);
+        return session;
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+}
@@ -0,0 +1,176 @@
+package com.PetTrackr.PetTrackr.service;
+
+import com.PetTrackr.PetTrackr.entity.Pet;
+import com.PetTrackr.PetTrackr.entity.Pet.WeightType;
+import com.PetTrackr.PetTrackr.entity.WeightSample;
+import com.PetTrackr.PetTrackr.repository.WeightSampleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeightHistoryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Mock
+    private WeightSampleRepository weightSampleRepository;
+
+    @Mock
+    private PetService petService;
+
+    @Mock
+    private Clock clock;
+
+    @InjectMocks
+    private WeightHistoryService weightHistoryService;
+
+    private Pet testPet;
+
+    @BeforeEach
+    void setUp() {
+        testPet = new Pet();
+        testPet.setId(10L);
+        testPet.setName("Rex");
+        testPet.setWeight(30.0);
+        testPet.setWeightType(WeightType.KG);
+
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(petService.getPetById(10L, 1L)).thenReturn(testPet);
+        lenient().when(weightSampleRepository.save(any(WeightSample.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    // ========================================
+    // Unit Conversion Tests
+    // ========================================
+
+    @Test
+    void testToGrams_NormalizesBothUnits() {
+        // Act & Assert
+        assertEquals(30_000, WeightHistoryService.toGrams(30.0, WeightType.KG));
+        assertEquals(29_937, WeightHistoryService.toGrams(66.0, WeightType.LBS));
+        assertEquals(66.0, WeightHistoryService.fromGrams(29_937, WeightType.LBS));
+        assertEquals(29.94, WeightHistoryService.fromGrams(29_937, WeightType.KG));
+    }
+
+    // ========================================
+    // logWeight Tests
+    // ========================================
+
+    @Test
+    void testLogWeight_Latest_BecomesCurrentWeight() {
+        // Arrange
+        when(weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(10L))
+                .thenReturn(Optional.of(new WeightSample(10L, NOW.minus(Duration.ofDays(7)), 30_000)));
+
+        // Act - entered in pounds for a pet weighed in kilograms
+        WeightHistoryService.LoggedWeight logged = weightHistoryService.logWeight(10L, 1L, 70.0, WeightType.LBS, null);
+
+        // Assert
+        assertEquals(NOW, logged.sample().getMeasuredAt());
+        assertEquals(31_751, logged.sample().getWeightGrams());
+        assertEquals(WeightType.LBS, logged.unit());
+        assertEquals(31.75, testPet.getWeight());
+        assertEquals(WeightType.KG, testPet.getWeightType());
+    }
+
+    @Test
+    void testLogWeight_OlderThanLatest_KeepsCurrentWeight() {
+        // Arrange
+        when(weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(10L))
+                .thenReturn(Optional.of(new WeightSample(10L, NOW.minus(Duration.ofDays(1)), 30_000)));
+
+        // Act - a measurement from last month, entered late
+        WeightHistoryService.LoggedWeight logged =
+                weightHistoryService.logWeight(10L, 1L, 28.5, null, NOW.minus(Duration.ofDays(30)));
+
+        // Assert
+        assertEquals(28_500, logged.sample().getWeightGrams());
+        assertEquals(WeightType.KG, logged.unit());
+        assertEquals(30.0, testPet.getWeight());
+    }
+
+    @Test
+    void testLogWeight_InFuture_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                weightHistoryService.logWeight(10L, 1L, 30.0, null, NOW.plusSeconds(60)));
+        verify(weightSampleRepository, never()).save(any());
+    }
+
+    // ========================================
+    // deleteWeight Tests
+    // ========================================
+
+    @Test
+    void testDeleteWeight_Latest_RestoresPreviousWeight() {
+        // Arrange
+        WeightSample previous = new WeightSample(10L, NOW.minus(Duration.ofDays(14)), 29_000);
+        previous.setId(1L);
+        WeightSample latest = new WeightSample(10L, NOW.minus(Duration.ofDays(7)), 300_000); // a typo
+        latest.setId(2L);
+        when(weightSampleRepository.findById(2L)).thenReturn(Optional.of(latest));
+        when(weightSampleRepository.findFirstByPetIdOrderByMeasuredAtDescIdDesc(10L))
+                .thenReturn(Optional.of(latest))
+                .thenReturn(Optional.of(previous));
+
+        // Act
+        weightHistoryService.deleteWeight(2L, 10L, 1L);
+
+        // Assert
+        verify(weightSampleRepository).delete(latest);
+        assertEquals(29.0, testPet.getWeight());
+    }
+
+    // ========================================
+    // getWeightHistory Tests
+    // ========================================
+
+    @Test
+    void testGetWeightHistory_LongRange_IsDownsampled() {
+        // Arrange - three years of daily samples
+        List<WeightSample> samples = new ArrayList<>();
+        for (int day = 0; day < 1095; day++) {
+            WeightSample sample = new WeightSample(10L, NOW.minus(Duration.ofDays(1095 - day)), 25_000 + day * 5);
+            sample.setId((long) day);
+            samples.add(sample);
+        }
+        when(weightSampleRepository.findByPetIdAndMeasuredAtGreaterThanEqualAndMeasuredAtLessThanOrderByMeasuredAtAsc(
+                10L, Instant.EPOCH, NOW.plusMillis(1))).thenReturn(samples);
+
+        // Act
+        WeightHistoryService.WeightHistory history =
+                weightHistoryService.getWeightHistory(10L, 1L, null, null, 100, null);
+
+        // Assert
+        assertEquals(1095, history.totalSamples());
+        assertEquals(100, history.samples().size());
+        assertSame(samples.get(0), history.samples().get(0));
+        assertSame(samples.get(1094), history.samples().get(99));
+        assertEquals(WeightType.KG, history.unit());
+    }
+
+    @Test
+    void testGetWeightHistory_InvalidPoints_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                weightHistoryService.getWeightHistory(10L, 1L, null, null, 2, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                weightHistoryService.getWeightHistory(10L, 1L, null, null, 5001, null));
+        verifyNoInteractions(weightSampleRepository);
+    }
+}
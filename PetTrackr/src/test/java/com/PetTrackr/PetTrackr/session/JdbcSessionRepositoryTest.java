@@ -0,0 +1,174 @@
+package com.PetTrackr.PetTrackr.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Transactional
+@Sql(statements = {"DELETE FROM web_session_attribute", "DELETE FROM web_session"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class JdbcSessionRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Clock clock;
+    private Instant now = NOW;
+    private JdbcSessionRepository sessionRepository;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now);
+        sessionRepository = new JdbcSessionRepository(jdbcTemplate, clock, "jdbc", "session", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testFindById_LoadsAttributesOnlyWhenRead() {
+        // Arrange
+        StoredSession created = sessionRepository.createSession(TIMEOUT);
+        sessionRepository.setAttribute(created, "context", "owner-1");
+
+        // Act
+        StoredSession found = sessionRepository.findById(created.getId()).orElseThrow();
+
+        // Assert
+        assertFalse(found.isNew());
+        assertFalse(found.isAttributesLoaded());
+        assertEquals("owner-1", found.getAttribute("context"));
+        assertTrue(found.isAttributesLoaded());
+        assertEquals(NOW, found.getCreationTime());
+    }
+
+    @Test
+    void testSetAttribute_ReplacesAndRemoves() {
+        // Arrange
+        StoredSession session = sessionRepository.createSession(TIMEOUT);
+        sessionRepository.setAttribute(session, "a", "first");
+        sessionRepository.setAttribute(session, "b", "kept");
+
+        // Act
+        sessionRepository.setAttribute(session, "a", "second");
+        sessionRepository.setAttribute(session, "b", null);
+
+        // Assert
+        StoredSession found = sessionRepository.findById(session.getId()).orElseThrow();
+        assertEquals("second", found.getAttribute("a"));
+        assertEquals(1, found.getAttributeNames().size());
+        assertThrows(IllegalArgumentException.class, () -> sessionRepository.setAttribute(session, "c", new Object()));
+    }
+
+    @Test
+    void testRecordAccess_WrittenOnFlushOnly() {
+        // Arrange
+        String id = sessionRepository.createSession(TIMEOUT).getId();
+        now = NOW.plus(Duration.ofMinutes(20));
+
+        // Act
+        sessionRepository.recordAccess(sessionRepository.findById(id).orElseThrow());
+
+        // Assert - no write yet, but this node already sees the newer access
+        assertEquals(NOW, lastAccessedAt(id));
+        now = NOW.plus(Duration.ofMinutes(40));
+        assertTrue(sessionRepository.findById(id).isPresent());
+
+        sessionRepository.flush();
+        assertEquals(NOW.plus(Duration.ofMinutes(20)), lastAccessedAt(id));
+        assertEquals(0, sessionRepository.pendingAccessCount());
+    }
+
+    @Test
+    void testFindById_Expired_ReturnsEmpty() {
+        // Arrange
+        String id = sessionRepository.createSession(TIMEOUT).getId();
+
+        // Act
+        now = NOW.plus(TIMEOUT);
+
+        // Assert
+        assertTrue(sessionRepository.findById(id).isEmpty());
+        assertTrue(sessionRepository.findById("missing").isEmpty());
+    }
+
+    @Test
+    void testChangeSessionId_KeepsAttributes() {
+        // Arrange
+        StoredSession session = sessionRepository.createSession(TIMEOUT);
+        String oldId = session.getId();
+        sessionRepository.setAttribute(session, "context", "owner-1");
+
+        // Act
+        String newId = sessionRepository.changeSessionId(session);
+
+        // Assert
+        assertNotEquals(oldId, newId);
+        assertEquals(newId, session.getId());
+        assertTrue(sessionRepository.findById(oldId).isEmpty());
+        assertEquals("owner-1", sessionRepository.findById(newId).orElseThrow().getAttribute("context"));
+    }
+
+    @Test
+    void testSweep_DeletesExpiredSessionsAndAttributes() {
+        // Arrange
+        StoredSession expired = sessionRepository.createSession(TIMEOUT);
+        sessionRepository.setAttribute(expired, "context", "owner-1");
+        now = NOW.plus(Duration.ofMinutes(25));
+        StoredSession active = sessionRepository.createSession(TIMEOUT);
+
+        // Act
+        now = NOW.plus(TIMEOUT).plusSeconds(10);
+        sessionRepository.sweep();
+
+        // Assert - within the grace period (two flush intervals) nothing goes
+        assertEquals(2, count("web_session"));
+
+        now = NOW.plus(Duration.ofMinutes(40));
+        sessionRepository.sweep();
+        assertEquals(1, count("web_session"));
+        assertEquals(0, count("web_session_attribute"));
+        assertTrue(sessionRepository.findById(active.getId()).isPresent());
+    }
+
+    @Test
+    void testDeleteById_RemovesSession() {
+        // Arrange
+        StoredSession session = sessionRepository.createSession(TIMEOUT);
+        sessionRepository.setAttribute(session, "context", "owner-1");
+
+        // Act
+        sessionRepository.deleteById(session.getId());
+
+        // Assert
+        assertTrue(sessionRepository.findById(session.getId()).isEmpty());
+        assertEquals(0, count("web_session_attribute"));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private Instant lastAccessedAt(String id) {
+        return jdbcTemplate.queryForObject("SELECT last_accessed_at FROM web_session WHERE id = ?",
+                OffsetDateTime.class, id).toInstant();
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
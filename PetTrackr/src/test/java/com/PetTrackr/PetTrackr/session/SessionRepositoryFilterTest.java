@@ -0,0 +1,148 @@
+package com.PetTrackr.PetTrackr.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionRepositoryFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private SessionRepositoryFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SessionRepositoryFilter(sessionRepository, "SESSION", TIMEOUT);
+        request = new MockHttpServletRequest("GET", "/api/owners/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testFilter_SessionNeverUsed_NoLookup() throws Exception {
+        // Arrange
+        request.setCookies(new Cookie("SESSION", "abc"));
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Assert
+        verifyNoInteractions(sessionRepository);
+    }
+
+    @Test
+    void testGetSession_ExistingCookie_LoadsOnceAndRecordsAccess() throws Exception {
+        // Arrange
+        StoredSession stored = stored("abc");
+        request.setCookies(new Cookie("SESSION", "abc"));
+        when(sessionRepository.findById("abc")).thenReturn(Optional.of(stored));
+
+        // Act
+        HttpServletRequest wrapped = runAndCapture();
+        HttpSession first = wrapped.getSession(false);
+        HttpSession second = wrapped.getSession();
+
+        // Assert
+        assertEquals("abc", first.getId());
+        assertEquals("abc", second.getId());
+        assertTrue(wrapped.isRequestedSessionIdValid());
+        verify(sessionRepository, times(1)).findById("abc");
+        verify(sessionRepository, times(1)).recordAccess(stored);
+        verify(sessionRepository, never()).createSession(any());
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    void testGetSession_NoSession_CreatesOnlyWhenAsked() throws Exception {
+        // Arrange
+        when(sessionRepository.findById(null)).thenReturn(Optional.empty());
+        when(sessionRepository.createSession(TIMEOUT)).thenReturn(stored("new-id"));
+
+        // Act
+        HttpServletRequest wrapped = runAndCapture();
+
+        // Assert
+        assertNull(wrapped.getSession(false));
+        verify(sessionRepository, never()).createSession(any());
+        HttpSession session = wrapped.getSession(true);
+        assertEquals("new-id", session.getId());
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertTrue(cookie.startsWith("SESSION=new-id"));
+        assertTrue(cookie.contains("HttpOnly"));
+    }
+
+    @Test
+    void testSetAttribute_WritesThroughRepository() throws Exception {
+        // Arrange
+        StoredSession stored = stored("abc");
+        request.setCookies(new Cookie("SESSION", "abc"));
+        when(sessionRepository.findById("abc")).thenReturn(Optional.of(stored));
+
+        // Act
+        HttpSession session = runAndCapture().getSession(false);
+        session.setAttribute("context", "owner-1");
+        session.removeAttribute("other");
+
+        // Assert
+        verify(sessionRepository).setAttribute(stored, "context", "owner-1");
+        verify(sessionRepository).setAttribute(stored, "other", null);
+    }
+
+    @Test
+    void testInvalidate_DeletesSessionAndClearsCookie() throws Exception {
+        // Arrange
+        request.setCookies(new Cookie("SESSION", "abc"));
+        when(sessionRepository.findById("abc")).thenReturn(Optional.of(stored("abc")));
+        HttpServletRequest wrapped = runAndCapture();
+        HttpSession session = wrapped.getSession(false);
+
+        // Act
+        session.invalidate();
+
+        // Assert
+        verify(sessionRepository).deleteById("abc");
+        assertTrue(response.getHeader(HttpHeaders.SET_COOKIE).contains("Max-Age=0"));
+        assertNull(wrapped.getSession(false));
+        assertThrows(IllegalStateException.class, () -> session.getAttribute("context"));
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private HttpServletRequest runAndCapture() throws Exception {
+        AtomicReference<HttpServletRequest> captured = new AtomicReference<>();
+        FilterChain chain = (req, res) -> captured.set((HttpServletRequest) req);
+        filter.doFilter(request, response, chain);
+        return captured.get();
+    }
+
+    private static StoredSession stored(String id) {
+        return new StoredSession(id, NOW, NOW, TIMEOUT, false, sessionId -> Map.of());
+    }
+}
@@ -0,0 +1,208 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBudgetCacheTest {
+
+    @TempDir
+    private Path tempDir;
+
+    // ========================================
+    // Budget Tests
+    // ========================================
+
+    @Test
+    void testPut_StaysWithinByteBudget() {
+        // Arrange
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(1000, 500, true);
+
+        // Act - make each key popular enough to win admission over the previous ones
+        for (int i = 0; i < 10; i++) {
+            String key = "img-" + i;
+            for (int r = 0; r <= i; r++) {
+                cache.get(key);
+            }
+            cache.put(key, new byte[300], "image/jpeg");
+        }
+
+        // Assert
+        ByteBudgetCache.Stats stats = cache.stats();
+        assertTrue(stats.usedBytes() <= 1000);
+        assertTrue(stats.evictions() > 0);
+    }
+
+    @Test
+    void testPut_WithEntryLargerThanLimit_IsRejected() {
+        // Arrange
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(1000, 100, false);
+
+        // Act
+        boolean admitted = cache.put("big", new byte[101], "image/png");
+
+        // Assert
+        assertFalse(admitted);
+        assertTrue(cache.get("big").isEmpty());
+        assertEquals(1, cache.stats().rejections());
+    }
+
+    // ========================================
+    // Admission Tests
+    // ========================================
+
+    @Test
+    void testPut_OneOffLargeFile_DoesNotEvictHotEntries() {
+        // Arrange - fill the cache with two hot images
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(1000, 1000, true);
+        cache.put("hot-1", new byte[400], "image/jpeg");
+        cache.put("hot-2", new byte[400], "image/jpeg");
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot-1");
+            cache.get("hot-2");
+        }
+
+        // Act - a single request for a big file
+        cache.get("one-off");
+        boolean admitted = cache.put("one-off", new byte[900], "image/jpeg");
+
+        // Assert
+        assertFalse(admitted);
+        assertTrue(cache.get("hot-1").isPresent());
+        assertTrue(cache.get("hot-2").isPresent());
+    }
+
+    @Test
+    void testPut_FrequentlyRequestedKey_EventuallyReplacesColdEntry() {
+        // Arrange
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(500, 500, true);
+        cache.put("cold", new byte[400], "image/jpeg");
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            cache.get("rising");
+        }
+        boolean admitted = cache.put("rising", new byte[400], "image/jpeg");
+
+        // Assert
+        assertTrue(admitted);
+        assertTrue(cache.contains("rising"));
+        assertFalse(cache.contains("cold"));
+    }
+
+    // ========================================
+    // Read / Metrics Tests
+    // ========================================
+
+    @Test
+    void testGet_ReturnsIndependentReadOnlyViews() {
+        // Arrange
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(1000, 1000, true);
+        cache.put("a", new byte[]{1, 2, 3}, "image/gif");
+
+        // Act
+        ByteBudgetCache.CachedValue first = cache.get("a").orElseThrow();
+        first.body().get();
+        ByteBudgetCache.CachedValue second = cache.get("a").orElseThrow();
+
+        // Assert
+        assertTrue(first.body().isReadOnly());
+        assertTrue(first.body().isDirect());
+        assertEquals(3, second.body().remaining());
+        assertEquals("image/gif", second.contentType());
+    }
+
+    @Test
+    void testStats_CountHitsAndMisses() {
+        // Arrange
+        ByteBudgetCache<String> cache = new ByteBudgetCache<>(1000, 1000, false);
+        cache.put("a", new byte[10], "image/png");
+
+        // Act
+        cache.get("a");
+        cache.get("a");
+        cache.get("missing");
+
+        // Assert
+        ByteBudgetCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(10, stats.usedBytes());
+    }
+
+    // ========================================
+    // CachingBlobStore Tests
+    // ========================================
+
+    @Test
+    void testCachingBlobStore_SecondReadIsServedFromMemory() throws IOException {
+        // Arrange
+        LocalFileBlobStore local = new LocalFileBlobStore(tempDir);
+        CachingBlobStore store = new CachingBlobStore(local, new ByteBudgetCache<>(1000, 1000, true));
+        byte[] body = "cached image".getBytes();
+        store.put("1_1.jpg", new ByteArrayInputStream(body), body.length, "image/jpeg");
+
+        // Act - read once to populate, then remove the file behind the cache's back
+        readFully(store.get("1_1.jpg"));
+        Files.delete(tempDir.resolve("1_1.jpg"));
+        Optional<BlobStore.Blob> second = store.get("1_1.jpg");
+
+        // Assert
+        assertTrue(second.isPresent());
+        assertArrayEquals(body, readFully(second));
+        assertEquals("image/jpeg", second.get().contentType());
+    }
+
+    @Test
+    void testCachingBlobStore_DeleteEvictsEntry() throws IOException {
+        // Arrange
+        LocalFileBlobStore local = new LocalFileBlobStore(tempDir);
+        CachingBlobStore store = new CachingBlobStore(local, new ByteBudgetCache<>(1000, 1000, true));
+        store.put("1_2.png", new ByteArrayInputStream(new byte[]{7}), 1, "image/png");
+        readFully(store.get("1_2.png"));
+
+        // Act
+        store.delete("1_2.png");
+
+        // Assert
+        assertTrue(store.get("1_2.png").isEmpty());
+        assertFalse(store.exists("1_2.png"));
+    }
+
+    @Test
+    void testCachingBlobStore_RedirectsOnlyUntilImageIsRequestedAgain() throws IOException {
+        // Arrange - a backend that hands out direct download URLs, like S3
+        LocalFileBlobStore local = new LocalFileBlobStore(tempDir) {
+            @Override
+            public Optional<URI> directGetUrl(String key, Duration ttl) {
+                return Optional.of(URI.create("https://bucket.example.com/" + key));
+            }
+        };
+        CachingBlobStore store = new CachingBlobStore(local, new ByteBudgetCache<>(1000, 1000, true));
+        store.put("1_3.jpg", new ByteArrayInputStream(new byte[]{1, 2}), 2, "image/jpeg");
+
+        // Act & Assert - the first request is redirected, the second proxied (and cached)
+        assertTrue(store.directGetUrl("1_3.jpg", Duration.ofMinutes(5)).isPresent());
+        assertTrue(store.directGetUrl("1_3.jpg", Duration.ofMinutes(5)).isEmpty());
+        readFully(store.get("1_3.jpg"));
+        Files.delete(tempDir.resolve("1_3.jpg"));
+        assertTrue(store.directGetUrl("1_3.jpg", Duration.ofMinutes(5)).isEmpty());
+        assertArrayEquals(new byte[]{1, 2}, readFully(store.get("1_3.jpg")));
+    }
+
+    private static byte[] readFully(Optional<BlobStore.Blob> blob) throws IOException {
+        try (InputStream in = blob.orElseThrow().content()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.PetTrackr.PetTrackr.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs S3BlobStore against a tiny in-process stand-in for an S3 server.
+ * The stand-in only implements path-style PUT/GET/HEAD/DELETE on objects and
+ * ListObjectsV2 (two keys per page, to exercise continuation), which is all the store uses.
+ */
+class S3BlobStoreTest {
+
+    private HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private volatile String lastAuthorization;
+
+    private S3BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        blobStore = new S3BlobStore(endpoint, "us-east-1", "pet-images", "test-access", "test-secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    // ========================================
+    // Put / Get Tests
+    // ========================================
+
+    @Test
+    void testPutThenGet_RoundTripsBodyAndContentType() throws IOException {
+        // Arrange
+        byte[] body = "image bytes".getBytes();
+
+        // Act
+        blobStore.put("1_100.jpg", new ByteArrayInputStream(body), body.length, "image/jpeg");
+        Optional<BlobStore.Blob> blob = blobStore.get("1_100.jpg");
+
+        // Assert
+        assertTrue(blob.isPresent());
+        try (InputStream in = blob.get().content()) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+        assertEquals(body.length, blob.get().contentLength());
+        assertEquals("image/jpeg", blob.get().contentType());
+        assertArrayEquals(body, objects.get("/pet-images/1_100.jpg"));
+    }
+
+    @Test
+    void testPut_SignsRequestWithSigV4() throws IOException {
+        // Act
+        blobStore.put("1_100.jpg", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/jpeg");
+
+        // Assert
+        assertNotNull(lastAuthorization);
+        assertTrue(lastAuthorization.startsWith("AWS4-HMAC-SHA256 Credential=test-access/"));
+        assertTrue(lastAuthorization.contains("/us-east-1/s3/aws4_request"));
+        assertTrue(lastAuthorization.contains("Signature="));
+    }
+
+    @Test
+    void testGet_WithMissingKey_ReturnsEmpty() throws IOException {
+        // Act & Assert
+        assertTrue(blobStore.get("missing.jpg").isEmpty());
+    }
+
+    @Test
+    void testPut_DoesNotCloseCallerStream() throws IOException {
+        // Arrange
+        boolean[] closed = {false};
+        InputStream content = new ByteArrayInputStream(new byte[]{1, 2, 3}) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // Act
+        blobStore.put("1_100.jpg", content, 3, "image/jpeg");
+
+        // Assert
+        assertFalse(closed[0]);
+    }
+
+    // ========================================
+    // Exists / Delete Tests
+    // ========================================
+
+    @Test
+    void testExistsAndDelete() throws IOException {
+        // Arrange
+        blobStore.put("2_200.png", new ByteArrayInputStream(new byte[]{9}), 1, "image/png");
+
+        // Act & Assert
+        assertTrue(blobStore.exists("2_200.png"));
+        blobStore.delete("2_200.png");
+        assertFalse(blobStore.exists("2_200.png"));
+        // deleting again is not an error
+        blobStore.delete("2_200.png");
+    }
+
+    @Test
+    void testPut_WithTraversalKey_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                blobStore.put("../escape.jpg", new ByteArrayInputStream(new byte[]{1}), 1, "image/jpeg"));
+    }
+
+    // ========================================
+    // Presigned URL Tests
+    // ========================================
+
+    @Test
+    void testDirectGetUrl_IsPresignedAndDownloadable() throws Exception {
+        // Arrange
+        byte[] body = "presigned".getBytes();
+        blobStore.put("3_300.gif", new ByteArrayInputStream(body), body.length, "image/gif");
+
+        // Act
+        URI url = blobStore.directGetUrl("3_300.gif", Duration.ofMinutes(5)).orElseThrow();
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert
+        assertTrue(url.getRawQuery().contains("X-Amz-Algorithm=AWS4-HMAC-SHA256"));
+        assertTrue(url.getRawQuery().contains("X-Amz-Expires=300"));
+        assertTrue(url.getRawQuery().contains("X-Amz-Signature="));
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(body, response.body());
+    }
+
+    @Test
+    void testDirectGetUrl_CapsExpiryAtSevenDays() {
+        // Act
+        URI url = blobStore.directGetUrl("3_300.gif", Duration.ofDays(30)).orElseThrow();
+
+        // Assert
+        assertTrue(url.getRawQuery().contains("X-Amz-Expires=604800"));
+    }
+
+    // ========================================
+    // List Tests
+    // ========================================
+
+    @Test
+    void testList_FollowsContinuationTokensAcrossPages() throws IOException {
+        // Arrange
+        for (String key : List.of("1_1.jpg", "1_2.jpg", "2_1.png", "originals/1_1.jpg", "uploads/5/part-00000")) {
+            blobStore.put(key, new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/jpeg");
+        }
+
+        // Act
+        List<BlobStore.BlobInfo> all;
+        try (Stream<BlobStore.BlobInfo> listing = blobStore.list("")) {
+            all = listing.toList();
+        }
+        List<String> originals;
+        try (Stream<BlobStore.BlobInfo> listing = blobStore.list("originals/")) {
+            originals = listing.map(BlobStore.BlobInfo::key).toList();
+        }
+
+        // Assert
+        assertEquals(5, all.size());
+        assertEquals(3, all.get(0).size());
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), all.get(0).lastModified());
+        assertEquals(List.of("originals/1_1.jpg"), originals);
+    }
+
+    // ========================================
+    // Helper Methods - S3 stand-in
+    // ========================================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            lastAuthorization = authorization;
+        } else if (!exchange.getRequestURI().getRawQuery().contains("X-Amz-Signature=")) {
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+            return;
+        }
+
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                objects.put(path, exchange.getRequestBody().readAllBytes());
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                if (contentType != null) {
+                    contentTypes.put(path, contentType);
+                }
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "GET" -> {
+                if (path.equals("/pet-images")) {
+                    respondWithListing(exchange);
+                    return;
+                }
+                byte[] body = objects.get(path);
+                if (body == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else {
+                    if (contentTypes.containsKey(path)) {
+                        exchange.getResponseHeaders().set("Content-Type", contentTypes.get(path));
+                    }
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+            }
+            case "HEAD" -> {
+                // the JDK server drops the connection after HEAD, so tell the client not to reuse it
+                exchange.getResponseHeaders().set("Connection", "close");
+                exchange.sendResponseHeaders(objects.containsKey(path) ? 200 : 404, -1);
+            }
+            case "DELETE" -> {
+                objects.remove(path);
+                exchange.sendResponseHeaders(204, -1);
+            }
+            default -> exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+
+    private void respondWithListing(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new TreeMap<>();
+        for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            String[] pair = param.split("=", 2);
+            query.put(pair[0], URLDecoder.decode(pair[1], StandardCharsets.UTF_8));
+        }
+        String prefix = "/pet-images/" + query.getOrDefault("prefix", "");
+        String after = query.get("continuation-token");
+
+        List<String> keys = objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .filter(key -> after == null || key.compareTo(after) > 0)
+                .sorted()
+                .toList();
+        List<String> page = keys.subList(0, Math.min(2, keys.size()));
+
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+        for (String key : page) {
+            xml.append("<Contents><Key>").append(key.substring("/pet-images/".length())).append("</Key>")
+                    .append("<LastModified>2026-01-01T00:00:00.000Z</LastModified>")
+                    .append("<Size>").append(objects.get(key).length).append("</Size></Contents>");
+        }
+        boolean truncated = keys.size() > page.size();
+        xml.append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (truncated) {
+            xml.append("<NextContinuationToken>").append(page.get(page.size() - 1)).append("</NextContinuationToken>");
+        }
+        xml.append("</ListBucketResult>");
+
+        byte[] body = xml.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}